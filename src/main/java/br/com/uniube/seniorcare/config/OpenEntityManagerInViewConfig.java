@@ -0,0 +1,39 @@
+package br.com.uniube.seniorcare.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter;
+
+/**
+ * Mantém o EntityManager aberto durante a requisição (open-in-view), exceto nas rotas de
+ * longa duração.
+ *
+ * Com o EntityManager aberto, a conexão obtida na requisição só volta ao pool quando ela
+ * termina; em um stream SSE isso seria a duração da conexão. O open-in-view padrão do Spring
+ * Boot fica desligado (spring.jpa.open-in-view) e este interceptor o substitui.
+ */
+@Configuration
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+
+    /**
+     * Rotas que mantêm a requisição aberta e não podem reter uma conexão do pool.
+     */
+    static final String[] EXCLUDED_PATHS = {"/api/notifications/stream"};
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public OpenEntityManagerInViewConfig(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addInterceptor(new WebRequestHandlerInterceptorAdapter(interceptor))
+                .excludePathPatterns(EXCLUDED_PATHS);
+    }
+}
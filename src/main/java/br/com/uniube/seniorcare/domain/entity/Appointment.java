@@ -4,6 +4,7 @@ import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,8 +16,19 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
+@DynamicUpdate
 public class Appointment {
 
+    /**
+     * Duração padrão de um atendimento, em minutos.
+     */
+    public static final int DEFAULT_DURATION_MINUTES = 60;
+
+    /**
+     * Duração máxima de um atendimento, em minutos (mesmo limite da restrição no banco).
+     */
+    public static final int MAX_DURATION_MINUTES = 24 * 60;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -34,6 +46,10 @@ public class Appointment {
     private Caregiver caregiver;
 
     private LocalDateTime dateTime;
+
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationMinutes;
+
     private String description;
 
     @CreationTimestamp
@@ -43,6 +59,33 @@ public class Appointment {
     @Column(nullable = false)
     private AppointmentStatus status = AppointmentStatus.AGENDADO;
 
+    /**
+     * Indica que o atendimento passou do horário de término sem ser concluído.
+     * Mantido pela rotina de progressão de status.
+     */
+    @Column(nullable = false)
+    private boolean overdue;
+
+    /**
+     * Versão para controle de concorrência otimista; também compõe a ETag do agendamento
+     * na API. Atualizações em lote feitas por SQL incrementam a coluna diretamente.
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    /**
+     * Retorna o fim do atendimento (exclusivo), calculado a partir da data/hora e da duração.
+     */
+    @Transient
+    public LocalDateTime getEndDateTime() {
+        if (dateTime == null) {
+            return null;
+        }
+        int duration = durationMinutes != null ? durationMinutes : DEFAULT_DURATION_MINUTES;
+        return dateTime.plusMinutes(duration);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,60 @@
+package br.com.uniube.seniorcare.domain.entity;
+
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Total diário de atendimentos de um cuidador em um status. Mantido de forma incremental
+ * pelas escritas de agendamentos; a aplicação apenas lê esta entidade.
+ */
+@Entity(name = "CaregiverWorkloadDaily")
+@Table(name = "caregiver_workload_daily")
+@IdClass(CaregiverWorkloadDaily.Key.class)
+@Immutable
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CaregiverWorkloadDaily {
+
+    @Id
+    @Column(name = "organization_id")
+    private UUID organizationId;
+
+    @Id
+    private LocalDate day;
+
+    @Id
+    @Column(name = "caregiver_id")
+    private UUID caregiverId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private AppointmentStatus status;
+
+    @Column(name = "visit_count", nullable = false)
+    private int visitCount;
+
+    @Column(name = "total_minutes", nullable = false)
+    private long totalMinutes;
+
+    /**
+     * Chave composta (organização, dia, cuidador, status).
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID organizationId;
+        private LocalDate day;
+        private UUID caregiverId;
+        private AppointmentStatus status;
+    }
+}
@@ -3,7 +3,6 @@ package br.com.uniube.seniorcare.domain.entity;
     import br.com.uniube.seniorcare.domain.enums.NotificationStatus;
     import jakarta.persistence.*;
     import lombok.*;
-    import org.hibernate.annotations.CreationTimestamp;
 
     import java.time.LocalDateTime;
     import java.util.UUID;
@@ -36,12 +35,36 @@ package br.com.uniube.seniorcare.domain.entity;
         @Column(columnDefinition = "TEXT")
         private String message;
 
-        @CreationTimestamp
+        /**
+         * Atribuído pela aplicação, e não no INSERT, para que o mesmo instante seja usado na fila
+         * de entrega e no ID do evento do stream antes do flush.
+         */
+        @Column(name = "created_at", nullable = false, updatable = false)
         private LocalDateTime createdAt;
 
         @Enumerated(EnumType.STRING)
         private NotificationStatus status;
 
+        /**
+         * Quantidade de vezes que a mesma mensagem foi enviada dentro da janela de agrupamento.
+         */
+        @Builder.Default
+        @Column(nullable = false)
+        private int occurrences = 1;
+
+        /**
+         * Instante da última repetição agrupada; nulo enquanto houver uma única ocorrência.
+         */
+        @Column(name = "last_occurred_at")
+        private LocalDateTime lastOccurredAt;
+
+        @PrePersist
+        public void onPrePersist() {
+            if (this.createdAt == null) {
+                this.createdAt = LocalDateTime.now();
+            }
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -0,0 +1,64 @@
+package br.com.uniube.seniorcare.domain.entity;
+
+import br.com.uniube.seniorcare.domain.enums.DeliveryStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entrega de uma notificação por um canal externo. As linhas são gravadas e consumidas
+ * em lote via JDBC ({@link br.com.uniube.seniorcare.domain.repository.NotificationDeliveryBatchRepository});
+ * a entidade serve para consultas.
+ */
+@Entity(name = "NotificationDelivery")
+@Table(name = "notification_deliveries")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationDelivery {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "notification_id", nullable = false)
+    private UUID notificationId;
+
+    @Column(nullable = false, length = 50)
+    private String channel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeliveryStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof final NotificationDelivery that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.uniube.seniorcare.domain.entity;
+
+import br.com.uniube.seniorcare.domain.enums.NotificationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Resumo das notificações pendentes de um destinatário em um período. Criado e marcado como
+ * lido por comandos em lote; a aplicação apenas lê esta entidade.
+ */
+@Entity(name = "NotificationDigest")
+@Table(name = "notification_digests")
+@Immutable
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationDigest {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "organization_id", nullable = false)
+    private UUID organizationId;
+
+    @Column(name = "receiver_id", nullable = false)
+    private UUID receiverId;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDateTime periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDateTime periodEnd;
+
+    /**
+     * Notificações agrupadas no resumo.
+     */
+    @Column(name = "notification_count", nullable = false)
+    private int notificationCount;
+
+    /**
+     * Mensagens representadas, somando as repetições agrupadas em cada notificação.
+     */
+    @Column(name = "occurrence_count", nullable = false)
+    private int occurrenceCount;
+
+    @Column(name = "sender_count", nullable = false)
+    private int senderCount;
+
+    @Column(name = "first_notification_at", nullable = false)
+    private LocalDateTime firstNotificationAt;
+
+    @Column(name = "last_notification_at", nullable = false)
+    private LocalDateTime lastNotificationAt;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String summary;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationStatus status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof final NotificationDigest that)) return false;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+}
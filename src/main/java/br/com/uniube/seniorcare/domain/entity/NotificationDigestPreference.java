@@ -0,0 +1,61 @@
+package br.com.uniube.seniorcare.domain.entity;
+
+import br.com.uniube.seniorcare.domain.enums.DigestPeriod;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Preferência de um usuário por receber as notificações agrupadas em resumos periódicos.
+ */
+@Entity(name = "NotificationDigestPreference")
+@Table(name = "notification_digest_preferences")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationDigestPreference {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DigestPeriod period;
+
+    /**
+     * Momento da adesão; as notificações criadas antes dele não entram nos resumos.
+     */
+    @Column(name = "enabled_at", nullable = false, updatable = false)
+    private LocalDateTime enabledAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void onCreate() {
+        this.enabledAt = LocalDateTime.now();
+        this.updatedAt = this.enabledAt;
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof final NotificationDigestPreference that)) return false;
+        return userId != null && userId.equals(that.getUserId());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.uniube.seniorcare.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Política de retenção das notificações de uma organização.
+ */
+@Entity(name = "NotificationRetentionPolicy")
+@Table(name = "notification_retention_policies")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationRetentionPolicy {
+
+    @Id
+    @Column(name = "organization_id")
+    private UUID organizationId;
+
+    /**
+     * Dias, contados da criação, em que as notificações são mantidas.
+     */
+    @Column(name = "retention_days", nullable = false)
+    private int retentionDays;
+
+    /**
+     * Se as notificações vencidas são copiadas para notifications_archive antes da remoção.
+     */
+    @Column(nullable = false)
+    private boolean archive;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof final NotificationRetentionPolicy that)) return false;
+        return organizationId != null && organizationId.equals(that.getOrganizationId());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.uniube.seniorcare.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+/**
+ * Quantidade de notificações não lidas de um destinatário. Mantida de forma incremental
+ * pelas escritas de notificações; a aplicação apenas lê esta entidade.
+ */
+@Entity(name = "NotificationUnreadCounter")
+@Table(name = "notification_unread_counters")
+@Immutable
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationUnreadCounter {
+
+    @Id
+    @Column(name = "receiver_id")
+    private UUID receiverId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof final NotificationUnreadCounter that)) return false;
+        return receiverId != null && receiverId.equals(that.getReceiverId());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+}
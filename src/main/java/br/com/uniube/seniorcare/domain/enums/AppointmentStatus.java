@@ -4,5 +4,27 @@ public enum AppointmentStatus {
     AGENDADO,
     EM_ANDAMENTO,
     CONCLUIDO,
-    CANCELADO
-}
\ No newline at end of file
+    CANCELADO;
+
+    /**
+     * Indica se a transição deste status para o informado é permitida.
+     * AGENDADO pode ir para EM_ANDAMENTO ou CANCELADO; EM_ANDAMENTO para CONCLUIDO ou CANCELADO;
+     * CONCLUIDO e CANCELADO são finais. Manter o mesmo status não é uma transição.
+     */
+    public boolean canTransitionTo(AppointmentStatus target) {
+        return switch (this) {
+            case AGENDADO -> target == EM_ANDAMENTO || target == CANCELADO;
+            case EM_ANDAMENTO -> target == CONCLUIDO || target == CANCELADO;
+            case CONCLUIDO, CANCELADO -> false;
+        };
+    }
+
+    /**
+     * Indica se o agendamento ocupa a agenda do cuidador. Apenas agendamentos ativos
+     * (AGENDADO e EM_ANDAMENTO) entram na restrição de não sobreposição; concluídos e
+     * cancelados são histórico.
+     */
+    public boolean isActive() {
+        return this == AGENDADO || this == EM_ANDAMENTO;
+    }
+}
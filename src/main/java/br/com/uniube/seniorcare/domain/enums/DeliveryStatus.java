@@ -0,0 +1,7 @@
+package br.com.uniube.seniorcare.domain.enums;
+
+public enum DeliveryStatus {
+    PENDENTE,
+    ENVIADA,
+    FALHOU
+}
@@ -0,0 +1,6 @@
+package br.com.uniube.seniorcare.domain.enums;
+
+public enum DigestPeriod {
+    HORARIO,
+    DIARIO
+}
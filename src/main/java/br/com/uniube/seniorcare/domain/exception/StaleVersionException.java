@@ -0,0 +1,11 @@
+package br.com.uniube.seniorcare.domain.exception;
+
+/**
+ * StaleVersionException signals that the version expected by the client no longer matches
+ * the current version of the record.
+ */
+public class StaleVersionException extends BusinessException {
+    public StaleVersionException(String message) {
+        super(message);
+    }
+}
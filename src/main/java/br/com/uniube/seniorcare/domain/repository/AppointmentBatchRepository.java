@@ -0,0 +1,50 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Operações em lote sobre agendamentos executadas diretamente via JDBC.
+ */
+public interface AppointmentBatchRepository {
+
+    /**
+     * Insere os agendamentos com batching JDBC. Os IDs devem vir preenchidos.
+     * Linhas que violariam a restrição de não sobreposição são ignoradas
+     * (ON CONFLICT DO NOTHING) em vez de abortar o lote.
+     *
+     * @param appointments agendamentos a inserir
+     * @return para cada agendamento, true se foi inserido
+     */
+    boolean[] insertAll(List<Appointment> appointments);
+
+    /**
+     * Move para "to" até "limit" agendamentos com status "from" que começaram antes do instante
+     * informado, em um único UPDATE. Linhas bloqueadas por outras transações são puladas e
+     * ficam para o próximo lote.
+     *
+     * @param from status atual
+     * @param to novo status
+     * @param startedBefore instante limite de início (exclusivo)
+     * @param limit tamanho do lote
+     * @return quantidade de agendamentos alterados por organização
+     */
+    Map<UUID, Integer> advanceStatus(AppointmentStatus from, AppointmentStatus to,
+                                     LocalDateTime startedBefore, int limit);
+
+    /**
+     * Marca como atrasados até "limit" agendamentos com o status informado cujo término
+     * (data/hora + duração) é anterior ao instante informado.
+     *
+     * @param status status dos agendamentos verificados
+     * @param endedBefore instante limite de término (exclusivo)
+     * @param limit tamanho do lote
+     * @return quantidade de agendamentos marcados por organização
+     */
+    Map<UUID, Integer> flagOverdue(AppointmentStatus status, LocalDateTime endedBefore, int limit);
+}
@@ -0,0 +1,122 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class AppointmentBatchRepositoryImpl implements AppointmentBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO appointments (id, organization_id, elderly_id, caregiver_id, date_time,
+                                      duration_minutes, description, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    /**
+     * Seleciona o lote com SKIP LOCKED para não disputar linhas com edições em andamento,
+     * move os totais de caregiver_workload_daily do status antigo para o novo no mesmo
+     * comando e devolve a contagem por organização para a auditoria.
+     */
+    private static final String ADVANCE_STATUS_SQL = """
+            WITH batch AS (
+                SELECT id FROM appointments
+                WHERE status = ? AND date_time < ?
+                ORDER BY date_time
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), updated AS (
+                UPDATE appointments a SET status = ?, version = a.version + 1
+                FROM batch WHERE a.id = batch.id
+                RETURNING a.organization_id, a.caregiver_id, a.date_time, a.duration_minutes
+            ), rollup AS (
+                INSERT INTO caregiver_workload_daily (organization_id, day, caregiver_id, status,
+                                                      visit_count, total_minutes)
+                SELECT u.organization_id, CAST(u.date_time AS DATE), u.caregiver_id, s.status,
+                       SUM(s.sign), SUM(s.sign * u.duration_minutes)
+                FROM updated u CROSS JOIN (VALUES (CAST(? AS VARCHAR), -1), (CAST(? AS VARCHAR), 1)) AS s(status, sign)
+                GROUP BY u.organization_id, CAST(u.date_time AS DATE), u.caregiver_id, s.status
+                ON CONFLICT (organization_id, day, caregiver_id, status) DO UPDATE
+                SET visit_count = caregiver_workload_daily.visit_count + EXCLUDED.visit_count,
+                    total_minutes = caregiver_workload_daily.total_minutes + EXCLUDED.total_minutes
+            )
+            SELECT organization_id, COUNT(*) FROM updated GROUP BY organization_id
+            """;
+
+    private static final String FLAG_OVERDUE_SQL = """
+            WITH batch AS (
+                SELECT id FROM appointments
+                WHERE status = ? AND NOT overdue
+                  AND date_time < ?
+                  AND date_time + duration_minutes * INTERVAL '1 minute' < ?
+                ORDER BY date_time
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), updated AS (
+                UPDATE appointments a SET overdue = TRUE, version = a.version + 1
+                FROM batch WHERE a.id = batch.id
+                RETURNING a.organization_id
+            )
+            SELECT organization_id, COUNT(*) FROM updated GROUP BY organization_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AppointmentBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean[] insertAll(List<Appointment> appointments) {
+        boolean[] inserted = new boolean[appointments.size()];
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, appointments, BATCH_SIZE, (ps, a) -> {
+            ps.setObject(1, a.getId());
+            ps.setObject(2, a.getOrganization().getId());
+            ps.setObject(3, a.getElderly().getId());
+            ps.setObject(4, a.getCaregiver().getId());
+            ps.setTimestamp(5, Timestamp.valueOf(a.getDateTime()));
+            ps.setInt(6, a.getDurationMinutes());
+            ps.setString(7, a.getDescription());
+            ps.setString(8, a.getStatus().name());
+            ps.setTimestamp(9, Timestamp.valueOf(a.getCreatedAt()));
+        });
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // O driver só informa contagens exatas sem reWriteBatchedInserts; desconhecida conta como inserida
+                inserted[index++] = count != 0;
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public Map<UUID, Integer> advanceStatus(AppointmentStatus from, AppointmentStatus to,
+                                            LocalDateTime startedBefore, int limit) {
+        return countsByOrganization(ADVANCE_STATUS_SQL,
+                from.name(), Timestamp.valueOf(startedBefore), limit, to.name(), from.name(), to.name());
+    }
+
+    @Override
+    public Map<UUID, Integer> flagOverdue(AppointmentStatus status, LocalDateTime endedBefore, int limit) {
+        Timestamp limitTimestamp = Timestamp.valueOf(endedBefore);
+        return countsByOrganization(FLAG_OVERDUE_SQL, status.name(), limitTimestamp, limitTimestamp, limit);
+    }
+
+    private Map<UUID, Integer> countsByOrganization(String sql, Object... args) {
+        Map<UUID, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(rs.getObject(1, UUID.class), rs.getInt(2));
+        }, args);
+        return counts;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.entity.AppointmentObservation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface AppointmentObservationRepository extends JpaRepository<AppointmentObservation, UUID> {
+
+    /**
+     * Lista as observações de um agendamento, mais recentes primeiro, sem contagem total
+     *
+     * @param appointmentId ID do agendamento
+     * @param pageable      página solicitada
+     * @return fatia de observações
+     */
+    Slice<AppointmentObservation> findByAppointmentIdOrderByCreatedAtDescIdDesc(UUID appointmentId, Pageable pageable);
+}
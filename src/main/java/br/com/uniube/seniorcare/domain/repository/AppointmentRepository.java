@@ -1,15 +1,19 @@
 package br.com.uniube.seniorcare.domain.repository;
 
 import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
+public interface AppointmentRepository extends JpaRepository<Appointment, UUID>, AppointmentBatchRepository {
 
     List<Appointment> findByElderlyId(UUID elderlyId);
 
@@ -18,19 +22,222 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
     List<Appointment> findByDateTimeBetween(LocalDateTime startDateTime, LocalDateTime endDateTime);
 
     /**
-     * Busca agendamentos que possam conflitar com um novo horário para um cuidador.
+     * Busca agendamentos ativos de um cuidador cujo período sobrepõe [startDateTime, endDateTime).
+     * Usa o índice GiST da restrição ex_appointments_caregiver_period, cujo filtro de status
+     * a consulta repete.
      *
      * @param caregiverId   ID do cuidador
      * @param startDateTime início do período a verificar
-     * @param endDateTime   fim do período a verificar
+     * @param endDateTime   fim do período a verificar (exclusivo)
      * @return lista de agendamentos que conflitam
      */
-    @Query("SELECT a FROM Appointment a " +
-            "WHERE a.caregiver.id = :caregiverId " +
-            "AND a.status != 'CANCELADO' " +
-            "AND ((a.dateTime <= :endDateTime AND a.dateTime >= :startDateTime) OR " +
-            "     (a.dateTime <= :startDateTime AND FUNCTION('DATE_ADD', a.dateTime, 'INTERVAL 60 MINUTE') >= :startDateTime))")
+    @Query(value = """
+            SELECT a.* FROM appointments a
+            WHERE a.caregiver_id = :caregiverId
+            AND a.status IN ('AGENDADO', 'EM_ANDAMENTO')
+            AND a.period && tsrange(CAST(:startDateTime AS timestamp), CAST(:endDateTime AS timestamp))
+            """, nativeQuery = true)
     List<Appointment> findConflictingAppointments(@Param("caregiverId") UUID caregiverId,
                                                   @Param("startDateTime") LocalDateTime startDateTime,
                                                   @Param("endDateTime") LocalDateTime endDateTime);
-}
\ No newline at end of file
+
+    /**
+     * Lista os horários dos agendamentos ativos de um cuidador que começam em uma janela de tempo,
+     * sem carregar as entidades. Usado para montar o índice de agendas em memória.
+     *
+     * @param caregiverId ID do cuidador
+     * @param from        início da janela (inclusivo)
+     * @param to          fim da janela (exclusivo)
+     * @return horários ocupados na janela
+     */
+    @Query("SELECT a.id AS id, a.dateTime AS dateTime, a.durationMinutes AS durationMinutes " +
+            "FROM Appointment a " +
+            "WHERE a.caregiver.id = :caregiverId " +
+            "AND a.status IN (br.com.uniube.seniorcare.domain.enums.AppointmentStatus.AGENDADO, " +
+            "br.com.uniube.seniorcare.domain.enums.AppointmentStatus.EM_ANDAMENTO) " +
+            "AND a.dateTime >= :from AND a.dateTime < :to")
+    List<ScheduleSlot> findScheduleSlots(@Param("caregiverId") UUID caregiverId,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    /**
+     * Lista os horários dos agendamentos ativos de vários cuidadores que começam em uma janela
+     * de tempo, em uma única consulta. Usado pela busca de horários livres.
+     *
+     * @param caregiverIds IDs dos cuidadores
+     * @param from         início da janela (inclusivo)
+     * @param to           fim da janela (exclusivo)
+     * @return horários ocupados na janela, com o cuidador de cada um
+     */
+    @Query("SELECT a.id AS id, a.caregiver.id AS caregiverId, a.dateTime AS dateTime, " +
+            "a.durationMinutes AS durationMinutes " +
+            "FROM Appointment a " +
+            "WHERE a.caregiver.id IN :caregiverIds " +
+            "AND a.status IN (br.com.uniube.seniorcare.domain.enums.AppointmentStatus.AGENDADO, " +
+            "br.com.uniube.seniorcare.domain.enums.AppointmentStatus.EM_ANDAMENTO) " +
+            "AND a.dateTime >= :from AND a.dateTime < :to")
+    List<CaregiverScheduleSlot> findScheduleSlotsForCaregivers(@Param("caregiverIds") Collection<UUID> caregiverIds,
+                                                               @Param("from") LocalDateTime from,
+                                                               @Param("to") LocalDateTime to);
+
+    /**
+     * Primeira página do calendário de uma organização no período, com idoso e cuidador
+     * resolvidos na mesma consulta. Ordenado por (dateTime, id) para paginação por keyset.
+     *
+     * @param organizationId ID da organização
+     * @param caregiverId    opcional - filtra por cuidador
+     * @param elderlyId      opcional - filtra por idoso
+     * @param start          início do período (inclusivo)
+     * @param end            fim do período (exclusivo)
+     * @param pageable       limite de linhas (sem contagem)
+     * @return entradas do calendário
+     */
+    @Query(CALENDAR_SELECT +
+            "AND a.dateTime >= :start AND a.dateTime < :end " +
+            "ORDER BY a.dateTime, a.id")
+    List<CalendarEntry> findCalendar(@Param("organizationId") UUID organizationId,
+                                     @Param("caregiverId") UUID caregiverId,
+                                     @Param("elderlyId") UUID elderlyId,
+                                     @Param("start") LocalDateTime start,
+                                     @Param("end") LocalDateTime end,
+                                     Pageable pageable);
+
+    /**
+     * Páginas seguintes do calendário, a partir da posição (afterDateTime, afterId) exclusiva.
+     */
+    @Query(CALENDAR_SELECT +
+            "AND a.dateTime < :end " +
+            "AND (a.dateTime > :afterDateTime OR (a.dateTime = :afterDateTime AND a.id > :afterId)) " +
+            "ORDER BY a.dateTime, a.id")
+    List<CalendarEntry> findCalendarAfter(@Param("organizationId") UUID organizationId,
+                                          @Param("caregiverId") UUID caregiverId,
+                                          @Param("elderlyId") UUID elderlyId,
+                                          @Param("end") LocalDateTime end,
+                                          @Param("afterDateTime") LocalDateTime afterDateTime,
+                                          @Param("afterId") UUID afterId,
+                                          Pageable pageable);
+
+    /**
+     * Calcula uma assinatura da mesma página retornada por findCalendar/findCalendarAfter, a
+     * partir apenas de (id, versão) de cada agendamento e dos nomes exibidos de idoso e cuidador.
+     * A assinatura muda quando a página ganha, perde ou altera algum agendamento, e serve de
+     * ETag sem carregar nem serializar as linhas.
+     *
+     * @param organizationId ID da organização
+     * @param caregiverId    opcional - filtra por cuidador
+     * @param elderlyId      opcional - filtra por idoso
+     * @param start          início do período (inclusivo); ignorado quando há cursor
+     * @param end            fim do período (exclusivo)
+     * @param afterDateTime  opcional - data/hora do cursor
+     * @param afterId        opcional - ID do cursor
+     * @param limit          quantidade de linhas da página (incluindo a linha extra)
+     * @return hash MD5 em hexadecimal
+     */
+    @Query(value = """
+            SELECT md5(COALESCE(string_agg(
+                       CAST(p.id AS text) || ':' || p.version || ':' || p.elderly_name || ':' || p.caregiver_name,
+                       ',' ORDER BY p.date_time, p.id), ''))
+            FROM (
+                SELECT a.id, a.version, a.date_time, e.name AS elderly_name, u.name AS caregiver_name
+                FROM appointments a
+                JOIN elderly e ON e.id = a.elderly_id
+                JOIN caregiver c ON c.id = a.caregiver_id
+                JOIN users u ON u.id = c.user_id
+                WHERE a.organization_id = :organizationId
+                AND (CAST(:caregiverId AS uuid) IS NULL OR a.caregiver_id = CAST(:caregiverId AS uuid))
+                AND (CAST(:elderlyId AS uuid) IS NULL OR a.elderly_id = CAST(:elderlyId AS uuid))
+                AND a.date_time < :end
+                AND (CAST(:afterDateTime AS timestamp) IS NOT NULL OR a.date_time >= :start)
+                AND (CAST(:afterDateTime AS timestamp) IS NULL
+                     OR (a.date_time, a.id) > (CAST(:afterDateTime AS timestamp), CAST(:afterId AS uuid)))
+                ORDER BY a.date_time, a.id
+                LIMIT :limit
+            ) p
+            """, nativeQuery = true)
+    String findCalendarFingerprint(@Param("organizationId") UUID organizationId,
+                                   @Param("caregiverId") UUID caregiverId,
+                                   @Param("elderlyId") UUID elderlyId,
+                                   @Param("start") LocalDateTime start,
+                                   @Param("end") LocalDateTime end,
+                                   @Param("afterDateTime") LocalDateTime afterDateTime,
+                                   @Param("afterId") UUID afterId,
+                                   @Param("limit") int limit);
+
+    String CALENDAR_SELECT = "SELECT a.id AS id, a.dateTime AS dateTime, a.durationMinutes AS durationMinutes, " +
+            "a.status AS status, e.id AS elderlyId, e.name AS elderlyName, " +
+            "c.id AS caregiverId, u.name AS caregiverName " +
+            "FROM Appointment a JOIN a.elderly e JOIN a.caregiver c JOIN c.user u " +
+            "WHERE a.organization.id = :organizationId " +
+            "AND (:caregiverId IS NULL OR c.id = :caregiverId) " +
+            "AND (:elderlyId IS NULL OR e.id = :elderlyId) ";
+
+    /**
+     * Projeção de um agendamento no calendário, com os nomes de idoso e cuidador.
+     */
+    interface CalendarEntry {
+        UUID getId();
+
+        LocalDateTime getDateTime();
+
+        Integer getDurationMinutes();
+
+        AppointmentStatus getStatus();
+
+        UUID getElderlyId();
+
+        String getElderlyName();
+
+        UUID getCaregiverId();
+
+        String getCaregiverName();
+    }
+
+    /**
+     * Busca apenas a versão de um agendamento, para responder requisições condicionais
+     * sem carregar a entidade.
+     *
+     * @param id ID do agendamento
+     * @return versão atual, se existir
+     */
+    @Query("SELECT a.version FROM Appointment a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Busca apenas a organização e o status de um agendamento, sem carregar a descrição.
+     *
+     * @param id ID do agendamento
+     * @return organização e status, se existir
+     */
+    @Query("SELECT a.id AS id, a.organization.id AS organizationId, a.status AS status " +
+            "FROM Appointment a WHERE a.id = :id")
+    Optional<StatusView> findStatusViewById(@Param("id") UUID id);
+
+    /**
+     * Projeção com a organização e o status de um agendamento.
+     */
+    interface StatusView {
+        UUID getId();
+
+        UUID getOrganizationId();
+
+        AppointmentStatus getStatus();
+    }
+
+    /**
+     * Projeção com o horário ocupado por um agendamento.
+     */
+    interface ScheduleSlot {
+        UUID getId();
+
+        LocalDateTime getDateTime();
+
+        Integer getDurationMinutes();
+    }
+
+    /**
+     * Projeção com o horário ocupado por um agendamento e o cuidador responsável.
+     */
+    interface CaregiverScheduleSlot extends ScheduleSlot {
+        UUID getCaregiverId();
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Gravação e leitura em fluxo dos registros de auditoria executadas diretamente via JDBC, sem
+ * passar pelo contexto de persistência.
+ */
+public interface AuditLogBatchRepository {
+
+    /**
+     * Insere os registros em um único batch JDBC. Registros com ID já gravado são ignorados,
+     * então um lote pode ser reenviado após uma falha sem duplicar eventos.
+     *
+     * @param entries registros a gravar
+     * @return quantidade de registros inseridos
+     */
+    int insertBatch(List<AuditEntry> entries);
+
+    /**
+     * Carrega os registros com COPY em uma tabela temporária e os insere em audit_logs em um
+     * único INSERT ... SELECT, dentro da transação corrente. Registros com ID já gravado ou que
+     * apontem para organização ou usuário inexistente são ignorados.
+     *
+     * @param entries registros a carregar, lidos uma única vez
+     * @return quantidades copiadas e inseridas
+     */
+    CopyResult copyIn(Iterable<AuditEntry> entries);
+
+    /**
+     * Percorre os registros da organização em [from, to), em ordem de tempo, com um cursor no
+     * servidor: as linhas chegam em blocos de fetchSize e nenhuma fica retida depois de entregue
+     * ao consumidor. Deve rodar dentro de uma transação; sem ela, o driver lê o resultado inteiro
+     * para a memória antes de devolver a primeira linha.
+     *
+     * @param organizationId ID da organização
+     * @param from           início do período (inclusivo)
+     * @param to             fim do período (exclusivo)
+     * @param fetchSize      linhas buscadas por ida ao banco
+     * @param consumer       recebe cada registro
+     * @return quantidade de registros lidos
+     */
+    long stream(UUID organizationId, LocalDateTime from, LocalDateTime to, int fetchSize,
+                Consumer<AuditEntry> consumer);
+
+    /**
+     * Resultado de uma carga por COPY.
+     */
+    record CopyResult(long copied, int inserted) {
+    }
+
+    /**
+     * Registro de auditoria com o ID já definido por quem o criou.
+     */
+    record AuditEntry(UUID id, UUID organizationId, UUID userId, String action, String entityName,
+                      UUID entityId, LocalDateTime timestamp, String description) {
+    }
+}
@@ -0,0 +1,180 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class AuditLogBatchRepositoryImpl implements AuditLogBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_logs (id, organization_id, user_id, action, entity_name, entity_id, timestamp,
+                                    description, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+            ON CONFLICT (id, timestamp) DO NOTHING
+            """;
+
+    private static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE audit_logs_load (LIKE audit_logs INCLUDING DEFAULTS) ON COMMIT DROP";
+
+    private static final String COPY_SQL = """
+            COPY audit_logs_load (id, organization_id, user_id, action, entity_name, entity_id, timestamp, description)
+            FROM STDIN (FORMAT csv)
+            """;
+
+    private static final String LOAD_SQL = """
+            INSERT INTO audit_logs (id, organization_id, user_id, action, entity_name, entity_id, timestamp,
+                                    description, version)
+            SELECT l.id, l.organization_id, l.user_id, l.action, l.entity_name, l.entity_id, l.timestamp,
+                   l.description, 0
+            FROM audit_logs_load l
+            WHERE EXISTS (SELECT 1 FROM organizations o WHERE o.id = l.organization_id)
+              AND EXISTS (SELECT 1 FROM users u WHERE u.id = l.user_id)
+            ON CONFLICT (id, timestamp) DO NOTHING
+            """;
+
+    /**
+     * Tamanho do bloco enviado ao servidor durante o COPY.
+     */
+    private static final int COPY_CHUNK_BYTES = 64 * 1024;
+
+    private static final String STREAM_SQL = """
+            SELECT id, organization_id, user_id, action, entity_name, entity_id, timestamp, description
+            FROM audit_logs
+            WHERE organization_id = ? AND timestamp >= ? AND timestamp < ?
+            ORDER BY timestamp, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertBatch(List<AuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setObject(1, entry.id());
+            ps.setObject(2, entry.organizationId());
+            ps.setObject(3, entry.userId());
+            ps.setString(4, entry.action());
+            ps.setString(5, entry.entityName());
+            ps.setObject(6, entry.entityId());
+            ps.setTimestamp(7, Timestamp.valueOf(entry.timestamp()));
+            ps.setString(8, entry.description());
+        });
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Contagem desconhecida (SUCCESS_NO_INFO) conta como inserida
+                inserted += count != 0 ? 1 : 0;
+            }
+        }
+        return inserted;
+    }
+
+    @Override
+    public CopyResult copyIn(Iterable<AuditEntry> entries) {
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            try {
+                StringBuilder chunk = new StringBuilder(COPY_CHUNK_BYTES + 1024);
+                for (AuditEntry entry : entries) {
+                    appendCsv(chunk, entry);
+                    if (chunk.length() >= COPY_CHUNK_BYTES) {
+                        writeChunk(copy, chunk);
+                    }
+                }
+                writeChunk(copy, chunk);
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        });
+        int inserted = jdbcTemplate.update(LOAD_SQL);
+        return new CopyResult(copied != null ? copied : 0, inserted);
+    }
+
+    @Override
+    public long stream(UUID organizationId, LocalDateTime from, LocalDateTime to, int fetchSize,
+                       Consumer<AuditEntry> consumer) {
+        long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setObject(1, organizationId);
+            ps.setTimestamp(2, Timestamp.valueOf(from));
+            ps.setTimestamp(3, Timestamp.valueOf(to));
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            consumer.accept(new AuditEntry(
+                    rs.getObject(1, UUID.class),
+                    rs.getObject(2, UUID.class),
+                    rs.getObject(3, UUID.class),
+                    rs.getString(4),
+                    rs.getString(5),
+                    rs.getObject(6, UUID.class),
+                    rs.getTimestamp(7).toLocalDateTime(),
+                    rs.getString(8)));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private static void writeChunk(CopyIn copy, StringBuilder chunk) throws SQLException {
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    /**
+     * Linha CSV do COPY: campo vazio sem aspas é NULL; textos vão sempre entre aspas.
+     */
+    private static void appendCsv(StringBuilder line, AuditEntry entry) {
+        line.append(entry.id()).append(',')
+                .append(entry.organizationId()).append(',')
+                .append(entry.userId()).append(',');
+        appendQuoted(line, entry.action());
+        line.append(',');
+        appendQuoted(line, entry.entityName());
+        line.append(',');
+        if (entry.entityId() != null) {
+            line.append(entry.entityId());
+        }
+        line.append(',').append(entry.timestamp()).append(',');
+        if (entry.description() != null) {
+            appendQuoted(line, entry.description());
+        }
+        line.append('\n');
+    }
+
+    private static void appendQuoted(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
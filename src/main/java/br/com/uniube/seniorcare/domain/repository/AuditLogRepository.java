@@ -2,7 +2,88 @@ package br.com.uniube.seniorcare.domain.repository;
 
 import br.com.uniube.seniorcare.domain.entity.AuditLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
-public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, UUID>, AuditLogBatchRepository {
+
+    /**
+     * Eventos da organização em [from, (beforeTimestamp, beforeId)), do mais recente para o
+     * mais antigo, percorrendo o índice (organization_id, timestamp, id).
+     *
+     * Os limites do período são sempre informados, para que o plano genérico da consulta
+     * preparada continue usando o índice; na primeira página, o limite superior é o fim do
+     * período com o menor UUID possível. Os filtros opcionais são aplicados sobre as linhas lidas.
+     *
+     * @param organizationId  ID da organização
+     * @param from            início do período (inclusivo)
+     * @param beforeTimestamp data/hora da última linha conhecida, ou fim do período
+     * @param beforeId        ID da última linha conhecida (desempate)
+     * @param action          opcional - ação registrada
+     * @param entityName      opcional - nome da entidade afetada
+     * @param limit           limite de linhas
+     * @return eventos anteriores à posição
+     */
+    @Query(value = SEARCH_SELECT +
+            "WHERE a.organization_id = :organizationId " +
+            SEARCH_RANGE + SEARCH_FILTERS + SEARCH_ORDER, nativeQuery = true)
+    List<AuditLog> searchByOrganization(@Param("organizationId") UUID organizationId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                        @Param("beforeId") UUID beforeId,
+                                        @Param("action") String action,
+                                        @Param("entityName") String entityName,
+                                        @Param("limit") int limit);
+
+    /**
+     * Como {@link #searchByOrganization}, a partir do índice (entity_id, timestamp, id):
+     * o histórico de um registro específico, opcionalmente filtrado por usuário.
+     */
+    @Query(value = SEARCH_SELECT +
+            "WHERE a.entity_id = :entityId AND a.organization_id = :organizationId " +
+            SEARCH_RANGE + SEARCH_USER_FILTER + SEARCH_FILTERS + SEARCH_ORDER, nativeQuery = true)
+    List<AuditLog> searchByEntity(@Param("organizationId") UUID organizationId,
+                                  @Param("entityId") UUID entityId,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                  @Param("beforeId") UUID beforeId,
+                                  @Param("userId") UUID userId,
+                                  @Param("action") String action,
+                                  @Param("entityName") String entityName,
+                                  @Param("limit") int limit);
+
+    /**
+     * Como {@link #searchByOrganization}, a partir do índice (user_id, timestamp, id):
+     * as ações de um usuário.
+     */
+    @Query(value = SEARCH_SELECT +
+            "WHERE a.user_id = :userId AND a.organization_id = :organizationId " +
+            SEARCH_RANGE + SEARCH_FILTERS + SEARCH_ORDER, nativeQuery = true)
+    List<AuditLog> searchByUser(@Param("organizationId") UUID organizationId,
+                                @Param("userId") UUID userId,
+                                @Param("from") LocalDateTime from,
+                                @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                @Param("beforeId") UUID beforeId,
+                                @Param("action") String action,
+                                @Param("entityName") String entityName,
+                                @Param("limit") int limit);
+
+    String SEARCH_SELECT = "SELECT a.* FROM audit_logs a ";
+
+    String SEARCH_RANGE = "AND a.timestamp >= :from " +
+            "AND (a.timestamp, a.id) < (:beforeTimestamp, :beforeId) ";
+
+    // Filtros opcionais só aparecem nas consultas em que podem ser nulos: repetir a coluna do
+    // ponto de partida derruba a estimativa de linhas do plano genérico e troca a leitura
+    // ordenada do índice por uma ordenação de todas as linhas do usuário.
+    String SEARCH_USER_FILTER = "AND (CAST(:userId AS uuid) IS NULL OR a.user_id = CAST(:userId AS uuid)) ";
+
+    String SEARCH_FILTERS = "AND (CAST(:action AS varchar) IS NULL OR a.action = CAST(:action AS varchar)) " +
+            "AND (CAST(:entityName AS varchar) IS NULL OR a.entity_name = CAST(:entityName AS varchar)) ";
+
+    String SEARCH_ORDER = "ORDER BY a.timestamp DESC, a.id DESC LIMIT :limit";
 }
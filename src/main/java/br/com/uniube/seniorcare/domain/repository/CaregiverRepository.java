@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,6 +24,19 @@ public interface CaregiverRepository extends JpaRepository<Caregiver, UUID> {
             """, nativeQuery = true)
     List<Caregiver> findByElderlyId(@Param("elderlyId") UUID elderlyId);
 
+    /**
+     * Lista os vínculos entre idosos e cuidadores de vários idosos em uma única consulta
+     *
+     * @param elderlyIds IDs dos idosos
+     * @return pares (idoso, cuidador)
+     */
+    @Query(value = """
+            SELECT ec.elderly_id AS "elderlyId", ec.caregiver_id AS "caregiverId"
+            FROM elderly_caregiver ec
+            WHERE ec.elderly_id IN (:elderlyIds)
+            """, nativeQuery = true)
+    List<ElderlyCaregiverLink> findLinksByElderlyIds(@Param("elderlyIds") Collection<UUID> elderlyIds);
+
     /**
      * Verifica se já existe um cuidador com o ID de usuário especificado
      *
@@ -40,4 +54,37 @@ public interface CaregiverRepository extends JpaRepository<Caregiver, UUID> {
     List<Caregiver> findBySpecialtyContainingIgnoreCase(String specialty);
 
     List<Caregiver> findByOrganizationId(UUID organizationId);
+
+    /**
+     * Lista apenas os usuários dos cuidadores de uma organização, sem carregar as entidades
+     *
+     * @param organizationId ID da organização
+     * @return IDs dos usuários
+     */
+    @Query("SELECT c.user.id FROM Caregiver c WHERE c.organization.id = :organizationId")
+    List<UUID> findUserIdsByOrganizationId(@Param("organizationId") UUID organizationId);
+
+    /**
+     * Lista apenas os usuários dos cuidadores vinculados a um idoso (elderly_caregiver), sem
+     * carregar as entidades
+     *
+     * @param elderlyId ID do idoso
+     * @return IDs dos usuários
+     */
+    @Query(value = """
+            SELECT c.user_id
+            FROM elderly_caregiver ec
+            JOIN caregiver c ON c.id = ec.caregiver_id
+            WHERE ec.elderly_id = :elderlyId
+            """, nativeQuery = true)
+    List<UUID> findUserIdsByElderlyId(@Param("elderlyId") UUID elderlyId);
+
+    /**
+     * Projeção de um vínculo entre idoso e cuidador.
+     */
+    interface ElderlyCaregiverLink {
+        UUID getElderlyId();
+
+        UUID getCaregiverId();
+    }
 }
\ No newline at end of file
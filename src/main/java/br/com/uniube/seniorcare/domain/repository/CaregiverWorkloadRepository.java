@@ -0,0 +1,35 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.entity.CaregiverWorkloadDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface CaregiverWorkloadRepository
+        extends JpaRepository<CaregiverWorkloadDaily, CaregiverWorkloadDaily.Key>, WorkloadRollupRepository {
+
+    /**
+     * Lista os totais diários de uma organização no período, opcionalmente de um único cuidador.
+     * Linhas zeradas (todos os atendimentos mudaram de status ou de dia) são omitidas.
+     *
+     * @param organizationId ID da organização
+     * @param caregiverId    opcional - filtra por cuidador
+     * @param from           primeiro dia (inclusivo)
+     * @param to             último dia (inclusivo)
+     * @return totais ordenados por dia, cuidador e status
+     */
+    @Query("SELECT w FROM CaregiverWorkloadDaily w " +
+            "WHERE w.organizationId = :organizationId " +
+            "AND w.day BETWEEN :from AND :to " +
+            "AND (:caregiverId IS NULL OR w.caregiverId = :caregiverId) " +
+            "AND w.visitCount <> 0 " +
+            "ORDER BY w.day, w.caregiverId, w.status")
+    List<CaregiverWorkloadDaily> findDaily(@Param("organizationId") UUID organizationId,
+                                           @Param("caregiverId") UUID caregiverId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+}
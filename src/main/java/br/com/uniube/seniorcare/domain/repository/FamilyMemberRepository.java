@@ -2,6 +2,9 @@ package br.com.uniube.seniorcare.domain.repository;
 
 import br.com.uniube.seniorcare.domain.entity.FamilyMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +27,15 @@ public interface FamilyMemberRepository extends JpaRepository<FamilyMember, UUID
      */
     List<FamilyMember> findByElderlyId(UUID elderlyId);
 
+    /**
+     * Lista apenas os usuários dos membros da família de um idoso, sem carregar as entidades
+     *
+     * @param elderlyId ID do idoso
+     * @return IDs dos usuários
+     */
+    @Query("SELECT f.user.id FROM FamilyMember f WHERE f.elderly.id = :elderlyId")
+    List<UUID> findUserIdsByElderlyId(@Param("elderlyId") UUID elderlyId);
+
     /**
      * Busca todos os vínculos de um usuário como membro da família
      *
@@ -0,0 +1,71 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Operações em lote sobre notificações executadas diretamente via JDBC.
+ */
+public interface NotificationBatchRepository {
+
+    /**
+     * Cria a mesma notificação (status PENDENTE) para todos os destinatários em um único
+     * INSERT ... SELECT, sem montar entidades. Destinatários repetidos recebem uma única
+     * notificação. No mesmo comando, cada notificação criada entra na fila de entrega
+     * (notification_deliveries) de cada canal informado, exceto as de destinatários que
+     * recebem resumos periódicos, e o contador de não lidas de cada destinatário é incrementado.
+     *
+     * @param organizationId organização das notificações
+     * @param senderId opcional - remetente
+     * @param message conteúdo da mensagem
+     * @param receiverIds usuários destinatários
+     * @param channels canais de entrega externa; vazio para apenas registrar as notificações
+     * @return notificações criadas (ID, destinatário e data de criação)
+     */
+    List<Created> fanOut(UUID organizationId, UUID senderId, String message, Collection<UUID> receiverIds,
+                         Collection<String> channels);
+
+    /**
+     * Marca como lidas as notificações informadas que ainda estão pendentes e pertencem ao
+     * destinatário, em um único UPDATE condicional que também desconta o contador de não lidas.
+     *
+     * @param receiverId destinatário das notificações
+     * @param notificationIds notificações a marcar
+     * @return IDs efetivamente alterados
+     */
+    List<UUID> markRead(UUID receiverId, Collection<UUID> notificationIds);
+
+    /**
+     * Marca como lidas todas as notificações pendentes do destinatário até a posição
+     * (createdAt, id) inclusive, em um único UPDATE condicional que também desconta o
+     * contador de não lidas.
+     *
+     * @param receiverId destinatário das notificações
+     * @param upToCreatedAt opcional - data de criação da notificação mais recente a marcar; null marca todas
+     * @param upToId opcional - ID da notificação mais recente a marcar (desempate)
+     * @return quantidade de notificações alteradas
+     */
+    int markAllRead(UUID receiverId, LocalDateTime upToCreatedAt, UUID upToId);
+
+    /**
+     * Registra mais uma ocorrência de uma notificação repetida, em um único UPDATE
+     * condicional, sem consultá-la antes. Só altera a notificação se ela ainda estiver
+     * pendente, for do destinatário e tiver exatamente o mesmo conteúdo.
+     *
+     * @param id ID da notificação
+     * @param createdAt data de criação da notificação (restringe o UPDATE à sua partição)
+     * @param receiverId destinatário da notificação
+     * @param message conteúdo da mensagem repetida
+     * @param occurredAt instante da nova ocorrência
+     * @return quantidade de ocorrências após o incremento, ou 0 se a notificação não foi alterada
+     */
+    int coalesce(UUID id, LocalDateTime createdAt, UUID receiverId, String message, LocalDateTime occurredAt);
+
+    /**
+     * Notificação criada pelo envio em massa.
+     */
+    record Created(UUID id, UUID receiverId, LocalDateTime createdAt) {
+    }
+}
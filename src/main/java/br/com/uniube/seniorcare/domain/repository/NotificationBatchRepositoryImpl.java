@@ -0,0 +1,164 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+
+    /**
+     * Os destinatários e os canais vão em parâmetros do tipo array; as linhas são montadas no banco.
+     * A fila de entrega e os contadores de não lidas são alimentados pelas linhas retornadas do
+     * próprio INSERT; os contadores são atualizados em ordem de destinatário.
+     */
+    private static final String FAN_OUT_SQL = """
+            WITH created AS (
+                INSERT INTO notifications (id, organization_id, sender_id, receiver_id, message, status, created_at)
+                SELECT gen_random_uuid(), ?, ?, r.receiver_id, ?, 'PENDENTE', now()
+                FROM (SELECT DISTINCT unnest(?) AS receiver_id) r
+                RETURNING id, receiver_id, created_at
+            ), queued AS (
+                INSERT INTO notification_deliveries (id, notification_id, channel, status, attempts, next_attempt_at, created_at)
+                SELECT gen_random_uuid(), created.id, c.channel, 'PENDENTE', 0, now(), now()
+                FROM created
+                CROSS JOIN unnest(?) AS c(channel)
+                WHERE NOT EXISTS (SELECT 1 FROM notification_digest_preferences p
+                                  WHERE p.user_id = created.receiver_id AND p.enabled_at <= created.created_at)
+            ), counted AS (
+                INSERT INTO notification_unread_counters (receiver_id, unread_count)
+                SELECT receiver_id, 1 FROM created ORDER BY receiver_id
+                ON CONFLICT (receiver_id) DO UPDATE
+                SET unread_count = notification_unread_counters.unread_count + 1
+            )
+            SELECT id, receiver_id, created_at FROM created
+            """;
+
+    /**
+     * O contador é descontado pelas linhas efetivamente alteradas no mesmo comando; notificações
+     * já lidas ou de outro destinatário não entram no UPDATE.
+     */
+    private static final String MARK_READ_SQL = """
+            WITH updated AS (
+                UPDATE notifications
+                SET status = 'LIDA'
+                WHERE receiver_id = ? AND status = 'PENDENTE' AND id = ANY(?)
+                RETURNING id
+            ), counted AS (
+                UPDATE notification_unread_counters
+                SET unread_count = GREATEST(unread_count - (SELECT count(*) FROM updated), 0)
+                WHERE receiver_id = ? AND EXISTS (SELECT 1 FROM updated)
+            )
+            SELECT id FROM updated
+            """;
+
+    private static final String MARK_ALL_READ_SQL = """
+            WITH updated AS (
+                UPDATE notifications
+                SET status = 'LIDA'
+                WHERE receiver_id = ? AND status = 'PENDENTE'
+                  AND (CAST(? AS timestamp) IS NULL
+                       OR (created_at, id) <= (CAST(? AS timestamp), CAST(? AS uuid)))
+                RETURNING id
+            ), counted AS (
+                UPDATE notification_unread_counters
+                SET unread_count = GREATEST(unread_count - (SELECT count(*) FROM updated), 0)
+                WHERE receiver_id = ? AND EXISTS (SELECT 1 FROM updated)
+            )
+            SELECT count(*) FROM updated
+            """;
+
+    private static final String COALESCE_SQL = """
+            UPDATE notifications
+            SET occurrences = occurrences + 1, last_occurred_at = ?
+            WHERE id = ? AND created_at = ? AND receiver_id = ? AND status = 'PENDENTE' AND message = ?
+            RETURNING occurrences
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Created> fanOut(UUID organizationId, UUID senderId, String message, Collection<UUID> receiverIds,
+                     Collection<String> channels) {
+        if (receiverIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute(FAN_OUT_SQL, (PreparedStatement ps) -> {
+            Array receivers = ps.getConnection().createArrayOf("uuid", receiverIds.toArray());
+            Array channelNames = ps.getConnection().createArrayOf("varchar", channels.toArray());
+            try {
+                ps.setObject(1, organizationId);
+                ps.setObject(2, senderId, Types.OTHER);
+                ps.setString(3, message);
+                ps.setArray(4, receivers);
+                ps.setArray(5, channelNames);
+                List<Created> created = new ArrayList<>(receiverIds.size());
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        created.add(new Created(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class),
+                                rs.getTimestamp(3).toLocalDateTime()));
+                    }
+                }
+                return created;
+            } finally {
+                receivers.free();
+                channelNames.free();
+            }
+        });
+    }
+
+    @Override
+    public List<UUID> markRead(UUID receiverId, Collection<UUID> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.execute(MARK_READ_SQL, (PreparedStatement ps) -> {
+            Array ids = ps.getConnection().createArrayOf("uuid", notificationIds.toArray());
+            try {
+                ps.setObject(1, receiverId);
+                ps.setArray(2, ids);
+                ps.setObject(3, receiverId);
+                List<UUID> updated = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        updated.add(rs.getObject(1, UUID.class));
+                    }
+                }
+                return updated;
+            } finally {
+                ids.free();
+            }
+        });
+    }
+
+    @Override
+    public int markAllRead(UUID receiverId, LocalDateTime upToCreatedAt, UUID upToId) {
+        Timestamp upTo = upToCreatedAt != null ? Timestamp.valueOf(upToCreatedAt) : null;
+        return jdbcTemplate.queryForObject(MARK_ALL_READ_SQL, Integer.class,
+                receiverId,
+                new SqlParameterValue(Types.TIMESTAMP, upTo),
+                new SqlParameterValue(Types.TIMESTAMP, upTo),
+                new SqlParameterValue(Types.OTHER, upToId),
+                receiverId);
+    }
+
+    @Override
+    public int coalesce(UUID id, LocalDateTime createdAt, UUID receiverId, String message, LocalDateTime occurredAt) {
+        Integer occurrences = jdbcTemplate.query(COALESCE_SQL, rs -> rs.next() ? rs.getInt(1) : 0,
+                Timestamp.valueOf(occurredAt), id, Timestamp.valueOf(createdAt), receiverId, message);
+        return occurrences != null ? occurrences : 0;
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Operações da fila de entregas de notificações (outbox) executadas diretamente via JDBC.
+ */
+public interface NotificationDeliveryBatchRepository {
+
+    /**
+     * Cria uma entrega PENDENTE, disponível imediatamente, para cada combinação de
+     * notificação e canal, em um único INSERT ... SELECT. Nada é criado se o destinatário
+     * aderiu aos resumos periódicos até a criação das notificações; o resumo é entregue no
+     * lugar delas.
+     *
+     * @param receiverId destinatário das notificações
+     * @param notificationIds notificações a entregar
+     * @param createdAt momento de criação das notificações
+     * @param channels canais de entrega
+     * @return quantidade de entregas criadas
+     */
+    int enqueue(UUID receiverId, Collection<UUID> notificationIds, LocalDateTime createdAt,
+                Collection<String> channels);
+
+    /**
+     * Reserva até "limit" entregas pendentes já disponíveis, ignorando as bloqueadas por
+     * outros workers (FOR UPDATE SKIP LOCKED). A reserva adia a próxima tentativa pelo
+     * tempo de concessão e incrementa o contador de tentativas: se o worker parar antes de
+     * registrar o resultado, a entrega volta para a fila quando a concessão expirar.
+     *
+     * @param limit quantidade máxima de entregas
+     * @param lease tempo de concessão da reserva
+     * @return entregas reservadas com os dados da notificação; notificações excluídas vêm com campos nulos
+     */
+    List<ClaimedDelivery> claim(int limit, Duration lease);
+
+    /**
+     * Marca as entregas como ENVIADA.
+     *
+     * @param deliveryIds entregas concluídas
+     */
+    void markDelivered(Collection<UUID> deliveryIds);
+
+    /**
+     * Registra as falhas: entregas com nova tentativa voltam para a fila após o atraso
+     * informado; as demais são marcadas como FALHOU.
+     *
+     * @param failures falhas a registrar
+     */
+    void markFailed(Collection<Failure> failures);
+
+    /**
+     * Entrega reservada por um worker.
+     */
+    record ClaimedDelivery(UUID id, UUID notificationId, String channel, int attempt,
+                           UUID organizationId, UUID receiverId, String receiverName, String receiverEmail,
+                           String message, LocalDateTime createdAt) {
+
+        /**
+         * A notificação foi excluída depois que a entrega entrou na fila.
+         */
+        public boolean isOrphan() {
+            return receiverId == null;
+        }
+    }
+
+    /**
+     * Falha de uma entrega; retryAfter nulo indica falha definitiva.
+     */
+    record Failure(UUID deliveryId, String error, Duration retryAfter) {
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class NotificationDeliveryBatchRepositoryImpl implements NotificationDeliveryBatchRepository {
+
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO notification_deliveries (id, notification_id, channel, status, attempts, next_attempt_at, created_at)
+            SELECT gen_random_uuid(), n.id, c.channel, 'PENDENTE', 0, now(), now()
+            FROM unnest(?) AS n(id)
+            CROSS JOIN unnest(?) AS c(channel)
+            WHERE NOT EXISTS (SELECT 1 FROM notification_digest_preferences p
+                              WHERE p.user_id = ? AND p.enabled_at <= ?)
+            """;
+
+    /**
+     * A reserva e a leitura dos dados da notificação acontecem no mesmo comando; o SKIP LOCKED
+     * permite que vários workers (inclusive de outras instâncias) consumam a fila sem disputa.
+     * A fila também entrega resumos (notification_digests), cujo texto é o sumário.
+     */
+    private static final String CLAIM_SQL = """
+            WITH claimed AS (
+                SELECT d.id
+                FROM notification_deliveries d
+                WHERE d.status = 'PENDENTE' AND d.next_attempt_at <= now()
+                ORDER BY d.next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), leased AS (
+                UPDATE notification_deliveries d
+                SET next_attempt_at = now() + ? * INTERVAL '1 millisecond',
+                    attempts = d.attempts + 1
+                FROM claimed
+                WHERE d.id = claimed.id
+                RETURNING d.id, d.notification_id, d.channel, d.attempts
+            )
+            SELECT l.id, l.notification_id, l.channel, l.attempts,
+                   COALESCE(n.organization_id, g.organization_id) AS organization_id,
+                   COALESCE(n.receiver_id, g.receiver_id) AS receiver_id,
+                   u.name AS receiver_name, u.email AS receiver_email,
+                   COALESCE(n.message, g.summary) AS message,
+                   COALESCE(n.created_at, g.created_at) AS created_at
+            FROM leased l
+            LEFT JOIN notifications n ON n.id = l.notification_id
+            LEFT JOIN notification_digests g ON g.id = l.notification_id
+            LEFT JOIN users u ON u.id = COALESCE(n.receiver_id, g.receiver_id)
+            """;
+
+    private static final String DELIVERED_SQL = """
+            UPDATE notification_deliveries
+            SET status = 'ENVIADA', delivered_at = now(), last_error = NULL
+            WHERE id = ANY(?) AND status = 'PENDENTE'
+            """;
+
+    private static final String FAILED_SQL = """
+            UPDATE notification_deliveries
+            SET status = ?, last_error = ?, next_attempt_at = now() + ? * INTERVAL '1 millisecond'
+            WHERE id = ? AND status = 'PENDENTE'
+            """;
+
+    private static final RowMapper<ClaimedDelivery> CLAIMED_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new ClaimedDelivery(
+                rs.getObject("id", UUID.class),
+                rs.getObject("notification_id", UUID.class),
+                rs.getString("channel"),
+                rs.getInt("attempts"),
+                rs.getObject("organization_id", UUID.class),
+                rs.getObject("receiver_id", UUID.class),
+                rs.getString("receiver_name"),
+                rs.getString("receiver_email"),
+                rs.getString("message"),
+                createdAt != null ? createdAt.toLocalDateTime() : null);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationDeliveryBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int enqueue(UUID receiverId, Collection<UUID> notificationIds, LocalDateTime createdAt,
+                       Collection<String> channels) {
+        if (notificationIds.isEmpty() || channels.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.execute(ENQUEUE_SQL, (PreparedStatement ps) -> {
+            Array ids = ps.getConnection().createArrayOf("uuid", notificationIds.toArray());
+            Array names = ps.getConnection().createArrayOf("varchar", channels.toArray());
+            try {
+                ps.setArray(1, ids);
+                ps.setArray(2, names);
+                ps.setObject(3, receiverId);
+                ps.setTimestamp(4, Timestamp.valueOf(createdAt));
+                return ps.executeUpdate();
+            } finally {
+                ids.free();
+                names.free();
+            }
+        });
+    }
+
+    @Override
+    public List<ClaimedDelivery> claim(int limit, Duration lease) {
+        return jdbcTemplate.query(CLAIM_SQL, CLAIMED_MAPPER, limit, lease.toMillis());
+    }
+
+    @Override
+    public void markDelivered(Collection<UUID> deliveryIds) {
+        if (deliveryIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute(DELIVERED_SQL, (PreparedStatement ps) -> {
+            Array ids = ps.getConnection().createArrayOf("uuid", deliveryIds.toArray());
+            try {
+                ps.setArray(1, ids);
+                return ps.executeUpdate();
+            } finally {
+                ids.free();
+            }
+        });
+    }
+
+    @Override
+    public void markFailed(Collection<Failure> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(FAILED_SQL, failures, failures.size(), (ps, f) -> {
+            boolean retry = f.retryAfter() != null;
+            ps.setString(1, retry ? "PENDENTE" : "FALHOU");
+            ps.setString(2, f.error());
+            ps.setLong(3, retry ? f.retryAfter().toMillis() : 0L);
+            ps.setObject(4, f.deliveryId(), Types.OTHER);
+        });
+    }
+}
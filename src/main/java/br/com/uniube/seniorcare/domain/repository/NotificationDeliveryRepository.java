@@ -0,0 +1,19 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.entity.NotificationDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface NotificationDeliveryRepository extends JpaRepository<NotificationDelivery, UUID>,
+        NotificationDeliveryBatchRepository {
+
+    /**
+     * Busca as entregas de uma notificação
+     *
+     * @param notificationId ID da notificação
+     * @return entregas por canal
+     */
+    List<NotificationDelivery> findByNotificationId(UUID notificationId);
+}
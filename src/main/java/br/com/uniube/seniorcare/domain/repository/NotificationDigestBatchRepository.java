@@ -0,0 +1,42 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Operações em lote sobre resumos de notificações executadas diretamente via JDBC.
+ */
+public interface NotificationDigestBatchRepository {
+
+    /**
+     * Cria, em um único comando, os resumos dos períodos encerrados de todos os usuários com
+     * preferência de resumo. Cada resumo agrega as notificações pendentes e ainda não resumidas
+     * do destinatário no período; no mesmo comando, as notificações são vinculadas ao resumo e o
+     * resumo entra na fila de entrega de cada canal informado. Deve rodar em uma transação, que
+     * serializa as execuções entre instâncias; notificações já resumidas são ignoradas, então o
+     * comando pode ser repetido.
+     *
+     * @param closedBefore instante de referência; entram os períodos encerrados antes dele
+     * @param channels canais de entrega externa; vazio para apenas registrar os resumos
+     * @return totais dos resumos criados
+     */
+    DigestBatch createDigests(LocalDateTime closedBefore, Collection<String> channels);
+
+    /**
+     * Marca o resumo como lido e, no mesmo comando, todas as notificações pendentes que ele
+     * agrupa, descontando o contador de não lidas.
+     *
+     * @param receiverId destinatário do resumo
+     * @param digestId resumo a marcar
+     * @return IDs das notificações efetivamente alteradas
+     */
+    List<UUID> markRead(UUID receiverId, UUID digestId);
+
+    /**
+     * Totais de uma execução de {@link #createDigests}.
+     */
+    record DigestBatch(int digests, int notifications, int occurrences) {
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public class NotificationDigestBatchRepositoryImpl implements NotificationDigestBatchRepository {
+
+    /**
+     * Quantidade de mensagens mais recentes reproduzidas no texto do resumo.
+     */
+    static final int SUMMARY_MESSAGES = 5;
+
+    /**
+     * Chave do advisory lock que serializa a criação dos resumos entre instâncias.
+     */
+    private static final long LOCK_KEY = 0x646967657374L;
+
+    /**
+     * Uma única agregação sobre notifications (pelo índice parcial de não lidas por
+     * destinatário e data) produz todos os resumos; as notificações agregadas são vinculadas
+     * e os resumos enfileirados pelas linhas retornadas do próprio INSERT.
+     *
+     * Entram todos os períodos encerrados que ainda tenham notificações pendentes sem resumo,
+     * e não só o último: um período perdido (aplicação parada por mais de um período) é
+     * resumido na execução seguinte. Notificações criadas antes da adesão ficam de fora, pois
+     * já tiveram entregas individuais.
+     *
+     * Um período pode ter mais de um resumo: notificações confirmadas depois de o período ter
+     * sido resumido, ou um período diário que começa junto de um resumo por hora já gravado,
+     * formam um resumo complementar. Cada notificação entra em um único resumo, pois só as
+     * ainda sem digest_id são agregadas.
+     */
+    private static final String CREATE_DIGESTS_SQL = """
+            WITH due AS (
+                SELECT p.user_id, p.enabled_at,
+                       CASE p.period WHEN 'DIARIO' THEN 'day' ELSE 'hour' END AS unit,
+                       CASE p.period WHEN 'DIARIO' THEN INTERVAL '1 day' ELSE INTERVAL '1 hour' END AS length,
+                       date_trunc(CASE p.period WHEN 'DIARIO' THEN 'day' ELSE 'hour' END, CAST(? AS timestamp)) AS closed_before
+                FROM notification_digest_preferences p
+            ), grouped AS (
+                SELECT n.receiver_id,
+                       min(n.organization_id::text)::uuid AS organization_id,
+                       date_trunc(d.unit, n.created_at) AS period_start,
+                       date_trunc(d.unit, n.created_at) + d.length AS period_end,
+                       count(*)::int AS notification_count,
+                       sum(n.occurrences)::int AS occurrence_count,
+                       count(DISTINCT n.sender_id)::int AS sender_count,
+                       min(n.created_at) AS first_notification_at,
+                       max(n.created_at) AS last_notification_at,
+                       (array_agg(left(n.message, 200) ORDER BY n.created_at DESC))[1:?] AS latest
+                FROM due d
+                JOIN notifications n ON n.receiver_id = d.user_id
+                WHERE n.status = 'PENDENTE' AND n.digest_id IS NULL
+                  AND n.created_at >= d.enabled_at AND n.created_at < d.closed_before
+                GROUP BY n.receiver_id, d.unit, d.length, date_trunc(d.unit, n.created_at)
+            ), created AS (
+                INSERT INTO notification_digests (id, organization_id, receiver_id, period_start, period_end,
+                                                  notification_count, occurrence_count, sender_count,
+                                                  first_notification_at, last_notification_at, summary, status, created_at)
+                SELECT gen_random_uuid(), g.organization_id, g.receiver_id, g.period_start, g.period_end,
+                       g.notification_count, g.occurrence_count, g.sender_count,
+                       g.first_notification_at, g.last_notification_at,
+                       format('%s notificações de %s remetente(s) entre %s e %s', g.notification_count, g.sender_count,
+                              to_char(g.period_start, 'DD/MM HH24:MI'), to_char(g.period_end, 'DD/MM HH24:MI'))
+                           || E'\\n' || array_to_string(g.latest, E'\\n'),
+                       'PENDENTE', now()
+                FROM grouped g
+                RETURNING id, receiver_id, period_start, period_end, first_notification_at, notification_count,
+                          occurrence_count
+            ), linked AS (
+                UPDATE notifications n
+                SET digest_id = c.id
+                FROM created c
+                WHERE n.receiver_id = c.receiver_id AND n.status = 'PENDENTE' AND n.digest_id IS NULL
+                  AND n.created_at >= c.period_start AND n.created_at < c.period_end
+                  AND n.created_at >= c.first_notification_at
+            ), queued AS (
+                INSERT INTO notification_deliveries (id, notification_id, channel, status, attempts, next_attempt_at, created_at)
+                SELECT gen_random_uuid(), c.id, ch.channel, 'PENDENTE', 0, now(), now()
+                FROM created c
+                CROSS JOIN unnest(?) AS ch(channel)
+            )
+            SELECT count(*), COALESCE(sum(notification_count), 0), COALESCE(sum(occurrence_count), 0)
+            FROM created
+            """;
+
+    /**
+     * O intervalo do período limita a busca às partições do resumo; o contador é descontado
+     * pelas notificações efetivamente alteradas.
+     */
+    private static final String MARK_READ_SQL = """
+            WITH digest AS (
+                UPDATE notification_digests
+                SET status = 'LIDA'
+                WHERE id = ? AND receiver_id = ? AND status = 'PENDENTE'
+                RETURNING id, period_start, period_end
+            ), updated AS (
+                UPDATE notifications n
+                SET status = 'LIDA'
+                FROM digest d
+                WHERE n.digest_id = d.id AND n.receiver_id = ? AND n.status = 'PENDENTE'
+                  AND n.created_at >= d.period_start AND n.created_at < d.period_end
+                RETURNING n.id
+            ), counted AS (
+                UPDATE notification_unread_counters
+                SET unread_count = GREATEST(unread_count - (SELECT count(*) FROM updated), 0)
+                WHERE receiver_id = ? AND EXISTS (SELECT 1 FROM updated)
+            )
+            SELECT id FROM updated
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationDigestBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public DigestBatch createDigests(LocalDateTime closedBefore, Collection<String> channels) {
+        // Uma execução concorrente agregaria as mesmas notificações; a segunda espera a primeira
+        // e não encontra mais notificações sem resumo
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, LOCK_KEY);
+        return jdbcTemplate.execute(CREATE_DIGESTS_SQL, (PreparedStatement ps) -> {
+            Array channelNames = ps.getConnection().createArrayOf("varchar", channels.toArray());
+            try {
+                ps.setTimestamp(1, Timestamp.valueOf(closedBefore));
+                ps.setInt(2, SUMMARY_MESSAGES);
+                ps.setArray(3, channelNames);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    return new DigestBatch(rs.getInt(1), rs.getInt(2), rs.getInt(3));
+                }
+            } finally {
+                channelNames.free();
+            }
+        });
+    }
+
+    @Override
+    public List<UUID> markRead(UUID receiverId, UUID digestId) {
+        return jdbcTemplate.query(MARK_READ_SQL, rs -> {
+            List<UUID> updated = new ArrayList<>();
+            while (rs.next()) {
+                updated.add(rs.getObject(1, UUID.class));
+            }
+            return updated;
+        }, digestId, receiverId, receiverId, receiverId);
+    }
+}
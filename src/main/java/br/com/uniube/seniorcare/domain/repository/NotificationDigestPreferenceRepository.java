@@ -0,0 +1,9 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.entity.NotificationDigestPreference;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface NotificationDigestPreferenceRepository extends JpaRepository<NotificationDigestPreference, UUID> {
+}
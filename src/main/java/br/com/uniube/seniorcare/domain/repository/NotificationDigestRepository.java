@@ -0,0 +1,21 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.entity.NotificationDigest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface NotificationDigestRepository
+        extends JpaRepository<NotificationDigest, UUID>, NotificationDigestBatchRepository {
+
+    /**
+     * Busca os resumos mais recentes de um destinatário
+     *
+     * @param receiverId ID do destinatário
+     * @param pageable limite de resumos
+     * @return resumos, do período mais recente para o mais antigo
+     */
+    List<NotificationDigest> findByReceiverIdOrderByPeriodStartDesc(UUID receiverId, Pageable pageable);
+}
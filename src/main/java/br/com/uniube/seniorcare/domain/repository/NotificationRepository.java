@@ -2,14 +2,22 @@ package br.com.uniube.seniorcare.domain.repository;
 
      import br.com.uniube.seniorcare.domain.entity.Notification;
      import br.com.uniube.seniorcare.domain.enums.NotificationStatus;
+     import jakarta.persistence.LockModeType;
+     import org.springframework.data.domain.Pageable;
      import org.springframework.data.jpa.repository.JpaRepository;
+     import org.springframework.data.jpa.repository.Lock;
+     import org.springframework.data.jpa.repository.Query;
+     import org.springframework.data.repository.query.Param;
+
+     import java.time.LocalDateTime;
      import java.util.List;
+     import java.util.Optional;
      import java.util.UUID;
 
-     public interface NotificationRepository extends JpaRepository<Notification, UUID> {
+     public interface NotificationRepository extends JpaRepository<Notification, UUID>, NotificationBatchRepository {
 
          /**
-          * Busca notificações por destinatário
+          * Busca notificações por destinatário, sem limite; para listagens use findInbox
           *
           * @param receiverId ID do destinatário
           * @return lista de notificações
@@ -17,7 +25,7 @@ package br.com.uniube.seniorcare.domain.repository;
          List<Notification> findByReceiverId(UUID receiverId);
 
          /**
-          * Busca notificações por destinatário e status
+          * Busca notificações por destinatário e status, sem limite; para listagens use findInboxByStatus
           *
           * @param receiverId ID do destinatário
           * @param status status da notificação
@@ -32,4 +40,126 @@ package br.com.uniube.seniorcare.domain.repository;
           * @return lista de notificações
           */
          List<Notification> findBySenderId(UUID senderId);
+     
+         /**
+          * Busca uma notificação bloqueando a linha até o fim da transação, para que alterações
+          * concorrentes de status não descontem duas vezes o contador de não lidas
+          *
+          * @param id ID da notificação
+          * @return notificação bloqueada
+          */
+         @Lock(LockModeType.PESSIMISTIC_WRITE)
+         @Query("SELECT n FROM Notification n WHERE n.id = :id")
+         Optional<Notification> findByIdForUpdate(@Param("id") UUID id);
+
+         /**
+          * Notificações não lidas de um destinatário criadas depois da posição
+          * (afterCreatedAt, afterId) exclusiva, em ordem de criação
+          *
+          * @param receiverId     ID do destinatário
+          * @param afterCreatedAt data de criação da última notificação conhecida
+          * @param afterId        ID da última notificação conhecida (desempate)
+          * @param pageable       limite de linhas
+          * @return notificações não lidas posteriores à posição
+          */
+         @Query("SELECT n.id AS id, s.id AS senderId, n.message AS message, n.createdAt AS createdAt " +
+                 "FROM Notification n LEFT JOIN n.sender s " +
+                 "WHERE n.receiver.id = :receiverId " +
+                 "AND n.status = br.com.uniube.seniorcare.domain.enums.NotificationStatus.PENDENTE " +
+                 "AND (n.createdAt > :afterCreatedAt OR (n.createdAt = :afterCreatedAt AND n.id > :afterId)) " +
+                 "ORDER BY n.createdAt, n.id")
+         List<UnreadEntry> findUnreadAfter(@Param("receiverId") UUID receiverId,
+                                           @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                           @Param("afterId") UUID afterId,
+                                           Pageable pageable);
+
+         /**
+          * Primeira página da caixa de entrada de um destinatário, da mais recente para a mais
+          * antiga, com o nome do remetente resolvido na mesma consulta.
+          *
+          * @param receiverId ID do destinatário
+          * @param pageable   limite de linhas (sem contagem)
+          * @return entradas da caixa de entrada
+          */
+         @Query(INBOX_SELECT + INBOX_ORDER)
+         List<InboxEntry> findInbox(@Param("receiverId") UUID receiverId, Pageable pageable);
+
+         /**
+          * Páginas seguintes da caixa de entrada, a partir da posição (beforeCreatedAt, beforeId)
+          * exclusiva. O limite redundante em createdAt vira condição do índice, para a busca
+          * começar na posição do cursor em vez de filtrar as linhas mais recentes.
+          */
+         @Query(INBOX_SELECT + INBOX_BEFORE + INBOX_ORDER)
+         List<InboxEntry> findInboxBefore(@Param("receiverId") UUID receiverId,
+                                          @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                          @Param("beforeId") UUID beforeId,
+                                          Pageable pageable);
+
+         /**
+          * Primeira página da caixa de entrada filtrada por status.
+          *
+          * @param receiverId ID do destinatário
+          * @param status     status da notificação
+          * @param pageable   limite de linhas (sem contagem)
+          * @return entradas da caixa de entrada
+          */
+         @Query(INBOX_SELECT + "AND n.status = :status " + INBOX_ORDER)
+         List<InboxEntry> findInboxByStatus(@Param("receiverId") UUID receiverId,
+                                            @Param("status") NotificationStatus status,
+                                            Pageable pageable);
+
+         /**
+          * Páginas seguintes da caixa de entrada filtrada por status.
+          */
+         @Query(INBOX_SELECT + "AND n.status = :status " + INBOX_BEFORE + INBOX_ORDER)
+         List<InboxEntry> findInboxByStatusBefore(@Param("receiverId") UUID receiverId,
+                                                  @Param("status") NotificationStatus status,
+                                                  @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                                  @Param("beforeId") UUID beforeId,
+                                                  Pageable pageable);
+
+         String INBOX_SELECT = "SELECT n.id AS id, s.id AS senderId, s.name AS senderName, n.message AS message, " +
+                 "n.status AS status, n.occurrences AS occurrences, n.lastOccurredAt AS lastOccurredAt, " +
+                 "n.createdAt AS createdAt " +
+                 "FROM Notification n LEFT JOIN n.sender s " +
+                 "WHERE n.receiver.id = :receiverId ";
+
+         String INBOX_BEFORE = "AND n.createdAt <= :beforeCreatedAt " +
+                 "AND (n.createdAt < :beforeCreatedAt OR n.id < :beforeId) ";
+
+         String INBOX_ORDER = "ORDER BY n.createdAt DESC, n.id DESC";
+
+         /**
+          * Projeção de uma notificação na caixa de entrada, com o nome do remetente.
+          */
+         interface InboxEntry {
+             UUID getId();
+
+             UUID getSenderId();
+
+             String getSenderName();
+
+             String getMessage();
+
+             NotificationStatus getStatus();
+
+             int getOccurrences();
+
+             LocalDateTime getLastOccurredAt();
+
+             LocalDateTime getCreatedAt();
+         }
+
+         /**
+          * Projeção de uma notificação não lida, sem carregar remetente e destinatário.
+          */
+         interface UnreadEntry {
+             UUID getId();
+
+             UUID getSenderId();
+
+             String getMessage();
+
+             LocalDateTime getCreatedAt();
+         }
      }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.entity.NotificationRetentionPolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface NotificationRetentionPolicyRepository extends JpaRepository<NotificationRetentionPolicy, UUID> {
+
+    /**
+     * Maior retenção configurada entre as organizações
+     *
+     * @return maior quantidade de dias, vazio se não houver políticas
+     */
+    @Query("SELECT max(p.retentionDays) FROM NotificationRetentionPolicy p")
+    Optional<Integer> findMaxRetentionDays();
+
+    /**
+     * Menor retenção configurada entre as organizações
+     *
+     * @return menor quantidade de dias, vazio se não houver políticas
+     */
+    @Query("SELECT min(p.retentionDays) FROM NotificationRetentionPolicy p")
+    Optional<Integer> findMinRetentionDays();
+}
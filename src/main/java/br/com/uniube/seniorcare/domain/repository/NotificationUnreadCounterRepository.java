@@ -0,0 +1,22 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.entity.NotificationUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface NotificationUnreadCounterRepository
+        extends JpaRepository<NotificationUnreadCounter, UUID>, UnreadCounterBatchRepository {
+
+    /**
+     * Busca apenas o valor do contador de um destinatário
+     *
+     * @param receiverId ID do destinatário
+     * @return quantidade de não lidas, vazio se o destinatário nunca recebeu notificações
+     */
+    @Query("SELECT c.unreadCount FROM NotificationUnreadCounter c WHERE c.receiverId = :receiverId")
+    Optional<Long> findUnreadCount(@Param("receiverId") UUID receiverId);
+}
@@ -0,0 +1,35 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Atualização da tabela notification_unread_counters via JDBC.
+ */
+public interface UnreadCounterBatchRepository {
+
+    /**
+     * Soma as variações aos contadores, criando os que ainda não existem. As variações são
+     * aplicadas em ordem de destinatário para manter a ordem de bloqueio estável entre
+     * transações concorrentes; o contador nunca fica negativo.
+     *
+     * @param deltas variação de não lidas por destinatário
+     */
+    void applyDeltas(Map<UUID, Integer> deltas);
+
+    /**
+     * Recalcula, a partir da tabela notifications, os contadores de um lote de usuários em
+     * ordem de ID, corrigindo apenas os que divergem.
+     *
+     * @param afterUserId posição exclusiva do lote anterior; null para começar do início
+     * @param limit quantidade de usuários do lote
+     * @return resultado do lote
+     */
+    ReconcileBatch reconcile(UUID afterUserId, int limit);
+
+    /**
+     * Resultado de um lote de reconciliação; lastUserId nulo indica que não há mais usuários.
+     */
+    record ReconcileBatch(UUID lastUserId, int users, int corrected) {
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class UnreadCounterBatchRepositoryImpl implements UnreadCounterBatchRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO notification_unread_counters (receiver_id, unread_count)
+            VALUES (?, GREATEST(?, 0))
+            ON CONFLICT (receiver_id) DO UPDATE
+            SET unread_count = GREATEST(notification_unread_counters.unread_count + ?, 0)
+            """;
+
+    /**
+     * A contagem de cada usuário usa o índice parcial de não lidas (receiver_id, created_at, id).
+     * Só grava os contadores que divergem, para não disputar bloqueio com as escritas à toa.
+     */
+    private static final String RECONCILE_SQL = """
+            WITH batch AS (
+                SELECT u.id
+                FROM users u
+                WHERE (CAST(? AS uuid) IS NULL OR u.id > CAST(? AS uuid))
+                ORDER BY u.id
+                LIMIT ?
+            ), actual AS (
+                SELECT b.id AS receiver_id,
+                       (SELECT count(*) FROM notifications n
+                        WHERE n.receiver_id = b.id AND n.status = 'PENDENTE') AS unread
+                FROM batch b
+            ), corrected AS (
+                INSERT INTO notification_unread_counters (receiver_id, unread_count)
+                SELECT a.receiver_id, a.unread
+                FROM actual a
+                LEFT JOIN notification_unread_counters c ON c.receiver_id = a.receiver_id
+                WHERE c.receiver_id IS NOT NULL OR a.unread > 0
+                ORDER BY a.receiver_id
+                ON CONFLICT (receiver_id) DO UPDATE
+                SET unread_count = EXCLUDED.unread_count
+                WHERE notification_unread_counters.unread_count <> EXCLUDED.unread_count
+                RETURNING receiver_id
+            )
+            SELECT (SELECT id FROM batch ORDER BY id DESC LIMIT 1) AS last_user_id,
+                   (SELECT count(*) FROM batch) AS users,
+                   (SELECT count(*) FROM corrected) AS corrected
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UnreadCounterBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyDeltas(Map<UUID, Integer> deltas) {
+        List<Map.Entry<UUID, Integer>> ordered = deltas.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        if (ordered.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, ordered, ordered.size(), (ps, e) -> {
+            ps.setObject(1, e.getKey());
+            ps.setInt(2, e.getValue());
+            ps.setInt(3, e.getValue());
+        });
+    }
+
+    @Override
+    public ReconcileBatch reconcile(UUID afterUserId, int limit) {
+        SqlParameterValue after = new SqlParameterValue(Types.OTHER, afterUserId);
+        return jdbcTemplate.queryForObject(RECONCILE_SQL, (rs, rowNum) ->
+                new ReconcileBatch(rs.getObject("last_user_id", UUID.class), rs.getInt("users"), rs.getInt("corrected")),
+                after, after, limit);
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Atualização incremental da tabela caregiver_workload_daily via JDBC.
+ */
+public interface WorkloadRollupRepository {
+
+    /**
+     * Soma as variações aos totais diários, criando as linhas que ainda não existem.
+     * As variações são aplicadas em ordem de chave para manter a ordem de bloqueio estável
+     * entre transações concorrentes.
+     *
+     * @param deltas variações de quantidade e minutos por (organização, dia, cuidador, status)
+     */
+    void applyDeltas(Collection<Delta> deltas);
+
+    /**
+     * Variação dos totais de uma chave.
+     */
+    record Delta(UUID organizationId, LocalDate day, UUID caregiverId, AppointmentStatus status,
+                 int visits, long minutes) {
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.uniube.seniorcare.domain.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public class WorkloadRollupRepositoryImpl implements WorkloadRollupRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO caregiver_workload_daily (organization_id, day, caregiver_id, status, visit_count, total_minutes)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (organization_id, day, caregiver_id, status) DO UPDATE
+            SET visit_count = caregiver_workload_daily.visit_count + EXCLUDED.visit_count,
+                total_minutes = caregiver_workload_daily.total_minutes + EXCLUDED.total_minutes
+            """;
+
+    private static final Comparator<Delta> KEY_ORDER = Comparator
+            .comparing(Delta::organizationId)
+            .thenComparing(Delta::day)
+            .thenComparing(Delta::caregiverId)
+            .thenComparing(Delta::status);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WorkloadRollupRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyDeltas(Collection<Delta> deltas) {
+        List<Delta> ordered = deltas.stream()
+                .filter(d -> d.visits() != 0 || d.minutes() != 0)
+                .sorted(KEY_ORDER)
+                .toList();
+        if (ordered.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, ordered, ordered.size(), (ps, d) -> {
+            ps.setObject(1, d.organizationId());
+            ps.setDate(2, Date.valueOf(d.day()));
+            ps.setObject(3, d.caregiverId());
+            ps.setString(4, d.status().name());
+            ps.setInt(5, d.visits());
+            ps.setLong(6, d.minutes());
+        });
+    }
+}
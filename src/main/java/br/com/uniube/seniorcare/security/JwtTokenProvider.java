@@ -16,6 +16,7 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -79,7 +80,14 @@ public class JwtTokenProvider {
                 .authorities(authorities)
                 .build();
 
-        return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+        // O ID do usuário no token permite identificá-lo sem consultar o banco
+        String userId = claims.get("userId", String.class);
+        if (userId != null) {
+            authentication.setDetails(UUID.fromString(userId));
+        }
+        return authentication;
     }
 
     public Claims getClaims(String token) {
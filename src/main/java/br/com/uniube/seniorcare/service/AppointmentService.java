@@ -1,7 +1,13 @@
 package br.com.uniube.seniorcare.service;
 
 import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.entity.AppointmentObservation;
 import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import br.com.uniube.seniorcare.service.schedule.AppointmentBatchResult;
+import br.com.uniube.seniorcare.service.schedule.RecurrenceRule;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,10 +18,13 @@ import java.util.UUID;
  *
  * Regras de negócio:
  * 1. Cada agendamento deve estar vinculado a um idoso, cuidador e organização
- * 2. Não deve haver conflito de horário para o mesmo cuidador
+ * 2. Não deve haver conflito de horário para o mesmo cuidador (garantido também por restrição no banco)
  * 3. A data e hora do agendamento devem ser futuras no momento da criação
  * 4. Atualização de status segue o fluxo: AGENDADO -> EM_ANDAMENTO -> CONCLUIDO (ou CANCELADO a qualquer momento)
  * 5. Registro de eventos de auditoria para todas as operações
+ * 6. Cada agendamento possui duração própria, de 60 minutos por padrão
+ * 7. Observações são registros próprios, somente inserção, e não reescrevem o agendamento
+ * 8. Alterações podem exigir a versão atual do agendamento (controle de concorrência otimista)
  */
 public interface AppointmentService {
 
@@ -34,6 +43,14 @@ public interface AppointmentService {
      */
     Appointment findById(UUID id);
 
+    /**
+     * Busca apenas a versão atual de um agendamento, lançando exceção se não encontrado.
+     *
+     * @param id identificador do agendamento.
+     * @return versão atual.
+     */
+    long findVersion(UUID id);
+
     /**
      * Cria um novo agendamento, aplicando validações de negócio.
      *
@@ -42,31 +59,56 @@ public interface AppointmentService {
      */
     Appointment createAppointment(Appointment appointment);
 
+    /**
+     * Cria vários agendamentos em uma única transação.
+     *
+     * Os conflitos são verificados em conjunto, com uma consulta por cuidador envolvido,
+     * considerando também os itens do próprio lote. Itens inválidos ou conflitantes são
+     * reportados individualmente sem impedir a criação dos demais.
+     *
+     * @param appointments agendamentos a serem criados.
+     * @return resumo com os agendamentos criados e as falhas por item.
+     */
+    AppointmentBatchResult createAppointments(List<Appointment> appointments);
+
+    /**
+     * Cria uma série de agendamentos recorrentes a partir de um modelo.
+     * A data/hora do modelo é a primeira ocorrência da série.
+     *
+     * @param template agendamento modelo (idoso, cuidador, organização, duração e descrição).
+     * @param recurrence regra de recorrência da série.
+     * @return resumo com os agendamentos criados e as falhas por ocorrência.
+     */
+    AppointmentBatchResult createAppointmentSeries(Appointment template, RecurrenceRule recurrence);
+
     /**
      * Atualiza um agendamento existente.
      *
      * @param id identificador do agendamento a ser atualizado.
      * @param updatedAppointment entidade com os dados atualizados.
+     * @param expectedVersion opcional - versão que o cliente alterou; se diferente da atual, a alteração é recusada.
      * @return agendamento atualizado.
      */
-    Appointment updateAppointment(UUID id, Appointment updatedAppointment);
+    Appointment updateAppointment(UUID id, Appointment updatedAppointment, Long expectedVersion);
 
     /**
      * Cancela um agendamento existente.
      *
      * @param id identificador do agendamento a ser cancelado.
+     * @param expectedVersion opcional - versão que o cliente alterou; se diferente da atual, a alteração é recusada.
      * @return agendamento cancelado.
      */
-    Appointment cancelAppointment(UUID id);
+    Appointment cancelAppointment(UUID id, Long expectedVersion);
 
     /**
      * Atualiza o status de um agendamento.
      *
      * @param id identificador do agendamento.
      * @param status novo status para o agendamento.
+     * @param expectedVersion opcional - versão que o cliente alterou; se diferente da atual, a alteração é recusada.
      * @return agendamento com status atualizado.
      */
-    Appointment updateStatus(UUID id, AppointmentStatus status);
+    Appointment updateStatus(UUID id, AppointmentStatus status, Long expectedVersion);
 
     /**
      * Lista agendamentos por idoso.
@@ -93,6 +135,34 @@ public interface AppointmentService {
      */
     List<Appointment> findByPeriod(LocalDateTime startDateTime, LocalDateTime endDateTime);
 
+    /**
+     * Consulta o calendário de uma organização no período, paginado por keyset em (data/hora, id).
+     * Cada página é carregada em uma única consulta com idoso e cuidador já resolvidos.
+     *
+     * @param organizationId organização consultada.
+     * @param caregiverId opcional - filtra por cuidador.
+     * @param elderlyId opcional - filtra por idoso.
+     * @param startDateTime início do período (inclusivo).
+     * @param endDateTime fim do período (exclusivo).
+     * @param cursor cursor da página anterior; nulo para a primeira página.
+     * @param size tamanho da página.
+     * @return página do calendário e cursor da próxima página.
+     */
+    KeysetPage<AppointmentRepository.CalendarEntry> findCalendar(UUID organizationId, UUID caregiverId, UUID elderlyId,
+                                                                 LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                                                 String cursor, int size);
+
+    /**
+     * Calcula a versão da página do calendário que findCalendar retornaria com os mesmos
+     * parâmetros, sem carregar as linhas. Muda sempre que algum agendamento da página é
+     * criado, removido da página ou alterado.
+     *
+     * @return assinatura da página, usada como ETag.
+     */
+    String findCalendarVersion(UUID organizationId, UUID caregiverId, UUID elderlyId,
+                               LocalDateTime startDateTime, LocalDateTime endDateTime,
+                               String cursor, int size);
+
     /**
      * Verifica se existe conflito de horário para um cuidador.
      *
@@ -106,11 +176,22 @@ public interface AppointmentService {
                               int durationMinutes, UUID excludeAppointmentId);
 
     /**
-     * Adiciona observação a um agendamento existente.
+     * Adiciona observação a um agendamento existente. A observação é gravada em registro
+     * próprio; o agendamento não é alterado.
      *
      * @param id identificador do agendamento.
      * @param observation texto da observação a ser adicionada.
-     * @return agendamento com observação atualizada.
+     * @return observação registrada.
+     */
+    AppointmentObservation addObservation(UUID id, String observation);
+
+    /**
+     * Lista as observações de um agendamento, mais recentes primeiro.
+     *
+     * @param id identificador do agendamento.
+     * @param page número da página (a partir de 0).
+     * @param size tamanho da página.
+     * @return fatia de observações, indicando se há próxima página.
      */
-    Appointment addObservation(UUID id, String observation);
+    Slice<AppointmentObservation> findObservations(UUID id, int page, int size);
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package br.com.uniube.seniorcare.service;
+
+import br.com.uniube.seniorcare.service.schedule.AssignmentPlan;
+import br.com.uniube.seniorcare.service.schedule.VisitRequest;
+
+import java.util.List;
+
+/**
+ * Serviço de atribuição automática de cuidadores a pedidos de visita.
+ * <p>
+ * Regras de negócio:
+ * 1. São elegíveis apenas os cuidadores vinculados ao idoso do pedido
+ * 2. Quando o pedido exige uma especialidade, o cuidador deve possuí-la
+ * 3. A atribuição não pode conflitar com agendamentos existentes nem com outras visitas do lote
+ * 4. Entre as atribuições possíveis, a carga de trabalho dos cuidadores é equilibrada
+ * 5. Pedidos que não puderem ser atribuídos são reportados com o motivo, sem interromper o lote
+ */
+public interface AssignmentService {
+
+    /**
+     * Calcula a atribuição dos pedidos sem criar agendamentos.
+     *
+     * @param requests pedidos de visita.
+     * @return plano de atribuição com as métricas do motor.
+     */
+    AssignmentPlan plan(List<VisitRequest> requests);
+
+    /**
+     * Calcula a atribuição dos pedidos e cria os agendamentos atribuídos em lote.
+     *
+     * @param requests pedidos de visita.
+     * @return plano de atribuição com o resultado da criação dos agendamentos.
+     */
+    AssignmentPlan assign(List<VisitRequest> requests);
+}
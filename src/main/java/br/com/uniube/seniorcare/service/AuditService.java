@@ -1,5 +1,11 @@
 package br.com.uniube.seniorcare.service;
 
+import br.com.uniube.seniorcare.domain.entity.AuditLog;
+import br.com.uniube.seniorcare.service.audit.AuditExportFormat;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -11,17 +17,20 @@ import java.util.UUID;
  *
  * O serviço persiste os eventos na tabela audit_logs, garantindo
  * rastreabilidade e confiabilidade para ações importantes no sistema.
+ * A gravação é feita em lotes, em segundo plano, fora da transação de quem registra o evento.
  *
  * Regras de negócio:
  * 1. A organização e usuário devem ser identificados em cada evento
  * 2. A ação e entidade afetada devem ser explicitamente declaradas
  * 3. Cada evento deve ter um timestamp preciso de quando ocorreu
  * 4. Descrições detalhadas devem ser incluídas para facilitar auditorias futuras
+ * 5. Apenas administradores consultam ou exportam os registros, sempre dentro de uma organização
  */
 public interface AuditService {
 
     /**
-     * Registra um evento de auditoria no sistema, persistindo-o na tabela audit_logs.
+     * Registra um evento de auditoria no sistema. O evento é validado imediatamente e
+     * gravado na tabela audit_logs em segundo plano.
      *
      * @param organizationId ID da organização onde o evento ocorreu (não deve ser nulo).
      * @param userId         ID do usuário que realizou a ação (não deve ser nulo).
@@ -32,4 +41,70 @@ public interface AuditService {
      */
     void recordEvent(UUID organizationId, UUID userId, String action,
                      String entityName, UUID entityId, String description);
-}
\ No newline at end of file
+
+    /**
+     * Busca eventos de auditoria de uma organização, do mais recente para o mais antigo,
+     * paginados por cursor.
+     *
+     * @param filter filtros da busca; apenas a organização é obrigatória.
+     * @param cursor cursor da página anterior (nextCursor); nulo para a primeira página.
+     * @param size   tamanho da página.
+     * @return página de eventos.
+     */
+    KeysetPage<AuditLog> search(AuditFilter filter, String cursor, int size);
+
+    /**
+     * Valida um pedido de exportação antes de qualquer byte ser escrito na resposta.
+     *
+     * @param organizationId ID da organização.
+     * @param from           início do período (inclusivo).
+     * @param to             fim do período (exclusivo).
+     * @param format         formato do arquivo.
+     * @return exportação validada, a ser passada para {@link #export(AuditExport, OutputStream)}.
+     */
+    AuditExport prepareExport(UUID organizationId, LocalDateTime from, LocalDateTime to, AuditExportFormat format);
+
+    /**
+     * Escreve os eventos da exportação no fluxo de saída, em ordem de tempo, à medida que são
+     * lidos do banco. O fluxo de saída não é fechado.
+     *
+     * @param export exportação validada.
+     * @param out    destino dos eventos.
+     * @return quantidade de eventos exportados.
+     */
+    long export(AuditExport export, OutputStream out);
+
+    /**
+     * Filtros da busca de auditoria.
+     *
+     * @param organizationId ID da organização (obrigatório).
+     * @param from           opcional - início do período (inclusivo).
+     * @param to             opcional - fim do período (exclusivo); o padrão é o momento da busca.
+     * @param userId         opcional - usuário que realizou a ação.
+     * @param action         opcional - ação registrada.
+     * @param entityName     opcional - nome da entidade afetada.
+     * @param entityId       opcional - ID do registro afetado.
+     */
+    record AuditFilter(UUID organizationId, LocalDateTime from, LocalDateTime to, UUID userId,
+                       String action, String entityName, UUID entityId) {
+    }
+
+    /**
+     * Exportação de auditoria validada.
+     *
+     * @param organizationId ID da organização.
+     * @param from           início do período (inclusivo).
+     * @param to             fim do período (exclusivo).
+     * @param format         formato do arquivo.
+     */
+    record AuditExport(UUID organizationId, LocalDateTime from, LocalDateTime to, AuditExportFormat format) {
+
+        /**
+         * Nome sugerido para o arquivo, como audit_logs-{organização}-{início}_{fim}.ndjson.
+         */
+        public String fileName() {
+            return "audit_logs-" + organizationId + "-" + from.toLocalDate() + "_" + to.toLocalDate()
+                    + "." + format.getExtension();
+        }
+    }
+}
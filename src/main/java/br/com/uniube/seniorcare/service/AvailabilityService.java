@@ -0,0 +1,46 @@
+package br.com.uniube.seniorcare.service;
+
+import br.com.uniube.seniorcare.service.schedule.AvailabilityEngine;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serviço de busca de horários livres de cuidadores.
+ * <p>
+ * Regras de negócio:
+ * 1. Considera apenas agendamentos não cancelados e o expediente configurado
+ * 2. Horários retornados começam no futuro e terminam dentro do período solicitado
+ * 3. Um mesmo cuidador não recebe horários sobrepostos na mesma busca
+ * 4. O período e a quantidade de cuidadores por busca são limitados
+ */
+public interface AvailabilityService {
+
+    /**
+     * Busca os próximos horários livres de qualquer um dos cuidadores informados.
+     *
+     * @param caregiverIds cuidadores considerados.
+     * @param from início do período.
+     * @param to fim do período.
+     * @param durationMinutes duração desejada, em minutos.
+     * @param limit quantidade máxima de horários.
+     * @return horários livres em ordem cronológica.
+     */
+    List<AvailabilityEngine.FreeSlot> findFreeSlots(Collection<UUID> caregiverIds, LocalDateTime from,
+                                                    LocalDateTime to, int durationMinutes, int limit);
+
+    /**
+     * Busca os próximos horários livres dos cuidadores vinculados a um idoso.
+     *
+     * @param elderlyId idoso cujos cuidadores serão considerados.
+     * @param from início do período.
+     * @param to fim do período.
+     * @param durationMinutes duração desejada, em minutos.
+     * @param limit quantidade máxima de horários.
+     * @return horários livres em ordem cronológica.
+     */
+    List<AvailabilityEngine.FreeSlot> findFreeSlotsForElderly(UUID elderlyId, LocalDateTime from,
+                                                              LocalDateTime to, int durationMinutes, int limit);
+}
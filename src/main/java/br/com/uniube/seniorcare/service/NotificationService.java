@@ -1,8 +1,16 @@
 package br.com.uniube.seniorcare.service;
 
 import br.com.uniube.seniorcare.domain.entity.Notification;
+import br.com.uniube.seniorcare.domain.entity.NotificationDigest;
+import br.com.uniube.seniorcare.domain.entity.NotificationDigestPreference;
+import br.com.uniube.seniorcare.domain.enums.DigestPeriod;
 import br.com.uniube.seniorcare.domain.enums.NotificationStatus;
+import br.com.uniube.seniorcare.domain.repository.NotificationRepository;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -58,6 +66,25 @@ public interface NotificationService {
      */
     Notification markAsRead(UUID id);
 
+    /**
+     * Marca como lidas, de uma só vez, notificações do usuário autenticado. IDs de
+     * notificações já lidas ou de outros usuários são ignorados.
+     *
+     * @param ids IDs das notificações.
+     * @return quantidade de notificações marcadas como lidas.
+     */
+    int markAsRead(Collection<UUID> ids);
+
+    /**
+     * Marca como lidas, de uma só vez, todas as notificações pendentes do usuário
+     * autenticado até a posição informada, inclusive.
+     *
+     * @param until opcional - cursor da notificação mais recente a marcar (ID de evento do stream);
+     *              sem cursor, marca todas.
+     * @return quantidade de notificações marcadas como lidas.
+     */
+    int markAllAsRead(String until);
+
     /**
      * Exclui uma notificação.
      *
@@ -65,11 +92,23 @@ public interface NotificationService {
      */
     void deleteNotification(UUID id);
 
+    /**
+     * Consulta a caixa de entrada do usuário autenticado, da notificação mais recente para a
+     * mais antiga, paginada por keyset em (data de criação, id). Cada página é carregada em
+     * uma única consulta com o nome do remetente já resolvido.
+     *
+     * @param status opcional - filtra pelo status da notificação.
+     * @param cursor cursor da página anterior; nulo para a primeira página.
+     * @param size tamanho da página.
+     * @return página da caixa de entrada e cursor da próxima página.
+     */
+    KeysetPage<NotificationRepository.InboxEntry> findInbox(NotificationStatus status, String cursor, int size);
+
     /**
      * Busca notificações por destinatário.
      *
      * @param receiverId ID do usuário destinatário.
-     * @return lista de notificações do destinatário.
+     * @return lista de notificações do destinatário, sem limite; para listagens use findInbox.
      */
     List<Notification> findByReceiver(UUID receiverId);
 
@@ -77,27 +116,96 @@ public interface NotificationService {
      * Busca notificações não lidas por destinatário.
      *
      * @param receiverId ID do usuário destinatário.
-     * @return lista de notificações não lidas.
+     * @return lista de notificações não lidas, sem limite; para listagens use findInbox.
      */
     List<Notification> findUnreadByReceiver(UUID receiverId);
 
     /**
-     * Envia notificação para todos os familiares de um idoso.
+     * Envia notificação para todos os familiares de um idoso, gravando todas as
+     * notificações em um único comando.
      *
      * @param senderId ID do remetente.
      * @param elderlyId ID do idoso.
      * @param message conteúdo da mensagem.
-     * @return lista de notificações criadas.
+     * @return quantidade de notificações criadas.
      */
-    List<Notification> notifyFamilyMembers(UUID senderId, UUID elderlyId, String message);
+    int notifyFamilyMembers(UUID senderId, UUID elderlyId, String message);
 
     /**
-     * Envia notificação para todos os cuidadores de um idoso.
+     * Envia notificação para os cuidadores vinculados ao idoso, gravando todas as
+     * notificações em um único comando.
      *
      * @param senderId ID do remetente.
      * @param elderlyId ID do idoso.
      * @param message conteúdo da mensagem.
-     * @return lista de notificações criadas.
+     * @return quantidade de notificações criadas.
+     */
+    int notifyCaregivers(UUID senderId, UUID elderlyId, String message);
+
+    /**
+     * Envia notificação para todos os cuidadores da organização, gravando todas as
+     * notificações em um único comando. Para avisos sobre um idoso, use notifyCaregivers.
+     *
+     * @param senderId ID do remetente.
+     * @param organizationId ID da organização.
+     * @param message conteúdo da mensagem.
+     * @return quantidade de notificações criadas.
+     */
+    int notifyOrganizationCaregivers(UUID senderId, UUID organizationId, String message);
+
+    /**
+     * Conta as notificações não lidas do usuário autenticado a partir do contador mantido
+     * pelas escritas, sem consultar as notificações.
+     *
+     * @return quantidade de notificações não lidas.
+     */
+    long countUnread();
+
+    /**
+     * Abre o stream SSE das notificações do usuário autenticado.
+     *
+     * @param lastEventId opcional - último ID de evento recebido, para retomar de onde parou.
+     * @return emitter da conexão.
+     */
+    SseEmitter openStream(String lastEventId);
+
+    /**
+     * Retorna os resumos mais recentes do usuário autenticado.
+     *
+     * @param limit quantidade máxima de resumos.
+     * @return resumos, do período mais recente para o mais antigo.
+     */
+    List<NotificationDigest> findDigests(int limit);
+
+    /**
+     * Marca um resumo do usuário autenticado como lido, junto com todas as notificações
+     * pendentes que ele agrupa.
+     *
+     * @param digestId identificador do resumo.
+     * @return quantidade de notificações marcadas como lidas.
+     */
+    int markDigestAsRead(UUID digestId);
+
+    /**
+     * Retorna a preferência de resumo do usuário autenticado.
+     *
+     * @return preferência, ou null se o usuário recebe as notificações individualmente.
+     */
+    NotificationDigestPreference findDigestPreference();
+
+    /**
+     * Passa a agrupar as notificações do usuário autenticado em resumos periódicos. A partir
+     * daí, as notificações continuam na caixa de entrada, mas só os resumos são entregues
+     * pelos canais externos.
+     *
+     * @param period período de cada resumo.
+     * @return preferência gravada.
+     */
+    NotificationDigestPreference updateDigestPreference(DigestPeriod period);
+
+    /**
+     * Volta a entregar as notificações do usuário autenticado individualmente. Notificações
+     * recebidas enquanto o resumo estava ativo continuam apenas na caixa de entrada.
      */
-    List<Notification> notifyCaregivers(UUID senderId, UUID elderlyId, String message);
-}
\ No newline at end of file
+    void disableDigest();
+}
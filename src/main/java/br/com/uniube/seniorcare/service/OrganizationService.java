@@ -1,5 +1,6 @@
 package br.com.uniube.seniorcare.service;
 
+import br.com.uniube.seniorcare.domain.entity.NotificationRetentionPolicy;
 import br.com.uniube.seniorcare.domain.entity.Organization;
 import java.util.List;
 import java.util.UUID;
@@ -60,4 +61,25 @@ public interface OrganizationService {
      * @param id identificador da organização a ser excluída.
      */
     void deleteOrganization(UUID id);
+
+    /**
+     * Retorna a política de retenção das notificações da organização. Sem política própria,
+     * retorna a retenção padrão, sem data de atualização.
+     *
+     * @param organizationId identificador da organização.
+     * @return política de retenção vigente.
+     */
+    NotificationRetentionPolicy findNotificationRetention(UUID organizationId);
+
+    /**
+     * Define a política de retenção das notificações da organização, registrando a
+     * alteração na auditoria. As notificações vencidas pela nova retenção são removidas
+     * na próxima execução da manutenção.
+     *
+     * @param organizationId identificador da organização.
+     * @param retentionDays dias, contados da criação, em que as notificações são mantidas.
+     * @param archive se as notificações vencidas são arquivadas antes da remoção.
+     * @return política gravada.
+     */
+    NotificationRetentionPolicy updateNotificationRetention(UUID organizationId, int retentionDays, boolean archive);
 }
\ No newline at end of file
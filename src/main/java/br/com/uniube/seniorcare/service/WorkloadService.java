@@ -0,0 +1,49 @@
+package br.com.uniube.seniorcare.service;
+
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serviço de consulta da carga de trabalho dos cuidadores.
+ * <p>
+ * Regras de negócio:
+ * 1. Os totais vêm da tabela pré-agregada, sem percorrer os agendamentos
+ * 2. Os totais são agrupados por cuidador, período e status do atendimento
+ * 3. Semanas começam na segunda-feira
+ * 4. O período de uma consulta é limitado
+ */
+public interface WorkloadService {
+
+    /**
+     * Lista os totais diários de atendimentos da organização.
+     *
+     * @param organizationId ID da organização.
+     * @param caregiverId opcional - filtra por cuidador.
+     * @param from primeiro dia (inclusivo).
+     * @param to último dia (inclusivo).
+     * @return totais por dia, cuidador e status.
+     */
+    List<WorkloadTotal> findDaily(UUID organizationId, UUID caregiverId, LocalDate from, LocalDate to);
+
+    /**
+     * Lista os totais semanais de atendimentos da organização. As semanas parciais nas
+     * extremidades do período contam apenas os dias dentro dele.
+     *
+     * @param organizationId ID da organização.
+     * @param caregiverId opcional - filtra por cuidador.
+     * @param from primeiro dia (inclusivo).
+     * @param to último dia (inclusivo).
+     * @return totais por semana, cuidador e status.
+     */
+    List<WorkloadTotal> findWeekly(UUID organizationId, UUID caregiverId, LocalDate from, LocalDate to);
+
+    /**
+     * Total de atendimentos de um cuidador em um status, no período que começa em periodStart.
+     */
+    record WorkloadTotal(UUID caregiverId, LocalDate periodStart, AppointmentStatus status,
+                         int visitCount, long totalMinutes) {
+    }
+}
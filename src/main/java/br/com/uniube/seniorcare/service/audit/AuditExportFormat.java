@@ -0,0 +1,33 @@
+package br.com.uniube.seniorcare.service.audit;
+
+/**
+ * Formatos da exportação de auditoria.
+ */
+public enum AuditExportFormat {
+
+    /**
+     * Um objeto JSON por linha, com os mesmos campos da busca de auditoria.
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * CSV com cabeçalho, no layout dos arquivos de partições arquivadas.
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    AuditExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,163 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Serializa registros de auditoria, um a um, em um fluxo de saída.
+ *
+ * Cada registro é escrito no buffer do escritor assim que recebido; nada é acumulado entre
+ * registros. Fechar o escritor descarrega o buffer sem fechar o fluxo de saída, que pertence
+ * a quem o abriu.
+ */
+public abstract class AuditExportWriter implements Closeable {
+
+    static final String CSV_HEADER = "id,organization_id,user_id,action,entity_name,entity_id,timestamp,description";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Abre um escritor no formato pedido.
+     */
+    public static AuditExportWriter open(AuditExportFormat format, OutputStream out, JsonFactory jsonFactory) {
+        try {
+            return switch (format) {
+                case NDJSON -> new NdjsonWriter(out, jsonFactory);
+                case CSV -> new CsvWriter(out);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Escreve um registro. Falhas de escrita (como o cliente ter desconectado) são lançadas
+     * como {@link UncheckedIOException}, interrompendo a leitura do banco.
+     */
+    public abstract void write(AuditEntry entry);
+
+    private static final class NdjsonWriter extends AuditExportWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonWriter(OutputStream out, JsonFactory jsonFactory) throws IOException {
+            this.generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setPrettyPrinter(new MinimalPrettyPrinter(""));
+        }
+
+        @Override
+        public void write(AuditEntry entry) {
+            try {
+                generator.writeStartObject();
+                writeUuid("id", entry.id());
+                writeUuid("organizationId", entry.organizationId());
+                writeUuid("userId", entry.userId());
+                generator.writeStringField("action", entry.action());
+                generator.writeStringField("entityName", entry.entityName());
+                writeUuid("entityId", entry.entityId());
+                generator.writeStringField("timestamp", entry.timestamp().toString());
+                generator.writeStringField("description", entry.description());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeUuid(String field, UUID value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(field, value.toString());
+            } else {
+                generator.writeNullField(field);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * CSV no formato RFC 4180: campos com vírgula, aspas ou quebra de linha vão entre aspas;
+     * valores nulos ficam vazios. Cada linha é montada em um buffer reaproveitado e escrita de
+     * uma vez.
+     */
+    private static final class CsvWriter extends AuditExportWriter {
+
+        private final Writer writer;
+        private final StringBuilder line = new StringBuilder(512);
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(AuditEntry entry) {
+            line.setLength(0);
+            line.append(entry.id()).append(',')
+                    .append(entry.organizationId()).append(',')
+                    .append(entry.userId()).append(',');
+            appendText(entry.action());
+            line.append(',');
+            appendText(entry.entityName());
+            line.append(',');
+            if (entry.entityId() != null) {
+                line.append(entry.entityId());
+            }
+            line.append(',').append(entry.timestamp()).append(',');
+            appendText(entry.description());
+            line.append('\n');
+            try {
+                writer.append(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void appendText(String value) {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                line.append(value);
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    line.append('"');
+                }
+                line.append(c);
+            }
+            line.append('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
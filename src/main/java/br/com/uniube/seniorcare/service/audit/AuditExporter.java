@@ -0,0 +1,88 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogRepository;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Exporta os registros de auditoria de uma organização direto para um fluxo de saída.
+ *
+ * Os registros são lidos por um cursor no servidor, em blocos de fetch-size linhas, dentro de
+ * uma transação somente leitura, e cada um é serializado assim que chega. A memória usada
+ * depende apenas do bloco e do buffer de escrita, não da quantidade de registros exportados.
+ * Se o cliente desconectar, a falha de escrita interrompe a leitura e libera o cursor.
+ *
+ * Métricas publicadas (Micrometer):
+ * - audit.export: duração de cada exportação
+ * - audit.export.rows: registros exportados
+ */
+@Slf4j
+@Component
+public class AuditExporter {
+
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory;
+    private final Timer exportTimer;
+    private final Counter rowsCounter;
+
+    @Value("${app.audit.export.fetch-size:1000}")
+    private int fetchSize = 1000;
+
+    public AuditExporter(AuditLogRepository auditLogRepository,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+        this.auditLogRepository = auditLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.jsonFactory = objectMapper.getFactory();
+        this.exportTimer = Timer.builder("audit.export")
+                .description("Duração de uma exportação de auditoria")
+                .register(meterRegistry);
+        this.rowsCounter = Counter.builder("audit.export.rows")
+                .description("Registros de auditoria exportados")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Escreve os registros da organização em [from, to), em ordem de tempo. O fluxo de saída
+     * não é fechado.
+     *
+     * @return quantidade de registros exportados
+     */
+    public long export(UUID organizationId, LocalDateTime from, LocalDateTime to,
+                       AuditExportFormat format, OutputStream out) {
+        long start = System.nanoTime();
+        Long rows = transactionTemplate.execute(status -> {
+            try (AuditExportWriter writer = AuditExportWriter.open(format, out, jsonFactory)) {
+                return auditLogRepository.stream(organizationId, from, to, fetchSize, writer::write);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        long elapsed = System.nanoTime() - start;
+        long exported = rows != null ? rows : 0;
+
+        exportTimer.record(Duration.ofNanos(elapsed));
+        rowsCounter.increment(exported);
+        log.info("Exportação de auditoria da organização {} em {}: {} registros em {} ms",
+                organizationId, format, exported, elapsed / 1_000_000);
+        return exported;
+    }
+}
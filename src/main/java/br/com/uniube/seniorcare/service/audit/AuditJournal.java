@@ -0,0 +1,488 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Diário de auditoria em disco: os eventos são acrescentados a arquivos de segmento mapeados
+ * em memória e carregados depois em audit_logs pelo {@link AuditJournalCompactor}.
+ *
+ * Registrar um evento é codificá-lo e copiá-lo para a página mapeada, sem chamada de sistema;
+ * o sync em disco é feito em grupo por uma virtual thread a cada fsync-interval. Uma queda do
+ * processo não perde eventos (as páginas já estão no cache do sistema operacional); uma queda
+ * do sistema operacional perde no máximo o último intervalo de sync.
+ *
+ * Cada segmento tem tamanho fixo. O segmento ativo (audit-NNN.open) é selado, renomeado para
+ * audit-NNN.seg, quando enche, quando fica mais velho que max-segment-age (a pedido do
+ * compactador) e na parada. Na inicialização, segmentos .open deixados por uma queda são
+ * selados no estado em que estão: a leitura para no primeiro registro incompleto.
+ *
+ * Layout de cada registro (big-endian), seguido de action, entity_name e description em UTF-8:
+ * <pre>
+ *  0 int   tamanho total do registro (0 marca o fim do segmento)
+ *  4 int   CRC32C dos bytes a partir do offset 8
+ *  8 uuid  id
+ * 24 uuid  organization_id
+ * 40 uuid  user_id
+ * 56 uuid  entity_id (zeros se ausente)
+ * 72 long  timestamp em microssegundos desde 1970-01-01T00:00
+ * 80 byte  flags (1: entity_id presente, 2: description presente)
+ * 81 byte  versão do layout
+ * 82 short bytes de action
+ * 84 short bytes de entity_name
+ * 86 int   bytes de description
+ * </pre>
+ *
+ * O diretório pertence a uma única instância da aplicação, garantido por um lock de arquivo.
+ *
+ * Métricas publicadas (Micrometer):
+ * - audit.journal.appended: eventos acrescentados ao diário
+ * - audit.journal.sealed: segmentos selados aguardando carga
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.audit.backend", havingValue = "journal")
+public class AuditJournal implements AuditSink, SmartLifecycle {
+
+    static final int HEADER_SIZE = 90;
+    private static final byte LAYOUT_VERSION = 1;
+    private static final byte HAS_ENTITY_ID = 1;
+    private static final byte HAS_DESCRIPTION = 2;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("audit-(\\d{12})\\.(open|seg)");
+    private static final String SEALED_SUFFIX = ".seg";
+    private static final String OPEN_SUFFIX = ".open";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter appendedCounter;
+
+    private FileChannel lockChannel;
+    private FileLock directoryLock;
+    private Segment active;
+    private long nextSequence;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @Value("${app.audit.journal.directory:./storage/audit-journal}")
+    private String directoryPath = "./storage/audit-journal";
+
+    private Path directory;
+
+    @Value("${app.audit.journal.segment-size:16MB}")
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+    @Value("${app.audit.journal.fsync-interval:PT0.1S}")
+    private Duration fsyncInterval = Duration.ofMillis(100);
+
+    public AuditJournal(MeterRegistry meterRegistry) {
+        this.appendedCounter = Counter.builder("audit.journal.appended")
+                .description("Eventos de auditoria acrescentados ao diário")
+                .register(meterRegistry);
+        Gauge.builder("audit.journal.sealed", this, journal -> journal.sealedSegments().size())
+                .description("Segmentos do diário de auditoria aguardando carga")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void append(AuditEntry entry) {
+        byte[] record = encode(entry);
+        if (record.length > segmentSize.toBytes() - Integer.BYTES) {
+            throw new IllegalArgumentException("Evento de auditoria maior que o segmento do diário: " + record.length);
+        }
+        lock.lock();
+        try {
+            if (active == null) {
+                throw new IllegalStateException("Diário de auditoria parado");
+            }
+            if (active.remaining() < record.length + Integer.BYTES) {
+                roll();
+            }
+            active.write(record);
+        } finally {
+            lock.unlock();
+        }
+        appendedCounter.increment();
+    }
+
+    @Override
+    public void start() {
+        directory = Path.of(directoryPath);
+        try {
+            Files.createDirectories(directory);
+            lockChannel = FileChannel.open(directory.resolve("journal.lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            directoryLock = lockChannel.tryLock();
+            if (directoryLock == null) {
+                throw new IllegalStateException("Diretório do diário de auditoria em uso por outra instância: " + directory);
+            }
+            nextSequence = recover() + 1;
+            lock.lock();
+            try {
+                active = openSegment();
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o diário de auditoria em " + directory, e);
+        }
+        running = true;
+        flusher = Thread.ofVirtual().name("audit-journal-sync").start(this::syncLoop);
+        log.info("Diário de auditoria aberto em {} (segmentos de {})", directory.toAbsolutePath(), segmentSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            try {
+                flusher.join(fsyncInterval.multipliedBy(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        lock.lock();
+        try {
+            if (active != null && active.position == 0) {
+                Files.deleteIfExists(active.path);
+            } else if (active != null) {
+                seal(active);
+            }
+            active = null;
+        } catch (IOException e) {
+            log.error("Falha ao selar o segmento ativo do diário de auditoria", e);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (directoryLock != null) {
+                directoryLock.release();
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao liberar o lock do diário de auditoria", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois dos demais componentes (workers, rotinas agendadas, servidor web), que
+     * ainda podem registrar eventos durante a parada.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE + 1000;
+    }
+
+    /**
+     * Sela o segmento ativo se ele tiver eventos e tiver sido aberto há mais que maxAge,
+     * para que os eventos cheguem ao banco em tempo limitado mesmo com pouco movimento.
+     */
+    public void rollIfOlderThan(Duration maxAge) {
+        lock.lock();
+        try {
+            if (active != null && active.position > 0
+                    && Duration.ofNanos(System.nanoTime() - active.openedAt).compareTo(maxAge) >= 0) {
+                roll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Segmentos selados, do mais antigo para o mais recente.
+     */
+    public List<Path> sealedSegments() {
+        if (directory == null) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEALED_SUFFIX))
+                    .filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao listar o diário de auditoria em " + directory, e);
+        }
+    }
+
+    /**
+     * Remove um segmento selado já carregado no banco.
+     */
+    public void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao remover o segmento " + segment, e);
+        }
+    }
+
+    /**
+     * Lê os eventos de um segmento, parando no fim marcado ou no primeiro registro incompleto.
+     * O arquivo é mapeado uma vez e decodificado sob demanda.
+     */
+    public static Iterable<AuditEntry> read(Path segment) {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o segmento " + segment, e);
+        }
+        return () -> new Iterator<>() {
+            private int position;
+            private int next = validLength(buffer, 0);
+
+            @Override
+            public boolean hasNext() {
+                return next > 0;
+            }
+
+            @Override
+            public AuditEntry next() {
+                if (next <= 0) {
+                    throw new NoSuchElementException();
+                }
+                AuditEntry entry = decode(buffer, position);
+                position += next;
+                next = validLength(buffer, position);
+                return entry;
+            }
+        };
+    }
+
+    /**
+     * Codifica um evento no layout do diário, incluindo tamanho e CRC.
+     */
+    static byte[] encode(AuditEntry entry) {
+        byte[] action = entry.action().getBytes(StandardCharsets.UTF_8);
+        byte[] entityName = entry.entityName().getBytes(StandardCharsets.UTF_8);
+        byte[] description = entry.description() != null
+                ? entry.description().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int length = HEADER_SIZE + action.length + entityName.length + description.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(length).putInt(0);
+        putUuid(buffer, entry.id());
+        putUuid(buffer, entry.organizationId());
+        putUuid(buffer, entry.userId());
+        putUuid(buffer, entry.entityId() != null ? entry.entityId() : new UUID(0, 0));
+        LocalDateTime timestamp = entry.timestamp();
+        buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + timestamp.getNano() / 1_000);
+        buffer.put((byte) ((entry.entityId() != null ? HAS_ENTITY_ID : 0)
+                | (entry.description() != null ? HAS_DESCRIPTION : 0)));
+        buffer.put(LAYOUT_VERSION);
+        buffer.putShort((short) action.length).putShort((short) entityName.length).putInt(description.length);
+        buffer.put(action).put(entityName).put(description);
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 8, length - 8);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /**
+     * Tamanho do registro válido na posição, ou 0 no fim do segmento ou em registro incompleto.
+     */
+    static int validLength(ByteBuffer buffer, int position) {
+        if (position > buffer.limit() - HEADER_SIZE) {
+            return 0;
+        }
+        int length = buffer.getInt(position);
+        if (length < HEADER_SIZE || length > buffer.limit() - position) {
+            return 0;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + 8, length - 8));
+        return (int) crc.getValue() == buffer.getInt(position + 4) ? length : 0;
+    }
+
+    static AuditEntry decode(ByteBuffer buffer, int position) {
+        UUID id = getUuid(buffer, position + 8);
+        UUID organizationId = getUuid(buffer, position + 24);
+        UUID userId = getUuid(buffer, position + 40);
+        UUID entityId = getUuid(buffer, position + 56);
+        long micros = buffer.getLong(position + 72);
+        byte flags = buffer.get(position + 80);
+        int actionLength = Short.toUnsignedInt(buffer.getShort(position + 82));
+        int entityNameLength = Short.toUnsignedInt(buffer.getShort(position + 84));
+        int descriptionLength = buffer.getInt(position + 86);
+
+        int offset = position + HEADER_SIZE;
+        String action = getString(buffer, offset, actionLength);
+        offset += actionLength;
+        String entityName = getString(buffer, offset, entityNameLength);
+        offset += entityNameLength;
+        String description = (flags & HAS_DESCRIPTION) != 0 ? getString(buffer, offset, descriptionLength) : null;
+
+        LocalDateTime timestamp = LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+        return new AuditEntry(id, organizationId, userId, action, entityName,
+                (flags & HAS_ENTITY_ID) != 0 ? entityId : null, timestamp, description);
+    }
+
+    private void syncLoop() {
+        while (running) {
+            try {
+                Thread.sleep(fsyncInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Segment segment = active;
+            if (segment != null) {
+                segment.sync();
+            }
+        }
+    }
+
+    /**
+     * Sela o segmento ativo e abre o próximo. Chamado com o lock.
+     */
+    private void roll() {
+        try {
+            seal(active);
+            active = openSegment();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao trocar o segmento do diário de auditoria", e);
+        }
+    }
+
+    private Segment openSegment() throws IOException {
+        Path path = directory.resolve(segmentName(nextSequence++) + OPEN_SUFFIX);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // O mapeamento continua válido depois de fechar o canal
+            return new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize.toBytes()));
+        }
+    }
+
+    private void seal(Segment segment) throws IOException {
+        segment.sync();
+        String name = segment.path.getFileName().toString();
+        Path sealed = segment.path.resolveSibling(name.substring(0, name.length() - OPEN_SUFFIX.length()) + SEALED_SUFFIX);
+        Files.move(segment.path, sealed, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Sela os segmentos abertos deixados por uma queda.
+     *
+     * @return maior sequência encontrada no diretório
+     */
+    private long recover() throws IOException {
+        long maxSequence = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : files.sorted().toList()) {
+                Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                maxSequence = Math.max(maxSequence, Long.parseLong(matcher.group(1)));
+                if (matcher.group(2).equals("open")) {
+                    Path sealed = path.resolveSibling(segmentName(Long.parseLong(matcher.group(1))) + SEALED_SUFFIX);
+                    Files.move(path, sealed, StandardCopyOption.ATOMIC_MOVE);
+                    log.warn("Segmento {} do diário de auditoria recuperado após parada inesperada", path.getFileName());
+                }
+            }
+        }
+        return maxSequence;
+    }
+
+    private static String segmentName(long sequence) {
+        return "audit-%012d".formatted(sequence);
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer, int position) {
+        return new UUID(buffer.getLong(position), buffer.getLong(position + 8));
+    }
+
+    private static String getString(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Segmento mapeado em memória. Escritas acontecem com o lock do diário; o sync pode
+     * correr em paralelo, pois só força para o disco páginas já escritas.
+     */
+    private static final class Segment {
+        final Path path;
+        final MappedByteBuffer buffer;
+        final long openedAt = System.nanoTime();
+        private final ReentrantLock syncLock = new ReentrantLock();
+        volatile int position;
+        private int synced;
+
+        Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        /**
+         * Copia o corpo do registro e só então o tamanho, que o torna visível à leitura.
+         */
+        void write(byte[] record) {
+            buffer.put(position + Integer.BYTES, record, Integer.BYTES, record.length - Integer.BYTES);
+            buffer.putInt(position, record.length);
+            position += record.length;
+        }
+
+        void sync() {
+            syncLock.lock();
+            try {
+                int end = position;
+                if (end > synced) {
+                    buffer.force(synced, end - synced);
+                    synced = end;
+                }
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+}
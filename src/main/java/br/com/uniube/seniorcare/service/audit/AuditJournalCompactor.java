@@ -0,0 +1,107 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.CopyResult;
+import br.com.uniube.seniorcare.domain.repository.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Rotina em segundo plano que carrega os segmentos selados do {@link AuditJournal} em
+ * audit_logs.
+ *
+ * A cada execução, sela o segmento ativo se ele já passou de max-segment-age e carrega os
+ * segmentos selados em ordem, um por transação: COPY para uma tabela temporária e um único
+ * INSERT ... SELECT para audit_logs. O arquivo só é removido após o commit; se a aplicação
+ * parar entre os dois, a nova carga ignora os IDs já gravados. Se o banco falhar, a execução
+ * para no segmento atual e a próxima recomeça dele.
+ *
+ * Métricas publicadas (Micrometer):
+ * - audit.journal.compaction: duração da carga de cada segmento
+ * - audit.journal.compacted: eventos inseridos em audit_logs
+ * - audit.journal.rejected: eventos ignorados por já estarem gravados ou sem organização/usuário
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.audit.backend", havingValue = "journal")
+public class AuditJournalCompactor {
+
+    private final AuditJournal auditJournal;
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer compactionTimer;
+    private final Counter compactedCounter;
+    private final Counter rejectedCounter;
+
+    @Value("${app.audit.journal.max-segment-age:PT5S}")
+    private Duration maxSegmentAge = Duration.ofSeconds(5);
+
+    public AuditJournalCompactor(AuditJournal auditJournal,
+                                 AuditLogRepository auditLogRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.auditJournal = auditJournal;
+        this.auditLogRepository = auditLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.compactionTimer = Timer.builder("audit.journal.compaction")
+                .description("Duração da carga de um segmento do diário de auditoria")
+                .register(meterRegistry);
+        this.compactedCounter = Counter.builder("audit.journal.compacted")
+                .description("Eventos do diário de auditoria inseridos em audit_logs")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("audit.journal.rejected")
+                .description("Eventos do diário de auditoria ignorados na carga")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.journal.compaction-interval:PT5S}",
+            initialDelayString = "${app.audit.journal.compaction-initial-delay:PT5S}")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.error("Falha na carga do diário de auditoria", e);
+        }
+    }
+
+    /**
+     * Carrega todos os segmentos selados.
+     *
+     * @return quantidade de eventos inseridos em audit_logs
+     */
+    public long run() {
+        auditJournal.rollIfOlderThan(maxSegmentAge);
+
+        long inserted = 0;
+        for (Path segment : auditJournal.sealedSegments()) {
+            long start = System.nanoTime();
+            CopyResult result = transactionTemplate.execute(status ->
+                    auditLogRepository.copyIn(AuditJournal.read(segment)));
+            auditJournal.delete(segment);
+            long elapsed = System.nanoTime() - start;
+            compactionTimer.record(Duration.ofNanos(elapsed));
+
+            long rejected = result.copied() - result.inserted();
+            compactedCounter.increment(result.inserted());
+            rejectedCounter.increment(rejected);
+            inserted += result.inserted();
+            if (rejected > 0) {
+                log.warn("Segmento {} do diário de auditoria: {} eventos ignorados (já gravados ou sem organização/usuário)",
+                        segment.getFileName(), rejected);
+            }
+            log.debug("Segmento {} do diário de auditoria carregado: {} eventos em {} ms",
+                    segment.getFileName(), result.inserted(), elapsed / 1_000_000);
+        }
+        return inserted;
+    }
+}
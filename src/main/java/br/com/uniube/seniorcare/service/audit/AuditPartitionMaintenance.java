@@ -0,0 +1,273 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rotina em segundo plano que mantém as partições mensais da tabela audit_logs.
+ *
+ * A cada execução:
+ * 1. Cria as partições do mês corrente e dos próximos meses que ainda não existem, movendo
+ *    para elas as linhas que tenham caído na partição padrão
+ * 2. Desanexa as partições cujo mês inteiro passou de retention-months, exporta cada uma para
+ *    archive-directory/audit_logs_pAAAAMM.csv.gz e só então a remove
+ *
+ * Desanexar exige um lock exclusivo rápido em audit_logs e roda em transação própria; a
+ * exportação lê a tabela já desanexada, sem disputar com as gravações. Uma tabela desanexada
+ * que sobrou de uma execução interrompida é exportada de novo na próxima, sobrescrevendo o
+ * arquivo. Cada passo é serializado entre instâncias por um advisory lock.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.audit.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditPartitionMaintenance {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String ARCHIVE_SUFFIX = ".csv.gz";
+
+    /**
+     * Chave do advisory lock que serializa a manutenção entre instâncias.
+     */
+    private static final long LOCK_KEY = 0x6175646974L;
+
+    /**
+     * Partições mensais, anexadas ou desanexadas por uma execução interrompida.
+     */
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname, c.relispartition
+            FROM pg_class c
+            WHERE c.relkind = 'r'
+              AND c.relname ~ '^audit_logs_p[0-9]{6}$'
+              AND pg_table_is_visible(c.oid)
+            """;
+
+    /**
+     * true se anexada, false se desanexada, null se a tabela não existe.
+     */
+    private static final String PARTITION_STATE_SQL = "SELECT relispartition FROM pg_class WHERE oid = to_regclass(?)";
+
+    private static final String EXPORT_SQL = """
+            COPY (SELECT id, organization_id, user_id, action, entity_name, entity_id, timestamp, description
+                  FROM %s
+                  ORDER BY timestamp, id)
+            TO STDOUT WITH (FORMAT csv, HEADER)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.audit.partitions.premake-months:3}")
+    private int premakeMonths = 3;
+
+    @Value("${app.audit.partitions.retention-months:24}")
+    private int retentionMonths = 24;
+
+    @Value("${app.audit.partitions.archive-directory:./storage/audit-archive}")
+    private String archiveDirectory = "./storage/audit-archive";
+
+    public AuditPartitionMaintenance(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.partitions.interval:PT6H}",
+            initialDelayString = "${app.audit.partitions.initial-delay:PT1M}")
+    public void scheduledRun() {
+        try {
+            run(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Falha na manutenção das partições de auditoria", e);
+        }
+    }
+
+    /**
+     * Executa uma rodada completa de manutenção.
+     *
+     * @param now instante de referência
+     * @return totais da rodada
+     */
+    public RunSummary run(LocalDateTime now) {
+        YearMonth current = YearMonth.from(now);
+        int created = createFuturePartitions(current);
+        int archived = 0;
+        long archivedRows = 0;
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            for (PartitionTable partition : listPartitions()) {
+                YearMonth month = partitionMonth(partition.name());
+                if (month != null && (month.isBefore(oldestKept) || !partition.attached())) {
+                    archivedRows += archivePartition(partition.name());
+                    archived++;
+                }
+            }
+        }
+
+        RunSummary summary = new RunSummary(created, archived, archivedRows);
+        if (created > 0 || archived > 0) {
+            log.info("Manutenção da auditoria: {} partições criadas, {} arquivadas ({} eventos)",
+                    created, archived, archivedRows);
+        }
+        return summary;
+    }
+
+    /**
+     * Totais de uma rodada.
+     */
+    public record RunSummary(int partitionsCreated, int partitionsArchived, long rowsArchived) {
+    }
+
+    /**
+     * Nome da partição de um mês.
+     */
+    static String partitionName(YearMonth month) {
+        return "audit_logs_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * Mês de uma partição mensal, ou null para outras partições (como a padrão).
+     */
+    static YearMonth partitionMonth(String name) {
+        Matcher matcher = PARTITION_NAME.matcher(name);
+        return matcher.matches() ? YearMonth.parse(matcher.group(1), PARTITION_SUFFIX) : null;
+    }
+
+    private List<PartitionTable> listPartitions() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL).stream()
+                .map(row -> new PartitionTable((String) row.get("relname"), (Boolean) row.get("relispartition")))
+                .sorted(Comparator.comparing(PartitionTable::name))
+                .toList();
+    }
+
+    private int createFuturePartitions(YearMonth current) {
+        int created = 0;
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            Boolean done = transactionTemplate.execute(status -> createPartition(month));
+            if (Boolean.TRUE.equals(done)) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Cria a partição fora da tabela, move os eventos do mês que estejam na partição padrão e
+     * só então a anexa; anexar exige SHARE UPDATE EXCLUSIVE na tabela, sem bloquear gravações.
+     */
+    private boolean createPartition(YearMonth month) {
+        lock();
+        String name = partitionName(month);
+        if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name)) {
+            return false;
+        }
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE audit_logs INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM audit_logs_default "
+                + "WHERE timestamp >= ? AND timestamp < ? RETURNING *) "
+                + "INSERT INTO " + name + " SELECT * FROM moved", from.atStartOfDay(), to.atStartOfDay());
+        jdbcTemplate.execute("ALTER TABLE audit_logs ATTACH PARTITION " + name
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+
+        if (moved > 0) {
+            log.info("Partição {} criada com {} eventos movidos da partição padrão", name, moved);
+        }
+        return true;
+    }
+
+    /**
+     * Desanexa a partição, exporta os eventos para o arquivo compactado e remove a tabela.
+     *
+     * @return eventos exportados
+     */
+    private long archivePartition(String name) {
+        transactionTemplate.executeWithoutResult(status -> {
+            lock();
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(PARTITION_STATE_SQL, Boolean.class, name))) {
+                jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + name);
+            }
+        });
+
+        Long exported = transactionTemplate.execute(status -> {
+            lock();
+            // Outra instância pode ter concluído o arquivamento entre as duas transações
+            if (!Boolean.FALSE.equals(jdbcTemplate.queryForObject(PARTITION_STATE_SQL, Boolean.class, name))) {
+                return 0L;
+            }
+            long rows = export(name);
+            jdbcTemplate.execute("DROP TABLE " + name);
+            return rows;
+        });
+        log.info("Partição {} arquivada em {} ({} eventos)", name, archiveFile(name), exported);
+        return exported != null ? exported : 0;
+    }
+
+    /**
+     * Exporta a tabela para um arquivo temporário, força para o disco e renomeia, para que o
+     * arquivo final nunca fique incompleto.
+     */
+    private long export(String name) {
+        Path target = archiveFile(name);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(target.getParent());
+            Long rows;
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temporary), 64 * 1024)) {
+                rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                    try {
+                        return connection.unwrap(PGConnection.class).getCopyAPI()
+                                .copyOut(EXPORT_SQL.formatted(name), out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return rows != null ? rows : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao exportar a partição " + name + " para " + target, e);
+        }
+    }
+
+    private Path archiveFile(String name) {
+        return Path.of(archiveDirectory).resolve(name + ARCHIVE_SUFFIX);
+    }
+
+    private void lock() {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, LOCK_KEY);
+    }
+
+    private record PartitionTable(String name, boolean attached) {
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
+
+/**
+ * Destino dos eventos de auditoria já validados. A implementação ativa é escolhida por
+ * app.audit.backend: {@link AuditWriter} (padrão) ou {@link AuditJournal}.
+ */
+public interface AuditSink {
+
+    /**
+     * Recebe um evento para gravação; a gravação em audit_logs pode acontecer depois.
+     *
+     * @param entry evento com ID e horário já definidos
+     */
+    void append(AuditEntry entry);
+}
@@ -0,0 +1,19 @@
+package br.com.uniube.seniorcare.service.audit;
+
+/**
+ * Momento em que um evento de auditoria é entregue ao {@link AuditSink}.
+ */
+public enum AuditWriteMode {
+
+    /**
+     * O evento é entregue no momento da chamada, mesmo que a transação de quem o
+     * registrou sofra rollback depois: tentativas também ficam registradas.
+     */
+    DURABLE,
+
+    /**
+     * O evento só é entregue após o commit da transação de quem o registrou: a
+     * auditoria reflete apenas alterações efetivadas.
+     */
+    STRICT
+}
@@ -0,0 +1,280 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
+import br.com.uniube.seniorcare.domain.repository.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava os eventos de auditoria em segundo plano, em batches JDBC.
+ *
+ * Os eventos entram em um buffer limitado em memória e uma única virtual thread os grava
+ * em lotes: cada lote reúne o que se acumulou enquanto o anterior era gravado, até o tamanho
+ * máximo, e é inserido em uma transação própria. Assim a transação de quem registra o evento não
+ * ganha um INSERT a mais.
+ *
+ * Contrapressão: com o buffer cheio, quem registra espera até o tempo configurado por uma
+ * vaga; se ela não surgir, grava o próprio evento. Quem está em uma transação (inclusive no
+ * afterCommit do modo STRICT, cuja conexão ainda não voltou ao pool) não grava: isso tomaria
+ * uma segunda conexão do pool, e sob carga as requisições esperariam umas pelas outras; o
+ * evento é descartado e registrado no log. Falhas na gravação pela thread chamadora também
+ * descartam o evento em vez de chegar a quem registrou, cuja alteração já foi confirmada.
+ * Falhas transitórias do banco no writer mantêm o lote e são repetidas com espera crescente,
+ * o que enche o buffer e propaga a contrapressão.
+ * Um lote recusado por restrição do banco é regravado evento a evento, descartando (e
+ * registrando no log) apenas os recusados.
+ *
+ * Na parada da aplicação, o buffer é esvaziado antes de o pool de conexões fechar; eventos
+ * registrados depois disso são gravados pela própria thread chamadora.
+ *
+ * Métricas publicadas (Micrometer):
+ * - audit.queue.depth: eventos aguardando gravação
+ * - audit.flush: duração de cada lote gravado
+ * - audit.events.written: eventos gravados
+ * - audit.events.backpressure: eventos gravados pela thread chamadora por falta de vaga
+ * - audit.events.dropped: eventos descartados (buffer cheio em uma transação, recusados ou com falha na gravação)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.audit.backend", havingValue = "writer", matchIfMissing = true)
+public class AuditWriter implements AuditSink, SmartLifecycle {
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);
+
+    /**
+     * Espera máxima do writer sem eventos antes de verificar a parada.
+     */
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<AuditEntry> queue;
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter backpressureCounter;
+    private final Counter droppedCounter;
+
+    private Thread thread;
+    private volatile boolean running;
+
+    @Value("${app.audit.writer.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${app.audit.writer.offer-timeout:PT1S}")
+    private Duration offerTimeout = Duration.ofSeconds(1);
+
+    @Value("${app.audit.writer.retry-backoff:PT1S}")
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    @Value("${app.audit.writer.shutdown-timeout:PT30S}")
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    public AuditWriter(AuditLogRepository auditLogRepository,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.audit.writer.capacity:10000}") int capacity) {
+        this.auditLogRepository = auditLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // O lote tem sua própria transação, mesmo quando gravado pela thread chamadora
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size)
+                .description("Eventos de auditoria aguardando gravação")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush")
+                .description("Duração da gravação de um lote de eventos de auditoria")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.events.written")
+                .description("Eventos de auditoria gravados")
+                .register(meterRegistry);
+        this.backpressureCounter = Counter.builder("audit.events.backpressure")
+                .description("Eventos de auditoria gravados pela thread chamadora por falta de vaga no buffer")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.events.dropped")
+                .description("Eventos de auditoria descartados")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void append(AuditEntry entry) {
+        if (running) {
+            try {
+                if (queue.offer(entry, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                droppedCounter.increment();
+                log.error("Buffer de auditoria cheio; evento descartado para não tomar outra conexão: {}", entry);
+                return;
+            }
+            backpressureCounter.increment();
+        }
+        try {
+            write(List.of(entry));
+        } catch (RuntimeException e) {
+            droppedCounter.increment();
+            log.error("Falha ao gravar evento de auditoria na thread chamadora; evento descartado: {}", entry, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = Thread.ofVirtual().name("audit-writer").start(this::loop);
+        log.info("Gravação de auditoria em segundo plano iniciada");
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        // Sem interrupt: interromper uma virtual thread em I/O de socket fecha a conexão do pool
+        try {
+            if (!thread.join(shutdownTimeout)) {
+                log.warn("Gravação de auditoria não terminou em {}; {} eventos pendentes", shutdownTimeout, queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        // Eventos que entraram durante a parada
+        drain();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois dos demais componentes (workers, rotinas agendadas, servidor web), que
+     * ainda podem registrar eventos durante a parada.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE + 1000;
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    private void loop() {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditEntry first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flushWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            batch.clear();
+        }
+        // A parada encerra as tentativas; o lote em mãos é gravado com o restante do buffer
+        queue.drainTo(batch);
+        flush(batch);
+    }
+
+    private void drain() {
+        List<AuditEntry> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        flush(batch);
+    }
+
+    /**
+     * Repete o lote enquanto o banco estiver indisponível; só a parada encerra as tentativas,
+     * deixando o lote para a gravação final. O lote é limpo quando gravado.
+     */
+    private void flushWithRetry(List<AuditEntry> batch) throws InterruptedException {
+        Duration backoff = retryBackoff;
+        while (running) {
+            try {
+                write(batch);
+                batch.clear();
+                return;
+            } catch (DataAccessException e) {
+                log.warn("Falha ao gravar {} eventos de auditoria; nova tentativa em {}", batch.size(), backoff, e);
+            }
+            long until = System.nanoTime() + backoff.toNanos();
+            while (running && System.nanoTime() < until) {
+                Thread.sleep(POLL_INTERVAL);
+            }
+            backoff = backoff.multipliedBy(2).compareTo(MAX_RETRY_BACKOFF) > 0
+                    ? MAX_RETRY_BACKOFF : backoff.multipliedBy(2);
+        }
+    }
+
+    /**
+     * Gravação final, sem repetição: o que não puder ser gravado é descartado e registrado no log.
+     */
+    private void flush(List<AuditEntry> batch) {
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<AuditEntry> chunk = batch.subList(from, Math.min(batch.size(), from + batchSize));
+            try {
+                write(chunk);
+            } catch (DataAccessException e) {
+                droppedCounter.increment(chunk.size());
+                log.error("{} eventos de auditoria descartados na parada: {}", chunk.size(), chunk, e);
+            }
+        }
+    }
+
+    private void write(List<AuditEntry> batch) {
+        long start = System.nanoTime();
+        int written;
+        try {
+            transactionTemplate.executeWithoutResult(status -> auditLogRepository.insertBatch(batch));
+            written = batch.size();
+        } catch (DataIntegrityViolationException e) {
+            written = writeOneByOne(batch);
+        } finally {
+            flushTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+        writtenCounter.increment(written);
+    }
+
+    private int writeOneByOne(List<AuditEntry> batch) {
+        int written = 0;
+        for (AuditEntry entry : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> auditLogRepository.insertBatch(List.of(entry)));
+                written++;
+            } catch (DataIntegrityViolationException e) {
+                droppedCounter.increment();
+                log.error("Evento de auditoria recusado pelo banco e descartado: {}", entry, e);
+            }
+        }
+        return written;
+    }
+}
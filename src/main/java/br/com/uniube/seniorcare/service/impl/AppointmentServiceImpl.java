@@ -1,43 +1,101 @@
 package br.com.uniube.seniorcare.service.impl;
 
 import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.entity.AppointmentObservation;
 import br.com.uniube.seniorcare.domain.entity.Caregiver;
 import br.com.uniube.seniorcare.domain.entity.Elderly;
+import br.com.uniube.seniorcare.domain.entity.Organization;
 import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
 import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import br.com.uniube.seniorcare.domain.exception.StaleVersionException;
+import br.com.uniube.seniorcare.domain.repository.AppointmentObservationRepository;
 import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
 import br.com.uniube.seniorcare.domain.repository.CaregiverRepository;
 import br.com.uniube.seniorcare.domain.repository.ElderlyRepository;
 import br.com.uniube.seniorcare.service.AppointmentService;
 import br.com.uniube.seniorcare.service.AuditService;
+import br.com.uniube.seniorcare.service.schedule.AppointmentBatchResult;
+import br.com.uniube.seniorcare.service.schedule.IntervalTree;
+import br.com.uniube.seniorcare.service.schedule.RecurrenceRule;
+import br.com.uniube.seniorcare.service.schedule.ScheduleIndex;
+import br.com.uniube.seniorcare.service.utils.KeysetCursor;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
 import br.com.uniube.seniorcare.service.utils.SecurityUtils;
+import br.com.uniube.seniorcare.service.workload.WorkloadRollup;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class AppointmentServiceImpl implements AppointmentService {
 
+    /**
+     * SQLState do PostgreSQL para violação de restrição de exclusão.
+     */
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+
+    /**
+     * Quantidade máxima de itens aceitos em uma criação em lote.
+     */
+    private static final int MAX_BATCH_SIZE = 10_000;
+
+    /**
+     * Tamanho máximo de uma página do calendário.
+     */
+    private static final int MAX_CALENDAR_PAGE_SIZE = 500;
+
+    /**
+     * Tamanho máximo de uma página de observações.
+     */
+    private static final int MAX_OBSERVATION_PAGE_SIZE = 200;
+
+    private static final String SCHEDULE_CONFLICT_MESSAGE =
+            "Existe um conflito de horário para este cuidador no período solicitado";
+
+    private static final String ORGANIZATION_MISMATCH_MESSAGE =
+            "O idoso e o cuidador devem pertencer à organização do agendamento";
+
     private final AppointmentRepository appointmentRepository;
     private final ElderlyRepository elderlyRepository;
     private final CaregiverRepository caregiverRepository;
     private final AuditService auditService;
     private final SecurityUtils securityUtils;
+    private final ScheduleIndex scheduleIndex;
+    private final AppointmentObservationRepository observationRepository;
+    private final WorkloadRollup workloadRollup;
 
     public AppointmentServiceImpl(AppointmentRepository appointmentRepository,
                                  ElderlyRepository elderlyRepository,
                                  CaregiverRepository caregiverRepository,
                                  AuditService auditService,
-                                 SecurityUtils securityUtils) {
+                                 SecurityUtils securityUtils,
+                                 ScheduleIndex scheduleIndex,
+                                 AppointmentObservationRepository observationRepository,
+                                 WorkloadRollup workloadRollup) {
         this.appointmentRepository = appointmentRepository;
         this.elderlyRepository = elderlyRepository;
         this.caregiverRepository = caregiverRepository;
         this.auditService = auditService;
         this.securityUtils = securityUtils;
+        this.scheduleIndex = scheduleIndex;
+        this.observationRepository = observationRepository;
+        this.workloadRollup = workloadRollup;
     }
 
     @Override
@@ -51,6 +109,13 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .orElseThrow(() -> new BusinessException("Agendamento não encontrado com o id: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long findVersion(UUID id) {
+        return appointmentRepository.findVersionById(id)
+                .orElseThrow(() -> new BusinessException("Agendamento não encontrado com o id: " + id));
+    }
+
     @Override
     public Appointment createAppointment(Appointment appointment) {
         validateAppointmentData(appointment);
@@ -68,15 +133,17 @@ public class AppointmentServiceImpl implements AppointmentService {
             throw new BusinessException("A data e hora do agendamento deve ser futura");
         }
 
-        // Verifica conflito de horário
-        if (hasScheduleConflict(caregiver.getId(), appointment.getDateTime(), 60, null)) {
-            throw new BusinessException("Existe um conflito de horário para este cuidador no período solicitado");
+        // Verificação rápida no índice em memória; a garantia final é a restrição de exclusão no banco
+        if (hasScheduleConflict(caregiver.getId(), appointment.getDateTime(), appointment.getDurationMinutes(), null)) {
+            throw new BusinessException(SCHEDULE_CONFLICT_MESSAGE);
         }
 
         // Define o status inicial como AGENDADO
         appointment.setStatus(AppointmentStatus.AGENDADO);
 
-        Appointment createdAppointment = appointmentRepository.save(appointment);
+        Appointment createdAppointment = saveChecked(appointment);
+        scheduleIndex.appointmentChanged(createdAppointment);
+        workloadRollup.added(List.of(createdAppointment));
 
         auditService.recordEvent(
                 appointment.getOrganization().getId(),
@@ -91,34 +158,207 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Override
-    public Appointment updateAppointment(UUID id, Appointment updatedAppointment) {
+    public AppointmentBatchResult createAppointments(List<Appointment> appointments) {
+        if (appointments == null || appointments.isEmpty()) {
+            throw new BusinessException("Informe ao menos um agendamento");
+        }
+        if (appointments.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException("O lote excede o limite de " + MAX_BATCH_SIZE + " agendamentos");
+        }
+
+        List<AppointmentBatchResult.ItemFailure> failures = new ArrayList<>();
+        List<Integer> candidates = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. Validações que não dependem do banco
+        for (int i = 0; i < appointments.size(); i++) {
+            Appointment appointment = appointments.get(i);
+            try {
+                validateAppointmentData(appointment);
+                if (appointment.getDateTime().isBefore(now)) {
+                    throw new BusinessException("A data e hora do agendamento deve ser futura");
+                }
+                candidates.add(i);
+            } catch (BusinessException e) {
+                failures.add(failure(i, appointment, e.getMessage()));
+            }
+        }
+
+        // 2. Carrega idosos e cuidadores envolvidos em uma consulta para cada tipo
+        Map<UUID, Elderly> elderlyById = elderlyRepository.findAllById(candidates.stream()
+                        .map(i -> appointments.get(i).getElderly().getId()).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Elderly::getId, Function.identity()));
+        Map<UUID, Caregiver> caregiverById = caregiverRepository.findAllById(candidates.stream()
+                        .map(i -> appointments.get(i).getCaregiver().getId()).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Caregiver::getId, Function.identity()));
+
+        Map<UUID, List<Integer>> byCaregiver = new HashMap<>();
+        for (Integer i : candidates) {
+            Appointment appointment = appointments.get(i);
+            if (!elderlyById.containsKey(appointment.getElderly().getId())) {
+                failures.add(failure(i, appointment, "Idoso não encontrado com o id: " + appointment.getElderly().getId()));
+            } else if (!caregiverById.containsKey(appointment.getCaregiver().getId())) {
+                failures.add(failure(i, appointment, "Cuidador não encontrado com o id: " + appointment.getCaregiver().getId()));
+            } else if (!belongsTo(elderlyById.get(appointment.getElderly().getId()).getOrganization(), appointment)
+                    || !belongsTo(caregiverById.get(appointment.getCaregiver().getId()).getOrganization(), appointment)) {
+                failures.add(failure(i, appointment, ORGANIZATION_MISMATCH_MESSAGE));
+            } else {
+                byCaregiver.computeIfAbsent(appointment.getCaregiver().getId(), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // 3. Verifica conflitos com uma consulta por cuidador, incluindo conflitos dentro do próprio lote
+        List<Integer> accepted = new ArrayList<>();
+        for (Map.Entry<UUID, List<Integer>> entry : byCaregiver.entrySet()) {
+            List<Integer> items = entry.getValue();
+            items.sort(Comparator.comparing(i -> appointments.get(i).getDateTime()));
+            LocalDateTime rangeStart = appointments.get(items.get(0)).getDateTime();
+            LocalDateTime rangeEnd = items.stream()
+                    .map(i -> appointments.get(i).getEndDateTime())
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow();
+
+            IntervalTree busy = new IntervalTree();
+            for (AppointmentRepository.ScheduleSlot slot : appointmentRepository.findScheduleSlots(
+                    entry.getKey(), rangeStart.minusMinutes(Appointment.MAX_DURATION_MINUTES), rangeEnd)) {
+                int duration = slot.getDurationMinutes() != null
+                        ? slot.getDurationMinutes() : Appointment.DEFAULT_DURATION_MINUTES;
+                busy.insert(slot.getId(), toEpoch(slot.getDateTime()), toEpoch(slot.getDateTime().plusMinutes(duration)));
+            }
+
+            for (Integer i : items) {
+                Appointment appointment = appointments.get(i);
+                long start = toEpoch(appointment.getDateTime());
+                long end = toEpoch(appointment.getEndDateTime());
+                if (busy.overlaps(start, end, null)) {
+                    failures.add(failure(i, appointment, SCHEDULE_CONFLICT_MESSAGE));
+                    continue;
+                }
+                appointment.setId(UUID.randomUUID());
+                busy.insert(appointment.getId(), start, end);
+                accepted.add(i);
+            }
+        }
+
+        // 4. Insere os aceitos com batching JDBC; conflitos concorrentes são ignorados pelo banco e reportados
+        accepted.sort(Comparator.naturalOrder());
+        List<Appointment> toInsert = new ArrayList<>(accepted.size());
+        for (Integer i : accepted) {
+            Appointment appointment = appointments.get(i);
+            appointment.setStatus(AppointmentStatus.AGENDADO);
+            appointment.setCreatedAt(now);
+            appointment.setCaregiver(caregiverById.get(appointment.getCaregiver().getId()));
+            appointment.setElderly(elderlyById.get(appointment.getElderly().getId()));
+            toInsert.add(appointment);
+        }
+        boolean[] inserted = toInsert.isEmpty() ? new boolean[0] : appointmentRepository.insertAll(toInsert);
+
+        List<UUID> createdIds = new ArrayList<>();
+        List<Appointment> created = new ArrayList<>();
+        for (int k = 0; k < toInsert.size(); k++) {
+            Appointment appointment = toInsert.get(k);
+            if (inserted[k]) {
+                createdIds.add(appointment.getId());
+                created.add(appointment);
+                scheduleIndex.appointmentChanged(appointment);
+            } else {
+                failures.add(failure(accepted.get(k), appointment, SCHEDULE_CONFLICT_MESSAGE));
+            }
+        }
+        failures.sort(Comparator.comparingInt(AppointmentBatchResult.ItemFailure::index));
+        workloadRollup.added(created);
+
+        // 5. Um único evento de auditoria por organização, em vez de um por agendamento, com as
+        // contagens apenas dos itens daquela organização
+        Map<UUID, int[]> countsByOrganization = new LinkedHashMap<>();
+        for (Appointment appointment : created) {
+            countsByOrganization.computeIfAbsent(appointment.getOrganization().getId(), k -> new int[2])[0]++;
+        }
+        for (AppointmentBatchResult.ItemFailure failure : failures) {
+            Appointment appointment = appointments.get(failure.index());
+            int[] counts = appointment.getOrganization() != null
+                    ? countsByOrganization.get(appointment.getOrganization().getId()) : null;
+            if (counts != null) {
+                counts[1]++;
+            }
+        }
+        countsByOrganization.forEach((organizationId, counts) -> auditService.recordEvent(
+                organizationId,
+                securityUtils.getCurrentUserId(),
+                "CREATE_APPOINTMENT_BATCH",
+                "Agendamento",
+                null,
+                "Agendamentos criados em lote: " + counts[0] + " de " + (counts[0] + counts[1])
+                        + " (" + counts[1] + " rejeitados)"
+        ));
+
+        return new AppointmentBatchResult(appointments.size(), createdIds, failures);
+    }
+
+    @Override
+    public AppointmentBatchResult createAppointmentSeries(Appointment template, RecurrenceRule recurrence) {
+        validateAppointmentData(template);
+        if (recurrence == null) {
+            throw new BusinessException("A regra de recorrência é obrigatória");
+        }
+
+        List<Appointment> occurrences = recurrence.expand(template.getDateTime()).stream()
+                .map(dateTime -> Appointment.builder()
+                        .organization(template.getOrganization())
+                        .elderly(template.getElderly())
+                        .caregiver(template.getCaregiver())
+                        .dateTime(dateTime)
+                        .durationMinutes(template.getDurationMinutes())
+                        .description(template.getDescription())
+                        .build())
+                .toList();
+
+        return createAppointments(occurrences);
+    }
+
+    @Override
+    public Appointment updateAppointment(UUID id, Appointment updatedAppointment, Long expectedVersion) {
         Appointment appointment = findById(id);
+        checkVersion(appointment, expectedVersion);
 
         // Não permite atualizar agendamentos cancelados ou concluídos
         if (appointment.getStatus() == AppointmentStatus.CANCELADO ||
             appointment.getStatus() == AppointmentStatus.CONCLUIDO) {
             throw new BusinessException("Não é possível atualizar agendamentos cancelados ou concluídos");
         }
+        WorkloadRollup.Snapshot before = WorkloadRollup.Snapshot.of(appointment);
 
-        // Verificar se a data está sendo alterada
-        if (!appointment.getDateTime().equals(updatedAppointment.getDateTime())) {
+        int durationMinutes = updatedAppointment.getDurationMinutes() != null
+                ? updatedAppointment.getDurationMinutes()
+                : appointment.getDurationMinutes();
+        validateDuration(durationMinutes);
+
+        // Verificar se a data ou a duração estão sendo alteradas
+        boolean dateTimeChanged = !appointment.getDateTime().equals(updatedAppointment.getDateTime());
+        if (dateTimeChanged || durationMinutes != appointment.getDurationMinutes()) {
             // Verifica se a nova data é futura
-            if (updatedAppointment.getDateTime().isBefore(LocalDateTime.now())) {
+            if (dateTimeChanged && updatedAppointment.getDateTime().isBefore(LocalDateTime.now())) {
                 throw new BusinessException("A data e hora do agendamento deve ser futura");
             }
 
-            // Verifica conflito na nova data
+            // Verifica conflito no novo período
             if (hasScheduleConflict(appointment.getCaregiver().getId(),
-                                  updatedAppointment.getDateTime(), 60, id)) {
-                throw new BusinessException("Existe um conflito de horário para este cuidador no período solicitado");
+                                  updatedAppointment.getDateTime(), durationMinutes, id)) {
+                throw new BusinessException(SCHEDULE_CONFLICT_MESSAGE);
             }
         }
 
-        // Atualiza os campos permitidos
+        // Atualiza os campos permitidos; um novo horário zera o indicador de atraso
+        if (dateTimeChanged || durationMinutes != appointment.getDurationMinutes()) {
+            appointment.setOverdue(false);
+        }
         appointment.setDateTime(updatedAppointment.getDateTime());
+        appointment.setDurationMinutes(durationMinutes);
         appointment.setDescription(updatedAppointment.getDescription());
 
-        Appointment updated = appointmentRepository.save(appointment);
+        Appointment updated = saveChecked(appointment);
+        scheduleIndex.appointmentChanged(updated);
+        workloadRollup.changed(before, updated);
 
         auditService.recordEvent(
                 updated.getOrganization().getId(),
@@ -133,8 +373,9 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Override
-    public Appointment cancelAppointment(UUID id) {
+    public Appointment cancelAppointment(UUID id, Long expectedVersion) {
         Appointment appointment = findById(id);
+        checkVersion(appointment, expectedVersion);
 
         if (appointment.getStatus() == AppointmentStatus.CONCLUIDO) {
             throw new BusinessException("Não é possível cancelar agendamentos já concluídos");
@@ -144,8 +385,11 @@ public class AppointmentServiceImpl implements AppointmentService {
             throw new BusinessException("Este agendamento já está cancelado");
         }
 
+        WorkloadRollup.Snapshot before = WorkloadRollup.Snapshot.of(appointment);
         appointment.setStatus(AppointmentStatus.CANCELADO);
         Appointment cancelled = appointmentRepository.save(appointment);
+        scheduleIndex.appointmentChanged(cancelled);
+        workloadRollup.changed(before, cancelled);
 
         auditService.recordEvent(
                 cancelled.getOrganization().getId(),
@@ -160,14 +404,18 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Override
-    public Appointment updateStatus(UUID id, AppointmentStatus status) {
+    public Appointment updateStatus(UUID id, AppointmentStatus status, Long expectedVersion) {
         Appointment appointment = findById(id);
+        checkVersion(appointment, expectedVersion);
 
         // Validação de transição de estados
         validateStatusTransition(appointment.getStatus(), status);
 
+        WorkloadRollup.Snapshot before = WorkloadRollup.Snapshot.of(appointment);
         appointment.setStatus(status);
         Appointment updated = appointmentRepository.save(appointment);
+        scheduleIndex.appointmentChanged(updated);
+        workloadRollup.changed(before, updated);
 
         auditService.recordEvent(
                 updated.getOrganization().getId(),
@@ -196,29 +444,56 @@ public class AppointmentServiceImpl implements AppointmentService {
         return appointmentRepository.findByDateTimeBetween(startDateTime, endDateTime);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<AppointmentRepository.CalendarEntry> findCalendar(UUID organizationId, UUID caregiverId,
+                                                                        UUID elderlyId, LocalDateTime startDateTime,
+                                                                        LocalDateTime endDateTime, String cursor,
+                                                                        int size) {
+        validateCalendarQuery(organizationId, startDateTime, endDateTime, size);
+
+        // Busca uma linha a mais para saber se existe próxima página
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<AppointmentRepository.CalendarEntry> rows = after == null
+                ? appointmentRepository.findCalendar(organizationId, caregiverId, elderlyId,
+                        startDateTime, endDateTime, limit)
+                : appointmentRepository.findCalendarAfter(organizationId, caregiverId, elderlyId,
+                        endDateTime, after.timestamp(), after.id(), limit);
+
+        return KeysetPage.of(rows, size, row -> new KeysetCursor(row.getDateTime(), row.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String findCalendarVersion(UUID organizationId, UUID caregiverId, UUID elderlyId,
+                                      LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                      String cursor, int size) {
+        validateCalendarQuery(organizationId, startDateTime, endDateTime, size);
+
+        // Mesmas linhas de findCalendar (incluindo a linha extra, que decide se há próxima página)
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return appointmentRepository.findCalendarFingerprint(organizationId, caregiverId, elderlyId,
+                startDateTime, endDateTime,
+                after != null ? after.timestamp() : null,
+                after != null ? after.id() : null,
+                size + 1);
+    }
+
     @Override
     public boolean hasScheduleConflict(UUID caregiverId, LocalDateTime dateTime,
                                     int durationMinutes, UUID excludeAppointmentId) {
         // Calcula o fim do período baseado na duração
         LocalDateTime endDateTime = dateTime.plusMinutes(durationMinutes);
 
-        // Busca agendamentos conflitantes
-        List<Appointment> conflictingAppointments =
-            appointmentRepository.findConflictingAppointments(caregiverId, dateTime, endDateTime);
-
-        // Se houver um ID a ser excluído da verificação, filtra a lista
-        if (excludeAppointmentId != null) {
-            conflictingAppointments = conflictingAppointments.stream()
-                .filter(a -> !a.getId().equals(excludeAppointmentId))
-                .toList();
-        }
-
-        return !conflictingAppointments.isEmpty();
+        // Consulta o índice em memória da agenda do cuidador
+        return scheduleIndex.hasConflict(caregiverId, dateTime, endDateTime, excludeAppointmentId);
     }
 
     @Override
-    public Appointment addObservation(UUID id, String observation) {
-        Appointment appointment = findById(id);
+    public AppointmentObservation addObservation(UUID id, String observation) {
+        AppointmentRepository.StatusView appointment = appointmentRepository.findStatusViewById(id)
+                .orElseThrow(() -> new BusinessException("Agendamento não encontrado com o id: " + id));
 
         // Não permite adicionar observações em agendamentos cancelados
         if (appointment.getStatus() == AppointmentStatus.CANCELADO) {
@@ -229,25 +504,41 @@ public class AppointmentServiceImpl implements AppointmentService {
             throw new BusinessException("A observação não pode ser vazia");
         }
 
-        // Concatena a nova observação ao campo description
-        String currentDescription = appointment.getDescription();
-        String updatedDescription = currentDescription != null && !currentDescription.isBlank()
-                                  ? currentDescription + "\n\n--- " + LocalDateTime.now() + " ---\n" + observation
-                                  : "--- " + LocalDateTime.now() + " ---\n" + observation;
+        UUID userId = securityUtils.getCurrentUserId();
 
-        appointment.setDescription(updatedDescription);
-        Appointment updated = appointmentRepository.save(appointment);
+        // Inserção de custo constante; o agendamento (e sua descrição) não é reescrito
+        AppointmentObservation created = observationRepository.save(AppointmentObservation.builder()
+                .organizationId(appointment.getOrganizationId())
+                .appointmentId(id)
+                .authorId(userId)
+                .content(observation)
+                .build());
 
         auditService.recordEvent(
-                updated.getOrganization().getId(),
-                securityUtils.getCurrentUserId(),
+                appointment.getOrganizationId(),
+                userId,
                 "ADD_APPOINTMENT_OBSERVATION",
                 "Agendamento",
-                updated.getId(),
+                id,
                 "Observação adicionada ao agendamento"
         );
 
-        return updated;
+        return created;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AppointmentObservation> findObservations(UUID id, int page, int size) {
+        if (page < 0) {
+            throw new BusinessException("O número da página não pode ser negativo");
+        }
+        if (size < 1 || size > MAX_OBSERVATION_PAGE_SIZE) {
+            throw new BusinessException("O tamanho da página deve estar entre 1 e " + MAX_OBSERVATION_PAGE_SIZE);
+        }
+        if (!appointmentRepository.existsById(id)) {
+            throw new BusinessException("Agendamento não encontrado com o id: " + id);
+        }
+        return observationRepository.findByAppointmentIdOrderByCreatedAtDescIdDesc(id, PageRequest.of(page, size));
     }
 
     private void validateAppointmentData(Appointment appointment) {
@@ -266,6 +557,85 @@ public class AppointmentServiceImpl implements AppointmentService {
         if (appointment.getDateTime() == null) {
             throw new BusinessException("A data e hora do agendamento são obrigatórias");
         }
+
+        if (appointment.getDurationMinutes() == null) {
+            appointment.setDurationMinutes(Appointment.DEFAULT_DURATION_MINUTES);
+        }
+        validateDuration(appointment.getDurationMinutes());
+    }
+
+    private void validateCalendarQuery(UUID organizationId, LocalDateTime startDateTime,
+                                       LocalDateTime endDateTime, int size) {
+        if (organizationId == null) {
+            throw new BusinessException("A organização é obrigatória para consultar o calendário");
+        }
+        if (startDateTime == null || endDateTime == null || !startDateTime.isBefore(endDateTime)) {
+            throw new BusinessException("Informe um período válido para o calendário");
+        }
+        if (size < 1 || size > MAX_CALENDAR_PAGE_SIZE) {
+            throw new BusinessException("O tamanho da página deve estar entre 1 e " + MAX_CALENDAR_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Recusa a alteração se o cliente partiu de uma versão diferente da atual. Alterações
+     * concorrentes depois desta verificação são barradas pelo @Version no flush.
+     */
+    private static void checkVersion(Appointment appointment, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(appointment.getVersion())) {
+            throw new StaleVersionException("O agendamento foi alterado desde a versão " + expectedVersion
+                    + " (versão atual: " + appointment.getVersion() + ")");
+        }
+    }
+
+    private void validateDuration(int durationMinutes) {
+        if (durationMinutes <= 0 || durationMinutes > Appointment.MAX_DURATION_MINUTES) {
+            throw new BusinessException("A duração do agendamento deve estar entre 1 e "
+                    + Appointment.MAX_DURATION_MINUTES + " minutos");
+        }
+    }
+
+    /**
+     * Persiste o agendamento forçando o flush, de modo que a restrição de exclusão
+     * ex_appointments_caregiver_period seja avaliada aqui. Duas reservas concorrentes
+     * para o mesmo cuidador não passam ambas: a segunda recebe erro de conflito.
+     */
+    private Appointment saveChecked(Appointment appointment) {
+        try {
+            return appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (isExclusionViolation(e)) {
+                throw new BusinessException(SCHEDULE_CONFLICT_MESSAGE);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean belongsTo(Organization organization, Appointment appointment) {
+        return organization != null && organization.getId().equals(appointment.getOrganization().getId());
+    }
+
+    private static AppointmentBatchResult.ItemFailure failure(int index, Appointment appointment, String reason) {
+        return new AppointmentBatchResult.ItemFailure(
+                index,
+                appointment.getElderly() != null ? appointment.getElderly().getId() : null,
+                appointment.getCaregiver() != null ? appointment.getCaregiver().getId() : null,
+                appointment.getDateTime(),
+                reason);
+    }
+
+    private static long toEpoch(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static boolean isExclusionViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void validateStatusTransition(AppointmentStatus currentStatus, AppointmentStatus newStatus) {
@@ -273,21 +643,17 @@ public class AppointmentServiceImpl implements AppointmentService {
             return; // Não há mudança de status
         }
 
+        if (currentStatus.canTransitionTo(newStatus)) {
+            return;
+        }
+
         switch (currentStatus) {
             case AGENDADO:
-                // De AGENDADO pode ir para EM_ANDAMENTO ou CANCELADO
-                if (newStatus != AppointmentStatus.EM_ANDAMENTO && newStatus != AppointmentStatus.CANCELADO) {
-                    throw new BusinessException(
-                            "Transição de status inválida. De AGENDADO só pode ir para EM_ANDAMENTO ou CANCELADO");
-                }
-                break;
+                throw new BusinessException(
+                        "Transição de status inválida. De AGENDADO só pode ir para EM_ANDAMENTO ou CANCELADO");
             case EM_ANDAMENTO:
-                // De EM_ANDAMENTO pode ir para CONCLUIDO ou CANCELADO
-                if (newStatus != AppointmentStatus.CONCLUIDO && newStatus != AppointmentStatus.CANCELADO) {
-                    throw new BusinessException(
-                            "Transição de status inválida. De EM_ANDAMENTO só pode ir para CONCLUIDO ou CANCELADO");
-                }
-                break;
+                throw new BusinessException(
+                        "Transição de status inválida. De EM_ANDAMENTO só pode ir para CONCLUIDO ou CANCELADO");
             case CONCLUIDO:
                 // De CONCLUIDO não pode mudar
                 throw new BusinessException("Não é possível alterar o status de um agendamento CONCLUIDO");
@@ -0,0 +1,289 @@
+package br.com.uniube.seniorcare.service.impl;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.entity.Caregiver;
+import br.com.uniube.seniorcare.domain.entity.Elderly;
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import br.com.uniube.seniorcare.domain.repository.CaregiverRepository;
+import br.com.uniube.seniorcare.domain.repository.ElderlyRepository;
+import br.com.uniube.seniorcare.service.AppointmentService;
+import br.com.uniube.seniorcare.service.AssignmentService;
+import br.com.uniube.seniorcare.service.schedule.AppointmentBatchResult;
+import br.com.uniube.seniorcare.service.schedule.AssignmentPlan;
+import br.com.uniube.seniorcare.service.schedule.AssignmentSolver;
+import br.com.uniube.seniorcare.service.schedule.VisitRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A leitura dos dados do lote roda em uma transação somente leitura curta e a criação dos
+ * agendamentos na transação de {@link AppointmentService#createAppointments(List)}; o motor de
+ * atribuição roda entre as duas. A conexão só é liberada durante o cálculo se não houver um
+ * EntityManager aberto em volta da chamada: chamado dentro de outra transação ou de uma
+ * requisição com open-in-view, o cálculo retém a conexão dessa transação ou requisição.
+ */
+@Slf4j
+@Service
+public class AssignmentServiceImpl implements AssignmentService {
+
+    /**
+     * Quantidade máxima de pedidos em uma execução.
+     */
+    private static final int MAX_REQUESTS = 10_000;
+
+    private static final String NO_ELIGIBLE_CAREGIVER_MESSAGE =
+            "Nenhum cuidador vinculado ao idoso atende ao pedido";
+    private static final String NO_AVAILABLE_CAREGIVER_MESSAGE =
+            "Nenhum cuidador elegível está disponível no horário";
+
+    private final ElderlyRepository elderlyRepository;
+    private final CaregiverRepository caregiverRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentService appointmentService;
+    private final TransactionTemplate readTransaction;
+
+    @Value("${app.schedule.assignment.restarts:16}")
+    private int restarts = 16;
+
+    @Value("${app.schedule.assignment.seed:42}")
+    private long seed = 42;
+
+    public AssignmentServiceImpl(ElderlyRepository elderlyRepository,
+                                 CaregiverRepository caregiverRepository,
+                                 AppointmentRepository appointmentRepository,
+                                 AppointmentService appointmentService,
+                                 PlatformTransactionManager transactionManager) {
+        this.elderlyRepository = elderlyRepository;
+        this.caregiverRepository = caregiverRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.appointmentService = appointmentService;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public AssignmentPlan plan(List<VisitRequest> requests) {
+        return solve(requests).plan();
+    }
+
+    @Override
+    public AssignmentPlan assign(List<VisitRequest> requests) {
+        Solution solution = solve(requests);
+        if (solution.appointments().isEmpty()) {
+            return solution.plan();
+        }
+        AppointmentBatchResult batchResult = appointmentService.createAppointments(solution.appointments());
+
+        // As falhas do lote apontam para a lista de agendamentos; o banco ainda pode rejeitar um
+        // item atribuído (como em um agendamento concorrente), que volta como não atribuído
+        List<AssignmentPlan.Item> items = new ArrayList<>(solution.plan().items());
+        List<AppointmentBatchResult.ItemFailure> failures = new ArrayList<>();
+        for (AppointmentBatchResult.ItemFailure failure : batchResult.failures()) {
+            int index = solution.requestIndexes().get(failure.index());
+            items.set(index, item(index, requests.get(index), null, failure.reason()));
+            failures.add(new AppointmentBatchResult.ItemFailure(index, failure.elderlyId(), failure.caregiverId(),
+                    failure.dateTime(), failure.reason()));
+        }
+        return new AssignmentPlan(List.copyOf(items), solution.plan().metrics(),
+                new AppointmentBatchResult(requests.size(), batchResult.createdIds(), failures));
+    }
+
+    private Solution solve(List<VisitRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BusinessException("Informe ao menos um pedido de visita");
+        }
+        if (requests.size() > MAX_REQUESTS) {
+            throw new BusinessException("O lote excede o limite de " + MAX_REQUESTS + " pedidos");
+        }
+
+        Problem problem = readTransaction.execute(status -> load(requests));
+        AssignmentPlan.Item[] items = problem.items();
+
+        // 4. Resolve fora da transação e monta o plano
+        AssignmentSolver solver = new AssignmentSolver(restarts, seed, ForkJoinPool.commonPool());
+        AssignmentSolver.Result result = solver.solve(problem.visits(), problem.agendas());
+        log.info("Atribuição automática: {} de {} visitas atribuídas em {} ms (desvio de carga {} min)",
+                result.metrics().assigned(), requests.size(), result.metrics().solveTime().toMillis(),
+                Math.round(result.metrics().loadStdDevMinutes()));
+
+        List<Appointment> appointments = new ArrayList<>();
+        List<Integer> requestIndexes = new ArrayList<>();
+        for (int k = 0; k < problem.solvable().size(); k++) {
+            int i = problem.solvable().get(k);
+            VisitRequest request = requests.get(i);
+            UUID caregiverId = result.assignments().get(k);
+            if (caregiverId == null) {
+                items[i] = item(i, request, null, NO_AVAILABLE_CAREGIVER_MESSAGE);
+                continue;
+            }
+            items[i] = item(i, request, caregiverId, null);
+            Elderly elderly = problem.elderlyById().get(request.elderlyId());
+            appointments.add(Appointment.builder()
+                    .organization(elderly.getOrganization())
+                    .elderly(elderly)
+                    .caregiver(problem.caregiverById().get(caregiverId))
+                    .dateTime(request.dateTime())
+                    .durationMinutes(duration(request))
+                    .description(request.description())
+                    .build());
+            requestIndexes.add(i);
+        }
+
+        return new Solution(new AssignmentPlan(List.of(items), result.metrics(), null), appointments, requestIndexes);
+    }
+
+    /**
+     * Valida os pedidos e carrega idosos, cuidadores elegíveis e agendas existentes.
+     */
+    private Problem load(List<VisitRequest> requests) {
+        AssignmentPlan.Item[] items = new AssignmentPlan.Item[requests.size()];
+        List<Integer> candidates = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. Validações que não dependem do banco
+        for (int i = 0; i < requests.size(); i++) {
+            VisitRequest request = requests.get(i);
+            String error = validate(request, now);
+            if (error != null) {
+                items[i] = item(i, request, null, error);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 2. Idosos, vínculos e cuidadores do lote, com uma consulta para cada
+        Map<UUID, Elderly> elderlyById = elderlyRepository.findAllById(candidates.stream()
+                        .map(i -> requests.get(i).elderlyId()).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Elderly::getId, Function.identity()));
+        Map<UUID, List<UUID>> caregiversByElderly = elderlyById.isEmpty() ? Map.of()
+                : caregiverRepository.findLinksByElderlyIds(elderlyById.keySet()).stream()
+                .collect(Collectors.groupingBy(CaregiverRepository.ElderlyCaregiverLink::getElderlyId,
+                        Collectors.mapping(CaregiverRepository.ElderlyCaregiverLink::getCaregiverId, Collectors.toList())));
+        Map<UUID, Caregiver> caregiverById = caregiverRepository.findAllById(caregiversByElderly.values().stream()
+                        .flatMap(List::stream).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Caregiver::getId, Function.identity()));
+
+        List<Integer> solvable = new ArrayList<>();
+        List<AssignmentSolver.Visit> visits = new ArrayList<>();
+        for (Integer i : candidates) {
+            VisitRequest request = requests.get(i);
+            if (!elderlyById.containsKey(request.elderlyId())) {
+                items[i] = item(i, request, null, "Idoso não encontrado com o id: " + request.elderlyId());
+                continue;
+            }
+            List<UUID> eligible = caregiversByElderly.getOrDefault(request.elderlyId(), List.of()).stream()
+                    .map(caregiverById::get)
+                    .filter(caregiver -> caregiver != null && matchesSpecialty(caregiver, request.specialty()))
+                    .map(Caregiver::getId)
+                    .toList();
+            if (eligible.isEmpty()) {
+                items[i] = item(i, request, null, NO_ELIGIBLE_CAREGIVER_MESSAGE);
+                continue;
+            }
+            solvable.add(i);
+            visits.add(new AssignmentSolver.Visit(request.dateTime(), duration(request), eligible));
+        }
+
+        // 3. Agendas existentes dos cuidadores envolvidos, no horizonte do lote
+        return new Problem(items, solvable, visits, loadAgendas(visits), elderlyById, caregiverById);
+    }
+
+    private List<AssignmentSolver.CaregiverAgenda> loadAgendas(List<AssignmentSolver.Visit> visits) {
+        if (visits.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> caregiverIds = new HashSet<>();
+        visits.forEach(visit -> caregiverIds.addAll(visit.eligibleCaregivers()));
+        LocalDateTime horizonStart = visits.stream().map(AssignmentSolver.Visit::start)
+                .min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime horizonEnd = visits.stream().map(visit -> visit.start().plusMinutes(visit.durationMinutes()))
+                .max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<UUID, List<AssignmentSolver.Busy>> busyByCaregiver = new HashMap<>();
+        Map<UUID, Long> loadByCaregiver = new HashMap<>();
+        for (AppointmentRepository.CaregiverScheduleSlot slot : appointmentRepository.findScheduleSlotsForCaregivers(
+                caregiverIds, horizonStart.minusMinutes(Appointment.MAX_DURATION_MINUTES), horizonEnd)) {
+            int duration = slot.getDurationMinutes() != null
+                    ? slot.getDurationMinutes() : Appointment.DEFAULT_DURATION_MINUTES;
+            LocalDateTime end = slot.getDateTime().plusMinutes(duration);
+            busyByCaregiver.computeIfAbsent(slot.getCaregiverId(), k -> new ArrayList<>())
+                    .add(new AssignmentSolver.Busy(slot.getDateTime(), end));
+            // A carga existente considera apenas os agendamentos que começam no horizonte do lote
+            if (!slot.getDateTime().isBefore(horizonStart)) {
+                loadByCaregiver.merge(slot.getCaregiverId(), (long) duration, Long::sum);
+            }
+        }
+
+        return caregiverIds.stream()
+                .sorted()
+                .map(id -> new AssignmentSolver.CaregiverAgenda(id,
+                        busyByCaregiver.getOrDefault(id, List.of()), loadByCaregiver.getOrDefault(id, 0L)))
+                .toList();
+    }
+
+    private static String validate(VisitRequest request, LocalDateTime now) {
+        if (request == null || request.elderlyId() == null) {
+            return "O idoso é obrigatório";
+        }
+        if (request.dateTime() == null) {
+            return "A data e hora do agendamento é obrigatória";
+        }
+        if (request.dateTime().isBefore(now)) {
+            return "A data e hora do agendamento deve ser futura";
+        }
+        int duration = duration(request);
+        if (duration < 1 || duration > Appointment.MAX_DURATION_MINUTES) {
+            return "A duração do agendamento deve estar entre 1 e " + Appointment.MAX_DURATION_MINUTES + " minutos";
+        }
+        return null;
+    }
+
+    private static boolean matchesSpecialty(Caregiver caregiver, String specialty) {
+        if (specialty == null || specialty.isBlank()) {
+            return true;
+        }
+        return caregiver.getSpecialty() != null
+                && caregiver.getSpecialty().toLowerCase().contains(specialty.trim().toLowerCase());
+    }
+
+    private static int duration(VisitRequest request) {
+        return request.durationMinutes() != null ? request.durationMinutes() : Appointment.DEFAULT_DURATION_MINUTES;
+    }
+
+    private static AssignmentPlan.Item item(int index, VisitRequest request, UUID caregiverId, String reason) {
+        return new AssignmentPlan.Item(index,
+                request != null ? request.elderlyId() : null,
+                caregiverId,
+                request != null ? request.dateTime() : null,
+                request != null ? duration(request) : 0,
+                reason);
+    }
+
+    private record Problem(AssignmentPlan.Item[] items, List<Integer> solvable, List<AssignmentSolver.Visit> visits,
+                           List<AssignmentSolver.CaregiverAgenda> agendas, Map<UUID, Elderly> elderlyById,
+                           Map<UUID, Caregiver> caregiverById) {
+    }
+
+    /**
+     * @param requestIndexes posição no lote de pedidos de cada agendamento
+     */
+    private record Solution(AssignmentPlan plan, List<Appointment> appointments, List<Integer> requestIndexes) {
+    }
+}
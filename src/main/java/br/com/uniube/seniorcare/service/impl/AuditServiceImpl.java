@@ -2,26 +2,65 @@ package br.com.uniube.seniorcare.service.impl;
 
 import br.com.uniube.seniorcare.domain.entity.AuditLog;
 import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
 import br.com.uniube.seniorcare.domain.repository.AuditLogRepository;
+import br.com.uniube.seniorcare.domain.repository.OrganizationRepository;
 import br.com.uniube.seniorcare.service.AuditService;
+import br.com.uniube.seniorcare.service.audit.AuditExportFormat;
+import br.com.uniube.seniorcare.service.audit.AuditExporter;
+import br.com.uniube.seniorcare.service.audit.AuditSink;
+import br.com.uniube.seniorcare.service.audit.AuditWriteMode;
+import br.com.uniube.seniorcare.service.utils.AfterCommit;
+import br.com.uniube.seniorcare.service.utils.KeysetCursor;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
+import br.com.uniube.seniorcare.service.utils.SecurityUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
-@Transactional
 public class AuditServiceImpl implements AuditService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    /**
+     * Início usado quando a busca não informa o período; mantém o limite inferior sempre
+     * presente na consulta.
+     */
+    private static final LocalDateTime OPEN_RANGE_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Menor UUID: com o fim do período, forma a posição inicial da primeira página.
+     */
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    private final AuditSink auditSink;
+    private final AuditExporter auditExporter;
     private final AuditLogRepository auditLogRepository;
+    private final OrganizationRepository organizationRepository;
+    private final SecurityUtils securityUtils;
 
     @Value("${app.security.development-mode:false}")
     private boolean developmentMode;
 
-    public AuditServiceImpl(AuditLogRepository auditLogRepository) {
+    @Value("${app.audit.mode:STRICT}")
+    private AuditWriteMode mode = AuditWriteMode.STRICT;
+
+    public AuditServiceImpl(AuditSink auditSink,
+                            AuditExporter auditExporter,
+                            AuditLogRepository auditLogRepository,
+                            OrganizationRepository organizationRepository,
+                            SecurityUtils securityUtils) {
+        this.auditSink = auditSink;
+        this.auditExporter = auditExporter;
         this.auditLogRepository = auditLogRepository;
+        this.organizationRepository = organizationRepository;
+        this.securityUtils = securityUtils;
     }
 
     @Override
@@ -39,19 +78,86 @@ public class AuditServiceImpl implements AuditService {
 
         validateInputs(organizationId, userId, action, entityName);
 
-        // Create a new AuditLog instance
-        AuditLog auditLog = AuditLog.builder()
-                .organizationId(organizationId)
-                .userId(userId)
-                .action(action)
-                .entityName(entityName)
-                .entityId(entityId)
-                .description(description)
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        // Save the new entity
-        auditLogRepository.save(auditLog);
+        // O ID e o horário são definidos agora; a gravação em audit_logs fica em segundo plano
+        AuditEntry entry = new AuditEntry(UUID.randomUUID(), organizationId, userId, action, entityName,
+                entityId, LocalDateTime.now(), description);
+        if (mode == AuditWriteMode.STRICT) {
+            AfterCommit.run(() -> auditSink.append(entry));
+        } else {
+            auditSink.append(entry);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<AuditLog> search(AuditFilter filter, String cursor, int size) {
+        validateReader(filter.organizationId());
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new BusinessException("O tamanho da página deve estar entre 1 e " + MAX_SEARCH_PAGE_SIZE);
+        }
+        UUID organizationId = filter.organizationId();
+        LocalDateTime from = filter.from() != null ? filter.from() : OPEN_RANGE_START;
+        LocalDateTime to = filter.to() != null ? filter.to() : LocalDateTime.now();
+        if (!from.isBefore(to)) {
+            throw new BusinessException("Informe um período válido para a consulta");
+        }
+        String action = blankToNull(filter.action());
+        String entityName = blankToNull(filter.entityName());
+
+        // A próxima página continua da última linha; a primeira começa no fim do período
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        if (before == null) {
+            before = new KeysetCursor(to, MIN_ID);
+        }
+
+        // Busca uma linha a mais para saber se existe próxima página. O ponto de partida é o
+        // filtro mais seletivo com índice: registro afetado, usuário ou a organização inteira
+        int limit = size + 1;
+        List<AuditLog> rows;
+        if (filter.entityId() != null) {
+            rows = auditLogRepository.searchByEntity(organizationId, filter.entityId(), from,
+                    before.timestamp(), before.id(), filter.userId(), action, entityName, limit);
+        } else if (filter.userId() != null) {
+            rows = auditLogRepository.searchByUser(organizationId, filter.userId(), from,
+                    before.timestamp(), before.id(), action, entityName, limit);
+        } else {
+            rows = auditLogRepository.searchByOrganization(organizationId, from,
+                    before.timestamp(), before.id(), action, entityName, limit);
+        }
+
+        return KeysetPage.of(rows, size, row -> new KeysetCursor(row.getTimestamp(), row.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AuditExport prepareExport(UUID organizationId, LocalDateTime from, LocalDateTime to,
+                                     AuditExportFormat format) {
+        validateReader(organizationId);
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new BusinessException("Informe um período válido para a exportação");
+        }
+        if (format == null) {
+            throw new BusinessException("Formato de exportação é obrigatório");
+        }
+        return new AuditExport(organizationId, from, to, format);
+    }
+
+    @Override
+    public long export(AuditExport export, OutputStream out) {
+        return auditExporter.export(export.organizationId(), export.from(), export.to(), export.format(), out);
+    }
+
+    private void validateReader(UUID organizationId) {
+        if (!securityUtils.isCurrentUserAdmin()) {
+            throw new BusinessException("Apenas administradores podem consultar a auditoria");
+        }
+        if (organizationId == null || !organizationRepository.existsById(organizationId)) {
+            throw new BusinessException("Organização não encontrada com o id: " + organizationId);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 
     private void validateInputs(UUID organizationId, UUID userId, String action, String entityName) {
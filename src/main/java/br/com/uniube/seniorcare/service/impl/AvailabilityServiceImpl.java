@@ -0,0 +1,125 @@
+package br.com.uniube.seniorcare.service.impl;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.entity.Caregiver;
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import br.com.uniube.seniorcare.domain.repository.CaregiverRepository;
+import br.com.uniube.seniorcare.domain.repository.ElderlyRepository;
+import br.com.uniube.seniorcare.service.AvailabilityService;
+import br.com.uniube.seniorcare.service.schedule.AvailabilityEngine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@Transactional(readOnly = true)
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    /**
+     * Período máximo de uma busca, em dias.
+     */
+    private static final int MAX_RANGE_DAYS = 62;
+
+    /**
+     * Quantidade máxima de cuidadores em uma busca.
+     */
+    private static final int MAX_CAREGIVERS = 500;
+
+    /**
+     * Quantidade máxima de horários retornados.
+     */
+    private static final int MAX_LIMIT = 200;
+
+    private final AppointmentRepository appointmentRepository;
+    private final CaregiverRepository caregiverRepository;
+    private final ElderlyRepository elderlyRepository;
+
+    @Value("${app.schedule.availability.slot-minutes:15}")
+    private int slotMinutes = 15;
+
+    @Value("${app.schedule.availability.work-start:07:00}")
+    private String workStart = "07:00";
+
+    @Value("${app.schedule.availability.work-end:19:00}")
+    private String workEnd = "19:00";
+
+    public AvailabilityServiceImpl(AppointmentRepository appointmentRepository,
+                                   CaregiverRepository caregiverRepository,
+                                   ElderlyRepository elderlyRepository) {
+        this.appointmentRepository = appointmentRepository;
+        this.caregiverRepository = caregiverRepository;
+        this.elderlyRepository = elderlyRepository;
+    }
+
+    @Override
+    public List<AvailabilityEngine.FreeSlot> findFreeSlots(Collection<UUID> caregiverIds, LocalDateTime from,
+                                                           LocalDateTime to, int durationMinutes, int limit) {
+        if (caregiverIds == null || caregiverIds.isEmpty()) {
+            throw new BusinessException("Informe ao menos um cuidador");
+        }
+        Set<UUID> ids = new LinkedHashSet<>(caregiverIds);
+        if (ids.size() > MAX_CAREGIVERS) {
+            throw new BusinessException("A busca excede o limite de " + MAX_CAREGIVERS + " cuidadores");
+        }
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new BusinessException("Informe um período válido para a busca");
+        }
+        if (ChronoUnit.DAYS.between(from.toLocalDate(), to.toLocalDate()) > MAX_RANGE_DAYS) {
+            throw new BusinessException("O período da busca não pode exceder " + MAX_RANGE_DAYS + " dias");
+        }
+        if (durationMinutes < 1 || durationMinutes > Appointment.MAX_DURATION_MINUTES) {
+            throw new BusinessException("A duração deve estar entre 1 e " + Appointment.MAX_DURATION_MINUTES + " minutos");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("A quantidade de horários deve estar entre 1 e " + MAX_LIMIT);
+        }
+
+        // Horários no passado não interessam
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from.isBefore(now) ? now : from;
+        if (!start.isBefore(to)) {
+            return List.of();
+        }
+
+        int days = (int) ChronoUnit.DAYS.between(start.toLocalDate(), to.toLocalDate()) + 1;
+        AvailabilityEngine engine = new AvailabilityEngine(start.toLocalDate(), days, slotMinutes,
+                LocalTime.parse(workStart), LocalTime.parse(workEnd));
+        ids.forEach(engine::addCaregiver);
+
+        // Uma única consulta para todos os cuidadores; agendamentos iniciados antes do período ainda podem ocupá-lo
+        List<AppointmentRepository.CaregiverScheduleSlot> slots = appointmentRepository.findScheduleSlotsForCaregivers(
+                ids, start.minusMinutes(Appointment.MAX_DURATION_MINUTES), to);
+        for (AppointmentRepository.CaregiverScheduleSlot slot : slots) {
+            int duration = slot.getDurationMinutes() != null
+                    ? slot.getDurationMinutes() : Appointment.DEFAULT_DURATION_MINUTES;
+            engine.occupy(slot.getCaregiverId(), slot.getDateTime(), slot.getDateTime().plusMinutes(duration));
+        }
+
+        return engine.findFreeSlots(start, to, durationMinutes, limit);
+    }
+
+    @Override
+    public List<AvailabilityEngine.FreeSlot> findFreeSlotsForElderly(UUID elderlyId, LocalDateTime from,
+                                                                     LocalDateTime to, int durationMinutes, int limit) {
+        if (!elderlyRepository.existsById(elderlyId)) {
+            throw new BusinessException("Idoso não encontrado com o id: " + elderlyId);
+        }
+        List<UUID> caregiverIds = caregiverRepository.findByElderlyId(elderlyId).stream()
+                .map(Caregiver::getId)
+                .toList();
+        if (caregiverIds.isEmpty()) {
+            return List.of();
+        }
+        return findFreeSlots(caregiverIds, from, to, durationMinutes, limit);
+    }
+}
@@ -1,32 +1,63 @@
 package br.com.uniube.seniorcare.service.impl;
 
 import br.com.uniube.seniorcare.domain.entity.Elderly;
-import br.com.uniube.seniorcare.domain.entity.FamilyMember;
 import br.com.uniube.seniorcare.domain.entity.Notification;
+import br.com.uniube.seniorcare.domain.entity.NotificationDigest;
+import br.com.uniube.seniorcare.domain.entity.NotificationDigestPreference;
 import br.com.uniube.seniorcare.domain.entity.User;
-import br.com.uniube.seniorcare.domain.entity.Caregiver;
+import br.com.uniube.seniorcare.domain.enums.DigestPeriod;
 import br.com.uniube.seniorcare.domain.enums.NotificationStatus;
 import br.com.uniube.seniorcare.domain.exception.BusinessException;
 import br.com.uniube.seniorcare.domain.repository.ElderlyRepository;
 import br.com.uniube.seniorcare.domain.repository.FamilyMemberRepository;
+import br.com.uniube.seniorcare.domain.repository.NotificationBatchRepository;
+import br.com.uniube.seniorcare.domain.repository.NotificationDigestPreferenceRepository;
+import br.com.uniube.seniorcare.domain.repository.NotificationDigestRepository;
 import br.com.uniube.seniorcare.domain.repository.NotificationRepository;
+import br.com.uniube.seniorcare.domain.repository.NotificationUnreadCounterRepository;
 import br.com.uniube.seniorcare.domain.repository.UserRepository;
 import br.com.uniube.seniorcare.domain.repository.CaregiverRepository;
 import br.com.uniube.seniorcare.service.AuditService;
 import br.com.uniube.seniorcare.service.NotificationService;
+import br.com.uniube.seniorcare.service.notification.NotificationCoalescer;
+import br.com.uniube.seniorcare.service.notification.NotificationOutbox;
+import br.com.uniube.seniorcare.service.notification.NotificationStreamHub;
+import br.com.uniube.seniorcare.service.utils.AfterCommit;
+import br.com.uniube.seniorcare.service.utils.KeysetCursor;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
 import br.com.uniube.seniorcare.service.utils.SecurityUtils;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class NotificationServiceImpl implements NotificationService {
 
+    /**
+     * Limite de IDs por chamada da marcação em lote.
+     */
+    static final int MAX_BULK_READ = 1000;
+
+    /**
+     * Limite de resumos por listagem.
+     */
+    static final int MAX_DIGESTS = 100;
+
+    /**
+     * Limite de notificações por página da caixa de entrada.
+     */
+    static final int MAX_INBOX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final ElderlyRepository elderlyRepository;
@@ -34,6 +65,12 @@ public class NotificationServiceImpl implements NotificationService {
     private final CaregiverRepository caregiverRepository;
     private final AuditService auditService;
     private final SecurityUtils securityUtils;
+    private final NotificationOutbox notificationOutbox;
+    private final NotificationStreamHub notificationStreamHub;
+    private final NotificationUnreadCounterRepository unreadCounterRepository;
+    private final NotificationCoalescer notificationCoalescer;
+    private final NotificationDigestRepository digestRepository;
+    private final NotificationDigestPreferenceRepository digestPreferenceRepository;
 
     public NotificationServiceImpl(NotificationRepository notificationRepository,
                                    UserRepository userRepository,
@@ -41,7 +78,13 @@ public class NotificationServiceImpl implements NotificationService {
                                    FamilyMemberRepository familyMemberRepository,
                                    CaregiverRepository caregiverRepository,
                                    AuditService auditService,
-                                   SecurityUtils securityUtils) {
+                                   SecurityUtils securityUtils,
+                                   NotificationOutbox notificationOutbox,
+                                   NotificationStreamHub notificationStreamHub,
+                                   NotificationUnreadCounterRepository unreadCounterRepository,
+                                   NotificationCoalescer notificationCoalescer,
+                                   NotificationDigestRepository digestRepository,
+                                   NotificationDigestPreferenceRepository digestPreferenceRepository) {
         this.notificationRepository = notificationRepository;
         this.userRepository = userRepository;
         this.elderlyRepository = elderlyRepository;
@@ -49,6 +92,12 @@ public class NotificationServiceImpl implements NotificationService {
         this.caregiverRepository = caregiverRepository;
         this.auditService = auditService;
         this.securityUtils = securityUtils;
+        this.notificationOutbox = notificationOutbox;
+        this.notificationStreamHub = notificationStreamHub;
+        this.unreadCounterRepository = unreadCounterRepository;
+        this.notificationCoalescer = notificationCoalescer;
+        this.digestRepository = digestRepository;
+        this.digestPreferenceRepository = digestPreferenceRepository;
     }
 
     @Override
@@ -68,9 +117,17 @@ public class NotificationServiceImpl implements NotificationService {
 
         // Garante que a notificação seja criada com status PENDENTE
         notification.setStatus(NotificationStatus.PENDENTE);
+        // O instante é usado na fila de entrega e no evento do stream antes do INSERT
+        notification.setCreatedAt(LocalDateTime.now());
 
         Notification createdNotification = notificationRepository.save(notification);
 
+        // A entrega pelos canais externos fica na fila, na mesma transação; não espera o canal
+        notificationOutbox.enqueue(createdNotification.getReceiver().getId(), List.of(createdNotification.getId()),
+                createdNotification.getCreatedAt());
+        unreadCounterRepository.applyDeltas(Map.of(createdNotification.getReceiver().getId(), 1));
+        publishCreated(createdNotification);
+
         auditService.recordEvent(
                 createdNotification.getOrganization().getId(),
                 securityUtils.getCurrentUserId(),
@@ -85,6 +142,18 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public Notification sendNotification(UUID senderId, UUID receiverId, String message) {
+        if (message == null || message.isBlank()) {
+            throw new BusinessException("A mensagem da notificação não pode ser vazia");
+        }
+
+        // Repetição dentro da janela de agrupamento: incrementa a notificação existente sem consultá-la
+        LocalDateTime now = LocalDateTime.now();
+        NotificationCoalescer.Entry recent = notificationCoalescer.find(senderId, receiverId, message, now);
+        if (recent != null && coalesce(recent, senderId, receiverId, message, now)) {
+            // Referência sem consulta; os dados só são carregados se o chamador os acessar
+            return notificationRepository.getReferenceById(recent.notificationId());
+        }
+
         // Verifica se o destinatário existe
         User receiver = userRepository.findById(receiverId)
                 .orElseThrow(() -> new BusinessException("Destinatário não encontrado com o id: " + receiverId));
@@ -96,23 +165,29 @@ public class NotificationServiceImpl implements NotificationService {
                     .orElseThrow(() -> new BusinessException("Remetente não encontrado com o id: " + senderId));
         }
 
-        if (message == null || message.isBlank()) {
-            throw new BusinessException("A mensagem da notificação não pode ser vazia");
-        }
-
         // Cria a notificação
+        // Sem ID pré-definido, o save() faz persist direto, sem o SELECT do merge
         Notification notification = Notification.builder()
-                .id(UUID.randomUUID())
                 .organization(receiver.getOrganization())
                 .sender(sender)
                 .receiver(receiver)
                 .message(message)
                 .status(NotificationStatus.PENDENTE)
-                .createdAt(LocalDateTime.now())
+                .createdAt(now)
                 .build();
 
         Notification createdNotification = notificationRepository.save(notification);
 
+        // A entrega pelos canais externos fica na fila, na mesma transação; não espera o canal
+        notificationOutbox.enqueue(createdNotification.getReceiver().getId(), List.of(createdNotification.getId()),
+                createdNotification.getCreatedAt());
+        unreadCounterRepository.applyDeltas(Map.of(createdNotification.getReceiver().getId(), 1));
+        publishCreated(createdNotification);
+
+        NotificationCoalescer.Entry entry = new NotificationCoalescer.Entry(createdNotification.getId(),
+                createdNotification.getCreatedAt(), receiver.getOrganization().getId());
+        AfterCommit.run(() -> notificationCoalescer.register(senderId, receiverId, message, entry));
+
         auditService.recordEvent(
                 receiver.getOrganization().getId(),
                 securityUtils.getCurrentUserId(),
@@ -127,7 +202,7 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public Notification markAsRead(UUID id) {
-        Notification notification = findById(id);
+        Notification notification = findByIdForUpdate(id);
 
         if (notification.getStatus() == NotificationStatus.LIDA) {
             // Já está marcada como lida, não precisa fazer nada
@@ -136,6 +211,8 @@ public class NotificationServiceImpl implements NotificationService {
 
         notification.setStatus(NotificationStatus.LIDA);
         Notification updated = notificationRepository.save(notification);
+        unreadCounterRepository.applyDeltas(Map.of(notification.getReceiver().getId(), -1));
+        notificationStreamHub.notificationRead(notification.getReceiver().getId(), notification.getId());
 
         auditService.recordEvent(
                 notification.getOrganization().getId(),
@@ -149,11 +226,68 @@ public class NotificationServiceImpl implements NotificationService {
         return updated;
     }
 
+    @Override
+    public int markAsRead(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BusinessException("Informe ao menos uma notificação");
+        }
+        if (ids.size() > MAX_BULK_READ) {
+            throw new BusinessException("É possível marcar no máximo " + MAX_BULK_READ + " notificações por vez");
+        }
+        User receiver = currentUser();
+
+        // Um único UPDATE condicional; o contador de não lidas é descontado no mesmo comando
+        List<UUID> updated = notificationRepository.markRead(receiver.getId(), new HashSet<>(ids));
+        if (updated.isEmpty()) {
+            return 0;
+        }
+        notificationStreamHub.notificationsRead(receiver.getId(), updated);
+
+        auditService.recordEvent(
+                receiver.getOrganization().getId(),
+                receiver.getId(),
+                "READ_NOTIFICATIONS_BATCH",
+                "Notificação",
+                null,
+                updated.size() + " notificações marcadas como lidas"
+        );
+
+        return updated.size();
+    }
+
+    @Override
+    public int markAllAsRead(String until) {
+        KeysetCursor upTo = KeysetCursor.decode(until);
+        User receiver = currentUser();
+
+        int updated = notificationRepository.markAllRead(receiver.getId(),
+                upTo != null ? upTo.timestamp() : null, upTo != null ? upTo.id() : null);
+        if (updated == 0) {
+            return 0;
+        }
+        notificationStreamHub.allRead(receiver.getId(), upTo);
+
+        auditService.recordEvent(
+                receiver.getOrganization().getId(),
+                receiver.getId(),
+                "READ_ALL_NOTIFICATIONS",
+                "Notificação",
+                null,
+                updated + " notificações marcadas como lidas"
+        );
+
+        return updated;
+    }
+
     @Override
     public void deleteNotification(UUID id) {
-        Notification notification = findById(id);
+        Notification notification = findByIdForUpdate(id);
 
         notificationRepository.delete(notification);
+        if (notification.getStatus() == NotificationStatus.PENDENTE) {
+            unreadCounterRepository.applyDeltas(Map.of(notification.getReceiver().getId(), -1));
+        }
+        notificationStreamHub.notificationDeleted(notification.getReceiver().getId(), notification.getId());
 
         auditService.recordEvent(
                 notification.getOrganization().getId(),
@@ -165,6 +299,32 @@ public class NotificationServiceImpl implements NotificationService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<NotificationRepository.InboxEntry> findInbox(NotificationStatus status, String cursor, int size) {
+        if (size < 1 || size > MAX_INBOX_PAGE_SIZE) {
+            throw new BusinessException("O tamanho da página deve estar entre 1 e " + MAX_INBOX_PAGE_SIZE);
+        }
+        UUID receiverId = securityUtils.getCurrentUserId();
+
+        // Busca uma linha a mais para saber se existe próxima página
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        KeysetCursor before = KeysetCursor.decode(cursor);
+        List<NotificationRepository.InboxEntry> rows;
+        if (status == null) {
+            rows = before == null
+                    ? notificationRepository.findInbox(receiverId, limit)
+                    : notificationRepository.findInboxBefore(receiverId, before.timestamp(), before.id(), limit);
+        } else {
+            rows = before == null
+                    ? notificationRepository.findInboxByStatus(receiverId, status, limit)
+                    : notificationRepository.findInboxByStatusBefore(receiverId, status,
+                            before.timestamp(), before.id(), limit);
+        }
+
+        return KeysetPage.of(rows, size, row -> new KeysetCursor(row.getCreatedAt(), row.getId()));
+    }
+
     @Override
     public List<Notification> findByReceiver(UUID receiverId) {
         // Verifica se o usuário existe
@@ -186,41 +346,24 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
-    public List<Notification> notifyFamilyMembers(UUID senderId, UUID elderlyId, String message) {
+    public int notifyFamilyMembers(UUID senderId, UUID elderlyId, String message) {
         // Verifica se o idoso existe
         Elderly elderly = elderlyRepository.findById(elderlyId)
                 .orElseThrow(() -> new BusinessException("Idoso não encontrado com o id: " + elderlyId));
 
-        // Obtém o remetente
-        User sender = null;
-        if (senderId != null) {
-            sender = userRepository.findById(senderId)
-                    .orElseThrow(() -> new BusinessException("Remetente não encontrado com o id: " + senderId));
-        }
+        validateFanOut(senderId, message);
 
-        // Busca todos os familiares do idoso
-        List<FamilyMember> familyMembers = familyMemberRepository.findByElderlyId(elderlyId);
+        // Busca apenas os usuários dos familiares do idoso
+        List<UUID> receiverIds = familyMemberRepository.findUserIdsByElderlyId(elderlyId);
 
-        if (familyMembers.isEmpty()) {
+        if (receiverIds.isEmpty()) {
             throw new BusinessException("O idoso não possui familiares cadastrados");
         }
 
-        List<Notification> notifications = new ArrayList<>();
-
-        // Envia notificação para cada familiar
-        for (FamilyMember family : familyMembers) {
-            Notification notification = Notification.builder()
-                    .id(UUID.randomUUID())
-                    .organization(elderly.getOrganization())
-                    .sender(sender)
-                    .receiver(family.getUser())
-                    .message(message)
-                    .status(NotificationStatus.PENDENTE)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            notifications.add(notificationRepository.save(notification));
-        }
+        List<NotificationBatchRepository.Created> created = notificationRepository.fanOut(
+                elderly.getOrganization().getId(), senderId, message, receiverIds, notificationOutbox.channels());
+        notificationOutbox.signal();
+        publishCreated(created, senderId, message);
 
         auditService.recordEvent(
                 elderly.getOrganization().getId(),
@@ -228,48 +371,31 @@ public class NotificationServiceImpl implements NotificationService {
                 "NOTIFY_FAMILY_MEMBERS",
                 "Notificação",
                 elderly.getId(),
-                "Notificação enviada para os familiares do idoso: " + elderly.getName()
+                "Notificação enviada para " + created.size() + " familiares do idoso: " + elderly.getName()
         );
 
-        return notifications;
+        return created.size();
     }
 
     @Override
-    public List<Notification> notifyCaregivers(UUID senderId, UUID elderlyId, String message) {
+    public int notifyCaregivers(UUID senderId, UUID elderlyId, String message) {
         // Verifica se o idoso existe
         Elderly elderly = elderlyRepository.findById(elderlyId)
                 .orElseThrow(() -> new BusinessException("Idoso não encontrado com o id: " + elderlyId));
 
-        // Obtém o remetente
-        User sender = null;
-        if (senderId != null) {
-            sender = userRepository.findById(senderId)
-                    .orElseThrow(() -> new BusinessException("Remetente não encontrado com o id: " + senderId));
-        }
+        validateFanOut(senderId, message);
 
-        // Busca todos os cuidadores da organização
-        List<Caregiver> allCaregivers = caregiverRepository.findByOrganizationId(elderly.getOrganization().getId());
+        // Busca apenas os usuários dos cuidadores vinculados ao idoso
+        List<UUID> receiverIds = caregiverRepository.findUserIdsByElderlyId(elderlyId);
 
-        if (allCaregivers.isEmpty()) {
-            throw new BusinessException("Não existem cuidadores na organização");
+        if (receiverIds.isEmpty()) {
+            throw new BusinessException("O idoso não possui cuidadores vinculados");
         }
 
-        List<Notification> notifications = new ArrayList<>();
-
-        // Envia notificação para cada cuidador
-        for (Caregiver caregiver : allCaregivers) {
-            Notification notification = Notification.builder()
-                    .id(UUID.randomUUID())
-                    .organization(elderly.getOrganization())
-                    .sender(sender)
-                    .receiver(caregiver.getUser())
-                    .message(message)
-                    .status(NotificationStatus.PENDENTE)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            notifications.add(notificationRepository.save(notification));
-        }
+        List<NotificationBatchRepository.Created> created = notificationRepository.fanOut(
+                elderly.getOrganization().getId(), senderId, message, receiverIds, notificationOutbox.channels());
+        notificationOutbox.signal();
+        publishCreated(created, senderId, message);
 
         auditService.recordEvent(
                 elderly.getOrganization().getId(),
@@ -277,10 +403,207 @@ public class NotificationServiceImpl implements NotificationService {
                 "NOTIFY_CAREGIVERS",
                 "Notificação",
                 elderly.getId(),
-                "Notificação enviada para os cuidadores do idoso: " + elderly.getName()
+                "Notificação enviada para " + created.size() + " cuidadores do idoso: " + elderly.getName()
         );
 
-        return notifications;
+        return created.size();
+    }
+
+    @Override
+    public int notifyOrganizationCaregivers(UUID senderId, UUID organizationId, String message) {
+        if (organizationId == null) {
+            throw new BusinessException("A organização é obrigatória para notificar os cuidadores");
+        }
+        validateFanOut(senderId, message);
+
+        // Busca apenas os usuários dos cuidadores da organização
+        List<UUID> receiverIds = caregiverRepository.findUserIdsByOrganizationId(organizationId);
+
+        if (receiverIds.isEmpty()) {
+            throw new BusinessException("Não existem cuidadores na organização");
+        }
+
+        List<NotificationBatchRepository.Created> created = notificationRepository.fanOut(
+                organizationId, senderId, message, receiverIds, notificationOutbox.channels());
+        notificationOutbox.signal();
+        publishCreated(created, senderId, message);
+
+        auditService.recordEvent(
+                organizationId,
+                securityUtils.getCurrentUserId(),
+                "NOTIFY_ORGANIZATION_CAREGIVERS",
+                "Organização",
+                organizationId,
+                "Notificação enviada para " + created.size() + " cuidadores da organização"
+        );
+
+        return created.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countUnread() {
+        // Lê apenas o contador mantido pelas escritas, nunca a tabela de notificações
+        return unreadCounterRepository.findUnreadCount(securityUtils.getCurrentUserId()).orElse(0L);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter openStream(String lastEventId) {
+        // Sem transação nem consulta na thread da requisição, que fica aberta com o stream; o
+        // reenvio das notificações perdidas roda na thread do próprio stream
+        return notificationStreamHub.subscribe(securityUtils.getCurrentUserIdFromToken(), lastEventId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NotificationDigest> findDigests(int limit) {
+        if (limit < 1 || limit > MAX_DIGESTS) {
+            throw new BusinessException("É possível listar de 1 a " + MAX_DIGESTS + " resumos por vez");
+        }
+        return digestRepository.findByReceiverIdOrderByPeriodStartDesc(securityUtils.getCurrentUserId(),
+                PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int markDigestAsRead(UUID digestId) {
+        User receiver = currentUser();
+        NotificationDigest digest = digestRepository.findById(digestId)
+                .filter(d -> d.getReceiverId().equals(receiver.getId()))
+                .orElseThrow(() -> new BusinessException("Resumo não encontrado com o id: " + digestId));
+
+        List<UUID> updated = digestRepository.markRead(receiver.getId(), digest.getId());
+        if (!updated.isEmpty()) {
+            notificationStreamHub.notificationsRead(receiver.getId(), updated);
+        }
+
+        auditService.recordEvent(
+                receiver.getOrganization().getId(),
+                receiver.getId(),
+                "READ_NOTIFICATION_DIGEST",
+                "Resumo de notificações",
+                digest.getId(),
+                updated.size() + " notificações marcadas como lidas pelo resumo"
+        );
+
+        return updated.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationDigestPreference findDigestPreference() {
+        return digestPreferenceRepository.findById(securityUtils.getCurrentUserId()).orElse(null);
+    }
+
+    @Override
+    public NotificationDigestPreference updateDigestPreference(DigestPeriod period) {
+        if (period == null) {
+            throw new BusinessException("O período do resumo é obrigatório");
+        }
+        User user = currentUser();
+        NotificationDigestPreference preference = digestPreferenceRepository.findById(user.getId())
+                .orElseGet(() -> NotificationDigestPreference.builder().userId(user.getId()).build());
+        preference.setPeriod(period);
+        NotificationDigestPreference saved = digestPreferenceRepository.save(preference);
+
+        auditService.recordEvent(
+                user.getOrganization().getId(),
+                user.getId(),
+                "UPDATE_NOTIFICATION_DIGEST",
+                "Usuário",
+                user.getId(),
+                "Resumo de notificações definido como " + period
+        );
+
+        return saved;
+    }
+
+    @Override
+    public void disableDigest() {
+        User user = currentUser();
+        if (!digestPreferenceRepository.existsById(user.getId())) {
+            return;
+        }
+        digestPreferenceRepository.deleteById(user.getId());
+
+        auditService.recordEvent(
+                user.getOrganization().getId(),
+                user.getId(),
+                "DISABLE_NOTIFICATION_DIGEST",
+                "Usuário",
+                user.getId(),
+                "Resumo de notificações desativado"
+        );
+    }
+
+    private User currentUser() {
+        UUID userId = securityUtils.getCurrentUserId();
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException("Usuário não encontrado com o id: " + userId));
+    }
+
+    /**
+     * Soma a repetição à notificação indexada. Não há nova entrega nem alteração do contador de
+     * não lidas: a notificação já está pendente e já foi entregue.
+     *
+     * @return false se a notificação não pode mais ser incrementada e a mensagem deve criar outra
+     */
+    private boolean coalesce(NotificationCoalescer.Entry recent, UUID senderId, UUID receiverId,
+                             String message, LocalDateTime now) {
+        int occurrences = notificationRepository.coalesce(recent.notificationId(), recent.createdAt(),
+                receiverId, message, now);
+        if (occurrences == 0) {
+            notificationCoalescer.invalidate(senderId, receiverId, message, recent);
+            return false;
+        }
+        notificationStreamHub.notificationRepeated(receiverId, recent.notificationId(), occurrences, now);
+
+        auditService.recordEvent(
+                recent.organizationId(),
+                securityUtils.getCurrentUserId(),
+                "COALESCE_NOTIFICATION",
+                "Notificação",
+                recent.notificationId(),
+                "Notificação repetida agrupada (" + occurrences + " ocorrências)"
+        );
+        return true;
+    }
+
+    private Notification findByIdForUpdate(UUID id) {
+        return notificationRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new BusinessException("Notificação não encontrada com o id: " + id));
+    }
+
+    private void publishCreated(Notification notification) {
+        notificationStreamHub.notificationCreated(
+                notification.getReceiver().getId(),
+                notification.getId(),
+                notification.getSender() != null ? notification.getSender().getId() : null,
+                notification.getMessage(),
+                notification.getCreatedAt());
+    }
+
+    private void publishCreated(List<NotificationBatchRepository.Created> created, UUID senderId, String message) {
+        for (NotificationBatchRepository.Created notification : created) {
+            // Só interessa a quem está conectado nesta instância; evita registrar um evento por destinatário
+            if (notificationStreamHub.isConnected(notification.receiverId())) {
+                notificationStreamHub.notificationCreated(notification.receiverId(), notification.id(), senderId,
+                        message, notification.createdAt());
+            }
+        }
+    }
+
+    /**
+     * Validações comuns ao envio em massa; o remetente só precisa existir, não é carregado.
+     */
+    private void validateFanOut(UUID senderId, String message) {
+        if (senderId != null && !userRepository.existsById(senderId)) {
+            throw new BusinessException("Remetente não encontrado com o id: " + senderId);
+        }
+
+        if (message == null || message.isBlank()) {
+            throw new BusinessException("A mensagem da notificação não pode ser vazia");
+        }
     }
 
     private void validateNotificationData(Notification notification) {
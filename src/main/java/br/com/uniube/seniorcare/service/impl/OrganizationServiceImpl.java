@@ -1,10 +1,13 @@
 package br.com.uniube.seniorcare.service.impl;
 
+import br.com.uniube.seniorcare.domain.entity.NotificationRetentionPolicy;
 import br.com.uniube.seniorcare.domain.entity.Organization;
 import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import br.com.uniube.seniorcare.domain.repository.NotificationRetentionPolicyRepository;
 import br.com.uniube.seniorcare.domain.repository.OrganizationRepository;
 import br.com.uniube.seniorcare.service.AuditService;
 import br.com.uniube.seniorcare.service.OrganizationService;
+import br.com.uniube.seniorcare.service.notification.NotificationRetentionDefaults;
 import br.com.uniube.seniorcare.service.utils.SecurityUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,16 +23,24 @@ public class OrganizationServiceImpl implements OrganizationService {
     private final OrganizationRepository organizationRepository;
     private final AuditService auditService;
     private final SecurityUtils securityUtils;
+    private final NotificationRetentionPolicyRepository retentionPolicyRepository;
+    private final NotificationRetentionDefaults retentionDefaults;
 
     // Regex para aceitar de 3 a 100 caracteres alfanuméricos ou hífens para o domínio.
     private static final Pattern DOMAIN_REGEX = Pattern.compile("^[a-zA-Z0-9-]{3,100}$");
 
+    static final int MAX_RETENTION_DAYS = 3650;
+
     public OrganizationServiceImpl(OrganizationRepository organizationRepository,
                                    AuditService auditService,
-                                   SecurityUtils securityUtils) {
+                                   SecurityUtils securityUtils,
+                                   NotificationRetentionPolicyRepository retentionPolicyRepository,
+                                   NotificationRetentionDefaults retentionDefaults) {
         this.organizationRepository = organizationRepository;
         this.auditService = auditService;
         this.securityUtils = securityUtils;
+        this.retentionPolicyRepository = retentionPolicyRepository;
+        this.retentionDefaults = retentionDefaults;
     }
 
     @Override
@@ -129,4 +140,42 @@ public class OrganizationServiceImpl implements OrganizationService {
                 "Organização excluída com id: " + id
         );
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationRetentionPolicy findNotificationRetention(UUID organizationId) {
+        findById(organizationId);
+        return retentionPolicyRepository.findById(organizationId)
+                .orElseGet(() -> NotificationRetentionPolicy.builder()
+                        .organizationId(organizationId)
+                        .retentionDays(retentionDefaults.getRetentionDays())
+                        .archive(retentionDefaults.isArchive())
+                        .build());
+    }
+
+    @Override
+    public NotificationRetentionPolicy updateNotificationRetention(UUID organizationId, int retentionDays, boolean archive) {
+        findById(organizationId);
+        if (retentionDays < 1 || retentionDays > MAX_RETENTION_DAYS) {
+            throw new BusinessException("A retenção deve ser de 1 a " + MAX_RETENTION_DAYS + " dias");
+        }
+
+        NotificationRetentionPolicy policy = retentionPolicyRepository.findById(organizationId)
+                .orElseGet(() -> NotificationRetentionPolicy.builder().organizationId(organizationId).build());
+        policy.setRetentionDays(retentionDays);
+        policy.setArchive(archive);
+        NotificationRetentionPolicy saved = retentionPolicyRepository.save(policy);
+
+        auditService.recordEvent(
+                organizationId,
+                securityUtils.getCurrentUserId(),
+                "UPDATE_NOTIFICATION_RETENTION",
+                "Organização",
+                organizationId,
+                "Retenção de notificações definida em " + retentionDays + " dias"
+                        + (archive ? ", com arquivamento" : ", sem arquivamento")
+        );
+
+        return saved;
+    }
 }
\ No newline at end of file
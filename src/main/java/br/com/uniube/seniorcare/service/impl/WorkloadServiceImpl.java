@@ -0,0 +1,85 @@
+package br.com.uniube.seniorcare.service.impl;
+
+import br.com.uniube.seniorcare.domain.entity.CaregiverWorkloadDaily;
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import br.com.uniube.seniorcare.domain.repository.CaregiverWorkloadRepository;
+import br.com.uniube.seniorcare.domain.repository.OrganizationRepository;
+import br.com.uniube.seniorcare.service.WorkloadService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@Transactional(readOnly = true)
+public class WorkloadServiceImpl implements WorkloadService {
+
+    /**
+     * Período máximo de uma consulta, em dias.
+     */
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final CaregiverWorkloadRepository workloadRepository;
+    private final OrganizationRepository organizationRepository;
+
+    public WorkloadServiceImpl(CaregiverWorkloadRepository workloadRepository,
+                               OrganizationRepository organizationRepository) {
+        this.workloadRepository = workloadRepository;
+        this.organizationRepository = organizationRepository;
+    }
+
+    @Override
+    public List<WorkloadTotal> findDaily(UUID organizationId, UUID caregiverId, LocalDate from, LocalDate to) {
+        return load(organizationId, caregiverId, from, to).stream()
+                .map(daily -> new WorkloadTotal(daily.getCaregiverId(), daily.getDay(), daily.getStatus(),
+                        daily.getVisitCount(), daily.getTotalMinutes()))
+                .toList();
+    }
+
+    @Override
+    public List<WorkloadTotal> findWeekly(UUID organizationId, UUID caregiverId, LocalDate from, LocalDate to) {
+        Map<WeekKey, long[]> weeks = new LinkedHashMap<>();
+        for (CaregiverWorkloadDaily daily : load(organizationId, caregiverId, from, to)) {
+            LocalDate weekStart = daily.getDay().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            long[] total = weeks.computeIfAbsent(
+                    new WeekKey(weekStart, daily.getCaregiverId(), daily.getStatus()), k -> new long[2]);
+            total[0] += daily.getVisitCount();
+            total[1] += daily.getTotalMinutes();
+        }
+
+        List<WorkloadTotal> result = new ArrayList<>(weeks.size());
+        weeks.forEach((key, total) -> result.add(
+                new WorkloadTotal(key.caregiverId(), key.weekStart(), key.status(), (int) total[0], total[1])));
+        // Mesma ordem da consulta diária; o texto do UUID compara como o banco (sem sinal)
+        result.sort(Comparator.comparing(WorkloadTotal::periodStart)
+                .thenComparing(total -> total.caregiverId().toString())
+                .thenComparing(total -> total.status().name()));
+        return result;
+    }
+
+    private List<CaregiverWorkloadDaily> load(UUID organizationId, UUID caregiverId, LocalDate from, LocalDate to) {
+        if (organizationId == null || !organizationRepository.existsById(organizationId)) {
+            throw new BusinessException("Organização não encontrada com o id: " + organizationId);
+        }
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new BusinessException("Informe um período válido para a consulta");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException("O período da consulta não pode exceder " + MAX_RANGE_DAYS + " dias");
+        }
+        return workloadRepository.findDaily(organizationId, caregiverId, from, to);
+    }
+
+    private record WeekKey(LocalDate weekStart, UUID caregiverId, AppointmentStatus status) {
+    }
+}
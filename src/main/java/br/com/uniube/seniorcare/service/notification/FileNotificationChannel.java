@@ -0,0 +1,56 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Canal de entrega que grava cada mensagem como uma linha JSON em um arquivo diário.
+ *
+ * Útil em desenvolvimento e como base para integrações que consomem arquivos. Ativado com
+ * app.notifications.delivery.file.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.delivery.file.enabled", havingValue = "true")
+public class FileNotificationChannel implements NotificationChannel {
+
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Value("${app.notifications.delivery.file.directory:./storage/notifications}")
+    private String directory = "./storage/notifications";
+
+    public FileNotificationChannel(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void deliver(Message message) throws IOException {
+        String line = objectMapper.writeValueAsString(message) + System.lineSeparator();
+        Path dir = Paths.get(directory);
+        Path file = dir.resolve("notifications-" + LocalDate.now() + ".ndjson");
+
+        // Linhas de workers diferentes não podem se intercalar no arquivo
+        lock.lock();
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(file, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Canal de entrega que envia cada mensagem como JSON (POST) para um endpoint HTTP, por
+ * exemplo um serviço de e-mail, SMS ou push. O ID da entrega vai no cabeçalho
+ * Idempotency-Key para que o destino descarte reenvios. Respostas fora da faixa 2xx são
+ * tratadas como falha.
+ *
+ * Ativado com app.notifications.delivery.http.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.delivery.http.enabled", havingValue = "true")
+public class HttpNotificationChannel implements NotificationChannel {
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final URI url;
+    private final Duration timeout;
+
+    public HttpNotificationChannel(ObjectMapper objectMapper,
+                                   @Value("${app.notifications.delivery.http.url}") String url,
+                                   @Value("${app.notifications.delivery.http.timeout:PT10S}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.url = URI.create(url);
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public void deliver(Message message) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", message.deliveryId().toString())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(message)))
+                .build();
+
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Resposta HTTP " + response.statusCode() + " de " + url);
+        }
+    }
+}
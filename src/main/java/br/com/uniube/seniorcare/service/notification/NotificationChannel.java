@@ -0,0 +1,39 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Canal de entrega externa das notificações (e-mail, SMS, push, webhook...).
+ *
+ * Cada bean que implementa esta interface passa a receber as notificações criadas a partir
+ * da sua ativação: o nome do canal é gravado na fila de entrega junto com a notificação e os
+ * workers de {@link NotificationDeliveryWorker} chamam {@link #deliver} fora de qualquer
+ * transação. A entrega é "ao menos uma vez": uma mensagem pode ser reenviada se o worker
+ * parar depois de entregá-la e antes de registrar o resultado, por isso o ID da entrega deve
+ * ser usado como chave de idempotência quando o destino suportar.
+ */
+public interface NotificationChannel {
+
+    /**
+     * Identificador do canal gravado na fila de entrega; não deve mudar entre versões.
+     */
+    String name();
+
+    /**
+     * Entrega a mensagem. Qualquer exceção é tratada como falha temporária e a entrega é
+     * reagendada até o limite de tentativas.
+     *
+     * @param message mensagem a entregar
+     * @throws Exception em caso de falha na entrega
+     */
+    void deliver(Message message) throws Exception;
+
+    /**
+     * Dados de uma notificação a entregar.
+     */
+    record Message(UUID deliveryId, UUID notificationId, UUID organizationId, UUID receiverId,
+                   String receiverName, String receiverEmail, String text, LocalDateTime createdAt,
+                   int attempt) {
+    }
+}
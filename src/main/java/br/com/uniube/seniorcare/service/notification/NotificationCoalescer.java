@@ -0,0 +1,161 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Índice em memória das notificações recentes, usado para agrupar mensagens repetidas
+ * (mesmo remetente, destinatário e conteúdo) sem consultar o banco.
+ *
+ * O índice é dividido em baldes de tempo: cada balde cobre uma fração da janela de
+ * agrupamento e guarda as notificações criadas nesse intervalo. Os baldes ficam em um anel
+ * e o balde mais antigo é descartado inteiro quando o anel dá a volta, então a limpeza não
+ * percorre entradas. Cada balde aceita no máximo maxEntries / quantidade de baldes entradas;
+ * cheio, as notificações seguintes apenas não são agrupadas.
+ *
+ * O conteúdo entra na chave por um hash de 64 bits; o UPDATE que incrementa a notificação
+ * compara a mensagem completa, então uma colisão só resulta em uma nova notificação. O
+ * índice é local a cada instância: repetições enviadas por instâncias diferentes não são
+ * agrupadas.
+ */
+@Component
+public class NotificationCoalescer {
+
+    /**
+     * Quantidade de baldes que cobre a janela; há um balde a mais no anel para o intervalo em curso.
+     */
+    static final int BUCKETS_PER_WINDOW = 4;
+
+    @Value("${app.notifications.coalescing.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.notifications.coalescing.window:PT2M}")
+    private Duration window = Duration.ofMinutes(2);
+
+    @Value("${app.notifications.coalescing.max-entries:100000}")
+    private int maxEntries = 100_000;
+
+    private final AtomicReferenceArray<Bucket> ring = new AtomicReferenceArray<>(BUCKETS_PER_WINDOW + 1);
+
+    /**
+     * Procura uma notificação igual criada dentro da janela.
+     *
+     * @param senderId opcional - remetente
+     * @param receiverId destinatário
+     * @param message conteúdo da mensagem
+     * @param now instante do envio
+     * @return notificação a incrementar, ou null se a mensagem deve criar uma nova notificação
+     */
+    public Entry find(UUID senderId, UUID receiverId, String message, LocalDateTime now) {
+        if (!enabled) {
+            return null;
+        }
+        Key key = new Key(senderId, receiverId, hash(message));
+        long current = bucketOf(now);
+        LocalDateTime oldest = now.minus(window);
+        for (long epoch = current; epoch >= current - BUCKETS_PER_WINDOW; epoch--) {
+            Bucket bucket = ring.get(slot(epoch));
+            if (bucket == null || bucket.epoch != epoch) {
+                continue;
+            }
+            Entry entry = bucket.entries.get(key);
+            if (entry != null && !entry.createdAt().isBefore(oldest)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registra uma notificação criada; chamado após o commit, para que o índice só aponte
+     * para linhas visíveis às outras transações.
+     */
+    public void register(UUID senderId, UUID receiverId, String message, Entry entry) {
+        if (!enabled) {
+            return;
+        }
+        long epoch = bucketOf(entry.createdAt());
+        int slot = slot(epoch);
+        Bucket bucket = ring.get(slot);
+        while (bucket == null || bucket.epoch < epoch) {
+            Bucket fresh = new Bucket(epoch);
+            if (ring.compareAndSet(slot, bucket, fresh)) {
+                bucket = fresh;
+            } else {
+                bucket = ring.get(slot);
+            }
+        }
+        if (bucket.epoch != epoch) {
+            // Balde já reciclado por um intervalo mais recente
+            return;
+        }
+        if (bucket.size.incrementAndGet() > maxEntries / (BUCKETS_PER_WINDOW + 1)) {
+            bucket.size.decrementAndGet();
+            return;
+        }
+        if (bucket.entries.put(new Key(senderId, receiverId, hash(message)), entry) != null) {
+            bucket.size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Retira do índice uma notificação que não pode mais ser incrementada (lida, excluída ou
+     * com outro conteúdo), para que a próxima repetição crie e registre uma nova.
+     */
+    public void invalidate(UUID senderId, UUID receiverId, String message, Entry entry) {
+        Key key = new Key(senderId, receiverId, hash(message));
+        Bucket bucket = ring.get(slot(bucketOf(entry.createdAt())));
+        if (bucket != null && bucket.entries.remove(key, entry)) {
+            bucket.size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Notificação indexada: o ID e a data de criação localizam a linha (e a partição) no UPDATE.
+     */
+    public record Entry(UUID notificationId, LocalDateTime createdAt, UUID organizationId) {
+    }
+
+    /**
+     * Hash FNV-1a de 64 bits do conteúdo.
+     */
+    static long hash(String message) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < message.length(); i++) {
+            hash ^= message.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private long bucketOf(LocalDateTime dateTime) {
+        long bucketMillis = Math.max(1, window.toMillis() / BUCKETS_PER_WINDOW);
+        return Math.floorDiv(dateTime.toInstant(ZoneOffset.UTC).toEpochMilli(), bucketMillis);
+    }
+
+    private static int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) BUCKETS_PER_WINDOW + 1);
+    }
+
+    private record Key(UUID senderId, UUID receiverId, long contentHash) {
+    }
+
+    private static final class Bucket {
+        final long epoch;
+        final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+        final AtomicInteger size = new AtomicInteger();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.repository.NotificationDeliveryBatchRepository.ClaimedDelivery;
+import br.com.uniube.seniorcare.domain.repository.NotificationDeliveryBatchRepository.Failure;
+import br.com.uniube.seniorcare.domain.repository.NotificationDeliveryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Workers que consomem a fila de entrega das notificações (notification_deliveries).
+ *
+ * Cada worker roda em uma virtual thread e repete o ciclo:
+ * 1. Reserva um lote de entregas disponíveis em uma transação curta (FOR UPDATE SKIP LOCKED)
+ * 2. Entrega cada mensagem em sua própria virtual thread, fora de transação
+ * 3. Registra os resultados em uma segunda transação curta
+ *
+ * Falhas são reagendadas com espera exponencial (com variação aleatória) até o limite de
+ * tentativas; depois disso, ou se a notificação tiver sido excluída, a entrega é marcada como
+ * FALHOU. Sem trabalho, o worker dorme até o intervalo de consulta ou até ser acordado por
+ * {@link #wakeUp()} após o commit de novas notificações. Como a reserva é feita no banco,
+ * várias instâncias da aplicação podem consumir a mesma fila.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notifications.delivery.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationDeliveryWorker implements SmartLifecycle {
+
+    private final NotificationDeliveryRepository deliveryRepository;
+    private final Map<String, NotificationChannel> channels;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private boolean signalled;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    @Value("${app.notifications.delivery.workers:2}")
+    private int workers = 2;
+
+    @Value("${app.notifications.delivery.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${app.notifications.delivery.poll-interval:PT1S}")
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    @Value("${app.notifications.delivery.lease:PT5M}")
+    private Duration lease = Duration.ofMinutes(5);
+
+    @Value("${app.notifications.delivery.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${app.notifications.delivery.initial-backoff:PT10S}")
+    private Duration initialBackoff = Duration.ofSeconds(10);
+
+    @Value("${app.notifications.delivery.max-backoff:PT1H}")
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    public NotificationDeliveryWorker(NotificationDeliveryRepository deliveryRepository,
+                                      List<NotificationChannel> channels,
+                                      PlatformTransactionManager transactionManager) {
+        this.deliveryRepository = deliveryRepository;
+        this.channels = channels.stream()
+                .collect(Collectors.toMap(NotificationChannel::name, Function.identity(), (a, b) -> a));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void start() {
+        if (channels.isEmpty()) {
+            log.info("Nenhum canal de entrega de notificações ativo; workers não iniciados");
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            threads.add(Thread.ofVirtual().name("notification-delivery-" + i).start(this::loop));
+        }
+        log.info("{} workers de entrega de notificações iniciados para os canais {}", workers, channels.keySet());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeUp();
+        for (Thread thread : threads) {
+            try {
+                thread.join(Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Acorda os workers ociosos para consultar a fila imediatamente.
+     */
+    public void wakeUp() {
+        lock.lock();
+        try {
+            signalled = true;
+            workAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Processa um lote da fila.
+     *
+     * @return quantidade de entregas reservadas no lote
+     */
+    int processBatch() {
+        List<ClaimedDelivery> batch = transactionTemplate.execute(status -> deliveryRepository.claim(batchSize, lease));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<Failure>> results;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            results = batch.stream().map(d -> executor.submit(() -> deliver(d))).toList();
+        }
+
+        List<UUID> delivered = new ArrayList<>();
+        List<Failure> failures = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Failure failure = results.get(i).resultNow();
+            if (failure == null) {
+                delivered.add(batch.get(i).id());
+            } else {
+                failures.add(failure);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            deliveryRepository.markDelivered(delivered);
+            deliveryRepository.markFailed(failures);
+        });
+
+        if (!failures.isEmpty()) {
+            log.warn("Entrega de notificações: {} enviadas, {} com falha", delivered.size(), failures.size());
+        }
+        return batch.size();
+    }
+
+    /**
+     * Espera antes da próxima tentativa: dobra a cada tentativa até o máximo configurado,
+     * com variação aleatória na metade superior para espalhar reenvios simultâneos.
+     */
+    Duration backoff(int attempt) {
+        long initial = initialBackoff.toMillis();
+        long capped = Math.min(maxBackoff.toMillis(), initial << Math.min(Math.max(attempt - 1, 0), 30));
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private void loop() {
+        while (running) {
+            int processed;
+            try {
+                processed = processBatch();
+            } catch (RuntimeException e) {
+                log.error("Falha ao processar a fila de entrega de notificações", e);
+                processed = 0;
+            }
+            if (processed < batchSize) {
+                try {
+                    awaitWork();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void awaitWork() throws InterruptedException {
+        lock.lock();
+        try {
+            if (!signalled && running) {
+                workAvailable.await(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            signalled = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Entrega uma mensagem.
+     *
+     * @return null em caso de sucesso ou a falha a registrar
+     */
+    private Failure deliver(ClaimedDelivery delivery) {
+        if (delivery.isOrphan()) {
+            return new Failure(delivery.id(), "Notificação excluída antes da entrega", null);
+        }
+        NotificationChannel channel = channels.get(delivery.channel());
+        if (channel == null) {
+            // Outra instância (ou esta, após reconfiguração) pode ter o canal ativo
+            return retry(delivery, "Canal de entrega não disponível: " + delivery.channel());
+        }
+        try {
+            channel.deliver(new NotificationChannel.Message(
+                    delivery.id(),
+                    delivery.notificationId(),
+                    delivery.organizationId(),
+                    delivery.receiverId(),
+                    delivery.receiverName(),
+                    delivery.receiverEmail(),
+                    delivery.message(),
+                    delivery.createdAt(),
+                    delivery.attempt()));
+            return null;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.debug("Falha na entrega {} pelo canal {}", delivery.id(), delivery.channel(), e);
+            return retry(delivery, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private Failure retry(ClaimedDelivery delivery, String error) {
+        if (delivery.attempt() >= maxAttempts) {
+            return new Failure(delivery.id(), error, null);
+        }
+        return new Failure(delivery.id(), error, backoff(delivery.attempt()));
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.repository.NotificationDigestBatchRepository.DigestBatch;
+import br.com.uniube.seniorcare.domain.repository.NotificationDigestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Rotina em segundo plano que cria os resumos periódicos de notificações.
+ *
+ * A cada execução, um único comando agrega as notificações pendentes e ainda sem resumo dos
+ * períodos encerrados (hora ou dia) de todos os usuários com preferência de resumo, grava um
+ * resumo por usuário e período, vincula as notificações agregadas e enfileira a entrega dos
+ * resumos. Períodos perdidos enquanto a aplicação estava parada entram na execução seguinte.
+ * Notificações já resumidas são ignoradas e as execuções são serializadas entre instâncias,
+ * então execuções repetidas ou concorrentes não duplicam resumos; notificações que chegam
+ * depois de o período ter sido resumido formam um resumo complementar. Apenas as
+ * notificações criadas após a adesão do usuário são resumidas.
+ *
+ * O período só é considerado encerrado após a tolerância configurada, para incluir as
+ * notificações gravadas com o relógio da aplicação ligeiramente atrasado em relação ao banco.
+ *
+ * Métricas publicadas (Micrometer):
+ * - notifications.digest.run: duração de cada execução
+ * - notifications.digest.created: resumos criados
+ * - notifications.digest.notifications: notificações agrupadas em resumos
+ * - notifications.digest.occurrences: mensagens representadas, somando as repetições agrupadas
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notifications.digest.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationDigestJob {
+
+    private final NotificationDigestRepository digestRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer runTimer;
+    private final Counter digestsCounter;
+    private final Counter notificationsCounter;
+    private final Counter occurrencesCounter;
+
+    @Value("${app.notifications.digest.grace:PT1M}")
+    private Duration grace = Duration.ofMinutes(1);
+
+    public NotificationDigestJob(NotificationDigestRepository digestRepository,
+                                 NotificationOutbox notificationOutbox,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.digestRepository = digestRepository;
+        this.notificationOutbox = notificationOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.runTimer = Timer.builder("notifications.digest.run")
+                .description("Duração da criação dos resumos de notificações")
+                .register(meterRegistry);
+        this.digestsCounter = Counter.builder("notifications.digest.created")
+                .description("Resumos de notificações criados")
+                .register(meterRegistry);
+        this.notificationsCounter = Counter.builder("notifications.digest.notifications")
+                .description("Notificações agrupadas em resumos")
+                .register(meterRegistry);
+        this.occurrencesCounter = Counter.builder("notifications.digest.occurrences")
+                .description("Mensagens representadas nos resumos, somando as repetições agrupadas")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.digest.interval:PT5M}",
+            initialDelayString = "${app.notifications.digest.initial-delay:PT1M}")
+    public void scheduledRun() {
+        try {
+            run(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Falha na criação dos resumos de notificações", e);
+        }
+    }
+
+    /**
+     * Cria os resumos dos períodos encerrados até o instante informado.
+     *
+     * @param now instante de referência
+     * @return totais dos resumos criados
+     */
+    public DigestBatch run(LocalDateTime now) {
+        long start = System.nanoTime();
+        DigestBatch batch = transactionTemplate.execute(status -> {
+            DigestBatch created = digestRepository.createDigests(now.minus(grace), notificationOutbox.channels());
+            if (created.digests() > 0) {
+                notificationOutbox.signal();
+            }
+            return created;
+        });
+        long elapsed = System.nanoTime() - start;
+        runTimer.record(Duration.ofNanos(elapsed));
+
+        if (batch == null || batch.digests() == 0) {
+            log.debug("Resumos de notificações: nenhum período a resumir");
+            return batch;
+        }
+        digestsCounter.increment(batch.digests());
+        notificationsCounter.increment(batch.notifications());
+        occurrencesCounter.increment(batch.occurrences());
+        log.info("Resumos de notificações: {} resumos com {} notificações em {} ms ({} notificações/s)",
+                batch.digests(), batch.notifications(), elapsed / 1_000_000,
+                Math.round(batch.notifications() * 1e9 / Math.max(elapsed, 1)));
+        return batch;
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.repository.NotificationDeliveryRepository;
+import br.com.uniube.seniorcare.service.utils.AfterCommit;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Porta de entrada da fila de entrega das notificações (transactional outbox).
+ *
+ * As entregas são gravadas na transação de quem cria a notificação: se ela sofrer rollback,
+ * nada é entregue; se for confirmada, as entregas ficam registradas mesmo que a aplicação
+ * pare antes de enviá-las. Após o commit, os workers de entrega são acordados para não
+ * esperar o próximo ciclo de consulta.
+ */
+@Component
+public class NotificationOutbox {
+
+    private final NotificationDeliveryRepository deliveryRepository;
+    private final ObjectProvider<NotificationDeliveryWorker> deliveryWorker;
+    private final List<String> channels;
+
+    public NotificationOutbox(NotificationDeliveryRepository deliveryRepository,
+                              List<NotificationChannel> channels,
+                              ObjectProvider<NotificationDeliveryWorker> deliveryWorker) {
+        this.deliveryRepository = deliveryRepository;
+        this.deliveryWorker = deliveryWorker;
+        this.channels = channels.stream().map(NotificationChannel::name).distinct().toList();
+    }
+
+    /**
+     * Nomes dos canais ativos; cada notificação criada gera uma entrega por canal.
+     */
+    public List<String> channels() {
+        return channels;
+    }
+
+    /**
+     * Coloca as notificações na fila de entrega de todos os canais ativos. Destinatários que
+     * recebem resumos periódicos não têm entregas individuais.
+     *
+     * @param receiverId destinatário das notificações
+     * @param notificationIds notificações recém-criadas na transação corrente
+     * @param createdAt momento de criação das notificações
+     */
+    public void enqueue(UUID receiverId, Collection<UUID> notificationIds, LocalDateTime createdAt) {
+        if (channels.isEmpty() || notificationIds.isEmpty()) {
+            return;
+        }
+        if (deliveryRepository.enqueue(receiverId, notificationIds, createdAt, channels) > 0) {
+            signal();
+        }
+    }
+
+    /**
+     * Acorda os workers após o commit da transação corrente. Usado por quem grava as
+     * entregas diretamente, como o envio em massa.
+     */
+    public void signal() {
+        if (channels.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> deliveryWorker.ifAvailable(NotificationDeliveryWorker::wakeUp));
+    }
+}
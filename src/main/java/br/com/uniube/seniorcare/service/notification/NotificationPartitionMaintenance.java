@@ -0,0 +1,286 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.repository.NotificationRetentionPolicyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rotina em segundo plano que mantém as partições mensais da tabela notifications.
+ *
+ * A cada execução:
+ * 1. Cria as partições do mês corrente e dos próximos meses que ainda não existem, movendo
+ *    para elas as linhas que tenham caído na partição padrão
+ * 2. Remove as partições cujo mês inteiro já venceu para todas as organizações (a maior
+ *    retenção configurada), arquivando antes as linhas das organizações com arquivamento
+ * 3. Remove, em lotes, as notificações vencidas pela retenção da própria organização que
+ *    ainda estão em partições mantidas
+ *
+ * Remover uma partição é uma operação de metadados; a remoção linha a linha só alcança as
+ * organizações com retenção menor que a maior configurada. Os contadores de não lidas são
+ * descontados na mesma transação de cada remoção. Cada passo roda em sua própria transação,
+ * serializada entre instâncias por um advisory lock.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notifications.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationPartitionMaintenance {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("notifications_p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    /**
+     * Chave do advisory lock que serializa a manutenção entre instâncias.
+     */
+    private static final long LOCK_KEY = 0x6e6f746966L;
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'notifications'::regclass
+            """;
+
+    private static final String ARCHIVE_PARTITION_SQL = """
+            INSERT INTO notifications_archive (id, organization_id, sender_id, receiver_id, message, status, created_at,
+                                               occurrences, last_occurred_at)
+            SELECT n.id, n.organization_id, n.sender_id, n.receiver_id, n.message, n.status, n.created_at,
+                   n.occurrences, n.last_occurred_at
+            FROM %s n
+            LEFT JOIN notification_retention_policies p ON p.organization_id = n.organization_id
+            WHERE COALESCE(p.archive, ?)
+            """;
+
+    private static final String UNCOUNT_PARTITION_SQL = """
+            UPDATE notification_unread_counters c
+            SET unread_count = GREATEST(c.unread_count - x.unread, 0)
+            FROM (SELECT receiver_id, count(*) AS unread
+                  FROM %s
+                  WHERE status = 'PENDENTE'
+                  GROUP BY receiver_id) x
+            WHERE c.receiver_id = x.receiver_id
+            """;
+
+    /**
+     * O primeiro limite (menor retenção configurada) é constante no comando e permite
+     * descartar as partições recentes; o segundo aplica a retenção de cada organização.
+     */
+    private static final String PURGE_BATCH_SQL = """
+            WITH expired AS (
+                SELECT n.id, n.created_at
+                FROM notifications n
+                LEFT JOIN notification_retention_policies p ON p.organization_id = n.organization_id
+                WHERE n.created_at < ?
+                  AND n.created_at < CAST(? AS timestamp) - make_interval(days => COALESCE(p.retention_days, ?))
+                LIMIT ?
+            ), removed AS (
+                DELETE FROM notifications n
+                USING expired e
+                WHERE n.id = e.id AND n.created_at = e.created_at
+                RETURNING n.id, n.organization_id, n.sender_id, n.receiver_id, n.message, n.status, n.created_at,
+                          n.occurrences, n.last_occurred_at
+            ), archived AS (
+                INSERT INTO notifications_archive (id, organization_id, sender_id, receiver_id, message, status, created_at,
+                                                   occurrences, last_occurred_at)
+                SELECT r.id, r.organization_id, r.sender_id, r.receiver_id, r.message, r.status, r.created_at,
+                       r.occurrences, r.last_occurred_at
+                FROM removed r
+                LEFT JOIN notification_retention_policies p ON p.organization_id = r.organization_id
+                WHERE COALESCE(p.archive, ?)
+            ), counted AS (
+                UPDATE notification_unread_counters c
+                SET unread_count = GREATEST(c.unread_count - x.unread, 0)
+                FROM (SELECT receiver_id, count(*) AS unread
+                      FROM removed
+                      WHERE status = 'PENDENTE'
+                      GROUP BY receiver_id) x
+                WHERE c.receiver_id = x.receiver_id
+            )
+            SELECT count(*) FROM removed
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationRetentionPolicyRepository retentionPolicyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationRetentionDefaults retentionDefaults;
+
+    @Value("${app.notifications.retention.premake-months:3}")
+    private int premakeMonths = 3;
+
+    @Value("${app.notifications.retention.purge-batch-size:5000}")
+    private int purgeBatchSize = 5000;
+
+    @Value("${app.notifications.retention.max-purge-batches:100}")
+    private int maxPurgeBatches = 100;
+
+    public NotificationPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                            NotificationRetentionPolicyRepository retentionPolicyRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            NotificationRetentionDefaults retentionDefaults) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionPolicyRepository = retentionPolicyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDefaults = retentionDefaults;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.retention.interval:PT6H}",
+            initialDelayString = "${app.notifications.retention.initial-delay:PT1M}")
+    public void scheduledRun() {
+        try {
+            run(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Falha na manutenção das partições de notificações", e);
+        }
+    }
+
+    /**
+     * Executa uma rodada completa de manutenção.
+     *
+     * @param now instante de referência
+     * @return totais da rodada
+     */
+    public RunSummary run(LocalDateTime now) {
+        int defaultRetentionDays = retentionDefaults.getRetentionDays();
+        int maxRetention = Math.max(defaultRetentionDays,
+                retentionPolicyRepository.findMaxRetentionDays().orElse(defaultRetentionDays));
+        int minRetention = Math.min(defaultRetentionDays,
+                retentionPolicyRepository.findMinRetentionDays().orElse(defaultRetentionDays));
+
+        int created = createFuturePartitions(YearMonth.from(now));
+        int dropped = dropExpiredPartitions(now.toLocalDate().minusDays(maxRetention));
+        long purged = purgeExpiredRows(now, minRetention);
+
+        RunSummary summary = new RunSummary(created, dropped, purged);
+        if (created > 0 || dropped > 0 || purged > 0) {
+            log.info("Manutenção de notificações: {} partições criadas, {} removidas, {} notificações vencidas removidas",
+                    created, dropped, purged);
+        }
+        return summary;
+    }
+
+    /**
+     * Totais de uma rodada.
+     */
+    public record RunSummary(int partitionsCreated, int partitionsDropped, long rowsPurged) {
+    }
+
+    /**
+     * Nome da partição de um mês.
+     */
+    static String partitionName(YearMonth month) {
+        return "notifications_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * Mês de uma partição mensal, ou null para outras partições (como a padrão).
+     */
+    static YearMonth partitionMonth(String name) {
+        Matcher matcher = PARTITION_NAME.matcher(name);
+        return matcher.matches() ? YearMonth.parse(matcher.group(1), PARTITION_SUFFIX) : null;
+    }
+
+    private int createFuturePartitions(YearMonth current) {
+        int created = 0;
+        for (int i = 0; i <= premakeMonths; i++) {
+            YearMonth month = current.plusMonths(i);
+            Boolean done = transactionTemplate.execute(status -> createPartition(month));
+            if (Boolean.TRUE.equals(done)) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Cria a partição fora da tabela, move as linhas do mês que estejam na partição padrão e
+     * só então a anexa; anexar exige SHARE UPDATE EXCLUSIVE na tabela, sem bloquear escritas.
+     */
+    private boolean createPartition(YearMonth month) {
+        lock();
+        String name = partitionName(month);
+        if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name)) {
+            return false;
+        }
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE notifications INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM notifications_default "
+                + "WHERE created_at >= ? AND created_at < ? RETURNING *) "
+                + "INSERT INTO " + name + " SELECT * FROM moved", from.atStartOfDay(), to.atStartOfDay());
+        jdbcTemplate.execute("ALTER TABLE notifications ATTACH PARTITION " + name
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+
+        if (moved > 0) {
+            log.info("Partição {} criada com {} notificações movidas da partição padrão", name, moved);
+        }
+        return true;
+    }
+
+    private int dropExpiredPartitions(LocalDate cutoff) {
+        List<String> expired = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class).stream()
+                .map(name -> {
+                    YearMonth month = partitionMonth(name);
+                    // A partição vence quando o último instante do mês fica antes do corte
+                    return month != null && !month.plusMonths(1).atDay(1).isAfter(cutoff) ? name : null;
+                })
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+
+        for (String name : expired) {
+            transactionTemplate.executeWithoutResult(status -> dropPartition(name));
+        }
+        return expired.size();
+    }
+
+    private void dropPartition(String name) {
+        lock();
+        if (!jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name)) {
+            return;
+        }
+        int archived = jdbcTemplate.update(ARCHIVE_PARTITION_SQL.formatted(name), retentionDefaults.isArchive());
+        jdbcTemplate.update(UNCOUNT_PARTITION_SQL.formatted(name));
+        jdbcTemplate.execute("ALTER TABLE notifications DETACH PARTITION " + name);
+        jdbcTemplate.execute("DROP TABLE " + name);
+        log.info("Partição {} vencida removida ({} notificações arquivadas)", name, archived);
+    }
+
+    private long purgeExpiredRows(LocalDateTime now, int minRetention) {
+        Timestamp earliestCutoff = Timestamp.valueOf(now.minusDays(minRetention));
+        Timestamp reference = Timestamp.valueOf(now);
+        long total = 0;
+        for (int i = 0; i < maxPurgeBatches; i++) {
+            Integer removed = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(PURGE_BATCH_SQL,
+                    Integer.class, earliestCutoff, reference, retentionDefaults.getRetentionDays(), purgeBatchSize,
+                    retentionDefaults.isArchive()));
+            if (removed == null || removed == 0) {
+                break;
+            }
+            total += removed;
+            if (removed < purgeBatchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private void lock() {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, LOCK_KEY);
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Retenção aplicada às organizações sem política própria de notificações.
+ *
+ * Compartilhada entre a criação da política padrão de uma organização e a manutenção das
+ * partições, para que as duas nunca divirjam.
+ */
+@Component
+public class NotificationRetentionDefaults {
+
+    @Value("${app.notifications.retention.default-days:365}")
+    private int retentionDays = 365;
+
+    @Value("${app.notifications.retention.archive-by-default:false}")
+    private boolean archive = false;
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public boolean isArchive() {
+        return archive;
+    }
+}
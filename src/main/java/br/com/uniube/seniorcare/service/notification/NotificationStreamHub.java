@@ -0,0 +1,348 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import br.com.uniube.seniorcare.domain.repository.NotificationRepository;
+import br.com.uniube.seniorcare.service.utils.AfterCommit;
+import br.com.uniube.seniorcare.service.utils.KeysetCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Distribui, por Server-Sent Events, as notificações dos usuários conectados.
+ *
+ * Cada conexão tem uma fila limitada e uma virtual thread que a esvazia, enviando um
+ * comentário de heartbeat quando fica ociosa; conexões paradas custam apenas a thread
+ * estacionada, o que permite manter dezenas de milhares abertas. A publicação só coloca o
+ * evento nas filas das conexões do destinatário e acontece após o commit da transação que
+ * criou a notificação, então quem publica nunca espera um cliente lento.
+ *
+ * O ID de cada evento "notification" é um {@link KeysetCursor} (data de criação, ID). Ao
+ * reconectar, o cliente envia o último ID recebido em Last-Event-ID e as notificações não
+ * lidas posteriores são reenviadas antes dos eventos ao vivo. Se a fila de uma conexão
+ * encher, a conexão é encerrada e o cliente se recupera pela reconexão. Se houver mais
+ * notificações pendentes do que o limite de reenvio, é enviado um evento "resync" para o
+ * cliente recarregar a lista pela API.
+ *
+ * Os eventos são distribuídos somente às conexões desta instância.
+ */
+@Slf4j
+@Component
+public class NotificationStreamHub {
+
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String REPEATED_EVENT = "repeated";
+    static final String READ_EVENT = "read";
+    static final String READ_MANY_EVENT = "read-many";
+    static final String READ_ALL_EVENT = "read-all";
+    static final String DELETED_EVENT = "deleted";
+    static final String RESYNC_EVENT = "resync";
+
+    private final NotificationRepository notificationRepository;
+    private final Map<UUID, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Value("${app.notifications.stream.timeout:PT30M}")
+    private Duration timeout = Duration.ofMinutes(30);
+
+    @Value("${app.notifications.stream.heartbeat:PT25S}")
+    private Duration heartbeat = Duration.ofSeconds(25);
+
+    @Value("${app.notifications.stream.queue-capacity:256}")
+    private int queueCapacity = 256;
+
+    @Value("${app.notifications.stream.replay-limit:100}")
+    private int replayLimit = 100;
+
+    @Value("${app.notifications.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser = 5;
+
+    public NotificationStreamHub(NotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+    }
+
+    /**
+     * Abre uma conexão para o usuário.
+     *
+     * @param userId usuário autenticado
+     * @param lastEventId opcional - último ID de evento recebido pelo cliente
+     * @return emitter a ser devolvido pelo controller
+     */
+    public SseEmitter subscribe(UUID userId, String lastEventId) {
+        KeysetCursor resumeFrom;
+        try {
+            resumeFrom = KeysetCursor.decode(lastEventId);
+        } catch (BusinessException e) {
+            // ID de outra versão do stream: segue apenas com os eventos ao vivo
+            resumeFrom = null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(userId, emitter, sequence.incrementAndGet(),
+                new ArrayBlockingQueue<>(queueCapacity));
+
+        // A inclusão acontece dentro do compute para não competir com a remoção do conjunto vazio
+        Set<Subscription> userSubscriptions = subscriptions.compute(userId, (id, set) -> {
+            Set<Subscription> target = set != null ? set : new CopyOnWriteArraySet<>();
+            target.add(subscription);
+            return target;
+        });
+        evictOldest(userSubscriptions);
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        KeysetCursor replayFrom = resumeFrom;
+        subscription.thread = Thread.ofVirtual()
+                .name("notification-stream-" + userId)
+                .start(() -> pump(subscription, replayFrom));
+        return emitter;
+    }
+
+    /**
+     * Publica uma notificação criada para o destinatário, após o commit da transação corrente.
+     */
+    public void notificationCreated(UUID receiverId, UUID notificationId, UUID senderId, String message,
+                                    LocalDateTime createdAt) {
+        Event event = new Event(NOTIFICATION_EVENT, new KeysetCursor(createdAt, notificationId),
+                new NotificationEvent(notificationId, senderId, message, createdAt));
+        AfterCommit.run(() -> publish(receiverId, event));
+    }
+
+    /**
+     * Publica que uma notificação pendente recebeu mais uma ocorrência agrupada, após o commit
+     * da transação corrente.
+     */
+    public void notificationRepeated(UUID receiverId, UUID notificationId, int occurrences, LocalDateTime occurredAt) {
+        Event event = new Event(REPEATED_EVENT, null, new RepeatedEvent(notificationId, occurrences, occurredAt));
+        AfterCommit.run(() -> publish(receiverId, event));
+    }
+
+    /**
+     * Publica que uma notificação foi lida, após o commit da transação corrente, para que
+     * as outras conexões do usuário a retirem da lista.
+     */
+    public void notificationRead(UUID receiverId, UUID notificationId) {
+        Event event = new Event(READ_EVENT, null, new ReadEvent(notificationId));
+        AfterCommit.run(() -> publish(receiverId, event));
+    }
+
+    /**
+     * Publica, em um único evento, que várias notificações foram lidas.
+     */
+    public void notificationsRead(UUID receiverId, List<UUID> notificationIds) {
+        Event event = new Event(READ_MANY_EVENT, null, new ReadManyEvent(notificationIds));
+        AfterCommit.run(() -> publish(receiverId, event));
+    }
+
+    /**
+     * Publica que todas as notificações até a posição informada (inclusive) foram lidas.
+     *
+     * @param upTo opcional - posição da notificação mais recente lida; null indica todas
+     */
+    public void allRead(UUID receiverId, KeysetCursor upTo) {
+        Event event = new Event(READ_ALL_EVENT, null, upTo != null
+                ? new ReadAllEvent(upTo.timestamp(), upTo.id())
+                : new ReadAllEvent(null, null));
+        AfterCommit.run(() -> publish(receiverId, event));
+    }
+
+    /**
+     * Publica que uma notificação foi excluída, após o commit da transação corrente.
+     */
+    public void notificationDeleted(UUID receiverId, UUID notificationId) {
+        Event event = new Event(DELETED_EVENT, null, new ReadEvent(notificationId));
+        AfterCommit.run(() -> publish(receiverId, event));
+    }
+
+    /**
+     * Verifica se o usuário tem alguma conexão aberta nesta instância.
+     */
+    public boolean isConnected(UUID userId) {
+        return subscriptions.containsKey(userId);
+    }
+
+    /**
+     * Quantidade de conexões abertas nesta instância.
+     */
+    public int connections() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Conteúdo do evento "notification".
+     */
+    public record NotificationEvent(UUID id, UUID senderId, String message, LocalDateTime createdAt) {
+    }
+
+    /**
+     * Conteúdo do evento "repeated".
+     */
+    public record RepeatedEvent(UUID id, int occurrences, LocalDateTime lastOccurredAt) {
+    }
+
+    /**
+     * Conteúdo dos eventos "read" e "deleted".
+     */
+    public record ReadEvent(UUID id) {
+    }
+
+    /**
+     * Conteúdo do evento "read-many".
+     */
+    public record ReadManyEvent(List<UUID> ids) {
+    }
+
+    /**
+     * Conteúdo do evento "read-all"; campos nulos indicam todas as notificações.
+     */
+    public record ReadAllEvent(LocalDateTime upToCreatedAt, UUID upToId) {
+    }
+
+    private void publish(UUID receiverId, Event event) {
+        Set<Subscription> userSubscriptions = subscriptions.get(receiverId);
+        if (userSubscriptions == null) {
+            return;
+        }
+        for (Subscription subscription : userSubscriptions) {
+            if (!subscription.queue.offer(event)) {
+                log.debug("Fila do stream de notificações cheia para o usuário {}; conexão encerrada", receiverId);
+                subscription.emitter.complete();
+                subscription.close();
+            }
+        }
+    }
+
+    /**
+     * Laço da virtual thread de uma conexão: reenvia o que o cliente perdeu e depois repassa
+     * os eventos da fila, ou um heartbeat a cada intervalo ocioso.
+     */
+    private void pump(Subscription subscription, KeysetCursor resumeFrom) {
+        try {
+            KeysetCursor lastSent = resumeFrom != null ? replay(subscription, resumeFrom) : null;
+            while (!subscription.closed) {
+                Event event = subscription.queue.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                if (subscription.closed) {
+                    break;
+                }
+                if (event == null) {
+                    subscription.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else if (lastSent == null || event.cursor() == null || isAfter(event.cursor(), lastSent)) {
+                    // Eventos já entregues pelo reenvio são descartados
+                    send(subscription, event);
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Cliente desconectado ou emitter já concluído
+            subscription.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            remove(subscription);
+        }
+    }
+
+    private KeysetCursor replay(Subscription subscription, KeysetCursor resumeFrom) throws IOException {
+        List<NotificationRepository.UnreadEntry> missed = notificationRepository.findUnreadAfter(
+                subscription.userId, resumeFrom.timestamp(), resumeFrom.id(), PageRequest.of(0, replayLimit));
+        KeysetCursor lastSent = resumeFrom;
+        for (NotificationRepository.UnreadEntry entry : missed) {
+            lastSent = new KeysetCursor(entry.getCreatedAt(), entry.getId());
+            send(subscription, new Event(NOTIFICATION_EVENT, lastSent, new NotificationEvent(
+                    entry.getId(), entry.getSenderId(), entry.getMessage(), entry.getCreatedAt())));
+        }
+        if (missed.size() >= replayLimit) {
+            subscription.emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+        }
+        return lastSent;
+    }
+
+    private static void send(Subscription subscription, Event event) throws IOException {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(event.name())
+                .data(event.data(), MediaType.APPLICATION_JSON);
+        if (event.cursor() != null) {
+            builder.id(event.cursor().encode());
+        }
+        subscription.emitter.send(builder);
+    }
+
+    private static boolean isAfter(KeysetCursor cursor, KeysetCursor reference) {
+        int byTime = cursor.timestamp().compareTo(reference.timestamp());
+        return byTime > 0 || (byTime == 0 && cursor.id().compareTo(reference.id()) > 0);
+    }
+
+    /**
+     * Mantém no máximo maxConnectionsPerUser conexões por usuário, encerrando as mais antigas.
+     */
+    private void evictOldest(Set<Subscription> userSubscriptions) {
+        int excess = userSubscriptions.size() - maxConnectionsPerUser;
+        if (excess <= 0) {
+            return;
+        }
+        userSubscriptions.stream()
+                .sorted(Comparator.comparingLong(Subscription::order))
+                .limit(excess)
+                .forEach(s -> {
+                    s.emitter.complete();
+                    s.close();
+                });
+    }
+
+    private void remove(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.userId, (id, set) -> {
+            set.remove(subscription);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private record Event(String name, KeysetCursor cursor, Object data) {
+    }
+
+    private static final class Subscription {
+        final UUID userId;
+        final SseEmitter emitter;
+        final long order;
+        final BlockingQueue<Event> queue;
+        volatile Thread thread;
+        volatile boolean closed;
+
+        Subscription(UUID userId, SseEmitter emitter, long order, BlockingQueue<Event> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.order = order;
+            this.queue = queue;
+        }
+
+        long order() {
+            return order;
+        }
+
+        void close() {
+            closed = true;
+            Thread current = thread;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.repository.NotificationUnreadCounterRepository;
+import br.com.uniube.seniorcare.domain.repository.UnreadCounterBatchRepository.ReconcileBatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Rotina em segundo plano que corrige divergências dos contadores de não lidas.
+ *
+ * Os contadores são mantidos de forma incremental pelas escritas de notificações; falhas
+ * parciais, alterações feitas direto no banco ou corridas entre leitura e exclusão podem
+ * deixá-los diferentes da contagem real. A rotina percorre os usuários em ordem de ID, em
+ * lotes, cada lote em sua própria transação, recontando as não lidas pelo índice parcial e
+ * regravando apenas os contadores divergentes.
+ *
+ * Uma notificação confirmada durante o recálculo de um lote pode ser sobrescrita pela
+ * contagem anterior; a diferença é corrigida na execução seguinte.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.notifications.unread-counter.reconcile.enabled", havingValue = "true",
+        matchIfMissing = true)
+public class UnreadCounterReconciler {
+
+    private final NotificationUnreadCounterRepository unreadCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.notifications.unread-counter.reconcile.batch-size:1000}")
+    private int batchSize = 1000;
+
+    public UnreadCounterReconciler(NotificationUnreadCounterRepository unreadCounterRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.unreadCounterRepository = unreadCounterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.unread-counter.reconcile.interval:PT1H}",
+            initialDelayString = "${app.notifications.unread-counter.reconcile.initial-delay:PT5M}")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.error("Falha na reconciliação dos contadores de notificações não lidas", e);
+        }
+    }
+
+    /**
+     * Executa uma reconciliação completa.
+     *
+     * @return quantidade de contadores corrigidos
+     */
+    public int run() {
+        UUID after = null;
+        int users = 0;
+        int corrected = 0;
+        while (true) {
+            UUID position = after;
+            ReconcileBatch batch = transactionTemplate.execute(status ->
+                    unreadCounterRepository.reconcile(position, batchSize));
+            if (batch == null || batch.users() == 0) {
+                break;
+            }
+            users += batch.users();
+            corrected += batch.corrected();
+            if (batch.users() < batchSize) {
+                break;
+            }
+            after = batch.lastUserId();
+        }
+        if (corrected > 0) {
+            log.warn("Reconciliação de não lidas: {} contadores corrigidos em {} usuários", corrected, users);
+        } else {
+            log.debug("Reconciliação de não lidas: {} usuários sem divergência", users);
+        }
+        return corrected;
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.uniube.seniorcare.service.observation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Migra as observações concatenadas em appointments.description para a tabela
+ * appointment_observations.
+ *
+ * Os agendamentos são percorridos em ordem de ID, em lotes (keyset), cada lote em sua
+ * própria transação, sem carregar a tabela inteira em memória. Para cada agendamento, as
+ * observações marcadas com "--- data ---" viram registros próprios com a data original e a
+ * descrição volta a conter apenas o texto anterior à primeira marcação. Como a descrição
+ * migrada não tem mais marcações, a rotina pode ser interrompida e executada novamente.
+ *
+ * Executada na inicialização somente com app.observations.backfill.enabled=true.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.observations.backfill.enabled", havingValue = "true")
+public class AppointmentObservationBackfill implements ApplicationRunner {
+
+    /**
+     * Marcação gravada pela implementação anterior de addObservation antes de cada observação.
+     */
+    private static final Pattern MARKER = Pattern.compile("(?:^|\n\n)--- (\\S+) ---\n");
+
+    private static final String SELECT_SQL = """
+            SELECT id, organization_id, description, created_at
+            FROM appointments
+            WHERE id > ? AND description LIKE '%--- % ---%'
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO appointment_observations (id, organization_id, appointment_id, author_id, content, created_at)
+            VALUES (?, ?, ?, NULL, ?, ?)
+            """;
+
+    /**
+     * Só regrava a descrição se ela não mudou desde a leitura do lote.
+     */
+    private static final String UPDATE_SQL =
+            "UPDATE appointments SET description = ?, version = version + 1 WHERE id = ? AND description = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.observations.backfill.batch-size:500}")
+    private int batchSize = 500;
+
+    public AppointmentObservationBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        UUID lastId = new UUID(0, 0);
+        int appointments = 0;
+        int observations = 0;
+        while (true) {
+            UUID after = lastId;
+            BatchResult batch = transactionTemplate.execute(status -> migrateBatch(after));
+            if (batch == null || batch.rows() == 0) {
+                break;
+            }
+            appointments += batch.migratedAppointments();
+            observations += batch.migratedObservations();
+            lastId = batch.lastId();
+            if (batch.rows() < batchSize) {
+                break;
+            }
+        }
+        log.info("Migração de observações concluída: {} agendamentos, {} observações", appointments, observations);
+    }
+
+    private BatchResult migrateBatch(UUID after) {
+        List<Row> rows = jdbcTemplate.query(SELECT_SQL, (rs, n) -> new Row(
+                rs.getObject("id", UUID.class),
+                rs.getObject("organization_id", UUID.class),
+                rs.getString("description"),
+                rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null
+        ), after, batchSize);
+        if (rows.isEmpty()) {
+            return new BatchResult(0, after, 0, 0);
+        }
+
+        List<Object[]> inserts = new ArrayList<>();
+        int migrated = 0;
+        for (Row row : rows) {
+            ParsedDescription parsed = parse(row.description());
+            if (parsed.observations().isEmpty()) {
+                continue;
+            }
+            int updated = jdbcTemplate.update(UPDATE_SQL, parsed.description(), row.id(), row.description());
+            if (updated == 0) {
+                continue;
+            }
+            migrated++;
+            for (ParsedObservation observation : parsed.observations()) {
+                LocalDateTime createdAt = observation.createdAt() != null ? observation.createdAt()
+                        : row.createdAt() != null ? row.createdAt() : LocalDateTime.now();
+                inserts.add(new Object[]{UUID.randomUUID(), row.organizationId(), row.id(),
+                        observation.content(), Timestamp.valueOf(createdAt)});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        return new BatchResult(rows.size(), rows.get(rows.size() - 1).id(), migrated, inserts.size());
+    }
+
+    /**
+     * Separa uma descrição no texto original e nas observações concatenadas.
+     *
+     * @param description descrição gravada no agendamento
+     * @return texto anterior à primeira marcação (nulo se vazio) e as observações em ordem
+     */
+    static ParsedDescription parse(String description) {
+        if (description == null) {
+            return new ParsedDescription(null, List.of());
+        }
+        Matcher matcher = MARKER.matcher(description);
+        List<ParsedObservation> observations = new ArrayList<>();
+        String original = null;
+        int contentStart = -1;
+        LocalDateTime createdAt = null;
+        while (matcher.find()) {
+            if (contentStart < 0) {
+                original = description.substring(0, matcher.start());
+            } else {
+                observations.add(new ParsedObservation(createdAt, description.substring(contentStart, matcher.start())));
+            }
+            createdAt = parseDate(matcher.group(1));
+            contentStart = matcher.end();
+        }
+        if (contentStart < 0) {
+            return new ParsedDescription(description, List.of());
+        }
+        observations.add(new ParsedObservation(createdAt, description.substring(contentStart)));
+        return new ParsedDescription(original == null || original.isBlank() ? null : original, observations);
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    record ParsedDescription(String description, List<ParsedObservation> observations) {
+    }
+
+    record ParsedObservation(LocalDateTime createdAt, String content) {
+    }
+
+    private record Row(UUID id, UUID organizationId, String description, LocalDateTime createdAt) {
+    }
+
+    private record BatchResult(int rows, UUID lastId, int migratedAppointments, int migratedObservations) {
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado da criação de agendamentos em lote.
+ *
+ * @param requested  quantidade de itens recebidos
+ * @param createdIds IDs dos agendamentos criados, na ordem dos itens
+ * @param failures   itens rejeitados e o motivo de cada um
+ */
+public record AppointmentBatchResult(int requested, List<UUID> createdIds, List<ItemFailure> failures) {
+
+    public int created() {
+        return createdIds.size();
+    }
+
+    /**
+     * Falha de um item do lote.
+     *
+     * @param index       posição do item na lista recebida
+     * @param elderlyId   idoso do item
+     * @param caregiverId cuidador do item
+     * @param dateTime    data/hora solicitada
+     * @param reason      motivo da rejeição
+     */
+    public record ItemFailure(int index, UUID elderlyId, UUID caregiverId, LocalDateTime dateTime, String reason) {
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import br.com.uniube.seniorcare.service.AuditService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Rotina em segundo plano que faz a progressão automática de status dos agendamentos.
+ *
+ * A cada execução:
+ * 1. Agendamentos AGENDADO cujo horário já começou passam para EM_ANDAMENTO
+ * 2. Agendamentos EM_ANDAMENTO cujo término passou da tolerância são marcados como atrasados
+ *
+ * As alterações são feitas com UPDATEs em conjunto, em lotes de tamanho fixo, cada lote em
+ * sua própria transação; as transições seguem {@link AppointmentStatus#canTransitionTo}, as
+ * mesmas regras da alteração manual de status. Ao final, é gravado um único evento de
+ * auditoria por organização com o total alterado, em nome do usuário de sistema configurado.
+ *
+ * Com a rotina habilitada, app.audit.system-user-id é obrigatório: um valor ausente ou que
+ * não seja um UUID impede a inicialização, em vez de deixar as alterações sem auditoria.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.schedule.status.enabled", havingValue = "true", matchIfMissing = true)
+public class AppointmentStatusEngine {
+
+    private final AppointmentRepository appointmentRepository;
+    private final AuditService auditService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.schedule.status.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${app.schedule.status.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    @Value("${app.schedule.status.overdue-grace:PT15M}")
+    private Duration overdueGrace = Duration.ofMinutes(15);
+
+    @Value("${app.audit.system-user-id}")
+    private String systemUserId;
+
+    public AppointmentStatusEngine(AppointmentRepository appointmentRepository,
+                                   AuditService auditService,
+                                   PlatformTransactionManager transactionManager) {
+        this.appointmentRepository = appointmentRepository;
+        this.auditService = auditService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void validateSystemUserId() {
+        if (systemUserId == null || systemUserId.isBlank()) {
+            throw new IllegalStateException(
+                    "app.audit.system-user-id é obrigatório com app.schedule.status.enabled=true");
+        }
+        try {
+            UUID.fromString(systemUserId.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("app.audit.system-user-id inválido: " + systemUserId, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.schedule.status.interval:PT1M}",
+            initialDelayString = "${app.schedule.status.initial-delay:PT30S}")
+    public void scheduledRun() {
+        try {
+            run(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Falha na progressão automática de status dos agendamentos", e);
+        }
+    }
+
+    /**
+     * Executa uma rodada completa de progressão de status.
+     *
+     * @param now instante de referência
+     * @return totais alterados na rodada
+     */
+    public RunSummary run(LocalDateTime now) {
+        Map<UUID, Integer> started = drain(() -> advance(AppointmentStatus.AGENDADO, AppointmentStatus.EM_ANDAMENTO, now));
+        Map<UUID, Integer> overdue = drain(() -> appointmentRepository.flagOverdue(
+                AppointmentStatus.EM_ANDAMENTO, now.minus(overdueGrace), batchSize));
+
+        RunSummary summary = new RunSummary(total(started), total(overdue));
+        if (summary.started() > 0 || summary.flaggedOverdue() > 0) {
+            log.info("Progressão de status: {} agendamentos iniciados, {} marcados como atrasados",
+                    summary.started(), summary.flaggedOverdue());
+            audit(started, overdue);
+        }
+        return summary;
+    }
+
+    /**
+     * Totais de uma rodada.
+     */
+    public record RunSummary(int started, int flaggedOverdue) {
+    }
+
+    private Map<UUID, Integer> advance(AppointmentStatus from, AppointmentStatus to, LocalDateTime now) {
+        if (!from.canTransitionTo(to)) {
+            throw new IllegalStateException("Transição de status não permitida: " + from + " -> " + to);
+        }
+        return appointmentRepository.advanceStatus(from, to, now, batchSize);
+    }
+
+    /**
+     * Executa lotes até que um venha incompleto ou o limite por rodada seja atingido,
+     * acumulando as contagens por organização.
+     */
+    private Map<UUID, Integer> drain(Supplier<Map<UUID, Integer>> batch) {
+        Map<UUID, Integer> totals = new HashMap<>();
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Map<UUID, Integer> counts = transactionTemplate.execute(status -> batch.get());
+            if (counts == null || counts.isEmpty()) {
+                break;
+            }
+            counts.forEach((organizationId, count) -> totals.merge(organizationId, count, Integer::sum));
+            if (total(counts) < batchSize) {
+                break;
+            }
+        }
+        return totals;
+    }
+
+    private void audit(Map<UUID, Integer> started, Map<UUID, Integer> overdue) {
+        UUID userId = UUID.fromString(systemUserId.trim());
+        Map<UUID, int[]> byOrganization = new HashMap<>();
+        started.forEach((id, count) -> byOrganization.computeIfAbsent(id, k -> new int[2])[0] += count);
+        overdue.forEach((id, count) -> byOrganization.computeIfAbsent(id, k -> new int[2])[1] += count);
+
+        byOrganization.forEach((organizationId, counts) -> auditService.recordEvent(
+                organizationId,
+                userId,
+                "ADVANCE_APPOINTMENT_STATUS_BATCH",
+                "Agendamento",
+                null,
+                "Progressão automática de status: " + counts[0] + " agendamentos iniciados, "
+                        + counts[1] + " marcados como atrasados"
+        ));
+    }
+
+    private static int total(Map<UUID, Integer> counts) {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
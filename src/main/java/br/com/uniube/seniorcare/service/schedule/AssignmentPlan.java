@@ -0,0 +1,32 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado da atribuição automática de um lote de pedidos de visita.
+ *
+ * @param items situação de cada pedido, na ordem de entrada
+ * @param metrics tempo de resolução e métricas de qualidade do motor
+ * @param batchResult resultado da criação dos agendamentos, com a quantidade de pedidos recebidos e as
+ *                    falhas indexadas pela posição do pedido; nulo quando o plano não foi aplicado
+ */
+public record AssignmentPlan(List<Item> items, AssignmentSolver.Metrics metrics, AppointmentBatchResult batchResult) {
+
+    /**
+     * @param index posição do pedido no lote
+     * @param elderlyId idoso do pedido
+     * @param caregiverId cuidador atribuído; nulo quando não foi possível atribuir
+     * @param dateTime data e hora da visita
+     * @param durationMinutes duração da visita
+     * @param reason motivo da não atribuição; nulo quando atribuído
+     */
+    public record Item(int index, UUID elderlyId, UUID caregiverId, LocalDateTime dateTime, int durationMinutes,
+                       String reason) {
+    }
+
+    public long assigned() {
+        return items.stream().filter(item -> item.caregiverId() != null).count();
+    }
+}
@@ -0,0 +1,420 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Motor de atribuição automática de cuidadores a um lote de visitas.
+ *
+ * Cada visita tem uma lista de cuidadores elegíveis e cada cuidador tem a agenda já ocupada
+ * e a carga (minutos) existente no período. O objetivo é, em ordem de prioridade, atribuir o
+ * maior número de visitas sem conflito de horário e equilibrar a carga total dos cuidadores
+ * (menor soma dos quadrados das cargas).
+ *
+ * A busca é uma heurística com reinícios aleatórios executados em paralelo no fork/join:
+ * cada reinício faz uma atribuição gulosa (visitas mais restritas primeiro, cuidador menos
+ * carregado), tenta encaixar as visitas que sobraram deslocando uma visita conflitante para
+ * outro cuidador e, por fim, move visitas de cuidadores sobrecarregados para outros livres
+ * enquanto isso reduzir o desequilíbrio. O primeiro reinício é puramente guloso; o resultado
+ * é determinístico para a mesma semente.
+ */
+public class AssignmentSolver {
+
+    /**
+     * Limite de passadas da etapa de rebalanceamento em cada reinício.
+     */
+    private static final int MAX_REBALANCE_PASSES = 20;
+
+    private final int restarts;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param restarts quantidade de reinícios (ao menos 1)
+     * @param seed semente dos reinícios aleatórios
+     * @param pool pool fork/join em que os reinícios são executados
+     */
+    public AssignmentSolver(int restarts, long seed, ForkJoinPool pool) {
+        if (restarts < 1) {
+            throw new IllegalArgumentException("Informe ao menos um reinício");
+        }
+        this.restarts = restarts;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    /**
+     * Calcula a atribuição das visitas.
+     *
+     * @param visits visitas a atribuir
+     * @param caregivers agendas dos cuidadores; cuidadores elegíveis ausentes desta lista são ignorados
+     * @return cuidador escolhido para cada visita (na mesma ordem) e métricas da solução
+     */
+    public Result solve(List<Visit> visits, List<CaregiverAgenda> caregivers) {
+        long startedAt = System.nanoTime();
+        Problem problem = new Problem(visits, caregivers);
+        Plan best = pool.invoke(new RestartTask(problem, 0, restarts));
+
+        List<UUID> assignments = new ArrayList<>(visits.size());
+        for (int v = 0; v < problem.visits; v++) {
+            assignments.add(best.assigned[v] < 0 ? null : problem.caregiverIds[best.assigned[v]]);
+        }
+        return new Result(assignments, metrics(problem, best, Duration.ofNanos(System.nanoTime() - startedAt)));
+    }
+
+    /**
+     * Visita a atribuir.
+     */
+    public record Visit(LocalDateTime start, int durationMinutes, Collection<UUID> eligibleCaregivers) {
+    }
+
+    /**
+     * Agenda de um cuidador: horários já ocupados e carga existente no período, em minutos.
+     */
+    public record CaregiverAgenda(UUID caregiverId, List<Busy> busy, long existingLoadMinutes) {
+    }
+
+    /**
+     * Horário já ocupado [start, end).
+     */
+    public record Busy(LocalDateTime start, LocalDateTime end) {
+    }
+
+    /**
+     * Resultado da atribuição.
+     *
+     * @param assignments cuidador de cada visita, na ordem de entrada; null quando não atribuída
+     * @param metrics métricas de tempo e qualidade da solução
+     */
+    public record Result(List<UUID> assignments, Metrics metrics) {
+    }
+
+    /**
+     * Métricas da solução. As cargas consideram todos os cuidadores informados e incluem a
+     * carga existente.
+     *
+     * @param solveTime tempo total de resolução
+     * @param restarts reinícios executados
+     * @param visits visitas recebidas
+     * @param assigned visitas atribuídas
+     * @param withoutEligibleCaregiver visitas sem nenhum cuidador elegível
+     * @param maxLoadMinutes maior carga de um cuidador
+     * @param minLoadMinutes menor carga de um cuidador
+     * @param meanLoadMinutes carga média
+     * @param loadStdDevMinutes desvio padrão da carga
+     */
+    public record Metrics(Duration solveTime, int restarts, int visits, int assigned, int withoutEligibleCaregiver,
+                          long maxLoadMinutes, long minLoadMinutes, double meanLoadMinutes,
+                          double loadStdDevMinutes) {
+
+        public int unassigned() {
+            return visits - assigned;
+        }
+    }
+
+    private Metrics metrics(Problem problem, Plan plan, Duration solveTime) {
+        int withoutEligible = 0;
+        for (int[] eligible : problem.eligible) {
+            if (eligible.length == 0) {
+                withoutEligible++;
+            }
+        }
+        long max = 0;
+        long min = 0;
+        double mean = 0;
+        double stdDev = 0;
+        if (problem.caregivers > 0) {
+            max = Arrays.stream(plan.load).max().orElse(0);
+            min = Arrays.stream(plan.load).min().orElse(0);
+            mean = Arrays.stream(plan.load).average().orElse(0);
+            double variance = 0;
+            for (long load : plan.load) {
+                variance += (load - mean) * (load - mean);
+            }
+            stdDev = Math.sqrt(variance / problem.caregivers);
+        }
+        return new Metrics(solveTime, restarts, problem.visits, plan.assignedCount, withoutEligible,
+                max, min, mean, stdDev);
+    }
+
+    /**
+     * Divide os reinícios ao meio até restar um por tarefa e fica com o melhor plano.
+     */
+    private final class RestartTask extends RecursiveTask<Plan> {
+
+        private final Problem problem;
+        private final int from;
+        private final int to;
+
+        RestartTask(Problem problem, int from, int to) {
+            this.problem = problem;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Plan compute() {
+            if (to - from == 1) {
+                return runRestart(problem, from);
+            }
+            int middle = (from + to) >>> 1;
+            RestartTask left = new RestartTask(problem, from, middle);
+            left.fork();
+            Plan right = new RestartTask(problem, middle, to).compute();
+            Plan leftPlan = left.join();
+            return right.betterThan(leftPlan) ? right : leftPlan;
+        }
+    }
+
+    private Plan runRestart(Problem problem, int restart) {
+        SplittableRandom random = new SplittableRandom(seed + restart);
+        Plan plan = new Plan(problem, restart);
+
+        // Visitas com menos opções primeiro; nos reinícios aleatórios, a ordem é perturbada
+        double[] keys = new double[problem.visits];
+        for (int v = 0; v < problem.visits; v++) {
+            keys[v] = problem.eligible[v].length + (restart == 0 ? 0 : random.nextDouble() * 1.5);
+        }
+        Integer[] order = new Integer[problem.visits];
+        for (int v = 0; v < problem.visits; v++) {
+            order[v] = v;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(v -> keys[v]).thenComparingLong(v -> problem.start[v]));
+
+        for (int v : order) {
+            int chosen = -1;
+            long chosenScore = Long.MAX_VALUE;
+            for (int c : problem.eligible[v]) {
+                if (plan.isFree(c, v)) {
+                    long score = plan.load[c] + (restart == 0 ? 0 : random.nextInt(problem.duration[v] + 1));
+                    if (score < chosenScore) {
+                        chosen = c;
+                        chosenScore = score;
+                    }
+                }
+            }
+            if (chosen >= 0) {
+                plan.assign(v, chosen);
+            }
+        }
+
+        repair(problem, plan);
+        rebalance(problem, plan);
+        return plan;
+    }
+
+    /**
+     * Tenta atribuir as visitas que sobraram liberando o horário em um cuidador elegível:
+     * se houver exatamente uma visita do lote conflitando, ela é movida para outro cuidador livre.
+     */
+    private static void repair(Problem problem, Plan plan) {
+        for (int v = 0; v < problem.visits; v++) {
+            if (plan.assigned[v] >= 0) {
+                continue;
+            }
+            for (int c : problem.eligible[v]) {
+                List<IntervalTree.Interval> conflicts = plan.trees[c].findOverlapping(problem.start[v], problem.end[v]);
+                if (conflicts.size() != 1 || !isVisitKey(conflicts.get(0).id())) {
+                    continue;
+                }
+                int other = (int) conflicts.get(0).id().getLeastSignificantBits();
+                int target = -1;
+                for (int c2 : problem.eligible[other]) {
+                    if (c2 != c && plan.isFree(c2, other)) {
+                        target = c2;
+                        break;
+                    }
+                }
+                if (target >= 0) {
+                    plan.unassign(other);
+                    plan.assign(other, target);
+                    plan.assign(v, c);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Move visitas para cuidadores elegíveis menos carregados enquanto a diferença de carga
+     * for maior que a duração da visita, o que sempre reduz a soma dos quadrados.
+     */
+    private static void rebalance(Problem problem, Plan plan) {
+        for (int pass = 0; pass < MAX_REBALANCE_PASSES; pass++) {
+            boolean improved = false;
+            for (int v = 0; v < problem.visits; v++) {
+                int current = plan.assigned[v];
+                if (current < 0) {
+                    continue;
+                }
+                int target = -1;
+                for (int c : problem.eligible[v]) {
+                    if (c != current && plan.load[c] + problem.duration[v] < plan.load[current]
+                            && (target < 0 || plan.load[c] < plan.load[target]) && plan.isFree(c, v)) {
+                        target = c;
+                    }
+                }
+                if (target >= 0) {
+                    plan.unassign(v);
+                    plan.assign(v, target);
+                    improved = true;
+                }
+            }
+            if (!improved) {
+                return;
+            }
+        }
+    }
+
+    private static UUID visitKey(int visit) {
+        return new UUID(0, visit);
+    }
+
+    private static boolean isVisitKey(UUID key) {
+        return key.getMostSignificantBits() == 0;
+    }
+
+    private static long toEpoch(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Problema compilado em vetores indexados, compartilhado (somente leitura) entre os reinícios.
+     */
+    private static final class Problem {
+        final int visits;
+        final int caregivers;
+        final long[] start;
+        final long[] end;
+        final int[] duration;
+        final int[][] eligible;
+        final UUID[] caregiverIds;
+        final long[][] busyStart;
+        final long[][] busyEnd;
+        final long[] baseLoad;
+
+        Problem(List<Visit> visitList, List<CaregiverAgenda> agendas) {
+            this.caregivers = agendas.size();
+            this.caregiverIds = new UUID[caregivers];
+            this.busyStart = new long[caregivers][];
+            this.busyEnd = new long[caregivers][];
+            this.baseLoad = new long[caregivers];
+            Map<UUID, Integer> indexById = new HashMap<>();
+            for (int c = 0; c < caregivers; c++) {
+                CaregiverAgenda agenda = agendas.get(c);
+                caregiverIds[c] = agenda.caregiverId();
+                indexById.put(agenda.caregiverId(), c);
+                List<Busy> busy = agenda.busy() == null ? List.of() : agenda.busy();
+                busyStart[c] = new long[busy.size()];
+                busyEnd[c] = new long[busy.size()];
+                for (int b = 0; b < busy.size(); b++) {
+                    busyStart[c][b] = toEpoch(busy.get(b).start());
+                    busyEnd[c][b] = toEpoch(busy.get(b).end());
+                }
+                baseLoad[c] = agenda.existingLoadMinutes();
+            }
+
+            this.visits = visitList.size();
+            this.start = new long[visits];
+            this.end = new long[visits];
+            this.duration = new int[visits];
+            this.eligible = new int[visits][];
+            for (int v = 0; v < visits; v++) {
+                Visit visit = visitList.get(v);
+                start[v] = toEpoch(visit.start());
+                duration[v] = visit.durationMinutes();
+                end[v] = start[v] + duration[v] * 60L;
+                eligible[v] = visit.eligibleCaregivers() == null ? new int[0] : visit.eligibleCaregivers().stream()
+                        .map(indexById::get)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+        }
+    }
+
+    /**
+     * Estado de um reinício: agenda de cada cuidador, carga e atribuição de cada visita.
+     */
+    private static final class Plan {
+        final Problem problem;
+        final int restart;
+        final IntervalTree[] trees;
+        final long[] load;
+        final int[] assigned;
+        int assignedCount;
+
+        Plan(Problem problem, int restart) {
+            this.problem = problem;
+            this.restart = restart;
+            this.trees = new IntervalTree[problem.caregivers];
+            this.load = problem.baseLoad.clone();
+            this.assigned = new int[problem.visits];
+            Arrays.fill(assigned, -1);
+            for (int c = 0; c < problem.caregivers; c++) {
+                trees[c] = new IntervalTree();
+                for (int b = 0; b < problem.busyStart[c].length; b++) {
+                    if (problem.busyEnd[c][b] > problem.busyStart[c][b]) {
+                        trees[c].insert(new UUID(1, ((long) c << 32) | b), problem.busyStart[c][b], problem.busyEnd[c][b]);
+                    }
+                }
+            }
+        }
+
+        boolean isFree(int caregiver, int visit) {
+            return !trees[caregiver].overlaps(problem.start[visit], problem.end[visit], null);
+        }
+
+        void assign(int visit, int caregiver) {
+            trees[caregiver].insert(visitKey(visit), problem.start[visit], problem.end[visit]);
+            load[caregiver] += problem.duration[visit];
+            assigned[visit] = caregiver;
+            assignedCount++;
+        }
+
+        void unassign(int visit) {
+            int caregiver = assigned[visit];
+            trees[caregiver].remove(visitKey(visit), problem.start[visit]);
+            load[caregiver] -= problem.duration[visit];
+            assigned[visit] = -1;
+            assignedCount--;
+        }
+
+        long sumOfSquares() {
+            long sum = 0;
+            for (long value : load) {
+                sum += value * value;
+            }
+            return sum;
+        }
+
+        /**
+         * Mais visitas atribuídas vence; no empate, a carga mais equilibrada; depois, o reinício de menor índice.
+         */
+        boolean betterThan(Plan other) {
+            if (assignedCount != other.assignedCount) {
+                return assignedCount > other.assignedCount;
+            }
+            long squares = sumOfSquares();
+            long otherSquares = other.sumOfSquares();
+            if (squares != otherSquares) {
+                return squares < otherSquares;
+            }
+            return restart < other.restart;
+        }
+    }
+}
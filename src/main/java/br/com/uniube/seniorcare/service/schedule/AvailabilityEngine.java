@@ -0,0 +1,239 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Motor de busca de horários livres de um conjunto de cuidadores em um intervalo de dias.
+ *
+ * A agenda de cada cuidador é representada por um bitmap de ocupação por dia, em que cada
+ * bit corresponde a uma fração fixa do dia (por padrão 15 minutos) e o bit ligado indica
+ * horário indisponível: ocupado por um agendamento ou fora do expediente. A busca de uma
+ * sequência livre percorre palavras de 64 bits com operações de bit, e os resultados de
+ * todos os cuidadores são intercalados em ordem cronológica por uma fila de prioridade,
+ * sem materializar todos os horários livres do período.
+ *
+ * Agendamentos que não começam ou terminam em uma fronteira de fração ocupam a fração
+ * inteira. A classe não é thread-safe; cada busca monta sua própria instância.
+ */
+public class AvailabilityEngine {
+
+    private final LocalDateTime origin;
+    private final long originEpochSecond;
+    private final int days;
+    private final int slotMinutes;
+    private final long slotSeconds;
+    private final int slotsPerDay;
+    private final int wordsPerDay;
+    private final long[] closedDay;
+    private final Map<UUID, long[]> occupancy = new LinkedHashMap<>();
+
+    /**
+     * @param firstDay primeiro dia coberto pelo motor
+     * @param days quantidade de dias cobertos
+     * @param slotMinutes granularidade da agenda, em minutos (deve dividir o dia)
+     * @param workStart início do expediente
+     * @param workEnd fim do expediente
+     */
+    public AvailabilityEngine(LocalDate firstDay, int days, int slotMinutes, LocalTime workStart, LocalTime workEnd) {
+        if (days < 1) {
+            throw new IllegalArgumentException("O período deve ter ao menos um dia");
+        }
+        if (slotMinutes < 1 || (24 * 60) % slotMinutes != 0) {
+            throw new IllegalArgumentException("A granularidade deve dividir o dia em partes iguais");
+        }
+        if (!workStart.isBefore(workEnd)) {
+            throw new IllegalArgumentException("O início do expediente deve ser anterior ao fim");
+        }
+        this.origin = firstDay.atStartOfDay();
+        this.originEpochSecond = origin.toEpochSecond(ZoneOffset.UTC);
+        this.days = days;
+        this.slotMinutes = slotMinutes;
+        this.slotSeconds = slotMinutes * 60L;
+        this.slotsPerDay = 24 * 60 / slotMinutes;
+        this.wordsPerDay = (slotsPerDay + 63) >>> 6;
+
+        // Modelo de um dia: tudo fora do expediente (e os bits de sobra da última palavra) já vem ocupado
+        this.closedDay = new long[wordsPerDay];
+        int openFrom = Math.ceilDiv(workStart.toSecondOfDay() / 60, slotMinutes);
+        int openTo = workEnd.toSecondOfDay() / 60 / slotMinutes;
+        setRange(closedDay, 0, 0, openFrom);
+        setRange(closedDay, 0, Math.max(openFrom, openTo), wordsPerDay * 64);
+    }
+
+    /**
+     * Registra um cuidador sem agendamentos; cuidadores registrados aparecem na busca
+     * mesmo que nenhum horário seja ocupado.
+     */
+    public void addCaregiver(UUID caregiverId) {
+        occupancy.computeIfAbsent(caregiverId, id -> {
+            long[] bits = new long[days * wordsPerDay];
+            for (int day = 0; day < days; day++) {
+                System.arraycopy(closedDay, 0, bits, day * wordsPerDay, wordsPerDay);
+            }
+            return bits;
+        });
+    }
+
+    /**
+     * Marca [start, end) como ocupado na agenda do cuidador. A parte fora do período
+     * coberto pelo motor é ignorada.
+     */
+    public void occupy(UUID caregiverId, LocalDateTime start, LocalDateTime end) {
+        addCaregiver(caregiverId);
+        long[] bits = occupancy.get(caregiverId);
+        int from = (int) Math.max(0, Math.floorDiv(secondsFromOrigin(start), slotSeconds));
+        int to = (int) Math.min((long) days * slotsPerDay, Math.ceilDiv(secondsFromOrigin(end), slotSeconds));
+        while (from < to) {
+            int day = from / slotsPerDay;
+            int dayEnd = Math.min(to, (day + 1) * slotsPerDay);
+            setRange(bits, day * wordsPerDay, from - day * slotsPerDay, dayEnd - day * slotsPerDay);
+            from = dayEnd;
+        }
+    }
+
+    /**
+     * Busca os próximos horários livres com a duração informada, em ordem cronológica,
+     * considerando todos os cuidadores registrados. Um mesmo cuidador não recebe horários
+     * sobrepostos entre si; cuidadores diferentes podem receber o mesmo horário.
+     *
+     * @param from início da busca; horários começam na primeira fronteira de fração a partir dele
+     * @param to fim da busca; todo horário retornado termina até este instante
+     * @param durationMinutes duração desejada
+     * @param limit quantidade máxima de horários
+     * @return horários livres, ordenados por início e, no empate, pela ordem de registro do cuidador
+     */
+    public List<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, int durationMinutes, int limit) {
+        if (durationMinutes < 1 || limit < 1) {
+            return List.of();
+        }
+        int needed = Math.ceilDiv(durationMinutes, slotMinutes);
+        int start = (int) Math.max(0, Math.ceilDiv(secondsFromOrigin(from), slotSeconds));
+        int end = (int) Math.min((long) days * slotsPerDay, Math.floorDiv(secondsFromOrigin(to), slotSeconds));
+
+        List<UUID> caregiverIds = new ArrayList<>(occupancy.keySet());
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(
+                Comparator.comparingInt(Candidate::slot).thenComparingInt(Candidate::caregiver));
+        for (int i = 0; i < caregiverIds.size(); i++) {
+            int slot = nextFreeRun(occupancy.get(caregiverIds.get(i)), start, end, needed);
+            if (slot >= 0) {
+                queue.add(new Candidate(slot, i));
+            }
+        }
+
+        List<FreeSlot> result = new ArrayList<>(Math.min(limit, 64));
+        while (result.size() < limit && !queue.isEmpty()) {
+            Candidate candidate = queue.poll();
+            UUID caregiverId = caregiverIds.get(candidate.caregiver());
+            LocalDateTime slotStart = slotToDateTime(candidate.slot());
+            result.add(new FreeSlot(caregiverId, slotStart, slotStart.plusMinutes(durationMinutes)));
+
+            int next = nextFreeRun(occupancy.get(caregiverId), candidate.slot() + needed, end, needed);
+            if (next >= 0) {
+                queue.add(new Candidate(next, candidate.caregiver()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Horário livre de um cuidador.
+     */
+    public record FreeSlot(UUID caregiverId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private record Candidate(int slot, int caregiver) {
+    }
+
+    /**
+     * Procura, a partir da fração "from", a primeira sequência de "needed" frações livres que
+     * termine até "to". Sequências não atravessam a meia-noite.
+     *
+     * @return índice absoluto da fração inicial ou -1 se não houver
+     */
+    private int nextFreeRun(long[] bits, int from, int to, int needed) {
+        int position = from;
+        while (position + needed <= to) {
+            int day = position / slotsPerDay;
+            int base = day * wordsPerDay;
+            int freeStart = nextClear(bits, base, position - day * slotsPerDay);
+            if (freeStart >= slotsPerDay) {
+                position = (day + 1) * slotsPerDay;
+                continue;
+            }
+            int freeEnd = nextSet(bits, base, freeStart);
+            int absoluteStart = day * slotsPerDay + freeStart;
+            if (freeEnd - freeStart >= needed) {
+                return absoluteStart + needed <= to ? absoluteStart : -1;
+            }
+            position = day * slotsPerDay + freeEnd;
+        }
+        return -1;
+    }
+
+    private int nextClear(long[] bits, int base, int bit) {
+        int word = bit >>> 6;
+        if (word >= wordsPerDay) {
+            return slotsPerDay;
+        }
+        long free = ~bits[base + word] & (-1L << (bit & 63));
+        while (free == 0) {
+            if (++word == wordsPerDay) {
+                return slotsPerDay;
+            }
+            free = ~bits[base + word];
+        }
+        return Math.min(slotsPerDay, (word << 6) + Long.numberOfTrailingZeros(free));
+    }
+
+    private int nextSet(long[] bits, int base, int bit) {
+        int word = bit >>> 6;
+        long busy = bits[base + word] & (-1L << (bit & 63));
+        while (busy == 0) {
+            if (++word == wordsPerDay) {
+                return slotsPerDay;
+            }
+            busy = bits[base + word];
+        }
+        return Math.min(slotsPerDay, (word << 6) + Long.numberOfTrailingZeros(busy));
+    }
+
+    /**
+     * Liga os bits [from, to) a partir da palavra "base".
+     */
+    private static void setRange(long[] bits, int base, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << (from & 63);
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+        if (firstWord == lastWord) {
+            bits[base + firstWord] |= firstMask & lastMask;
+            return;
+        }
+        bits[base + firstWord] |= firstMask;
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            bits[base + word] = -1L;
+        }
+        bits[base + lastWord] |= lastMask;
+    }
+
+    private long secondsFromOrigin(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) - originEpochSecond;
+    }
+
+    private LocalDateTime slotToDateTime(int slot) {
+        return origin.plusMinutes((long) slot * slotMinutes);
+    }
+}
@@ -0,0 +1,223 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Árvore de intervalos semiabertos [start, end) indexados por identificador.
+ *
+ * Implementada como árvore AVL ordenada por (start, id) e aumentada com o maior
+ * "end" de cada subárvore, o que permite responder consultas de sobreposição em
+ * O(log n + k). Os instantes são representados em segundos (epoch) para manter
+ * os nós compactos.
+ *
+ * A classe não é thread-safe; o sincronismo fica a cargo de quem a utiliza.
+ */
+public class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Insere um intervalo. Se já existir um intervalo com o mesmo id e início,
+     * apenas o fim é atualizado.
+     */
+    public void insert(UUID id, long start, long end) {
+        if (end <= start) {
+            throw new IllegalArgumentException("O fim do intervalo deve ser posterior ao início");
+        }
+        root = insert(root, id, start, end);
+    }
+
+    /**
+     * Remove o intervalo com o id e início informados.
+     *
+     * @return true se o intervalo existia.
+     */
+    public boolean remove(UUID id, long start) {
+        int before = size;
+        root = remove(root, id, start);
+        return size < before;
+    }
+
+    /**
+     * Verifica se algum intervalo sobrepõe [start, end), ignorando opcionalmente um id.
+     */
+    public boolean overlaps(long start, long end, UUID excludeId) {
+        return overlaps(root, start, end, excludeId);
+    }
+
+    /**
+     * Lista os intervalos que sobrepõem [start, end), em ordem de início.
+     */
+    public List<Interval> findOverlapping(long start, long end) {
+        List<Interval> result = new ArrayList<>();
+        collect(root, start, end, result);
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public record Interval(UUID id, long start, long end) {
+    }
+
+    private static final class Node {
+        final UUID id;
+        final long start;
+        long end;
+        long maxEnd;
+        int height = 1;
+        Node left;
+        Node right;
+
+        Node(UUID id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+
+    private static int compare(long start, UUID id, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : id.compareTo(node.id);
+    }
+
+    private Node insert(Node node, UUID id, long start, long end) {
+        if (node == null) {
+            size++;
+            return new Node(id, start, end);
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, id, start, end);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, id, start, end);
+        } else {
+            node.end = end;
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, UUID id, long start) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.id, successor.start, successor.end);
+            // A remoção recursiva decrementa o tamanho novamente; compensa aqui
+            size++;
+            replacement.right = remove(node.right, successor.id, successor.start);
+            replacement.left = node.left;
+            return rebalance(replacement);
+        }
+        return rebalance(node);
+    }
+
+    private boolean overlaps(Node node, long start, long end, UUID excludeId) {
+        while (node != null) {
+            if (node.maxEnd <= start) {
+                return false;
+            }
+            if (node.start < end && node.end > start && !node.id.equals(excludeId)) {
+                return true;
+            }
+            if (node.left != null && node.left.maxEnd > start && overlaps(node.left, start, end, excludeId)) {
+                return true;
+            }
+            if (node.start >= end) {
+                return false;
+            }
+            node = node.right;
+        }
+        return false;
+    }
+
+    private void collect(Node node, long start, long end, List<Interval> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, result);
+        if (node.start < end && node.end > start) {
+            result.add(new Interval(node.id, node.start, node.end));
+        }
+        if (node.start < end) {
+            collect(node.right, start, end, result);
+        }
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long max = node.end;
+        if (node.left != null) {
+            max = Math.max(max, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            max = Math.max(max, node.right.maxEnd);
+        }
+        node.maxEnd = max;
+    }
+
+    private static Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
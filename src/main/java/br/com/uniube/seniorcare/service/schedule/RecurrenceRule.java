@@ -0,0 +1,114 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Regra de recorrência de uma série de agendamentos.
+ *
+ * Exemplos: toda semana às segundas e quintas, 12 ocorrências; todo dia até 30/06.
+ * A série termina pela quantidade de ocorrências ou pela data final, o que vier primeiro;
+ * ao menos um dos dois deve ser informado.
+ *
+ * @param frequency  frequência da repetição
+ * @param interval   intervalo entre repetições (ex.: 2 = quinzenal para WEEKLY); padrão 1
+ * @param daysOfWeek dias da semana para WEEKLY; se vazio, usa o dia da primeira ocorrência
+ * @param count      quantidade máxima de ocorrências (opcional)
+ * @param until      data final inclusiva (opcional)
+ */
+public record RecurrenceRule(Frequency frequency,
+                             Integer interval,
+                             Set<DayOfWeek> daysOfWeek,
+                             Integer count,
+                             LocalDate until) {
+
+    /**
+     * Limite de ocorrências geradas por uma única série.
+     */
+    public static final int MAX_OCCURRENCES = 1000;
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY
+    }
+
+    /**
+     * Expande a regra a partir da primeira ocorrência, em ordem cronológica.
+     *
+     * @param first data/hora da primeira ocorrência
+     * @return datas/horas de todas as ocorrências da série
+     */
+    public List<LocalDateTime> expand(LocalDateTime first) {
+        validate();
+        int step = interval != null ? interval : 1;
+        // Sem quantidade definida, gera uma ocorrência a mais para detectar séries acima do limite
+        int limit = count != null ? count : MAX_OCCURRENCES + 1;
+        List<LocalDateTime> occurrences = new ArrayList<>();
+
+        if (frequency == Frequency.DAILY) {
+            for (LocalDateTime current = first; occurrences.size() < limit && !isAfterUntil(current);
+                 current = current.plusDays(step)) {
+                occurrences.add(current);
+            }
+        } else {
+            Set<DayOfWeek> days = daysOfWeek == null || daysOfWeek.isEmpty()
+                    ? EnumSet.of(first.getDayOfWeek())
+                    : EnumSet.copyOf(daysOfWeek);
+            LocalDate weekStart = first.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            while (occurrences.size() < limit) {
+                boolean pastUntil = false;
+                for (DayOfWeek day : days) {
+                    LocalDateTime candidate = weekStart.plusDays(day.getValue() - 1L).atTime(first.toLocalTime());
+                    if (candidate.isBefore(first)) {
+                        continue;
+                    }
+                    if (isAfterUntil(candidate)) {
+                        pastUntil = true;
+                        break;
+                    }
+                    occurrences.add(candidate);
+                    if (occurrences.size() >= limit) {
+                        break;
+                    }
+                }
+                if (pastUntil) {
+                    break;
+                }
+                weekStart = weekStart.plus(step, ChronoUnit.WEEKS);
+            }
+        }
+
+        if (occurrences.size() > MAX_OCCURRENCES) {
+            throw new BusinessException("A série excede o limite de " + MAX_OCCURRENCES + " ocorrências");
+        }
+        return occurrences;
+    }
+
+    private boolean isAfterUntil(LocalDateTime dateTime) {
+        return until != null && dateTime.toLocalDate().isAfter(until);
+    }
+
+    private void validate() {
+        if (frequency == null) {
+            throw new BusinessException("A frequência da recorrência é obrigatória");
+        }
+        if (interval != null && interval < 1) {
+            throw new BusinessException("O intervalo da recorrência deve ser maior que zero");
+        }
+        if (count == null && until == null) {
+            throw new BusinessException("Informe a quantidade de ocorrências ou a data final da recorrência");
+        }
+        if (count != null && (count < 1 || count > MAX_OCCURRENCES)) {
+            throw new BusinessException("A quantidade de ocorrências deve estar entre 1 e " + MAX_OCCURRENCES);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import br.com.uniube.seniorcare.service.utils.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Índice em memória das agendas dos cuidadores, usado na detecção de conflitos de horário.
+ *
+ * Cada cuidador possui uma árvore de intervalos com os agendamentos ativos (não cancelados)
+ * de uma janela de tempo ao redor do momento da carga. A agenda é carregada sob demanda na
+ * primeira consulta, expira após um tempo configurável e as menos acessadas são descartadas
+ * quando o limite de cuidadores em memória é atingido.
+ *
+ * Consultas totalmente contidas na janela carregada são respondidas sem acesso ao banco;
+ * as demais caem para a consulta no repositório. Alterações de agendamentos são aplicadas
+ * ao índice somente após o commit da transação que as realizou.
+ *
+ * A carga consulta o banco fora de qualquer trava do mapa (um bloqueio de bin do
+ * ConcurrentHashMap prenderia a thread virtual à sua portadora durante o JDBC) e a agenda
+ * é instalada com putIfAbsent. Alterações confirmadas durante a carga ficam pendentes e são
+ * reaplicadas antes da instalação; consultas concorrentes à carga do mesmo cuidador usam o
+ * repositório.
+ */
+@Slf4j
+@Component
+public class ScheduleIndex {
+
+    private final AppointmentRepository appointmentRepository;
+    private final Map<UUID, CaregiverSchedule> schedules = new ConcurrentHashMap<>();
+    private final Map<UUID, PendingLoad> loading = new ConcurrentHashMap<>();
+
+    @Value("${app.schedule.index.past-days:7}")
+    private long pastDays = 7;
+
+    @Value("${app.schedule.index.future-days:90}")
+    private long futureDays = 90;
+
+    @Value("${app.schedule.index.max-caregivers:10000}")
+    private int maxCaregivers = 10000;
+
+    @Value("${app.schedule.index.ttl:PT30M}")
+    private Duration ttl = Duration.ofMinutes(30);
+
+    public ScheduleIndex(AppointmentRepository appointmentRepository) {
+        this.appointmentRepository = appointmentRepository;
+    }
+
+    /**
+     * Verifica se existe algum agendamento ativo do cuidador que sobreponha [start, end).
+     *
+     * @param caregiverId ID do cuidador
+     * @param start início do período
+     * @param end fim do período
+     * @param excludeAppointmentId opcional - agendamento a ignorar na verificação
+     * @return true se houver conflito
+     */
+    public boolean hasConflict(UUID caregiverId, LocalDateTime start, LocalDateTime end, UUID excludeAppointmentId) {
+        CaregiverSchedule schedule = scheduleFor(caregiverId, start, end);
+        if (schedule == null) {
+            return appointmentRepository.findConflictingAppointments(caregiverId, start, end)
+                    .stream()
+                    .anyMatch(a -> !a.getId().equals(excludeAppointmentId));
+        }
+        synchronized (schedule) {
+            return schedule.tree.overlaps(toEpoch(start), toEpoch(end), excludeAppointmentId);
+        }
+    }
+
+    /**
+     * Lista os agendamentos ativos do cuidador que sobrepõem [start, end), em ordem de início.
+     *
+     * @param caregiverId ID do cuidador
+     * @param start início do período
+     * @param end fim do período
+     * @return intervalos ocupados no período
+     */
+    public List<Slot> findOverlapping(UUID caregiverId, LocalDateTime start, LocalDateTime end) {
+        CaregiverSchedule schedule = scheduleFor(caregiverId, start, end);
+        if (schedule == null) {
+            return appointmentRepository.findConflictingAppointments(caregiverId, start, end)
+                    .stream()
+                    .map(a -> new Slot(a.getId(), a.getDateTime(), a.getEndDateTime()))
+                    .sorted(Comparator.comparing(Slot::start))
+                    .toList();
+        }
+        synchronized (schedule) {
+            return schedule.tree.findOverlapping(toEpoch(start), toEpoch(end)).stream()
+                    .map(i -> new Slot(i.id(), fromEpoch(i.start()), fromEpoch(i.end())))
+                    .toList();
+        }
+    }
+
+    /**
+     * Reflete no índice o estado atual de um agendamento (criação, alteração de data,
+     * mudança de status ou cancelamento) após o commit da transação corrente.
+     *
+     * @param appointment agendamento persistido
+     */
+    public void appointmentChanged(Appointment appointment) {
+        UUID caregiverId = appointment.getCaregiver().getId();
+        UUID appointmentId = appointment.getId();
+        LocalDateTime start = appointment.getDateTime();
+        LocalDateTime end = appointment.getEndDateTime();
+        Change change = new Change(appointmentId, toEpoch(start), toEpoch(end),
+                appointment.getStatus().isActive());
+
+        AfterCommit.run(() -> {
+            // Registrar na carga pendente antes de aplicar à agenda instalada: ou a carga ainda
+            // não instalou e vai reaplicar a alteração, ou já instalou e a agenda a recebe aqui
+            PendingLoad pending = loading.get(caregiverId);
+            if (pending != null) {
+                pending.record(change);
+            }
+            CaregiverSchedule schedule = schedules.get(caregiverId);
+            if (schedule != null) {
+                schedule.apply(change);
+            }
+        });
+    }
+
+    /**
+     * Descarta a agenda em memória de um cuidador, forçando nova carga na próxima consulta.
+     */
+    public void invalidate(UUID caregiverId) {
+        PendingLoad pending = loading.get(caregiverId);
+        if (pending != null) {
+            pending.discard();
+        }
+        schedules.remove(caregiverId);
+    }
+
+    /**
+     * Descarta todas as agendas em memória.
+     */
+    public void clear() {
+        loading.values().forEach(PendingLoad::discard);
+        schedules.clear();
+    }
+
+    int loadedCaregivers() {
+        return schedules.size();
+    }
+
+    /**
+     * Obtém a agenda do cuidador que cobre o período, carregando-a se necessário.
+     * Retorna null quando o período está fora da janela indexada.
+     */
+    private CaregiverSchedule scheduleFor(UUID caregiverId, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime now = LocalDateTime.now();
+        CaregiverSchedule schedule = schedules.get(caregiverId);
+        if (schedule != null && schedule.isExpired(now, ttl)) {
+            schedules.remove(caregiverId, schedule);
+            schedule = null;
+        }
+        if (schedule == null) {
+            if (start.isBefore(now.minusDays(pastDays)) || end.isAfter(now.plusDays(futureDays))) {
+                return null;
+            }
+            schedule = loadAndInstall(caregiverId, now);
+            if (schedule == null) {
+                return null;
+            }
+        }
+        if (!schedule.covers(start, end)) {
+            return null;
+        }
+        schedule.lastAccess = System.nanoTime();
+        return schedule;
+    }
+
+    /**
+     * Carrega a agenda fora do mapa e a instala, reaplicando as alterações confirmadas durante
+     * a carga. Retorna null se outra thread já estiver carregando a agenda do cuidador.
+     */
+    private CaregiverSchedule loadAndInstall(UUID caregiverId, LocalDateTime now) {
+        PendingLoad pending = new PendingLoad();
+        if (loading.putIfAbsent(caregiverId, pending) != null) {
+            return null;
+        }
+        try {
+            CaregiverSchedule loaded = load(caregiverId, now);
+            CaregiverSchedule installed = pending.install(loaded, () -> {
+                CaregiverSchedule existing = schedules.putIfAbsent(caregiverId, loaded);
+                return existing != null ? existing : loaded;
+            });
+            evictIfNeeded();
+            return installed;
+        } finally {
+            loading.remove(caregiverId, pending);
+        }
+    }
+
+    private CaregiverSchedule load(UUID caregiverId, LocalDateTime now) {
+        LocalDateTime windowStart = now.minusDays(pastDays);
+        LocalDateTime windowEnd = now.plusDays(futureDays);
+        CaregiverSchedule schedule = new CaregiverSchedule(windowStart, windowEnd, now);
+
+        // Agendamentos iniciados antes da janela ainda podem ocupá-la; a duração máxima limita o recuo
+        List<AppointmentRepository.ScheduleSlot> slots = appointmentRepository.findScheduleSlots(
+                caregiverId, windowStart.minusMinutes(Appointment.MAX_DURATION_MINUTES), windowEnd);
+        for (AppointmentRepository.ScheduleSlot slot : slots) {
+            int duration = slot.getDurationMinutes() != null
+                    ? slot.getDurationMinutes() : Appointment.DEFAULT_DURATION_MINUTES;
+            schedule.put(slot.getId(), toEpoch(slot.getDateTime()),
+                    toEpoch(slot.getDateTime().plusMinutes(duration)));
+        }
+        log.debug("Agenda do cuidador {} carregada no índice com {} agendamentos", caregiverId, slots.size());
+        return schedule;
+    }
+
+    private void evictIfNeeded() {
+        int excess = schedules.size() - maxCaregivers;
+        if (excess <= 0) {
+            return;
+        }
+        // Remove um lote das agendas menos acessadas para amortizar o custo da ordenação
+        int toEvict = Math.max(excess, maxCaregivers / 10);
+        schedules.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                .limit(toEvict)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(schedules::remove);
+    }
+
+    private static long toEpoch(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fromEpoch(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Intervalo ocupado na agenda de um cuidador.
+     */
+    public record Slot(UUID appointmentId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    /**
+     * Estado de um agendamento a aplicar na agenda em memória.
+     */
+    private record Change(UUID appointmentId, long start, long end, boolean active) {
+    }
+
+    /**
+     * Alterações confirmadas enquanto a agenda de um cuidador é carregada do banco.
+     */
+    private static final class PendingLoad {
+        private final List<Change> changes = new ArrayList<>();
+        private boolean installed;
+        private boolean discarded;
+
+        synchronized void record(Change change) {
+            if (!installed) {
+                changes.add(change);
+            }
+        }
+
+        synchronized void discard() {
+            discarded = true;
+        }
+
+        /**
+         * Reaplica as alterações pendentes e instala a agenda. Uma agenda descartada durante a
+         * carga atende apenas a consulta que a carregou e não é instalada.
+         */
+        synchronized CaregiverSchedule install(CaregiverSchedule loaded,
+                                               Supplier<CaregiverSchedule> installer) {
+            changes.forEach(loaded::apply);
+            installed = true;
+            return discarded ? loaded : installer.get();
+        }
+    }
+
+    private static final class CaregiverSchedule {
+        final IntervalTree tree = new IntervalTree();
+        final Map<UUID, Long> startsById = new HashMap<>();
+        final LocalDateTime windowStart;
+        final LocalDateTime windowEnd;
+        final LocalDateTime loadedAt;
+        volatile long lastAccess = System.nanoTime();
+
+        CaregiverSchedule(LocalDateTime windowStart, LocalDateTime windowEnd, LocalDateTime loadedAt) {
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+            this.loadedAt = loadedAt;
+        }
+
+        boolean covers(LocalDateTime start, LocalDateTime end) {
+            return !start.isBefore(windowStart) && !end.isAfter(windowEnd);
+        }
+
+        boolean isExpired(LocalDateTime now, Duration ttl) {
+            return loadedAt.plus(ttl).isBefore(now);
+        }
+
+        synchronized void apply(Change change) {
+            if (change.active()) {
+                put(change.appointmentId(), change.start(), change.end());
+            } else {
+                remove(change.appointmentId());
+            }
+        }
+
+        void put(UUID id, long start, long end) {
+            remove(id);
+            tree.insert(id, start, end);
+            startsById.put(id, start);
+        }
+
+        void remove(UUID id) {
+            Long previousStart = startsById.remove(id);
+            if (previousStart != null) {
+                tree.remove(id, previousStart);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pedido de visita ainda sem cuidador, usado na atribuição automática.
+ *
+ * @param elderlyId idoso a ser visitado
+ * @param dateTime data e hora da visita
+ * @param durationMinutes duração em minutos; nula para a duração padrão
+ * @param specialty opcional - trecho da especialidade exigida do cuidador
+ * @param description descrição do agendamento a ser criado
+ */
+public record VisitRequest(UUID elderlyId, LocalDateTime dateTime, Integer durationMinutes, String specialty,
+                           String description) {
+}
@@ -0,0 +1,30 @@
+package br.com.uniube.seniorcare.service.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilitário para executar ações somente após o commit da transação corrente.
+ *
+ * Usado por estruturas em memória (índices, filas, canais de push) que não podem
+ * refletir alterações que ainda podem sofrer rollback. Sem transação ativa, a ação
+ * é executada imediatamente.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.uniube.seniorcare.service.utils;
+
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco para paginação por keyset sobre pares (data/hora, id).
+ *
+ * O cliente recebe o cursor da última linha da página e o devolve para obter a próxima;
+ * a consulta continua a partir dessa posição usando o índice, sem OFFSET.
+ *
+ * @param timestamp data/hora da última linha retornada
+ * @param id        id da última linha retornada (desempate)
+ */
+public record KeysetCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param cursor cursor opaco; nulo ou vazio indica a primeira página
+     * @return posição decodificada, ou null para a primeira página
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            KeysetCursor decoded = new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+            // UUID.fromString aceita grupos incompletos; só vale o formato gerado por encode()
+            if (!decoded.raw().equals(raw)) {
+                throw new IllegalArgumentException(raw);
+            }
+            return decoded;
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException("Cursor de paginação inválido");
+        }
+    }
+
+    private String raw() {
+        return timestamp + SEPARATOR + id;
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.uniube.seniorcare.service.utils;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados paginados por keyset.
+ *
+ * @param items      itens da página
+ * @param nextCursor cursor para a próxima página, ou null se esta for a última
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Monta a página a partir de uma consulta que buscou {@code size + 1} linhas:
+     * a linha extra apenas indica que existe uma próxima página.
+     *
+     * @param rows     linhas retornadas pela consulta (até size + 1)
+     * @param size     tamanho da página
+     * @param cursorOf extrai o cursor de uma linha
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new KeysetPage<>(List.copyOf(items), cursorOf.apply(items.get(size - 1)).encode());
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        return new KeysetPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -63,6 +63,21 @@ public class SecurityUtils {
         throw new BusinessException("Tipo de autenticação não suportado");
     }
 
+    /**
+     * Obtém o ID do usuário autenticado a partir do token, sem consultar o banco quando o token
+     * o informa. Usado por requisições de longa duração, que não devem tocar no pool de conexões.
+     *
+     * @return UUID do usuário autenticado
+     * @throws BusinessException se não houver usuário autenticado ou se não for encontrado
+     */
+    public UUID getCurrentUserIdFromToken() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!developmentMode && authentication != null && authentication.getDetails() instanceof UUID userId) {
+            return userId;
+        }
+        return getCurrentUserId();
+    }
+
     /**
      * Verifica se o usuário atual tem papel de administrador
      *
@@ -0,0 +1,98 @@
+package br.com.uniube.seniorcare.service.workload;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import br.com.uniube.seniorcare.domain.repository.CaregiverWorkloadRepository;
+import br.com.uniube.seniorcare.domain.repository.WorkloadRollupRepository.Delta;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Mantém os totais diários de carga de trabalho (caregiver_workload_daily) a partir das
+ * escritas de agendamentos. Deve ser chamado na mesma transação da escrita, para que os
+ * totais sejam confirmados ou desfeitos junto com o agendamento.
+ *
+ * Alterações de status feitas em conjunto pela rotina de status atualizam os totais no
+ * próprio UPDATE e não passam por aqui.
+ */
+@Component
+public class WorkloadRollup {
+
+    private final CaregiverWorkloadRepository workloadRepository;
+
+    public WorkloadRollup(CaregiverWorkloadRepository workloadRepository) {
+        this.workloadRepository = workloadRepository;
+    }
+
+    /**
+     * Contabiliza agendamentos recém-criados.
+     */
+    public void added(Collection<Appointment> appointments) {
+        Map<Key, long[]> totals = new LinkedHashMap<>();
+        for (Appointment appointment : appointments) {
+            accumulate(totals, Snapshot.of(appointment), 1);
+        }
+        apply(totals);
+    }
+
+    /**
+     * Contabiliza a alteração de um agendamento (status, dia ou duração).
+     *
+     * @param before estado antes da alteração
+     * @param after agendamento já alterado
+     */
+    public void changed(Snapshot before, Appointment after) {
+        Snapshot current = Snapshot.of(after);
+        if (before.equals(current)) {
+            return;
+        }
+        Map<Key, long[]> totals = new LinkedHashMap<>();
+        accumulate(totals, before, -1);
+        accumulate(totals, current, 1);
+        apply(totals);
+    }
+
+    private static void accumulate(Map<Key, long[]> totals, Snapshot snapshot, int sign) {
+        long[] total = totals.computeIfAbsent(snapshot.key(), k -> new long[2]);
+        total[0] += sign;
+        total[1] += (long) sign * snapshot.durationMinutes();
+    }
+
+    private void apply(Map<Key, long[]> totals) {
+        List<Delta> deltas = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> deltas.add(new Delta(key.organizationId(), key.day(), key.caregiverId(),
+                key.status(), (int) total[0], total[1])));
+        workloadRepository.applyDeltas(deltas);
+    }
+
+    private record Key(UUID organizationId, LocalDate day, UUID caregiverId, AppointmentStatus status) {
+    }
+
+    /**
+     * Estado de um agendamento relevante para os totais, capturado antes de uma alteração.
+     */
+    public record Snapshot(UUID organizationId, LocalDate day, UUID caregiverId, AppointmentStatus status,
+                           int durationMinutes) {
+
+        public static Snapshot of(Appointment appointment) {
+            return new Snapshot(
+                    appointment.getOrganization().getId(),
+                    appointment.getDateTime().toLocalDate(),
+                    appointment.getCaregiver().getId(),
+                    appointment.getStatus(),
+                    Objects.requireNonNullElse(appointment.getDurationMinutes(), Appointment.DEFAULT_DURATION_MINUTES));
+        }
+
+        Key key() {
+            return new Key(organizationId, day, caregiverId, status);
+        }
+    }
+}
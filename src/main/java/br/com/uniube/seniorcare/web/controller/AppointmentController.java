@@ -0,0 +1,216 @@
+package br.com.uniube.seniorcare.web.controller;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.exception.StaleVersionException;
+import br.com.uniube.seniorcare.service.AppointmentService;
+import br.com.uniube.seniorcare.service.schedule.AppointmentBatchResult;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
+import br.com.uniube.seniorcare.web.dto.request.AppointmentBatchRequest;
+import br.com.uniube.seniorcare.web.dto.request.AppointmentRequest;
+import br.com.uniube.seniorcare.web.dto.request.AppointmentSeriesRequest;
+import br.com.uniube.seniorcare.web.dto.request.AppointmentStatusRequest;
+import br.com.uniube.seniorcare.web.dto.request.ObservationRequest;
+import br.com.uniube.seniorcare.web.dto.response.AppointmentResponse;
+import br.com.uniube.seniorcare.web.dto.response.CalendarEntryResponse;
+import br.com.uniube.seniorcare.web.dto.response.ObservationResponse;
+import br.com.uniube.seniorcare.web.dto.response.SliceResponse;
+import br.com.uniube.seniorcare.web.mapper.AppointmentMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * API de agendamentos.
+ *
+ * Leituras devolvem uma ETag forte derivada da versão do agendamento (ou da assinatura da
+ * página, no calendário) e respondem 304 a requisições com If-None-Match correspondente,
+ * sem carregar nem serializar os registros. Alterações aceitam If-Match com a ETag obtida
+ * na leitura e respondem 412 se o agendamento mudou desde então.
+ */
+@RestController
+@RequestMapping("/api/appointments")
+@RequiredArgsConstructor
+@Tag(name = "Agendamentos", description = "API para gerenciamento de agendamentos")
+public class AppointmentController {
+
+    /**
+     * Permite que o cliente guarde a resposta, mas exige revalidação (If-None-Match) a cada uso.
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final AppointmentService appointmentService;
+    private final AppointmentMapper appointmentMapper;
+
+    @GetMapping
+    @Operation(summary = "Listar agendamentos de uma organização no período, paginados por cursor")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida")
+    @ApiResponse(responseCode = "304", description = "Página não modificada desde a ETag informada")
+    @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
+    public ResponseEntity<KeysetPage<CalendarEntryResponse>> findCalendar(
+            @RequestParam UUID organizationId,
+            @RequestParam(required = false) UUID caregiverId,
+            @RequestParam(required = false) UUID elderlyId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size,
+            WebRequest request) {
+        String etag = quote(appointmentService.findCalendarVersion(
+                organizationId, caregiverId, elderlyId, start, end, cursor, size));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        KeysetPage<CalendarEntryResponse> page = appointmentService.findCalendar(
+                organizationId, caregiverId, elderlyId, start, end, cursor, size)
+                .map(appointmentMapper::toCalendarDto);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(page);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar agendamento por ID")
+    @ApiResponse(responseCode = "200", description = "Agendamento encontrado")
+    @ApiResponse(responseCode = "304", description = "Agendamento não modificado desde a ETag informada")
+    @ApiResponse(responseCode = "400", description = "Agendamento não encontrado")
+    public ResponseEntity<AppointmentResponse> findById(@PathVariable UUID id, WebRequest request) {
+        String etag = etag(appointmentService.findVersion(id));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return withETag(ResponseEntity.ok().cacheControl(REVALIDATE), appointmentService.findById(id));
+    }
+
+    @PostMapping
+    @Operation(summary = "Criar novo agendamento")
+    @ApiResponse(responseCode = "201", description = "Agendamento criado com sucesso")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos ou conflito de horário")
+    public ResponseEntity<AppointmentResponse> create(@Valid @RequestBody AppointmentRequest request) {
+        Appointment created = appointmentService.createAppointment(appointmentMapper.toEntity(request));
+        return withETag(ResponseEntity.status(HttpStatus.CREATED), created);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Criar agendamentos em lote")
+    @ApiResponse(responseCode = "200", description = "Lote processado; falhas são reportadas por item")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos")
+    public ResponseEntity<AppointmentBatchResult> createBatch(@Valid @RequestBody AppointmentBatchRequest request) {
+        return ResponseEntity.ok(appointmentService.createAppointments(
+                appointmentMapper.toEntityList(request.getAppointments())));
+    }
+
+    @PostMapping("/series")
+    @Operation(summary = "Criar série de agendamentos recorrentes")
+    @ApiResponse(responseCode = "200", description = "Série processada; falhas são reportadas por ocorrência")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos")
+    public ResponseEntity<AppointmentBatchResult> createSeries(@Valid @RequestBody AppointmentSeriesRequest request) {
+        return ResponseEntity.ok(appointmentService.createAppointmentSeries(
+                appointmentMapper.toEntity(request.getTemplate()), request.getRecurrence()));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "Atualizar agendamento")
+    @ApiResponse(responseCode = "200", description = "Agendamento atualizado com sucesso")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos ou conflito de horário")
+    @ApiResponse(responseCode = "409", description = "Agendamento alterado por outra operação durante a atualização")
+    @ApiResponse(responseCode = "412", description = "Agendamento alterado desde a ETag informada em If-Match")
+    public ResponseEntity<AppointmentResponse> update(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody AppointmentRequest request) {
+        Appointment updated = appointmentService.updateAppointment(
+                id, appointmentMapper.toEntity(request), expectedVersion(ifMatch));
+        return withETag(ResponseEntity.ok(), updated);
+    }
+
+    @PatchMapping("/{id}/status")
+    @Operation(summary = "Atualizar status do agendamento")
+    @ApiResponse(responseCode = "200", description = "Status atualizado com sucesso")
+    @ApiResponse(responseCode = "400", description = "Transição de status inválida")
+    @ApiResponse(responseCode = "409", description = "Agendamento alterado por outra operação durante a atualização")
+    @ApiResponse(responseCode = "412", description = "Agendamento alterado desde a ETag informada em If-Match")
+    public ResponseEntity<AppointmentResponse> updateStatus(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody AppointmentStatusRequest request) {
+        Appointment updated = appointmentService.updateStatus(id, request.getStatus(), expectedVersion(ifMatch));
+        return withETag(ResponseEntity.ok(), updated);
+    }
+
+    @PostMapping("/{id}/cancel")
+    @Operation(summary = "Cancelar agendamento")
+    @ApiResponse(responseCode = "200", description = "Agendamento cancelado com sucesso")
+    @ApiResponse(responseCode = "400", description = "Agendamento já concluído ou cancelado")
+    @ApiResponse(responseCode = "409", description = "Agendamento alterado por outra operação durante o cancelamento")
+    @ApiResponse(responseCode = "412", description = "Agendamento alterado desde a ETag informada em If-Match")
+    public ResponseEntity<AppointmentResponse> cancel(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Appointment cancelled = appointmentService.cancelAppointment(id, expectedVersion(ifMatch));
+        return withETag(ResponseEntity.ok(), cancelled);
+    }
+
+    @GetMapping("/{id}/observations")
+    @Operation(summary = "Listar observações do agendamento, mais recentes primeiro")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida")
+    @ApiResponse(responseCode = "400", description = "Agendamento não encontrado ou paginação inválida")
+    public ResponseEntity<SliceResponse<ObservationResponse>> findObservations(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(appointmentMapper.toObservationSlice(
+                appointmentService.findObservations(id, page, size)));
+    }
+
+    @PostMapping("/{id}/observations")
+    @Operation(summary = "Adicionar observação ao agendamento")
+    @ApiResponse(responseCode = "201", description = "Observação registrada com sucesso")
+    @ApiResponse(responseCode = "400", description = "Agendamento não encontrado ou cancelado")
+    public ResponseEntity<ObservationResponse> addObservation(
+            @PathVariable UUID id,
+            @Valid @RequestBody ObservationRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(appointmentMapper.toObservationDto(appointmentService.addObservation(id, request.getContent())));
+    }
+
+    private ResponseEntity<AppointmentResponse> withETag(ResponseEntity.BodyBuilder builder, Appointment appointment) {
+        return builder.eTag(etag(appointment.getVersion())).body(appointmentMapper.toDto(appointment));
+    }
+
+    private static String etag(long version) {
+        return quote(Long.toString(version));
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    /**
+     * Converte o cabeçalho If-Match na versão esperada. Ausente ou "*" não impõe versão;
+     * ETags fracas ou que não vieram desta API nunca correspondem (comparação forte).
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // cai na exceção abaixo
+            }
+        }
+        throw new StaleVersionException("If-Match não corresponde a uma versão deste agendamento: " + ifMatch);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.uniube.seniorcare.web.controller;
+
+import br.com.uniube.seniorcare.service.AuditService;
+import br.com.uniube.seniorcare.service.audit.AuditExportFormat;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
+import br.com.uniube.seniorcare.web.dto.response.AuditLogResponse;
+import br.com.uniube.seniorcare.web.mapper.AuditLogMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/audit-logs")
+@RequiredArgsConstructor
+@Tag(name = "Auditoria", description = "API de consulta dos registros de auditoria")
+public class AuditLogController {
+
+    private final AuditService auditService;
+    private final AuditLogMapper auditLogMapper;
+
+    @GetMapping
+    @Operation(summary = "Buscar registros de auditoria da organização, paginados por cursor",
+            description = "Do evento mais recente para o mais antigo, com período [from, to). Envie o nextCursor da resposta em cursor, com os mesmos filtros, para obter a próxima página.")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida")
+    @ApiResponse(responseCode = "400", description = "Parâmetros inválidos ou usuário sem permissão")
+    public ResponseEntity<KeysetPage<AuditLogResponse>> search(
+            @RequestParam UUID organizationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String entityName,
+            @RequestParam(required = false) UUID entityId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        AuditService.AuditFilter filter = new AuditService.AuditFilter(organizationId, from, to, userId,
+                action, entityName, entityId);
+        return ResponseEntity.ok(auditService.search(filter, cursor, size).map(auditLogMapper::toDto));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exportar registros de auditoria da organização em NDJSON ou CSV",
+            description = "Eventos do período [from, to) em ordem de tempo, escritos na resposta à medida que são lidos do banco.")
+    @ApiResponse(responseCode = "200", description = "Arquivo exportado")
+    @ApiResponse(responseCode = "400", description = "Parâmetros inválidos ou usuário sem permissão")
+    public void export(
+            @RequestParam UUID organizationId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "NDJSON") AuditExportFormat format,
+            HttpServletResponse response) throws IOException {
+        // Valida antes de escrever: depois do primeiro byte não há como responder com erro
+        AuditService.AuditExport export = auditService.prepareExport(organizationId, from, to, format);
+
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(export.fileName()).build().toString());
+        auditService.export(export, response.getOutputStream());
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.uniube.seniorcare.web.controller;
+
+import br.com.uniube.seniorcare.domain.entity.NotificationDigestPreference;
+import br.com.uniube.seniorcare.domain.enums.NotificationStatus;
+import br.com.uniube.seniorcare.service.NotificationService;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
+import br.com.uniube.seniorcare.web.dto.request.DigestPreferenceRequest;
+import br.com.uniube.seniorcare.web.dto.request.NotificationReadRequest;
+import br.com.uniube.seniorcare.web.dto.response.DigestPreferenceResponse;
+import br.com.uniube.seniorcare.web.dto.response.InboxEntryResponse;
+import br.com.uniube.seniorcare.web.dto.response.MarkReadResponse;
+import br.com.uniube.seniorcare.web.dto.response.NotificationDigestResponse;
+import br.com.uniube.seniorcare.web.dto.response.UnreadCountResponse;
+import br.com.uniube.seniorcare.web.mapper.NotificationMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * API de notificações.
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Tag(name = "Notificações", description = "API de notificações dos usuários")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final NotificationMapper notificationMapper;
+
+    @GetMapping
+    @Operation(summary = "Listar a caixa de entrada do usuário autenticado, paginada por cursor",
+            description = "Da notificação mais recente para a mais antiga. Envie o nextCursor da resposta em cursor para obter a próxima página.")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida")
+    @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
+    public ResponseEntity<KeysetPage<InboxEntryResponse>> findInbox(
+            @RequestParam(required = false) NotificationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.findInbox(status, cursor, size)
+                .map(notificationMapper::toInboxDto));
+    }
+
+    @GetMapping("/unread-count")
+    @Operation(summary = "Contar as notificações não lidas do usuário autenticado")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida")
+    public ResponseEntity<UnreadCountResponse> countUnread() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new UnreadCountResponse(notificationService.countUnread()));
+    }
+
+    @PostMapping("/read")
+    @Operation(summary = "Marcar várias notificações do usuário autenticado como lidas")
+    @ApiResponse(responseCode = "200", description = "Notificações marcadas; já lidas e de outros usuários são ignoradas")
+    @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    public ResponseEntity<MarkReadResponse> markAsRead(@Valid @RequestBody NotificationReadRequest request) {
+        return ResponseEntity.ok(new MarkReadResponse(notificationService.markAsRead(request.getIds())));
+    }
+
+    @PostMapping("/read-all")
+    @Operation(summary = "Marcar todas as notificações do usuário autenticado como lidas",
+            description = "Com until (ID de evento do stream), marca apenas as notificações até ela, inclusive.")
+    @ApiResponse(responseCode = "200", description = "Notificações marcadas")
+    @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    public ResponseEntity<MarkReadResponse> markAllAsRead(@RequestParam(required = false) String until) {
+        return ResponseEntity.ok(new MarkReadResponse(notificationService.markAllAsRead(until)));
+    }
+
+    @GetMapping("/digests")
+    @Operation(summary = "Listar os resumos de notificações do usuário autenticado")
+    @ApiResponse(responseCode = "200", description = "Resumos, do período mais recente para o mais antigo")
+    @ApiResponse(responseCode = "400", description = "Limite inválido")
+    public ResponseEntity<List<NotificationDigestResponse>> findDigests(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(notificationMapper.toDigestDtoList(notificationService.findDigests(limit)));
+    }
+
+    @PostMapping("/digests/{id}/read")
+    @Operation(summary = "Marcar um resumo e todas as notificações que ele agrupa como lidos")
+    @ApiResponse(responseCode = "200", description = "Resumo marcado")
+    @ApiResponse(responseCode = "400", description = "Resumo não encontrado")
+    public ResponseEntity<MarkReadResponse> markDigestAsRead(@PathVariable UUID id) {
+        return ResponseEntity.ok(new MarkReadResponse(notificationService.markDigestAsRead(id)));
+    }
+
+    @GetMapping("/digest-preference")
+    @Operation(summary = "Consultar a preferência de resumo do usuário autenticado")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida")
+    public ResponseEntity<DigestPreferenceResponse> findDigestPreference() {
+        NotificationDigestPreference preference = notificationService.findDigestPreference();
+        return ResponseEntity.ok(preference != null
+                ? new DigestPreferenceResponse(true, preference.getPeriod(), preference.getUpdatedAt())
+                : new DigestPreferenceResponse(false, null, null));
+    }
+
+    @PutMapping("/digest-preference")
+    @Operation(summary = "Receber as notificações em resumos periódicos",
+            description = "As notificações continuam na caixa de entrada, mas apenas os resumos são entregues pelos canais externos.")
+    @ApiResponse(responseCode = "200", description = "Preferência gravada")
+    @ApiResponse(responseCode = "400", description = "Período inválido")
+    public ResponseEntity<DigestPreferenceResponse> updateDigestPreference(
+            @Valid @RequestBody DigestPreferenceRequest request) {
+        NotificationDigestPreference preference = notificationService.updateDigestPreference(request.getPeriod());
+        return ResponseEntity.ok(new DigestPreferenceResponse(true, preference.getPeriod(), preference.getUpdatedAt()));
+    }
+
+    @DeleteMapping("/digest-preference")
+    @Operation(summary = "Voltar a receber as notificações individualmente")
+    @ApiResponse(responseCode = "204", description = "Resumos desativados")
+    public ResponseEntity<Void> disableDigest() {
+        notificationService.disableDigest();
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Receber as notificações do usuário autenticado em tempo real (Server-Sent Events)",
+            description = "Eventos: notification (nova notificação), repeated (nova ocorrência de uma notificação pendente), read, read-many, read-all e deleted (saíram da lista de não lidas) "
+                    + "e resync (recarregar a lista). Ao reconectar, envie o último ID recebido em Last-Event-ID "
+                    + "para receber as notificações não lidas criadas no intervalo.")
+    @ApiResponse(responseCode = "200", description = "Stream aberto")
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationService.openStream(lastEventId);
+    }
+}
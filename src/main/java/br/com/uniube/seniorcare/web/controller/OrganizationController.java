@@ -1,8 +1,11 @@
 package br.com.uniube.seniorcare.web.controller;
 
+import br.com.uniube.seniorcare.domain.entity.NotificationRetentionPolicy;
 import br.com.uniube.seniorcare.domain.entity.Organization;
 import br.com.uniube.seniorcare.service.OrganizationService;
+import br.com.uniube.seniorcare.web.dto.request.NotificationRetentionRequest;
 import br.com.uniube.seniorcare.web.dto.request.OrganizationRequest;
+import br.com.uniube.seniorcare.web.dto.response.NotificationRetentionResponse;
 import br.com.uniube.seniorcare.web.dto.response.OrganizationResponse;
 import br.com.uniube.seniorcare.web.mapper.OrganizationMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -81,4 +84,32 @@ public class OrganizationController {
         organizationService.deleteOrganization(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/notification-retention")
+    @Operation(summary = "Consultar a retenção de notificações da organização",
+               description = "Sem política própria, retorna a retenção padrão, sem data de atualização")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida")
+    @ApiResponse(responseCode = "404", description = "Organização não encontrada")
+    public ResponseEntity<NotificationRetentionResponse> findNotificationRetention(@PathVariable UUID id) {
+        return ResponseEntity.ok(toRetentionDto(organizationService.findNotificationRetention(id)));
+    }
+
+    @PutMapping("/{id}/notification-retention")
+    @Operation(summary = "Definir a retenção de notificações da organização",
+               description = "As notificações vencidas são removidas (ou arquivadas) na próxima execução da manutenção")
+    @ApiResponse(responseCode = "200", description = "Retenção atualizada com sucesso")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos")
+    @ApiResponse(responseCode = "404", description = "Organização não encontrada")
+    public ResponseEntity<NotificationRetentionResponse> updateNotificationRetention(
+            @PathVariable UUID id,
+            @Valid @RequestBody NotificationRetentionRequest requestDTO) {
+        NotificationRetentionPolicy policy = organizationService.updateNotificationRetention(
+                id, requestDTO.getRetentionDays(), requestDTO.isArchive());
+        return ResponseEntity.ok(toRetentionDto(policy));
+    }
+
+    private static NotificationRetentionResponse toRetentionDto(NotificationRetentionPolicy policy) {
+        return new NotificationRetentionResponse(policy.getOrganizationId(), policy.getRetentionDays(),
+                policy.isArchive(), policy.getUpdatedAt());
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.uniube.seniorcare.web.controller;
+
+import br.com.uniube.seniorcare.service.WorkloadService;
+import br.com.uniube.seniorcare.web.dto.response.WorkloadResponse;
+import br.com.uniube.seniorcare.web.mapper.WorkloadMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/workload")
+@RequiredArgsConstructor
+@Tag(name = "Carga de trabalho", description = "API de totais de atendimentos por cuidador")
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+    private final WorkloadMapper workloadMapper;
+
+    @GetMapping("/daily")
+    @Operation(summary = "Listar totais diários de atendimentos por cuidador e status")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida")
+    @ApiResponse(responseCode = "400", description = "Período inválido")
+    public ResponseEntity<List<WorkloadResponse>> findDaily(
+            @RequestParam UUID organizationId,
+            @RequestParam(required = false) UUID caregiverId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(workloadMapper.toDtoList(
+                workloadService.findDaily(organizationId, caregiverId, from, to)));
+    }
+
+    @GetMapping("/weekly")
+    @Operation(summary = "Listar totais semanais de atendimentos por cuidador e status")
+    @ApiResponse(responseCode = "200", description = "Operação bem-sucedida")
+    @ApiResponse(responseCode = "400", description = "Período inválido")
+    public ResponseEntity<List<WorkloadResponse>> findWeekly(
+            @RequestParam UUID organizationId,
+            @RequestParam(required = false) UUID caregiverId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(workloadMapper.toDtoList(
+                workloadService.findWeekly(organizationId, caregiverId, from, to)));
+    }
+}
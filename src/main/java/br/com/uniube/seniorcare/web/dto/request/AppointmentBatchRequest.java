@@ -0,0 +1,13 @@
+package br.com.uniube.seniorcare.web.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AppointmentBatchRequest {
+    @NotEmpty(message = "Informe ao menos um agendamento")
+    private List<@Valid AppointmentRequest> appointments;
+}
@@ -0,0 +1,28 @@
+package br.com.uniube.seniorcare.web.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class AppointmentRequest {
+    @NotNull(message = "Organização é obrigatória")
+    private UUID organizationId;
+
+    @NotNull(message = "Idoso é obrigatório")
+    private UUID elderlyId;
+
+    @NotNull(message = "Cuidador é obrigatório")
+    private UUID caregiverId;
+
+    @NotNull(message = "Data e hora são obrigatórias")
+    private LocalDateTime dateTime;
+
+    @Positive(message = "Duração deve ser positiva")
+    private Integer durationMinutes;
+
+    private String description;
+}
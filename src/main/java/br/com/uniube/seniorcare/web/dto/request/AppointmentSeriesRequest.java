@@ -0,0 +1,16 @@
+package br.com.uniube.seniorcare.web.dto.request;
+
+import br.com.uniube.seniorcare.service.schedule.RecurrenceRule;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class AppointmentSeriesRequest {
+    @Valid
+    @NotNull(message = "Agendamento modelo é obrigatório")
+    private AppointmentRequest template;
+
+    @NotNull(message = "Regra de recorrência é obrigatória")
+    private RecurrenceRule recurrence;
+}
@@ -0,0 +1,11 @@
+package br.com.uniube.seniorcare.web.dto.request;
+
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class AppointmentStatusRequest {
+    @NotNull(message = "Status é obrigatório")
+    private AppointmentStatus status;
+}
@@ -0,0 +1,12 @@
+package br.com.uniube.seniorcare.web.dto.request;
+
+import br.com.uniube.seniorcare.domain.enums.DigestPeriod;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class DigestPreferenceRequest {
+
+    @NotNull(message = "O período do resumo é obrigatório")
+    private DigestPeriod period;
+}
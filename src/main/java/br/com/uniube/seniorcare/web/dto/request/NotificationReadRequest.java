@@ -0,0 +1,16 @@
+package br.com.uniube.seniorcare.web.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class NotificationReadRequest {
+    @NotEmpty(message = "Informe ao menos uma notificação")
+    @Size(max = 1000, message = "É possível marcar no máximo 1000 notificações por vez")
+    private List<@NotNull UUID> ids;
+}
@@ -0,0 +1,17 @@
+package br.com.uniube.seniorcare.web.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class NotificationRetentionRequest {
+
+    @NotNull(message = "A retenção em dias é obrigatória")
+    @Min(value = 1, message = "A retenção deve ser de ao menos 1 dia")
+    @Max(value = 3650, message = "A retenção deve ser de no máximo 3650 dias")
+    private Integer retentionDays;
+
+    private boolean archive;
+}
@@ -0,0 +1,10 @@
+package br.com.uniube.seniorcare.web.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class ObservationRequest {
+    @NotBlank(message = "Observação é obrigatória")
+    private String content;
+}
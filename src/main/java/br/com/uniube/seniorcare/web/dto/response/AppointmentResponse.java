@@ -0,0 +1,23 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class AppointmentResponse {
+    private UUID id;
+    private UUID organizationId;
+    private UUID elderlyId;
+    private UUID caregiverId;
+    private LocalDateTime dateTime;
+    private Integer durationMinutes;
+    private LocalDateTime endDateTime;
+    private String description;
+    private AppointmentStatus status;
+    private boolean overdue;
+    private Long version;
+    private LocalDateTime createdAt;
+}
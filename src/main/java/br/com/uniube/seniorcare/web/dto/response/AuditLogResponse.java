@@ -0,0 +1,18 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class AuditLogResponse {
+    private UUID id;
+    private UUID organizationId;
+    private UUID userId;
+    private String action;
+    private String entityName;
+    private UUID entityId;
+    private LocalDateTime timestamp;
+    private String description;
+}
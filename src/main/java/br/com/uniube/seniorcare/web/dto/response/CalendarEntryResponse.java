@@ -0,0 +1,19 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class CalendarEntryResponse {
+    private UUID id;
+    private LocalDateTime dateTime;
+    private Integer durationMinutes;
+    private AppointmentStatus status;
+    private UUID elderlyId;
+    private String elderlyName;
+    private UUID caregiverId;
+    private String caregiverName;
+}
@@ -0,0 +1,17 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import br.com.uniube.seniorcare.domain.enums.DigestPeriod;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DigestPreferenceResponse {
+    private boolean enabled;
+    private DigestPeriod period;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,19 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import br.com.uniube.seniorcare.domain.enums.NotificationStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class InboxEntryResponse {
+    private UUID id;
+    private UUID senderId;
+    private String senderName;
+    private String message;
+    private NotificationStatus status;
+    private int occurrences;
+    private LocalDateTime lastOccurredAt;
+    private LocalDateTime createdAt;
+}
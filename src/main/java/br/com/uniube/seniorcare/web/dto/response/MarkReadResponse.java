@@ -0,0 +1,12 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarkReadResponse {
+    private int updated;
+}
@@ -0,0 +1,25 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import br.com.uniube.seniorcare.domain.enums.NotificationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDigestResponse {
+    private UUID id;
+    private LocalDateTime periodStart;
+    private LocalDateTime periodEnd;
+    private int notificationCount;
+    private int occurrenceCount;
+    private int senderCount;
+    private LocalDateTime firstNotificationAt;
+    private LocalDateTime lastNotificationAt;
+    private String summary;
+    private NotificationStatus status;
+}
@@ -0,0 +1,18 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationRetentionResponse {
+    private UUID organizationId;
+    private int retentionDays;
+    private boolean archive;
+    private LocalDateTime updatedAt;
+}
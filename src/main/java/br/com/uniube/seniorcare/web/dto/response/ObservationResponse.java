@@ -0,0 +1,15 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class ObservationResponse {
+    private UUID id;
+    private UUID appointmentId;
+    private UUID authorId;
+    private String content;
+    private LocalDateTime createdAt;
+}
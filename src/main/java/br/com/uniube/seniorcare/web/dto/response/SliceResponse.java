@@ -0,0 +1,13 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SliceResponse<T> {
+    private List<T> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,16 @@
+package br.com.uniube.seniorcare.web.dto.response;
+
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+public class WorkloadResponse {
+    private UUID caregiverId;
+    private LocalDate periodStart;
+    private AppointmentStatus status;
+    private int visitCount;
+    private long totalMinutes;
+}
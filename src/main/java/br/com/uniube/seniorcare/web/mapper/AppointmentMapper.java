@@ -0,0 +1,70 @@
+package br.com.uniube.seniorcare.web.mapper;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.entity.AppointmentObservation;
+import br.com.uniube.seniorcare.domain.entity.Caregiver;
+import br.com.uniube.seniorcare.domain.entity.Elderly;
+import br.com.uniube.seniorcare.domain.entity.Organization;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import br.com.uniube.seniorcare.web.dto.request.AppointmentRequest;
+import br.com.uniube.seniorcare.web.dto.response.AppointmentResponse;
+import br.com.uniube.seniorcare.web.dto.response.CalendarEntryResponse;
+import br.com.uniube.seniorcare.web.dto.response.ObservationResponse;
+import br.com.uniube.seniorcare.web.dto.response.SliceResponse;
+import org.mapstruct.*;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.UUID;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface AppointmentMapper {
+    @Mapping(target = "organization", source = "organizationId", qualifiedByName = "organizationFromId")
+    @Mapping(target = "elderly", source = "elderlyId", qualifiedByName = "elderlyFromId")
+    @Mapping(target = "caregiver", source = "caregiverId", qualifiedByName = "caregiverFromId")
+    Appointment toEntity(AppointmentRequest dto);
+
+    List<Appointment> toEntityList(List<AppointmentRequest> dtos);
+
+    @Mapping(target = "organizationId", source = "organization.id")
+    @Mapping(target = "elderlyId", source = "elderly.id")
+    @Mapping(target = "caregiverId", source = "caregiver.id")
+    AppointmentResponse toDto(Appointment entity);
+
+    CalendarEntryResponse toCalendarDto(AppointmentRepository.CalendarEntry entry);
+
+    ObservationResponse toObservationDto(AppointmentObservation observation);
+
+    default SliceResponse<ObservationResponse> toObservationSlice(Slice<AppointmentObservation> slice) {
+        SliceResponse<ObservationResponse> response = new SliceResponse<>();
+        response.setItems(slice.map(this::toObservationDto).getContent());
+        response.setPage(slice.getNumber());
+        response.setSize(slice.getSize());
+        response.setHasNext(slice.hasNext());
+        return response;
+    }
+
+    @Named("organizationFromId")
+    default Organization organizationFromId(UUID id) {
+        if (id == null) return null;
+        Organization org = new Organization();
+        org.setId(id);
+        return org;
+    }
+
+    @Named("elderlyFromId")
+    default Elderly elderlyFromId(UUID id) {
+        if (id == null) return null;
+        Elderly elderly = new Elderly();
+        elderly.setId(id);
+        return elderly;
+    }
+
+    @Named("caregiverFromId")
+    default Caregiver caregiverFromId(UUID id) {
+        if (id == null) return null;
+        Caregiver caregiver = new Caregiver();
+        caregiver.setId(id);
+        return caregiver;
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.uniube.seniorcare.web.mapper;
+
+import br.com.uniube.seniorcare.domain.entity.AuditLog;
+import br.com.uniube.seniorcare.web.dto.response.AuditLogResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface AuditLogMapper {
+    AuditLogResponse toDto(AuditLog auditLog);
+}
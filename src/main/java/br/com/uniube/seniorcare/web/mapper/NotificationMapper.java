@@ -0,0 +1,19 @@
+package br.com.uniube.seniorcare.web.mapper;
+
+import br.com.uniube.seniorcare.domain.entity.NotificationDigest;
+import br.com.uniube.seniorcare.domain.repository.NotificationRepository;
+import br.com.uniube.seniorcare.web.dto.response.InboxEntryResponse;
+import br.com.uniube.seniorcare.web.dto.response.NotificationDigestResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface NotificationMapper {
+    InboxEntryResponse toInboxDto(NotificationRepository.InboxEntry entry);
+
+    NotificationDigestResponse toDigestDto(NotificationDigest digest);
+
+    List<NotificationDigestResponse> toDigestDtoList(List<NotificationDigest> digests);
+}
@@ -0,0 +1,15 @@
+package br.com.uniube.seniorcare.web.mapper;
+
+import br.com.uniube.seniorcare.service.WorkloadService;
+import br.com.uniube.seniorcare.web.dto.response.WorkloadResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface WorkloadMapper {
+    WorkloadResponse toDto(WorkloadService.WorkloadTotal total);
+
+    List<WorkloadResponse> toDtoList(List<WorkloadService.WorkloadTotal> totals);
+}
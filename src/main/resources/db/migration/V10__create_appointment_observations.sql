@@ -0,0 +1,18 @@
+-- Observações dos agendamentos em tabela própria, somente inserção.
+-- Antes ficavam concatenadas em appointments.description, que era reescrita a cada nova observação.
+CREATE TABLE IF NOT EXISTS appointment_observations (
+    id UUID PRIMARY KEY,
+    organization_id UUID NOT NULL,
+    appointment_id UUID NOT NULL,
+    author_id UUID,  -- sem FK: em modo de desenvolvimento o usuário padrão pode não existir
+    content TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_appointment_observations_organization FOREIGN KEY (organization_id)
+        REFERENCES organizations(id),
+    CONSTRAINT fk_appointment_observations_appointment FOREIGN KEY (appointment_id)
+        REFERENCES appointments(id) ON DELETE CASCADE
+);
+
+-- Leitura paginada das observações de um agendamento, mais recentes primeiro
+CREATE INDEX IF NOT EXISTS idx_appointment_observations_appointment_created
+    ON appointment_observations (appointment_id, created_at DESC, id DESC);
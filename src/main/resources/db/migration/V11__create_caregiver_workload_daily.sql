@@ -0,0 +1,21 @@
+-- Contagem diária de atendimentos por cuidador e status, mantida de forma incremental
+-- pelas escritas de agendamentos, para os painéis de carga de trabalho.
+CREATE TABLE IF NOT EXISTS caregiver_workload_daily (
+    organization_id UUID NOT NULL,
+    day DATE NOT NULL,
+    caregiver_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    visit_count INTEGER NOT NULL DEFAULT 0,
+    total_minutes BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (organization_id, day, caregiver_id, status),
+    CONSTRAINT fk_caregiver_workload_daily_organization FOREIGN KEY (organization_id)
+        REFERENCES organizations(id),
+    CONSTRAINT fk_caregiver_workload_daily_caregiver FOREIGN KEY (caregiver_id)
+        REFERENCES caregiver(id) ON DELETE CASCADE
+);
+
+-- Carga inicial a partir dos agendamentos existentes
+INSERT INTO caregiver_workload_daily (organization_id, day, caregiver_id, status, visit_count, total_minutes)
+SELECT organization_id, CAST(date_time AS DATE), caregiver_id, status, COUNT(*), SUM(duration_minutes)
+FROM appointments
+GROUP BY organization_id, CAST(date_time AS DATE), caregiver_id, status;
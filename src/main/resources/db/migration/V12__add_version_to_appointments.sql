@@ -0,0 +1,2 @@
+-- Versão do agendamento para controle de concorrência otimista e ETags da API
+ALTER TABLE appointments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
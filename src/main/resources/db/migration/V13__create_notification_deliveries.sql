@@ -0,0 +1,22 @@
+-- Outbox de entrega das notificações por canal externo (e-mail, SMS, push...).
+-- As linhas são gravadas na mesma transação que cria a notificação e consumidas pelos
+-- workers de entrega; a requisição que cria a notificação não espera o canal.
+CREATE TABLE IF NOT EXISTS notification_deliveries (
+    id UUID PRIMARY KEY,
+    notification_id UUID NOT NULL,  -- sem FK: notificações excluídas são descartadas pelo worker
+    channel VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    delivered_at TIMESTAMP
+);
+
+-- Fila de entregas pendentes, na ordem em que ficam disponíveis
+CREATE INDEX IF NOT EXISTS idx_notification_deliveries_pending
+    ON notification_deliveries (next_attempt_at)
+    WHERE status = 'PENDENTE';
+
+CREATE INDEX IF NOT EXISTS idx_notification_deliveries_notification
+    ON notification_deliveries (notification_id);
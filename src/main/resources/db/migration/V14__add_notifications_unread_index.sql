@@ -0,0 +1,5 @@
+-- Notificações não lidas de um destinatário em ordem de criação: retomada do stream SSE
+-- a partir do último evento recebido (Last-Event-ID) e listagem das não lidas.
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_unread
+    ON notifications (receiver_id, created_at, id)
+    WHERE status = 'PENDENTE';
@@ -0,0 +1,16 @@
+-- Quantidade de notificações não lidas por destinatário, mantida de forma incremental pelas
+-- escritas de notificações. A leitura do contador não consulta a tabela notifications.
+CREATE TABLE IF NOT EXISTS notification_unread_counters (
+    receiver_id UUID PRIMARY KEY,
+    unread_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_notification_unread_counters_receiver FOREIGN KEY (receiver_id)
+        REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Carga inicial a partir das notificações existentes
+INSERT INTO notification_unread_counters (receiver_id, unread_count)
+SELECT receiver_id, count(*)
+FROM notifications
+WHERE status = 'PENDENTE'
+GROUP BY receiver_id
+ON CONFLICT (receiver_id) DO NOTHING;
@@ -0,0 +1,89 @@
+-- Particiona notifications por mês de criação, com política de retenção por organização.
+--
+-- A chave primária passa a ser (id, created_at), exigência do particionamento; o id continua
+-- único na prática (UUID aleatório) e as buscas por id usam o índice da chave em cada partição.
+-- Nenhuma tabela referencia notifications por FK. As partições futuras são criadas e as
+-- vencidas removidas pela rotina de manutenção (NotificationPartitionMaintenance).
+
+-- Retenção por organização; organizações sem política usam app.notifications.retention.default-days
+CREATE TABLE IF NOT EXISTS notification_retention_policies (
+    organization_id UUID PRIMARY KEY,
+    retention_days INT NOT NULL CHECK (retention_days > 0),
+    archive BOOLEAN NOT NULL DEFAULT FALSE,  -- copia as notificações vencidas para notifications_archive
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_notification_retention_policies_organization FOREIGN KEY (organization_id)
+        REFERENCES organizations(id) ON DELETE CASCADE
+);
+
+-- Notificações vencidas de organizações com arquivamento, sem FKs para não impedir exclusões
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    id UUID NOT NULL,
+    organization_id UUID NOT NULL,
+    sender_id UUID,
+    receiver_id UUID NOT NULL,
+    message TEXT,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_archive_organization_created
+    ON notifications_archive (organization_id, created_at);
+
+-- Tabela atual sai do caminho; nomes de índices são únicos no schema
+DROP INDEX IF EXISTS idx_notifications_receiver_unread;
+ALTER TABLE notifications RENAME TO notifications_old;
+ALTER TABLE notifications_old RENAME CONSTRAINT notifications_pkey TO notifications_old_pkey;
+
+CREATE TABLE notifications (
+    id UUID NOT NULL,
+    organization_id UUID NOT NULL,
+    sender_id UUID,
+    receiver_id UUID NOT NULL,
+    message TEXT,
+    status VARCHAR(20) NOT NULL,  -- Valores esperados: 'PENDENTE', 'LIDA'
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT notifications_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_notifications_organization FOREIGN KEY (organization_id)
+        REFERENCES organizations(id),
+    CONSTRAINT fk_notifications_receiver FOREIGN KEY (receiver_id)
+        REFERENCES users(id),
+    CONSTRAINT fk_notifications_sender FOREIGN KEY (sender_id)
+        REFERENCES users(id)
+) PARTITION BY RANGE (created_at);
+
+-- Recebe o que cair fora das partições mensais; a manutenção move essas linhas ao criar a partição do mês
+CREATE TABLE notifications_default PARTITION OF notifications DEFAULT;
+
+-- Uma partição por mês, do mês da notificação mais antiga até três meses à frente
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE)::date + INTERVAL '3 months';
+BEGIN
+    SELECT COALESCE(date_trunc('month', min(created_at))::date, date_trunc('month', CURRENT_DATE)::date)
+    INTO month_start
+    FROM notifications_old;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+                       'notifications_p' || to_char(month_start, 'YYYYMM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO notifications (id, organization_id, sender_id, receiver_id, message, status, created_at)
+SELECT id, organization_id, sender_id, receiver_id, message, status, created_at
+FROM notifications_old;
+
+DROP TABLE notifications_old;
+
+-- Índices locais, criados em cada partição
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_status_created
+    ON notifications (receiver_id, status, created_at);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_unread
+    ON notifications (receiver_id, created_at, id)
+    WHERE status = 'PENDENTE';
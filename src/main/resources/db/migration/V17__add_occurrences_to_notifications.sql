@@ -0,0 +1,10 @@
+-- Agrupamento de notificações repetidas: mensagens iguais do mesmo remetente para o mesmo
+-- destinatário dentro da janela de agrupamento incrementam occurrences em vez de criar linhas.
+-- Colunas com valor padrão constante são adicionadas sem reescrever as partições.
+ALTER TABLE notifications
+    ADD COLUMN IF NOT EXISTS occurrences INT NOT NULL DEFAULT 1,
+    ADD COLUMN IF NOT EXISTS last_occurred_at TIMESTAMP;
+
+ALTER TABLE notifications_archive
+    ADD COLUMN IF NOT EXISTS occurrences INT NOT NULL DEFAULT 1,
+    ADD COLUMN IF NOT EXISTS last_occurred_at TIMESTAMP;
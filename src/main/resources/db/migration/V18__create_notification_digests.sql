@@ -0,0 +1,42 @@
+-- Resumos periódicos de notificações (opt-in por usuário).
+--
+-- Usuários com preferência de resumo continuam recebendo as notificações na caixa de entrada,
+-- mas não têm entregas individuais pelos canais externos: ao fim de cada período, as
+-- notificações pendentes do período viram um único resumo, que é entregue e lido de uma vez.
+
+CREATE TABLE IF NOT EXISTS notification_digest_preferences (
+    user_id UUID PRIMARY KEY,
+    period VARCHAR(20) NOT NULL,  -- Valores esperados: 'HORARIO', 'DIARIO'
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_notification_digest_preferences_user FOREIGN KEY (user_id)
+        REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS notification_digests (
+    id UUID PRIMARY KEY,
+    organization_id UUID NOT NULL,
+    receiver_id UUID NOT NULL,
+    period_start TIMESTAMP NOT NULL,
+    period_end TIMESTAMP NOT NULL,
+    notification_count INT NOT NULL,
+    occurrence_count INT NOT NULL,
+    sender_count INT NOT NULL,
+    first_notification_at TIMESTAMP NOT NULL,
+    last_notification_at TIMESTAMP NOT NULL,
+    summary TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,  -- Valores esperados: 'PENDENTE', 'LIDA'
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_notification_digests_organization FOREIGN KEY (organization_id)
+        REFERENCES organizations(id) ON DELETE CASCADE,
+    CONSTRAINT fk_notification_digests_receiver FOREIGN KEY (receiver_id)
+        REFERENCES users(id) ON DELETE CASCADE,
+    -- Um resumo por destinatário e período: execuções repetidas não duplicam resumos
+    CONSTRAINT uk_notification_digests_receiver_period UNIQUE (receiver_id, period_start)
+);
+
+-- Resumo que agrupou a notificação; notificações sem resumo ficam com NULL
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS digest_id UUID;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_digest
+    ON notifications (digest_id)
+    WHERE digest_id IS NOT NULL;
@@ -0,0 +1,11 @@
+-- Caixa de entrada de um destinatário com paginação por keyset em (created_at, id), da mais
+-- recente para a mais antiga. Sem filtro, a busca percorre este índice de trás para frente;
+-- como as partições são mensais, a primeira página lê apenas as partições mais recentes.
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_created_id
+    ON notifications (receiver_id, created_at, id);
+
+-- Com filtro de status, o ID no fim do índice resolve o desempate sem ordenação extra.
+DROP INDEX IF EXISTS idx_notifications_receiver_status_created;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_status_created_id
+    ON notifications (receiver_id, status, created_at, id);
@@ -0,0 +1,14 @@
+-- Busca de auditoria paginada por keyset em (timestamp, id), do evento mais recente para o
+-- mais antigo. Cada índice atende um ponto de partida da consulta: a organização inteira,
+-- um registro específico ("quem alterou este idoso") ou um usuário. O id no fim do índice
+-- resolve o desempate sem ordenação extra.
+CREATE INDEX IF NOT EXISTS idx_audit_logs_organization_timestamp_id
+    ON audit_logs (organization_id, timestamp, id);
+
+-- Eventos sem registro afetado (login, por exemplo) nunca são buscados por entidade.
+CREATE INDEX IF NOT EXISTS idx_audit_logs_entity_timestamp_id
+    ON audit_logs (entity_id, timestamp, id)
+    WHERE entity_id IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_user_timestamp_id
+    ON audit_logs (user_id, timestamp, id);
@@ -0,0 +1,76 @@
+-- Particiona audit_logs por mês do evento, com índice BRIN para buscas por período.
+--
+-- A chave primária passa a ser (id, timestamp), exigência do particionamento; o id continua
+-- único na prática (UUID aleatório) e as gravações repetidas do mesmo evento trazem o mesmo
+-- par. Nenhuma tabela referencia audit_logs por FK. As partições futuras são criadas e as
+-- antigas exportadas para o arquivo e removidas pela rotina de manutenção
+-- (AuditPartitionMaintenance).
+
+-- Tabela atual sai do caminho; nomes de índices são únicos no schema
+DROP INDEX IF EXISTS idx_audit_logs_organization_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_logs_entity_timestamp_id;
+DROP INDEX IF EXISTS idx_audit_logs_user_timestamp_id;
+ALTER TABLE audit_logs RENAME TO audit_logs_old;
+ALTER TABLE audit_logs_old RENAME CONSTRAINT audit_logs_pkey TO audit_logs_old_pkey;
+
+CREATE TABLE audit_logs (
+    id UUID NOT NULL,
+    organization_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    action VARCHAR(100) NOT NULL,
+    entity_name VARCHAR(50) NOT NULL,
+    entity_id UUID,
+    timestamp TIMESTAMP NOT NULL,
+    description TEXT,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT audit_logs_pkey PRIMARY KEY (id, timestamp),
+    CONSTRAINT fk_audit_logs_organization FOREIGN KEY (organization_id)
+        REFERENCES organizations(id),
+    CONSTRAINT fk_audit_logs_user FOREIGN KEY (user_id)
+        REFERENCES users(id)
+) PARTITION BY RANGE (timestamp);
+
+-- Recebe o que cair fora das partições mensais; a manutenção move essas linhas ao criar a partição do mês
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Uma partição por mês, do mês do evento mais antigo até três meses à frente
+DO $$
+DECLARE
+    month_start DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE)::date + INTERVAL '3 months';
+BEGIN
+    SELECT COALESCE(date_trunc('month', min(timestamp))::date, date_trunc('month', CURRENT_DATE)::date)
+    INTO month_start
+    FROM audit_logs_old;
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       'audit_logs_p' || to_char(month_start, 'YYYYMM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- Em ordem de tempo, para que o BRIN de cada partição fique compacto
+INSERT INTO audit_logs (id, organization_id, user_id, action, entity_name, entity_id, timestamp, description, version)
+SELECT id, organization_id, user_id, action, entity_name, entity_id, timestamp, description, version
+FROM audit_logs_old
+ORDER BY timestamp;
+
+DROP TABLE audit_logs_old;
+
+-- Índices locais, criados em cada partição. Os eventos chegam em ordem de tempo, então um
+-- BRIN em timestamp cobre buscas e exportações por período com poucas páginas de índice.
+CREATE INDEX IF NOT EXISTS idx_audit_logs_timestamp_brin
+    ON audit_logs USING brin (timestamp);
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_organization_timestamp_id
+    ON audit_logs (organization_id, timestamp, id);
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_entity_timestamp_id
+    ON audit_logs (entity_id, timestamp, id)
+    WHERE entity_id IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_audit_logs_user_timestamp_id
+    ON audit_logs (user_id, timestamp, id);
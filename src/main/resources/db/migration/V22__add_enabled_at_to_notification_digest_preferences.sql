@@ -0,0 +1,7 @@
+-- Momento em que o usuário passou a receber resumos. Apenas notificações criadas a partir dele
+-- deixam de ter entregas individuais e entram nos resumos; as anteriores já foram entregues.
+-- Trocar o período do resumo não altera o valor; desativar e reativar o redefine.
+ALTER TABLE notification_digest_preferences ADD COLUMN enabled_at TIMESTAMP;
+UPDATE notification_digest_preferences SET enabled_at = updated_at;
+ALTER TABLE notification_digest_preferences ALTER COLUMN enabled_at SET NOT NULL;
+ALTER TABLE notification_digest_preferences ALTER COLUMN enabled_at SET DEFAULT CURRENT_TIMESTAMP;
@@ -0,0 +1,14 @@
+-- Resumos complementares no mesmo período.
+--
+-- A chave única (receiver_id, period_start) descartava resumos que colidiam com um já gravado:
+-- um período diário iniciado junto de um resumo por hora (troca de HORARIO para DIARIO) ou
+-- notificações confirmadas depois de o período ter sido resumido. Essas notificações ficavam
+-- sem resumo e sem entrega. Agora cada grupo de notificações ainda não resumidas vira um novo
+-- resumo; as execuções do job são serializadas por um advisory lock, e uma notificação entra
+-- em um único resumo porque só as que têm digest_id nulo são agregadas.
+
+ALTER TABLE notification_digests DROP CONSTRAINT IF EXISTS uk_notification_digests_receiver_period;
+
+-- Listagem dos resumos do usuário, do período mais recente para o mais antigo
+CREATE INDEX IF NOT EXISTS idx_notification_digests_receiver_period
+    ON notification_digests (receiver_id, period_start DESC);
@@ -0,0 +1,3 @@
+-- Índice para consultas de agenda por cuidador (conflitos de horário e carga do índice em memória)
+CREATE INDEX IF NOT EXISTS idx_appointments_caregiver_date_time
+    ON appointments (caregiver_id, date_time);
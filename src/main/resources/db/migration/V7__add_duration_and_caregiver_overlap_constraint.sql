@@ -0,0 +1,89 @@
+-- Duração variável dos agendamentos e restrição de não sobreposição por cuidador
+
+-- Necessária para combinar igualdade de UUID e sobreposição de intervalos no mesmo índice GiST
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE appointments ADD COLUMN duration_minutes INTEGER NOT NULL DEFAULT 60;
+ALTER TABLE appointments ADD CONSTRAINT ck_appointments_duration_minutes
+    CHECK (duration_minutes > 0 AND duration_minutes <= 1440);
+
+-- Período ocupado pelo agendamento, [date_time, date_time + duração)
+ALTER TABLE appointments ADD COLUMN period TSRANGE
+    GENERATED ALWAYS AS (tsrange(date_time, date_time + duration_minutes * INTERVAL '1 minute')) STORED;
+
+-- Os agendamentos existentes recebem a duração padrão de 60 minutos, o que pode sobrepor
+-- agendamentos ativos (AGENDADO ou EM_ANDAMENTO) do mesmo cuidador marcados com menos de uma
+-- hora de intervalo. Agendamentos concluídos e cancelados são histórico: ficam fora da
+-- restrição e não são alterados. Antes de criar a restrição, apenas agendamentos AGENDADO são
+-- ajustados, e cada ajuste fica registrado em appointment_overlap_adjustments:
+-- 1. Um agendamento que começa dentro de um agendamento em andamento, ou menos de um minuto
+--    depois de outro agendamento ativo (ou junto), é cancelado (o mais antigo é mantido)
+-- 2. Os demais têm a duração reduzida para terminar no início do próximo agendamento ativo
+-- Sobreposições entre agendamentos em andamento não são resolvidas aqui e interrompem a migração.
+CREATE TABLE appointment_overlap_adjustments (
+    appointment_id            UUID PRIMARY KEY,
+    adjustment                VARCHAR(20) NOT NULL,  -- CANCELADO ou DURACAO_REDUZIDA
+    previous_duration_minutes INTEGER NOT NULL,
+    duration_minutes          INTEGER NOT NULL,
+    adjusted_at               TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+WITH cancelled AS (
+    UPDATE appointments a
+    SET status = 'CANCELADO'
+    WHERE a.status = 'AGENDADO'
+      AND EXISTS (
+          SELECT 1
+          FROM appointments s
+          WHERE s.caregiver_id = a.caregiver_id
+            AND s.id <> a.id
+            AND s.status IN ('AGENDADO', 'EM_ANDAMENTO')
+            AND ((s.status = 'EM_ANDAMENTO' AND s.period @> a.date_time)
+                 OR (s.date_time > a.date_time - INTERVAL '1 minute'
+                     AND s.date_time < a.date_time + INTERVAL '1 minute'
+                     AND (s.status = 'EM_ANDAMENTO' OR (s.date_time, s.id) < (a.date_time, a.id)))))
+    RETURNING a.id, a.duration_minutes
+)
+INSERT INTO appointment_overlap_adjustments (appointment_id, adjustment, previous_duration_minutes, duration_minutes)
+SELECT id, 'CANCELADO', duration_minutes, duration_minutes
+FROM cancelled;
+
+WITH ordered AS (
+    SELECT id, date_time, duration_minutes,
+           LEAD(date_time) OVER (PARTITION BY caregiver_id ORDER BY date_time, id) AS next_start
+    FROM appointments
+    WHERE status IN ('AGENDADO', 'EM_ANDAMENTO')
+), shortened AS (
+    UPDATE appointments a
+    SET duration_minutes = FLOOR(EXTRACT(EPOCH FROM o.next_start - o.date_time) / 60)
+    FROM ordered o
+    WHERE a.id = o.id
+      AND a.status = 'AGENDADO'
+      AND o.next_start < o.date_time + o.duration_minutes * INTERVAL '1 minute'
+    RETURNING a.id, o.duration_minutes AS previous_duration_minutes, a.duration_minutes
+)
+INSERT INTO appointment_overlap_adjustments (appointment_id, adjustment, previous_duration_minutes, duration_minutes)
+SELECT id, 'DURACAO_REDUZIDA', previous_duration_minutes, duration_minutes
+FROM shortened;
+
+DO $$
+DECLARE
+    remaining BIGINT;
+BEGIN
+    SELECT count(*) INTO remaining
+    FROM appointments a
+    JOIN appointments b ON b.caregiver_id = a.caregiver_id AND b.id > a.id AND b.period && a.period
+    WHERE a.status IN ('AGENDADO', 'EM_ANDAMENTO')
+      AND b.status IN ('AGENDADO', 'EM_ANDAMENTO');
+    IF remaining > 0 THEN
+        RAISE EXCEPTION '% pares de agendamentos em andamento do mesmo cuidador se sobrepõem; ajuste-os antes de migrar',
+            remaining;
+    END IF;
+END $$;
+
+-- Impede que o mesmo cuidador tenha dois agendamentos ativos sobrepostos.
+-- A restrição cria o índice GiST em (caregiver_id, period) usado também nas consultas de conflito,
+-- que repetem o mesmo filtro de status para poder usá-lo.
+ALTER TABLE appointments ADD CONSTRAINT ex_appointments_caregiver_period
+    EXCLUDE USING gist (caregiver_id WITH =, period WITH &&)
+    WHERE (status IN ('AGENDADO', 'EM_ANDAMENTO'));
@@ -0,0 +1,3 @@
+-- Índice para a consulta de calendário por organização com paginação por keyset em (date_time, id)
+CREATE INDEX IF NOT EXISTS idx_appointments_org_date_time_id
+    ON appointments (organization_id, date_time, id);
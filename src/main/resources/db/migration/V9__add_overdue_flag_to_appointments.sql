@@ -0,0 +1,7 @@
+-- Indicador de atendimento em andamento após o horário de término, mantido pela rotina de status
+ALTER TABLE appointments ADD COLUMN overdue BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- A rotina de status só percorre agendamentos ainda abertos, em ordem de data/hora
+CREATE INDEX IF NOT EXISTS idx_appointments_open_status_date_time
+    ON appointments (status, date_time)
+    WHERE status IN ('AGENDADO', 'EM_ANDAMENTO');
@@ -0,0 +1,91 @@
+package br.com.uniube.seniorcare.benchmark;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
+import br.com.uniube.seniorcare.service.audit.AuditExportFormat;
+import br.com.uniube.seniorcare.service.audit.AuditExportWriter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da serialização da exportação de auditoria, em registros por segundo.
+ *
+ * Escreve os mesmos registros repetidamente em um fluxo que descarta os bytes, isolando o
+ * custo do formato (NDJSON ou CSV) do banco e da rede. O resultado é o teto de vazão da
+ * exportação; o cursor do banco entrega as linhas em blocos e não entra na medida.
+ *
+ * Execução: {@code mvn test-compile} e depois a classe {@link #main(String[])} com o classpath
+ * de teste, ou {@code java -cp <classpath de teste> org.openjdk.jmh.Main AuditExportBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditExportBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"NDJSON", "CSV"})
+    private AuditExportFormat format;
+
+    private final AuditEntry[] entries = new AuditEntry[ROWS];
+    private final JsonFactory jsonFactory = new ObjectMapper().getFactory();
+    private final OutputStream discard = OutputStream.nullOutputStream();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        UUID organizationId = UUID.randomUUID();
+        UUID[] users = new UUID[50];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = UUID.randomUUID();
+        }
+        LocalDateTime time = LocalDateTime.of(2030, 1, 1, 0, 0);
+        for (int i = 0; i < ROWS; i++) {
+            time = time.plusSeconds(1 + random.nextInt(60)).plusNanos(random.nextInt(1_000_000) * 1000L);
+            boolean withEntity = random.nextInt(10) < 8;
+            entries[i] = new AuditEntry(UUID.randomUUID(), organizationId, users[random.nextInt(users.length)],
+                    "UPDATE_ELDERLY", "Idoso", withEntity ? UUID.randomUUID() : null, time,
+                    "Dados do idoso atualizados: endereço, telefone de contato, \"observações\"");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void export() throws IOException {
+        try (AuditExportWriter writer = AuditExportWriter.open(format, discard, jsonFactory)) {
+            for (AuditEntry entry : entries) {
+                writer.write(entry);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuditExportBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.uniube.seniorcare.benchmark;
+
+import br.com.uniube.seniorcare.service.schedule.AvailabilityEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da busca de horários livres: "próximos 10 horários de 60 minutos para qualquer
+ * um dos N cuidadores na semana".
+ *
+ * Mede separadamente a montagem dos bitmaps somada à busca (o custo de uma requisição, sem
+ * o banco) e a busca isolada, inclusive no pior caso em que quase nenhuma lacuna serve.
+ *
+ * Execução: {@code mvn test-compile} e depois a classe {@link #main(String[])} com o classpath
+ * de teste, ou {@code java -cp <classpath de teste> org.openjdk.jmh.Main AvailabilityEngineBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityEngineBenchmark {
+
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+    private static final LocalTime WORK_START = LocalTime.of(7, 0);
+    private static final LocalTime WORK_END = LocalTime.of(19, 0);
+    private static final int DAYS = 7;
+
+    @Param({"40", "400"})
+    private int caregivers;
+
+    /**
+     * Percentual aproximado do expediente já ocupado.
+     */
+    @Param({"50", "90"})
+    private int occupancyPercent;
+
+    private final List<UUID> caregiverIds = new ArrayList<>();
+    private final List<List<LocalDateTime[]>> appointments = new ArrayList<>();
+    private AvailabilityEngine builtEngine;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int c = 0; c < caregivers; c++) {
+            UUID id = UUID.randomUUID();
+            List<LocalDateTime[]> schedule = new ArrayList<>();
+            for (int day = 0; day < DAYS; day++) {
+                LocalDateTime time = MONDAY.plusDays(day).atTime(WORK_START);
+                LocalDateTime dayEnd = MONDAY.plusDays(day).atTime(WORK_END);
+                while (time.isBefore(dayEnd)) {
+                    LocalDateTime end = time.plusMinutes(30 + 15 * random.nextInt(7));
+                    if (random.nextInt(100) < occupancyPercent) {
+                        schedule.add(new LocalDateTime[]{time, end});
+                    }
+                    time = end;
+                }
+            }
+            caregiverIds.add(id);
+            appointments.add(schedule);
+        }
+        builtEngine = buildEngine();
+    }
+
+    private AvailabilityEngine buildEngine() {
+        AvailabilityEngine engine = new AvailabilityEngine(MONDAY, DAYS, 15, WORK_START, WORK_END);
+        for (int c = 0; c < caregivers; c++) {
+            UUID id = caregiverIds.get(c);
+            engine.addCaregiver(id);
+            for (LocalDateTime[] appointment : appointments.get(c)) {
+                engine.occupy(id, appointment[0], appointment[1]);
+            }
+        }
+        return engine;
+    }
+
+    /**
+     * Cenário completo de uma requisição: monta os bitmaps a partir dos agendamentos e busca.
+     */
+    @Benchmark
+    public List<AvailabilityEngine.FreeSlot> buildAndSearch() {
+        return buildEngine().findFreeSlots(MONDAY.atStartOfDay(), MONDAY.plusDays(DAYS).atStartOfDay(), 60, 10);
+    }
+
+    /**
+     * Apenas a busca, com os bitmaps já montados.
+     */
+    @Benchmark
+    public List<AvailabilityEngine.FreeSlot> searchOnly() {
+        return builtEngine.findFreeSlots(MONDAY.atStartOfDay(), MONDAY.plusDays(DAYS).atStartOfDay(), 60, 10);
+    }
+
+    /**
+     * Pior caso da busca: a duração pedida não cabe em quase nenhuma lacuna, forçando a
+     * varredura da semana inteira de todos os cuidadores.
+     */
+    @Benchmark
+    public List<AvailabilityEngine.FreeSlot> searchLongDuration() {
+        return builtEngine.findFreeSlots(MONDAY.atStartOfDay(), MONDAY.plusDays(DAYS).atStartOfDay(), 240, 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AvailabilityEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
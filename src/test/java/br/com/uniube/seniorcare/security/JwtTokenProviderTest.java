@@ -95,6 +95,7 @@ class JwtTokenProviderTest {
         assertEquals(username, ((UserDetails) authentication.getPrincipal()).getUsername());
         assertTrue(authentication.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        assertEquals(UUID.fromString(userId), authentication.getDetails());
     }
 
     @Test
@@ -0,0 +1,60 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AuditEntry full = new AuditEntry(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            "UPDATE_USER", "Usuário", UUID.randomUUID(), LocalDateTime.of(2026, 10, 17, 8, 30, 15),
+            "Nome alterado para \"Ana, Maria\"\nsem e-mail");
+    private final AuditEntry minimal = new AuditEntry(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            "LOGIN", "Usuário", null, LocalDateTime.of(2026, 10, 17, 8, 31), null);
+
+    @Test
+    void csvShouldQuoteOnlyWhenNeededAndLeaveNullsEmpty() throws Exception {
+        String csv = export(AuditExportFormat.CSV);
+
+        String expected = AuditExportWriter.CSV_HEADER + "\n"
+                + full.id() + "," + full.organizationId() + "," + full.userId() + ",UPDATE_USER,Usuário,"
+                + full.entityId() + ",2026-10-17T08:30:15,\"Nome alterado para \"\"Ana, Maria\"\"\nsem e-mail\"\n"
+                + minimal.id() + "," + minimal.organizationId() + "," + minimal.userId() + ",LOGIN,Usuário,,"
+                + "2026-10-17T08:31,\n";
+        assertEquals(expected, csv);
+    }
+
+    @Test
+    void ndjsonShouldWriteOneObjectPerLine() throws Exception {
+        String[] lines = export(AuditExportFormat.NDJSON).split("\n", -1);
+
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(full.entityId().toString(), first.get("entityId").asText());
+        assertEquals(full.description(), first.get("description").asText());
+        assertEquals("2026-10-17T08:30:15", first.get("timestamp").asText());
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertTrue(second.get("entityId").isNull());
+        assertTrue(second.get("description").isNull());
+    }
+
+    private String export(AuditExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AuditExportWriter writer = AuditExportWriter.open(format, out, objectMapper.getFactory())) {
+            writer.write(full);
+            writer.write(minimal);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
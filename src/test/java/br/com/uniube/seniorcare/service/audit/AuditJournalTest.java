@@ -0,0 +1,116 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void encodeShouldRoundTripAllFields() {
+        AuditEntry full = new AuditEntry(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "UPDATE_USER",
+                "Usuário", UUID.randomUUID(), LocalDateTime.of(2026, 10, 17, 8, 30, 15, 123_456_000), "Usuário atualizado");
+        AuditEntry minimal = new AuditEntry(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "LOGIN",
+                "Usuário", null, LocalDateTime.of(2026, 10, 17, 8, 30), null);
+
+        for (AuditEntry entry : List.of(full, minimal)) {
+            ByteBuffer buffer = ByteBuffer.wrap(AuditJournal.encode(entry));
+            assertEquals(buffer.limit(), AuditJournal.validLength(buffer, 0));
+            assertEquals(entry, AuditJournal.decode(buffer, 0));
+        }
+    }
+
+    @Test
+    void stopShouldSealActiveSegmentWithAllEvents() {
+        AuditJournal journal = journal(DataSize.ofMegabytes(1));
+        journal.start();
+        List<AuditEntry> entries = List.of(entry(), entry(), entry());
+        entries.forEach(journal::append);
+        journal.stop();
+
+        List<Path> sealed = journal.sealedSegments();
+        assertEquals(1, sealed.size());
+        assertEquals(entries, read(sealed.get(0)));
+        assertEquals(3, meterRegistry.counter("audit.journal.appended").count());
+    }
+
+    @Test
+    void fullSegmentShouldRollToNextOne() {
+        AuditJournal journal = journal(DataSize.ofBytes(1024));
+        journal.start();
+        List<AuditEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            AuditEntry entry = entry();
+            entries.add(entry);
+            journal.append(entry);
+        }
+        journal.stop();
+
+        List<Path> sealed = journal.sealedSegments();
+        assertTrue(sealed.size() > 1);
+        List<AuditEntry> recovered = new ArrayList<>();
+        sealed.forEach(segment -> recovered.addAll(read(segment)));
+        assertEquals(entries, recovered);
+    }
+
+    @Test
+    void startShouldRecoverOpenSegmentUpToTornRecord() throws Exception {
+        AuditEntry first = entry();
+        AuditEntry second = entry();
+        byte[] firstRecord = AuditJournal.encode(first);
+        byte[] secondRecord = AuditJournal.encode(second);
+        // Simula uma queda no meio da escrita do segundo registro
+        secondRecord[secondRecord.length - 1] ^= 1;
+        ByteBuffer content = ByteBuffer.allocate(4096).put(firstRecord).put(secondRecord);
+        Files.write(directory.resolve("audit-000000000007.open"), content.array());
+
+        AuditJournal journal = journal(DataSize.ofKilobytes(4));
+        journal.start();
+        journal.append(entry());
+        journal.stop();
+
+        List<Path> sealed = journal.sealedSegments();
+        assertEquals(List.of("audit-000000000007.seg", "audit-000000000008.seg"),
+                sealed.stream().map(path -> path.getFileName().toString()).toList());
+        assertEquals(List.of(first), read(sealed.get(0)));
+
+        journal.delete(sealed.get(0));
+        assertEquals(1, journal.sealedSegments().size());
+    }
+
+    private AuditJournal journal(DataSize segmentSize) {
+        AuditJournal journal = new AuditJournal(meterRegistry);
+        ReflectionTestUtils.setField(journal, "directoryPath", directory.toString());
+        ReflectionTestUtils.setField(journal, "segmentSize", segmentSize);
+        return journal;
+    }
+
+    private static List<AuditEntry> read(Path segment) {
+        List<AuditEntry> entries = new ArrayList<>();
+        AuditJournal.read(segment).forEach(entries::add);
+        return entries;
+    }
+
+    private static AuditEntry entry() {
+        return new AuditEntry(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "UPDATE_USER", "Usuário",
+                UUID.randomUUID(), LocalDateTime.now().withNano(0), "Usuário atualizado");
+    }
+}
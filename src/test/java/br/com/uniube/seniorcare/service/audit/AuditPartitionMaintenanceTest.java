@@ -0,0 +1,125 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditPartitionMaintenanceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private AuditPartitionMaintenance maintenance;
+
+    /**
+     * Tabelas de partição existentes: true se anexada, false se desanexada.
+     */
+    private final Map<String, Boolean> partitions = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        maintenance = new AuditPartitionMaintenance(jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(maintenance, "archiveDirectory", archiveDirectory.toString());
+    }
+
+    @Test
+    void partitionNameShouldRoundTripMonth() {
+        YearMonth month = YearMonth.of(2025, 3);
+
+        assertEquals("audit_logs_p202503", AuditPartitionMaintenance.partitionName(month));
+        assertEquals(month, AuditPartitionMaintenance.partitionMonth("audit_logs_p202503"));
+        assertNull(AuditPartitionMaintenance.partitionMonth("audit_logs_default"));
+    }
+
+    @Test
+    void runShouldArchiveExpiredAndLeftoverDetachedPartitions() {
+        partitions.put("audit_logs_p202409", true);
+        partitions.put("audit_logs_p202410", true);
+        // Desanexada por uma execução interrompida
+        partitions.put("audit_logs_p202501", false);
+        simulateCatalog();
+
+        // Retenção de 24 meses a partir de outubro de 2026: outubro de 2024 é o mês mais antigo mantido
+        AuditPartitionMaintenance.RunSummary summary = maintenance.run(LocalDateTime.of(2026, 10, 17, 3, 0));
+
+        assertEquals(2, summary.partitionsArchived());
+        verify(jdbcTemplate).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p202409");
+        verify(jdbcTemplate).execute("DROP TABLE audit_logs_p202409");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE audit_logs DETACH PARTITION audit_logs_p202501");
+        verify(jdbcTemplate).execute("DROP TABLE audit_logs_p202501");
+        verify(jdbcTemplate, never()).execute("DROP TABLE audit_logs_p202410");
+        assertTrue(Files.exists(archiveDirectory.resolve("audit_logs_p202409.csv.gz")));
+        assertTrue(Files.exists(archiveDirectory.resolve("audit_logs_p202501.csv.gz")));
+        assertFalse(Files.exists(archiveDirectory.resolve("audit_logs_p202409.csv.gz.tmp")));
+    }
+
+    @Test
+    void runShouldCreateMissingFuturePartitions() {
+        partitions.put("audit_logs_p202610", true);
+        partitions.put("audit_logs_p202611", true);
+        partitions.put("audit_logs_p202701", true);
+        simulateCatalog();
+
+        AuditPartitionMaintenance.RunSummary summary = maintenance.run(LocalDateTime.of(2026, 10, 17, 3, 0));
+
+        assertEquals(1, summary.partitionsCreated());
+        assertEquals(0, summary.partitionsArchived());
+        verify(jdbcTemplate).execute(
+                "ALTER TABLE audit_logs ATTACH PARTITION audit_logs_p202612 FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')");
+    }
+
+    /**
+     * Responde às consultas ao catálogo a partir de {@link #partitions} e o atualiza a cada
+     * DETACH e DROP; as demais consultas (lock) retornam null.
+     */
+    private void simulateCatalog() {
+        when(jdbcTemplate.queryForObject(anyString(), any(Class.class), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    String sql = invocation.getArgument(0);
+                    if (sql.startsWith("SELECT to_regclass")) {
+                        return partitions.containsKey(invocation.<String>getArgument(2));
+                    }
+                    if (sql.startsWith("SELECT relispartition")) {
+                        return partitions.get(invocation.<String>getArgument(2));
+                    }
+                    return null;
+                });
+        lenient().when(jdbcTemplate.queryForList(anyString())).thenAnswer(invocation -> partitions.entrySet().stream()
+                .map(entry -> Map.<String, Object>of("relname", entry.getKey(), "relispartition", entry.getValue()))
+                .toList());
+        lenient().doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.startsWith("ALTER TABLE audit_logs DETACH PARTITION ")) {
+                partitions.put(sql.substring("ALTER TABLE audit_logs DETACH PARTITION ".length()), false);
+            } else if (sql.startsWith("DROP TABLE ")) {
+                partitions.remove(sql.substring("DROP TABLE ".length()));
+            }
+            return null;
+        }).when(jdbcTemplate).execute(anyString());
+    }
+}
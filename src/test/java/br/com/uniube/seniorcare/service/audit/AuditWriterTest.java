@@ -0,0 +1,155 @@
+package br.com.uniube.seniorcare.service.audit;
+
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
+import br.com.uniube.seniorcare.domain.repository.AuditLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditWriterTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<AuditEntry> written = new ArrayList<>();
+
+    @Test
+    void stopShouldDrainBufferedEventsInBatches() {
+        List<Integer> batchSizes = new ArrayList<>();
+        when(auditLogRepository.insertBatch(any())).thenAnswer(invocation -> {
+            List<AuditEntry> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            written.addAll(batch);
+            return batch.size();
+        });
+        AuditWriter writer = writer(100);
+        ReflectionTestUtils.setField(writer, "batchSize", 2);
+        ReflectionTestUtils.setField(writer, "running", true);
+        for (int i = 0; i < 5; i++) {
+            writer.append(entry());
+        }
+        assertEquals(5, writer.queueDepth());
+
+        writer.start();
+        writer.stop();
+
+        assertEquals(5, written.size());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 2));
+        assertEquals(0, writer.queueDepth());
+        assertEquals(5, meterRegistry.counter("audit.events.written").count());
+
+        // Parado, o writer grava na thread chamadora
+        writer.append(entry());
+        assertEquals(6, written.size());
+    }
+
+    @Test
+    void fullBufferShouldApplyBackpressure() {
+        AuditWriter writer = writer(1);
+        ReflectionTestUtils.setField(writer, "offerTimeout", Duration.ZERO);
+        ReflectionTestUtils.setField(writer, "running", true);
+        recordWrites();
+
+        writer.append(entry());
+        writer.append(entry());
+
+        // O primeiro ocupa a única vaga; o segundo é gravado pela própria thread
+        assertEquals(1, writer.queueDepth());
+        assertEquals(1, written.size());
+        assertEquals(1, meterRegistry.counter("audit.events.backpressure").count());
+    }
+
+    @Test
+    void fullBufferInsideTransactionShouldDropInsteadOfTakingAnotherConnection() {
+        AuditWriter writer = writer(1);
+        ReflectionTestUtils.setField(writer, "offerTimeout", Duration.ZERO);
+        ReflectionTestUtils.setField(writer, "running", true);
+        writer.append(entry());
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            writer.append(entry());
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(auditLogRepository, never()).insertBatch(any());
+        assertEquals(1, writer.queueDepth());
+        assertEquals(1, meterRegistry.counter("audit.events.dropped").count());
+    }
+
+    @Test
+    void failedWriteOnCallerThreadShouldNotReachTheCaller() {
+        when(auditLogRepository.insertBatch(any())).thenThrow(new QueryTimeoutException("timeout"));
+        AuditWriter writer = writer(1);
+
+        assertDoesNotThrow(() -> writer.append(entry()));
+        assertEquals(1, meterRegistry.counter("audit.events.dropped").count());
+    }
+
+    @Test
+    void rejectedEventShouldBeDroppedWithoutLosingTheRestOfTheBatch() {
+        AuditEntry rejected = entry();
+        when(auditLogRepository.insertBatch(any())).thenAnswer(invocation -> {
+            List<AuditEntry> batch = invocation.getArgument(0);
+            if (batch.contains(rejected)) {
+                throw new DataIntegrityViolationException("fk_audit_logs_user");
+            }
+            written.addAll(batch);
+            return batch.size();
+        });
+        AuditWriter writer = writer(10);
+        ReflectionTestUtils.setField(writer, "running", true);
+        writer.append(entry());
+        writer.append(rejected);
+        writer.append(entry());
+        ReflectionTestUtils.setField(writer, "running", false);
+
+        writer.start();
+        writer.stop();
+
+        assertEquals(2, written.size());
+        assertFalse(written.contains(rejected));
+        assertEquals(1, meterRegistry.counter("audit.events.dropped").count());
+        assertEquals(2, meterRegistry.counter("audit.events.written").count());
+    }
+
+    private AuditWriter writer(int capacity) {
+        return new AuditWriter(auditLogRepository, transactionManager, meterRegistry, capacity);
+    }
+
+    private void recordWrites() {
+        when(auditLogRepository.insertBatch(any())).thenAnswer(invocation -> {
+            List<AuditEntry> batch = invocation.getArgument(0);
+            written.addAll(batch);
+            return batch.size();
+        });
+    }
+
+    private static AuditEntry entry() {
+        return new AuditEntry(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "UPDATE_USER", "Usuário",
+                UUID.randomUUID(), LocalDateTime.now(), "Usuário atualizado");
+    }
+}
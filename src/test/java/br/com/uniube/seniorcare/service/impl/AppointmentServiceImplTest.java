@@ -0,0 +1,198 @@
+package br.com.uniube.seniorcare.service.impl;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.entity.Caregiver;
+import br.com.uniube.seniorcare.domain.entity.Elderly;
+import br.com.uniube.seniorcare.domain.entity.Organization;
+import br.com.uniube.seniorcare.domain.repository.AppointmentObservationRepository;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import br.com.uniube.seniorcare.domain.repository.CaregiverRepository;
+import br.com.uniube.seniorcare.domain.repository.ElderlyRepository;
+import br.com.uniube.seniorcare.service.AuditService;
+import br.com.uniube.seniorcare.service.schedule.AppointmentBatchResult;
+import br.com.uniube.seniorcare.service.schedule.RecurrenceRule;
+import br.com.uniube.seniorcare.service.schedule.ScheduleIndex;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
+import br.com.uniube.seniorcare.service.utils.SecurityUtils;
+import br.com.uniube.seniorcare.service.workload.WorkloadRollup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentServiceImplTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private ElderlyRepository elderlyRepository;
+
+    @Mock
+    private CaregiverRepository caregiverRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private ScheduleIndex scheduleIndex;
+
+    @Mock
+    private AppointmentObservationRepository observationRepository;
+
+    @Mock
+    private WorkloadRollup workloadRollup;
+
+    private AppointmentServiceImpl appointmentService;
+
+    private final Organization organization = Organization.builder().id(UUID.randomUUID()).build();
+    private final Organization otherOrganization = Organization.builder().id(UUID.randomUUID()).build();
+    private final Elderly elderly = Elderly.builder().id(UUID.randomUUID()).organization(organization).build();
+    private final Elderly otherElderly = Elderly.builder().id(UUID.randomUUID()).organization(otherOrganization).build();
+    private final Caregiver caregiver = Caregiver.builder().id(UUID.randomUUID()).organization(organization).build();
+    private final Caregiver otherCaregiver = Caregiver.builder().id(UUID.randomUUID()).organization(otherOrganization).build();
+    private final LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        appointmentService = new AppointmentServiceImpl(appointmentRepository, elderlyRepository, caregiverRepository,
+                auditService, securityUtils, scheduleIndex, observationRepository, workloadRollup);
+    }
+
+    @Test
+    void createAppointmentsShouldReportEachRejectedItemAndAuditPerOrganization() {
+        when(elderlyRepository.findAllById(any())).thenReturn(List.of(elderly, otherElderly));
+        when(caregiverRepository.findAllById(any())).thenReturn(List.of(caregiver, otherCaregiver));
+        when(appointmentRepository.findScheduleSlots(any(), any(), any())).thenReturn(List.of());
+        // O banco rejeita o segundo item enviado (conflito com um agendamento concorrente)
+        when(appointmentRepository.insertAll(any())).thenReturn(new boolean[]{true, false, true});
+        when(securityUtils.getCurrentUserId()).thenReturn(userId);
+
+        List<Appointment> items = List.of(
+                appointment(organization, elderly.getId(), caregiver.getId(), start),
+                appointment(organization, elderly.getId(), caregiver.getId(), LocalDateTime.now().minusDays(1)),
+                appointment(organization, UUID.randomUUID(), caregiver.getId(), start.plusHours(4)),
+                appointment(organization, elderly.getId(), caregiver.getId(), start.plusMinutes(30)),
+                appointment(organization, elderly.getId(), caregiver.getId(), start.plusHours(2)),
+                appointment(organization, elderly.getId(), otherCaregiver.getId(), start),
+                appointment(otherOrganization, otherElderly.getId(), otherCaregiver.getId(), start));
+
+        AppointmentBatchResult result = appointmentService.createAppointments(items);
+
+        assertEquals(7, result.requested());
+        assertEquals(List.of(items.get(0).getId(), items.get(6).getId()), result.createdIds());
+        List<AppointmentBatchResult.ItemFailure> failures = result.failures();
+        assertEquals(List.of(1, 2, 3, 4, 5), failures.stream().map(AppointmentBatchResult.ItemFailure::index).toList());
+        assertEquals("A data e hora do agendamento deve ser futura", failures.get(0).reason());
+        assertEquals("Idoso não encontrado com o id: " + items.get(2).getElderly().getId(), failures.get(1).reason());
+        assertEquals("Existe um conflito de horário para este cuidador no período solicitado", failures.get(2).reason());
+        assertEquals("Existe um conflito de horário para este cuidador no período solicitado", failures.get(3).reason());
+        assertEquals("O idoso e o cuidador devem pertencer à organização do agendamento", failures.get(4).reason());
+
+        verify(auditService).recordEvent(organization.getId(), userId, "CREATE_APPOINTMENT_BATCH", "Agendamento",
+                null, "Agendamentos criados em lote: 1 de 6 (5 rejeitados)");
+        verify(auditService).recordEvent(otherOrganization.getId(), userId, "CREATE_APPOINTMENT_BATCH", "Agendamento",
+                null, "Agendamentos criados em lote: 1 de 1 (0 rejeitados)");
+    }
+
+    @Test
+    void createAppointmentsShouldRejectCaregiverFromAnotherOrganization() {
+        when(elderlyRepository.findAllById(any())).thenReturn(List.of(elderly));
+        when(caregiverRepository.findAllById(any())).thenReturn(List.of(otherCaregiver));
+
+        AppointmentBatchResult result = appointmentService.createAppointments(
+                List.of(appointment(organization, elderly.getId(), otherCaregiver.getId(), start)));
+
+        assertEquals(0, result.created());
+        assertEquals("O idoso e o cuidador devem pertencer à organização do agendamento",
+                result.failures().get(0).reason());
+        verify(appointmentRepository, never()).insertAll(any());
+        verify(auditService, never()).recordEvent(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void createAppointmentSeriesShouldInsertEveryOccurrence() {
+        when(elderlyRepository.findAllById(any())).thenReturn(List.of(elderly));
+        when(caregiverRepository.findAllById(any())).thenReturn(List.of(caregiver));
+        when(appointmentRepository.findScheduleSlots(eq(caregiver.getId()), any(), any())).thenReturn(List.of());
+        when(appointmentRepository.insertAll(any())).thenReturn(new boolean[]{true, true, true});
+
+        Appointment template = appointment(organization, elderly.getId(), caregiver.getId(), start);
+        template.setDurationMinutes(45);
+        AppointmentBatchResult result = appointmentService.createAppointmentSeries(template,
+                new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 2, null, 3, null));
+
+        assertEquals(3, result.created());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Appointment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(appointmentRepository).insertAll(captor.capture());
+        assertEquals(List.of(start, start.plusDays(2), start.plusDays(4)),
+                captor.getValue().stream().map(Appointment::getDateTime).toList());
+        assertTrue(captor.getValue().stream().allMatch(appointment -> appointment.getDurationMinutes() == 45));
+        verify(auditService).recordEvent(eq(organization.getId()), isNull(), eq("CREATE_APPOINTMENT_BATCH"),
+                eq("Agendamento"), isNull(), eq("Agendamentos criados em lote: 3 de 3 (0 rejeitados)"));
+    }
+
+    @Test
+    void findCalendarShouldPageFromStartThenContinueAfterCursor() {
+        UUID organizationId = organization.getId();
+        LocalDateTime end = start.plusDays(7);
+        List<AppointmentRepository.CalendarEntry> firstRows = List.of(
+                entry(start), entry(start.plusHours(1)), entry(start.plusHours(2)));
+        when(appointmentRepository.findCalendar(organizationId, null, null, start, end, PageRequest.ofSize(3)))
+                .thenReturn(firstRows);
+
+        KeysetPage<AppointmentRepository.CalendarEntry> first =
+                appointmentService.findCalendar(organizationId, null, null, start, end, null, 2);
+
+        assertEquals(firstRows.subList(0, 2), first.items());
+        assertNotNull(first.nextCursor());
+
+        AppointmentRepository.CalendarEntry last = firstRows.get(1);
+        List<AppointmentRepository.CalendarEntry> nextRows = List.of(firstRows.get(2));
+        when(appointmentRepository.findCalendarAfter(organizationId, null, null, end, last.getDateTime(),
+                last.getId(), PageRequest.ofSize(3))).thenReturn(nextRows);
+
+        KeysetPage<AppointmentRepository.CalendarEntry> next =
+                appointmentService.findCalendar(organizationId, null, null, start, end, first.nextCursor(), 2);
+
+        assertEquals(nextRows, next.items());
+        assertNull(next.nextCursor());
+        verify(appointmentRepository, times(1)).findCalendar(any(), any(), any(), any(), any(), any());
+    }
+
+    private static AppointmentRepository.CalendarEntry entry(LocalDateTime dateTime) {
+        AppointmentRepository.CalendarEntry entry = mock(AppointmentRepository.CalendarEntry.class);
+        lenient().when(entry.getId()).thenReturn(UUID.randomUUID());
+        lenient().when(entry.getDateTime()).thenReturn(dateTime);
+        return entry;
+    }
+
+    private static Appointment appointment(Organization organization, UUID elderlyId, UUID caregiverId,
+                                           LocalDateTime dateTime) {
+        return Appointment.builder()
+                .organization(organization)
+                .elderly(Elderly.builder().id(elderlyId).build())
+                .caregiver(Caregiver.builder().id(caregiverId).build())
+                .dateTime(dateTime)
+                .build();
+    }
+}
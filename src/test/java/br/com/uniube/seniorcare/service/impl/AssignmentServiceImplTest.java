@@ -0,0 +1,95 @@
+package br.com.uniube.seniorcare.service.impl;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.entity.Caregiver;
+import br.com.uniube.seniorcare.domain.entity.Elderly;
+import br.com.uniube.seniorcare.domain.entity.Organization;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import br.com.uniube.seniorcare.domain.repository.CaregiverRepository;
+import br.com.uniube.seniorcare.domain.repository.ElderlyRepository;
+import br.com.uniube.seniorcare.service.AppointmentService;
+import br.com.uniube.seniorcare.service.schedule.AppointmentBatchResult;
+import br.com.uniube.seniorcare.service.schedule.AssignmentPlan;
+import br.com.uniube.seniorcare.service.schedule.VisitRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssignmentServiceImplTest {
+
+    @Mock
+    private ElderlyRepository elderlyRepository;
+
+    @Mock
+    private CaregiverRepository caregiverRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private AppointmentService appointmentService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AssignmentServiceImpl assignmentService;
+
+    @BeforeEach
+    void setUp() {
+        assignmentService = new AssignmentServiceImpl(elderlyRepository, caregiverRepository, appointmentRepository,
+                appointmentService, transactionManager);
+    }
+
+    @Test
+    void assignShouldReportItemsRejectedOnInsertByRequestIndex() {
+        Organization organization = Organization.builder().id(UUID.randomUUID()).build();
+        Elderly elderly = Elderly.builder().id(UUID.randomUUID()).organization(organization).build();
+        Caregiver caregiver = Caregiver.builder().id(UUID.randomUUID()).organization(organization).build();
+        CaregiverRepository.ElderlyCaregiverLink link = mock(CaregiverRepository.ElderlyCaregiverLink.class);
+        when(link.getElderlyId()).thenReturn(elderly.getId());
+        when(link.getCaregiverId()).thenReturn(caregiver.getId());
+        when(elderlyRepository.findAllById(any())).thenReturn(List.of(elderly));
+        when(caregiverRepository.findLinksByElderlyIds(any())).thenReturn(List.of(link));
+        when(caregiverRepository.findAllById(any())).thenReturn(List.of(caregiver));
+        when(appointmentRepository.findScheduleSlotsForCaregivers(any(), any(), any())).thenReturn(List.of());
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        List<VisitRequest> requests = List.of(
+                new VisitRequest(elderly.getId(), LocalDateTime.now().minusDays(1), 60, null, null),
+                new VisitRequest(elderly.getId(), start, 60, null, null),
+                new VisitRequest(elderly.getId(), start.plusHours(2), 60, null, null));
+        // O segundo agendamento enviado (pedido 2) foi rejeitado pelo banco
+        when(appointmentService.createAppointments(any())).thenReturn(new AppointmentBatchResult(2,
+                List.of(UUID.randomUUID()),
+                List.of(new AppointmentBatchResult.ItemFailure(1, elderly.getId(), caregiver.getId(),
+                        start.plusHours(2), "Conflito"))));
+
+        AssignmentPlan plan = assignmentService.assign(requests);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Appointment>> captor = ArgumentCaptor.forClass(List.class);
+        verify(appointmentService).createAppointments(captor.capture());
+        assertEquals(2, captor.getValue().size());
+
+        assertNull(plan.items().get(0).caregiverId());
+        assertEquals(caregiver.getId(), plan.items().get(1).caregiverId());
+        assertNull(plan.items().get(2).caregiverId());
+        assertEquals("Conflito", plan.items().get(2).reason());
+        assertEquals(1, plan.assigned());
+        assertEquals(2, plan.batchResult().failures().get(0).index());
+        assertEquals(3, plan.batchResult().requested());
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.uniube.seniorcare.service.impl;
+
+import br.com.uniube.seniorcare.domain.entity.AuditLog;
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import br.com.uniube.seniorcare.domain.repository.AuditLogBatchRepository.AuditEntry;
+import br.com.uniube.seniorcare.domain.repository.AuditLogRepository;
+import br.com.uniube.seniorcare.domain.repository.OrganizationRepository;
+import br.com.uniube.seniorcare.service.AuditService.AuditExport;
+import br.com.uniube.seniorcare.service.AuditService.AuditFilter;
+import br.com.uniube.seniorcare.service.audit.AuditExportFormat;
+import br.com.uniube.seniorcare.service.audit.AuditExporter;
+import br.com.uniube.seniorcare.service.audit.AuditSink;
+import br.com.uniube.seniorcare.service.audit.AuditWriteMode;
+import br.com.uniube.seniorcare.service.utils.KeysetCursor;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
+import br.com.uniube.seniorcare.service.utils.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditServiceImplTest {
+
+    @Mock
+    private AuditSink auditSink;
+
+    @Mock
+    private AuditExporter auditExporter;
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @Mock
+    private OrganizationRepository organizationRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    private AuditServiceImpl auditService;
+
+    @BeforeEach
+    void setUp() {
+        auditService = new AuditServiceImpl(auditSink, auditExporter, auditLogRepository, organizationRepository, securityUtils);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void strictModeShouldAppendOnlyAfterCommit() {
+        UUID organizationId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        auditService.recordEvent(organizationId, userId, "UPDATE_USER", "Usuário", null, "Usuário atualizado");
+        verify(auditSink, never()).append(any());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+
+        ArgumentCaptor<AuditEntry> captor = ArgumentCaptor.forClass(AuditEntry.class);
+        verify(auditSink).append(captor.capture());
+        assertEquals(organizationId, captor.getValue().organizationId());
+        assertEquals(userId, captor.getValue().userId());
+        assertNotNull(captor.getValue().id());
+    }
+
+    @Test
+    void durableModeShouldAppendImmediately() {
+        ReflectionTestUtils.setField(auditService, "mode", AuditWriteMode.DURABLE);
+        TransactionSynchronizationManager.initSynchronization();
+
+        auditService.recordEvent(UUID.randomUUID(), UUID.randomUUID(), "UPDATE_USER", "Usuário", null, null);
+
+        verify(auditSink).append(any());
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    @Test
+    void searchShouldStartFromEntityIndexAndContinueFromCursor() {
+        UUID organizationId = UUID.randomUUID();
+        UUID entityId = UUID.randomUUID();
+        LocalDateTime to = LocalDateTime.of(2026, 10, 17, 12, 0);
+        when(securityUtils.isCurrentUserAdmin()).thenReturn(true);
+        when(organizationRepository.existsById(organizationId)).thenReturn(true);
+        List<AuditLog> rows = List.of(auditLog(to.minusMinutes(1)), auditLog(to.minusMinutes(2)), auditLog(to.minusMinutes(3)));
+        when(auditLogRepository.searchByEntity(eq(organizationId), eq(entityId), any(), any(), any(),
+                isNull(), eq("UPDATE_ELDERLY"), isNull(), anyInt())).thenReturn(rows);
+
+        AuditFilter filter = new AuditFilter(organizationId, null, to, null, " UPDATE_ELDERLY ", "", entityId);
+        KeysetPage<AuditLog> first = auditService.search(filter, null, 2);
+
+        assertEquals(rows.subList(0, 2), first.items());
+        assertEquals(new KeysetCursor(rows.get(1).getTimestamp(), rows.get(1).getId()),
+                KeysetCursor.decode(first.nextCursor()));
+        // A primeira página começa no fim do período, antes de qualquer ID
+        verify(auditLogRepository).searchByEntity(organizationId, entityId, LocalDateTime.of(1970, 1, 1, 0, 0),
+                to, new UUID(0, 0), null, "UPDATE_ELDERLY", null, 3);
+
+        auditService.search(filter, first.nextCursor(), 2);
+        verify(auditLogRepository).searchByEntity(organizationId, entityId, LocalDateTime.of(1970, 1, 1, 0, 0),
+                rows.get(1).getTimestamp(), rows.get(1).getId(), null, "UPDATE_ELDERLY", null, 3);
+        verify(auditLogRepository, never()).searchByOrganization(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void searchShouldRequireAdmin() {
+        when(securityUtils.isCurrentUserAdmin()).thenReturn(false);
+
+        AuditFilter filter = new AuditFilter(UUID.randomUUID(), null, null, null, null, null, null);
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> auditService.search(filter, null, 20));
+
+        assertEquals("Apenas administradores podem consultar a auditoria", exception.getMessage());
+        verifyNoInteractions(auditLogRepository);
+    }
+
+    @Test
+    void prepareExportShouldRequireClosedPeriod() {
+        UUID organizationId = UUID.randomUUID();
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        when(securityUtils.isCurrentUserAdmin()).thenReturn(true);
+        when(organizationRepository.existsById(organizationId)).thenReturn(true);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> auditService.prepareExport(organizationId, from, null, AuditExportFormat.CSV));
+        assertEquals("Informe um período válido para a exportação", exception.getMessage());
+
+        AuditExport export = auditService.prepareExport(organizationId, from, from.plusMonths(1), AuditExportFormat.CSV);
+        assertEquals("audit_logs-" + organizationId + "-2030-01-01_2030-02-01.csv", export.fileName());
+        verifyNoInteractions(auditExporter);
+    }
+
+    private static AuditLog auditLog(LocalDateTime timestamp) {
+        return AuditLog.builder()
+                .id(UUID.randomUUID())
+                .action("UPDATE_ELDERLY")
+                .entityName("Idoso")
+                .timestamp(timestamp)
+                .build();
+    }
+}
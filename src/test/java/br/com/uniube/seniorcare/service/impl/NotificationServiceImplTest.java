@@ -0,0 +1,289 @@
+package br.com.uniube.seniorcare.service.impl;
+
+import br.com.uniube.seniorcare.domain.entity.Elderly;
+import br.com.uniube.seniorcare.domain.entity.Notification;
+import br.com.uniube.seniorcare.domain.entity.Organization;
+import br.com.uniube.seniorcare.domain.entity.User;
+import br.com.uniube.seniorcare.domain.enums.NotificationStatus;
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import br.com.uniube.seniorcare.domain.repository.CaregiverRepository;
+import br.com.uniube.seniorcare.domain.repository.ElderlyRepository;
+import br.com.uniube.seniorcare.domain.repository.FamilyMemberRepository;
+import br.com.uniube.seniorcare.domain.repository.NotificationBatchRepository;
+import br.com.uniube.seniorcare.domain.repository.NotificationDigestPreferenceRepository;
+import br.com.uniube.seniorcare.domain.repository.NotificationDigestRepository;
+import br.com.uniube.seniorcare.domain.repository.NotificationRepository;
+import br.com.uniube.seniorcare.domain.repository.NotificationUnreadCounterRepository;
+import br.com.uniube.seniorcare.domain.repository.UserRepository;
+import br.com.uniube.seniorcare.service.AuditService;
+import br.com.uniube.seniorcare.service.notification.NotificationCoalescer;
+import br.com.uniube.seniorcare.service.notification.NotificationOutbox;
+import br.com.uniube.seniorcare.service.notification.NotificationStreamHub;
+import br.com.uniube.seniorcare.service.utils.KeysetCursor;
+import br.com.uniube.seniorcare.service.utils.KeysetPage;
+import br.com.uniube.seniorcare.service.utils.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceImplTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ElderlyRepository elderlyRepository;
+
+    @Mock
+    private FamilyMemberRepository familyMemberRepository;
+
+    @Mock
+    private CaregiverRepository caregiverRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @Mock
+    private NotificationStreamHub notificationStreamHub;
+
+    @Mock
+    private NotificationUnreadCounterRepository unreadCounterRepository;
+
+    @Mock
+    private NotificationDigestRepository digestRepository;
+
+    @Mock
+    private NotificationDigestPreferenceRepository digestPreferenceRepository;
+
+    private NotificationServiceImpl notificationService;
+
+    private final Organization organization = new Organization();
+    private final Elderly elderly = new Elderly();
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationServiceImpl(notificationRepository, userRepository, elderlyRepository,
+                familyMemberRepository, caregiverRepository, auditService, securityUtils, notificationOutbox,
+                notificationStreamHub, unreadCounterRepository, new NotificationCoalescer(), digestRepository,
+                digestPreferenceRepository);
+        organization.setId(UUID.randomUUID());
+        elderly.setId(UUID.randomUUID());
+        elderly.setName("Maria");
+        elderly.setOrganization(organization);
+    }
+
+    @Test
+    void notifyCaregiversShouldWriteAllNotificationsInOneFanOut() {
+        List<UUID> receivers = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(elderlyRepository.findById(elderly.getId())).thenReturn(Optional.of(elderly));
+        when(caregiverRepository.findUserIdsByElderlyId(elderly.getId())).thenReturn(receivers);
+        when(notificationOutbox.channels()).thenReturn(List.of("file"));
+        when(notificationRepository.fanOut(organization.getId(), null, "Aviso", receivers, List.of("file")))
+                .thenReturn(receivers.stream()
+                        .map(r -> new NotificationBatchRepository.Created(UUID.randomUUID(), r, LocalDateTime.now()))
+                        .toList());
+
+        int created = notificationService.notifyCaregivers(null, elderly.getId(), "Aviso");
+
+        assertEquals(3, created);
+        verify(notificationRepository, never()).save(any());
+        verify(notificationOutbox).signal();
+        verify(caregiverRepository, never()).findUserIdsByOrganizationId(any());
+        verify(auditService, times(1)).recordEvent(eq(organization.getId()), any(), eq("NOTIFY_CAREGIVERS"),
+                anyString(), eq(elderly.getId()), anyString());
+    }
+
+    @Test
+    void notifyOrganizationCaregiversShouldBroadcastInOneFanOut() {
+        List<UUID> receivers = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(caregiverRepository.findUserIdsByOrganizationId(organization.getId())).thenReturn(receivers);
+        when(notificationOutbox.channels()).thenReturn(List.of());
+        when(notificationRepository.fanOut(organization.getId(), null, "Plantão", receivers, List.of()))
+                .thenReturn(receivers.stream()
+                        .map(r -> new NotificationBatchRepository.Created(UUID.randomUUID(), r, LocalDateTime.now()))
+                        .toList());
+
+        int created = notificationService.notifyOrganizationCaregivers(null, organization.getId(), "Plantão");
+
+        assertEquals(2, created);
+        verify(auditService, times(1)).recordEvent(eq(organization.getId()), any(),
+                eq("NOTIFY_ORGANIZATION_CAREGIVERS"), anyString(), eq(organization.getId()), anyString());
+    }
+
+    @Test
+    void notifyFamilyMembersShouldRejectElderlyWithoutFamily() {
+        when(elderlyRepository.findById(elderly.getId())).thenReturn(Optional.of(elderly));
+        when(familyMemberRepository.findUserIdsByElderlyId(elderly.getId())).thenReturn(List.of());
+
+        assertThrows(BusinessException.class,
+                () -> notificationService.notifyFamilyMembers(null, elderly.getId(), "Aviso"));
+        verify(notificationRepository, never()).fanOut(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void sendNotificationShouldEnqueueDeliveryAndPublishToStream() {
+        User receiver = new User();
+        receiver.setId(UUID.randomUUID());
+        receiver.setName("João");
+        receiver.setOrganization(organization);
+        UUID notificationId = UUID.randomUUID();
+        when(userRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            notification.setId(notificationId);
+            return notification;
+        });
+
+        notificationService.sendNotification(null, receiver.getId(), "Aviso");
+
+        verify(notificationOutbox).enqueue(eq(receiver.getId()), eq(List.of(notificationId)), notNull());
+        verify(unreadCounterRepository).applyDeltas(Map.of(receiver.getId(), 1));
+        verify(notificationStreamHub).notificationCreated(eq(receiver.getId()), eq(notificationId), isNull(),
+                eq("Aviso"), any());
+    }
+
+    @Test
+    void createNotificationShouldUseTheSameCreationInstantForDeliveryAndStream() {
+        User receiver = new User();
+        receiver.setId(UUID.randomUUID());
+        receiver.setName("João");
+        UUID notificationId = UUID.randomUUID();
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            notification.setId(notificationId);
+            return notification;
+        });
+
+        Notification created = notificationService.createNotification(Notification.builder()
+                .organization(organization)
+                .receiver(receiver)
+                .message("Aviso")
+                .build());
+
+        assertNotNull(created.getCreatedAt());
+        verify(notificationOutbox).enqueue(receiver.getId(), List.of(notificationId), created.getCreatedAt());
+        verify(notificationStreamHub).notificationCreated(receiver.getId(), notificationId, null, "Aviso",
+                created.getCreatedAt());
+    }
+
+    @Test
+    void sendNotificationShouldCoalesceRepeatedMessageWithoutReadingIt() {
+        User receiver = new User();
+        receiver.setId(UUID.randomUUID());
+        receiver.setName("João");
+        receiver.setOrganization(organization);
+        UUID notificationId = UUID.randomUUID();
+        when(userRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            notification.setId(notificationId);
+            return notification;
+        });
+        when(notificationRepository.coalesce(eq(notificationId), any(), eq(receiver.getId()), eq("Aviso"), any()))
+                .thenReturn(2);
+
+        notificationService.sendNotification(null, receiver.getId(), "Aviso");
+        notificationService.sendNotification(null, receiver.getId(), "Aviso");
+
+        verify(userRepository, times(1)).findById(receiver.getId());
+        verify(notificationRepository, times(1)).save(any(Notification.class));
+        verify(notificationOutbox, times(1)).enqueue(any(), any(), any());
+        verify(unreadCounterRepository, times(1)).applyDeltas(any());
+        verify(notificationStreamHub).notificationRepeated(eq(receiver.getId()), eq(notificationId), eq(2), any());
+        verify(notificationRepository).getReferenceById(notificationId);
+    }
+
+    @Test
+    void markAsReadShouldDecrementCounterOnlyOnce() {
+        User receiver = new User();
+        receiver.setId(UUID.randomUUID());
+        Notification notification = Notification.builder()
+                .id(UUID.randomUUID())
+                .organization(organization)
+                .receiver(receiver)
+                .status(NotificationStatus.PENDENTE)
+                .build();
+        when(notificationRepository.findByIdForUpdate(notification.getId())).thenReturn(Optional.of(notification));
+        when(notificationRepository.save(notification)).thenReturn(notification);
+
+        notificationService.markAsRead(notification.getId());
+        notificationService.markAsRead(notification.getId());
+
+        verify(unreadCounterRepository, times(1)).applyDeltas(Map.of(receiver.getId(), -1));
+        verify(notificationRepository, times(1)).save(notification);
+    }
+
+    @Test
+    void markAsReadInBulkShouldRunOneUpdateAndOneAuditEvent() {
+        User receiver = new User();
+        receiver.setId(UUID.randomUUID());
+        receiver.setOrganization(organization);
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(securityUtils.getCurrentUserId()).thenReturn(receiver.getId());
+        when(userRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
+        when(notificationRepository.markRead(eq(receiver.getId()), any())).thenReturn(ids.subList(0, 2));
+
+        int updated = notificationService.markAsRead(ids);
+
+        assertEquals(2, updated);
+        verify(notificationRepository, never()).save(any());
+        verify(notificationStreamHub).notificationsRead(receiver.getId(), ids.subList(0, 2));
+        verify(auditService, times(1)).recordEvent(eq(organization.getId()), eq(receiver.getId()),
+                eq("READ_NOTIFICATIONS_BATCH"), anyString(), isNull(), anyString());
+    }
+
+    @Test
+    void findInboxShouldContinueFromCursorWithStatusFilter() {
+        UUID receiverId = UUID.randomUUID();
+        when(securityUtils.getCurrentUserId()).thenReturn(receiverId);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 9, 0);
+        List<NotificationRepository.InboxEntry> rows = List.of(
+                inboxEntry(UUID.randomUUID(), createdAt.plusMinutes(2)),
+                inboxEntry(UUID.randomUUID(), createdAt.plusMinutes(1)),
+                inboxEntry(UUID.randomUUID(), createdAt));
+        KeysetCursor cursor = new KeysetCursor(createdAt.plusMinutes(3), UUID.randomUUID());
+        when(notificationRepository.findInboxByStatusBefore(eq(receiverId), eq(NotificationStatus.PENDENTE),
+                eq(cursor.timestamp()), eq(cursor.id()), any())).thenReturn(rows);
+
+        KeysetPage<NotificationRepository.InboxEntry> page =
+                notificationService.findInbox(NotificationStatus.PENDENTE, cursor.encode(), 2);
+
+        assertEquals(rows.subList(0, 2), page.items());
+        assertEquals(new KeysetCursor(rows.get(1).getCreatedAt(), rows.get(1).getId()),
+                KeysetCursor.decode(page.nextCursor()));
+        verify(notificationRepository, never()).findInbox(any(), any());
+        assertThrows(BusinessException.class, () -> notificationService.findInbox(null, null, 0));
+    }
+
+    private static NotificationRepository.InboxEntry inboxEntry(UUID id, LocalDateTime createdAt) {
+        NotificationRepository.InboxEntry entry = mock(NotificationRepository.InboxEntry.class);
+        lenient().when(entry.getId()).thenReturn(id);
+        lenient().when(entry.getCreatedAt()).thenReturn(createdAt);
+        return entry;
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificationCoalescerTest {
+
+    private final NotificationCoalescer coalescer = new NotificationCoalescer();
+    private final UUID sender = UUID.randomUUID();
+    private final UUID receiver = UUID.randomUUID();
+    private final LocalDateTime createdAt = LocalDateTime.of(2030, 1, 2, 9, 0);
+
+    @Test
+    void findShouldMatchSameMessageInsideWindowOnly() {
+        NotificationCoalescer.Entry entry = new NotificationCoalescer.Entry(UUID.randomUUID(), createdAt, UUID.randomUUID());
+        coalescer.register(sender, receiver, "Aviso", entry);
+
+        assertEquals(entry, coalescer.find(sender, receiver, "Aviso", createdAt.plusSeconds(90)));
+        assertNull(coalescer.find(sender, receiver, "Outro aviso", createdAt.plusSeconds(90)));
+        assertNull(coalescer.find(null, receiver, "Aviso", createdAt.plusSeconds(90)));
+        // A janela (2 minutos) conta a partir da primeira ocorrência
+        assertNull(coalescer.find(sender, receiver, "Aviso", createdAt.plusMinutes(3)));
+    }
+
+    @Test
+    void invalidateShouldRemoveEntry() {
+        NotificationCoalescer.Entry entry = new NotificationCoalescer.Entry(UUID.randomUUID(), createdAt, UUID.randomUUID());
+        coalescer.register(sender, receiver, "Aviso", entry);
+
+        coalescer.invalidate(sender, receiver, "Aviso", entry);
+
+        assertNull(coalescer.find(sender, receiver, "Aviso", createdAt.plusSeconds(10)));
+    }
+
+    @Test
+    void oldBucketsShouldBeRecycledWhenRingWrapsAround() {
+        NotificationCoalescer.Entry old = new NotificationCoalescer.Entry(UUID.randomUUID(), createdAt, UUID.randomUUID());
+        coalescer.register(sender, receiver, "Aviso", old);
+        // Cinco baldes de 30 segundos depois, o mesmo balde do anel é reutilizado
+        LocalDateTime later = createdAt.plusSeconds(150);
+        NotificationCoalescer.Entry recent = new NotificationCoalescer.Entry(UUID.randomUUID(), later, UUID.randomUUID());
+        coalescer.register(sender, receiver, "Outro aviso", recent);
+
+        assertNull(coalescer.find(sender, receiver, "Aviso", createdAt.plusSeconds(60)));
+        assertEquals(recent, coalescer.find(sender, receiver, "Outro aviso", later));
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.repository.NotificationDeliveryBatchRepository.ClaimedDelivery;
+import br.com.uniube.seniorcare.domain.repository.NotificationDeliveryBatchRepository.Failure;
+import br.com.uniube.seniorcare.domain.repository.NotificationDeliveryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryWorkerTest {
+
+    @Mock
+    private NotificationDeliveryRepository deliveryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<NotificationChannel.Message> sent = new ArrayList<>();
+    private NotificationDeliveryWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        NotificationChannel channel = new NotificationChannel() {
+            @Override
+            public String name() {
+                return "file";
+            }
+
+            @Override
+            public void deliver(Message message) throws IOException {
+                if (message.text().equals("erro")) {
+                    throw new IOException("destino indisponível");
+                }
+                synchronized (sent) {
+                    sent.add(message);
+                }
+            }
+        };
+        worker = new NotificationDeliveryWorker(deliveryRepository, List.of(channel), transactionManager);
+    }
+
+    @Test
+    void processBatchShouldRecordDeliveredAndRetryFailures() {
+        ClaimedDelivery ok = claimed("file", "Aviso", 1);
+        ClaimedDelivery failing = claimed("file", "erro", 1);
+        when(deliveryRepository.claim(anyInt(), any())).thenReturn(List.of(ok, failing));
+
+        assertEquals(2, worker.processBatch());
+
+        assertEquals(1, sent.size());
+        assertEquals(ok.id(), sent.get(0).deliveryId());
+        verify(deliveryRepository).markDelivered(List.of(ok.id()));
+        Failure failure = capturedFailures().get(0);
+        assertEquals(failing.id(), failure.deliveryId());
+        assertNotNull(failure.retryAfter());
+        assertTrue(failure.error().contains("destino indisponível"));
+    }
+
+    @Test
+    void processBatchShouldGiveUpAfterMaxAttemptsAndOnDeletedNotifications() {
+        ClaimedDelivery lastAttempt = claimed("file", "erro", 8);
+        ClaimedDelivery orphan = new ClaimedDelivery(UUID.randomUUID(), UUID.randomUUID(), "file", 1,
+                null, null, null, null, null, null);
+        when(deliveryRepository.claim(anyInt(), any())).thenReturn(List.of(lastAttempt, orphan));
+
+        worker.processBatch();
+
+        assertTrue(sent.isEmpty());
+        List<Failure> failures = capturedFailures();
+        assertEquals(2, failures.size());
+        assertTrue(failures.stream().allMatch(f -> f.retryAfter() == null));
+    }
+
+    @Test
+    void backoffShouldGrowExponentiallyUpToMaximum() {
+        Duration first = worker.backoff(1);
+        Duration third = worker.backoff(3);
+        Duration late = worker.backoff(40);
+
+        assertTrue(first.compareTo(Duration.ofSeconds(5)) >= 0 && first.compareTo(Duration.ofSeconds(10)) <= 0);
+        assertTrue(third.compareTo(Duration.ofSeconds(20)) >= 0 && third.compareTo(Duration.ofSeconds(40)) <= 0);
+        assertTrue(late.compareTo(Duration.ofHours(1)) <= 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Failure> capturedFailures() {
+        ArgumentCaptor<Collection<Failure>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(deliveryRepository).markFailed(captor.capture());
+        return List.copyOf(captor.getValue());
+    }
+
+    private static ClaimedDelivery claimed(String channel, String message, int attempt) {
+        return new ClaimedDelivery(UUID.randomUUID(), UUID.randomUUID(), channel, attempt, UUID.randomUUID(),
+                UUID.randomUUID(), "João", "joao@example.com", message, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.repository.NotificationDigestBatchRepository.DigestBatch;
+import br.com.uniube.seniorcare.domain.repository.NotificationDigestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDigestJobTest {
+
+    @Mock
+    private NotificationDigestRepository digestRepository;
+
+    @Mock
+    private NotificationOutbox notificationOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationDigestJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new NotificationDigestJob(digestRepository, notificationOutbox, transactionManager, meterRegistry);
+        when(notificationOutbox.channels()).thenReturn(List.of("file"));
+    }
+
+    @Test
+    void runShouldCloseOnlyPeriodsPastTheGraceAndPublishMetrics() {
+        LocalDateTime now = LocalDateTime.of(2026, 10, 17, 12, 0, 30);
+        when(digestRepository.createDigests(now.minusMinutes(1), List.of("file")))
+                .thenReturn(new DigestBatch(2, 7, 9));
+
+        DigestBatch batch = job.run(now);
+
+        assertEquals(new DigestBatch(2, 7, 9), batch);
+        verify(notificationOutbox).signal();
+        assertEquals(2, meterRegistry.counter("notifications.digest.created").count());
+        assertEquals(7, meterRegistry.counter("notifications.digest.notifications").count());
+        assertEquals(9, meterRegistry.counter("notifications.digest.occurrences").count());
+        assertEquals(1, meterRegistry.timer("notifications.digest.run").count());
+    }
+
+    @Test
+    void runWithoutDueDigestsShouldNotSignalDeliveryWorkers() {
+        LocalDateTime now = LocalDateTime.of(2026, 10, 17, 12, 30);
+        when(digestRepository.createDigests(now.minusMinutes(1), List.of("file")))
+                .thenReturn(new DigestBatch(0, 0, 0));
+
+        job.run(now);
+
+        verify(notificationOutbox, never()).signal();
+        assertEquals(0, meterRegistry.counter("notifications.digest.created").count());
+        assertEquals(1, meterRegistry.timer("notifications.digest.run").count());
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.repository.NotificationRetentionPolicyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPartitionMaintenanceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NotificationRetentionPolicyRepository retentionPolicyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        maintenance = new NotificationPartitionMaintenance(jdbcTemplate, retentionPolicyRepository, transactionManager,
+                new NotificationRetentionDefaults());
+    }
+
+    @Test
+    void partitionNameShouldRoundTripMonth() {
+        YearMonth month = YearMonth.of(2025, 3);
+
+        assertEquals("notifications_p202503", NotificationPartitionMaintenance.partitionName(month));
+        assertEquals(month, NotificationPartitionMaintenance.partitionMonth("notifications_p202503"));
+        assertNull(NotificationPartitionMaintenance.partitionMonth("notifications_default"));
+    }
+
+    @Test
+    void runShouldDropOnlyPartitionsExpiredForLongestRetention() {
+        when(retentionPolicyRepository.findMaxRetentionDays()).thenReturn(Optional.of(400));
+        existingPartitions(name -> true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "notifications_default", "notifications_p202311", "notifications_p202312", "notifications_p202501"));
+
+        // Corte em 2023-12-09: o mês de dezembro de 2023 ainda tem notificações dentro da retenção
+        NotificationPartitionMaintenance.RunSummary summary = maintenance.run(LocalDateTime.of(2025, 1, 12, 3, 0));
+
+        assertEquals(0, summary.partitionsCreated());
+        assertEquals(1, summary.partitionsDropped());
+        verify(jdbcTemplate).execute("ALTER TABLE notifications DETACH PARTITION notifications_p202311");
+        verify(jdbcTemplate).execute("DROP TABLE notifications_p202311");
+        verify(jdbcTemplate, never()).execute("DROP TABLE notifications_p202312");
+        verify(jdbcTemplate, never()).execute("DROP TABLE notifications_default");
+    }
+
+    @Test
+    void runShouldCreateMissingFuturePartitions() {
+        existingPartitions(name -> !name.equals("notifications_p202503"));
+
+        NotificationPartitionMaintenance.RunSummary summary = maintenance.run(LocalDateTime.of(2025, 1, 12, 3, 0));
+
+        assertEquals(1, summary.partitionsCreated());
+        verify(jdbcTemplate).execute(
+                "ALTER TABLE notifications ATTACH PARTITION notifications_p202503 FOR VALUES FROM ('2025-03-01') TO ('2025-04-01')");
+    }
+
+    /**
+     * Responde às consultas de existência de partição; as demais (lock e remoção em lotes) retornam null.
+     */
+    private void existingPartitions(Predicate<String> exists) {
+        when(jdbcTemplate.queryForObject(anyString(), any(Class.class), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    String sql = invocation.getArgument(0);
+                    return sql.startsWith("SELECT to_regclass") ? exists.test(invocation.getArgument(2)) : null;
+                });
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.uniube.seniorcare.service.notification;
+
+import br.com.uniube.seniorcare.domain.repository.NotificationRepository;
+import br.com.uniube.seniorcare.service.utils.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamHubTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private NotificationStreamHub hub;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        hub = new NotificationStreamHub(notificationRepository);
+    }
+
+    @Test
+    void subscribeWithLastEventIdShouldReplayFromCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2030, 1, 2, 9, 0), UUID.randomUUID());
+        when(notificationRepository.findUnreadAfter(eq(userId), any(), any(), any())).thenReturn(List.of());
+
+        hub.subscribe(userId, cursor.encode());
+
+        verify(notificationRepository, timeout(2000))
+                .findUnreadAfter(eq(userId), eq(cursor.timestamp()), eq(cursor.id()), any());
+        assertTrue(hub.isConnected(userId));
+    }
+
+    @Test
+    void subscribeWithoutLastEventIdShouldOnlyStreamLiveEvents() {
+        hub.subscribe(userId, null);
+        hub.subscribe(userId, "cursor-de-outra-versao");
+
+        assertEquals(2, hub.connections());
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void subscribeShouldCloseOldestConnectionsAboveLimit() throws InterruptedException {
+        for (int i = 0; i < 7; i++) {
+            hub.subscribe(userId, null);
+        }
+
+        for (int i = 0; i < 100 && hub.connections() > 5; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(5, hub.connections());
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.uniube.seniorcare.service.observation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppointmentObservationBackfillTest {
+
+    private final LocalDateTime first = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_000_000);
+    private final LocalDateTime second = LocalDateTime.of(2024, 3, 2, 8, 0);
+
+    @Test
+    void parseShouldSplitOriginalTextAndObservations() {
+        String description = "Consulta de rotina\n\n--- " + first + " ---\nPressão normal\n\n--- "
+                + second + " ---\nTrocar curativo\nna perna";
+
+        AppointmentObservationBackfill.ParsedDescription parsed = AppointmentObservationBackfill.parse(description);
+
+        assertEquals("Consulta de rotina", parsed.description());
+        assertEquals(2, parsed.observations().size());
+        assertEquals(first, parsed.observations().get(0).createdAt());
+        assertEquals("Pressão normal", parsed.observations().get(0).content());
+        assertEquals(second, parsed.observations().get(1).createdAt());
+        assertEquals("Trocar curativo\nna perna", parsed.observations().get(1).content());
+    }
+
+    @Test
+    void parseShouldHandleDescriptionMadeOnlyOfObservations() {
+        AppointmentObservationBackfill.ParsedDescription parsed =
+                AppointmentObservationBackfill.parse("--- " + first + " ---\nPrimeira");
+
+        assertNull(parsed.description());
+        assertEquals(1, parsed.observations().size());
+    }
+
+    @Test
+    void parseShouldKeepDescriptionWithoutMarkers() {
+        AppointmentObservationBackfill.ParsedDescription parsed =
+                AppointmentObservationBackfill.parse("Texto com --- traços --- no meio");
+
+        assertEquals("Texto com --- traços --- no meio", parsed.description());
+        assertTrue(parsed.observations().isEmpty());
+    }
+}
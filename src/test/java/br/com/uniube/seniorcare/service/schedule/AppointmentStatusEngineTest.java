@@ -0,0 +1,90 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import br.com.uniube.seniorcare.service.AuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentStatusEngineTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AppointmentStatusEngine engine;
+
+    private final UUID organizationId = UUID.randomUUID();
+    private final UUID systemUserId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.of(2030, 1, 7, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        engine = new AppointmentStatusEngine(appointmentRepository, auditService, transactionManager);
+        ReflectionTestUtils.setField(engine, "batchSize", 2);
+        ReflectionTestUtils.setField(engine, "systemUserId", systemUserId.toString());
+    }
+
+    @Test
+    void runShouldDrainFullBatchesAndAuditOncePerOrganization() {
+        when(appointmentRepository.advanceStatus(AppointmentStatus.AGENDADO, AppointmentStatus.EM_ANDAMENTO, now, 2))
+                .thenReturn(Map.of(organizationId, 2), Map.of(organizationId, 1));
+        when(appointmentRepository.flagOverdue(eq(AppointmentStatus.EM_ANDAMENTO), eq(now.minusMinutes(15)), eq(2)))
+                .thenReturn(Map.of());
+
+        AppointmentStatusEngine.RunSummary summary = engine.run(now);
+
+        assertEquals(3, summary.started());
+        assertEquals(0, summary.flaggedOverdue());
+        verify(appointmentRepository, times(2)).advanceStatus(any(), any(), any(), anyInt());
+        verify(auditService, times(1)).recordEvent(eq(organizationId), eq(systemUserId),
+                eq("ADVANCE_APPOINTMENT_STATUS_BATCH"), eq("Agendamento"), isNull(), contains("3 agendamentos iniciados"));
+    }
+
+    @Test
+    void runWithoutChangesShouldNotAudit() {
+        when(appointmentRepository.advanceStatus(any(), any(), any(), anyInt())).thenReturn(Map.of());
+        when(appointmentRepository.flagOverdue(any(), any(), anyInt())).thenReturn(Map.of());
+
+        engine.run(now);
+
+        verifyNoInteractions(auditService);
+    }
+
+    @Test
+    void missingOrMalformedSystemUserIdShouldFailAtStartup() {
+        for (String value : new String[]{null, " ", "não-é-uuid"}) {
+            ReflectionTestUtils.setField(engine, "systemUserId", value);
+            assertThrows(IllegalStateException.class, engine::validateSystemUserId, String.valueOf(value));
+        }
+
+        ReflectionTestUtils.setField(engine, "systemUserId", systemUserId.toString());
+        assertDoesNotThrow(engine::validateSystemUserId);
+    }
+
+    @Test
+    void statusRulesShouldMatchManualTransitions() {
+        assertTrue(AppointmentStatus.AGENDADO.canTransitionTo(AppointmentStatus.EM_ANDAMENTO));
+        assertFalse(AppointmentStatus.AGENDADO.canTransitionTo(AppointmentStatus.CONCLUIDO));
+        assertFalse(AppointmentStatus.CONCLUIDO.canTransitionTo(AppointmentStatus.CANCELADO));
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssignmentSolverTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final LocalDateTime nine = LocalDateTime.of(2030, 1, 7, 9, 0);
+    private final UUID ana = UUID.randomUUID();
+    private final UUID bruno = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldBalanceWorkloadBetweenEligibleCaregivers() {
+        List<AssignmentSolver.Visit> visits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            visits.add(new AssignmentSolver.Visit(nine.plusHours(i), 60, List.of(ana, bruno)));
+        }
+
+        AssignmentSolver.Result result = new AssignmentSolver(4, 1, pool)
+                .solve(visits, List.of(agenda(ana, 0), agenda(bruno, 0)));
+
+        assertEquals(4, result.metrics().assigned());
+        assertEquals(2, result.assignments().stream().filter(ana::equals).count());
+        assertEquals(120, result.metrics().maxLoadMinutes());
+        assertEquals(0.0, result.metrics().loadStdDevMinutes());
+    }
+
+    @Test
+    void shouldRespectExistingAppointmentsAndExistingLoad() {
+        AssignmentSolver.CaregiverAgenda busyAna = new AssignmentSolver.CaregiverAgenda(ana,
+                List.of(new AssignmentSolver.Busy(nine, nine.plusHours(1))), 300);
+
+        AssignmentSolver.Result result = new AssignmentSolver(2, 1, pool).solve(List.of(
+                new AssignmentSolver.Visit(nine.plusMinutes(30), 60, List.of(ana, bruno)),
+                new AssignmentSolver.Visit(nine.plusHours(3), 60, List.of(ana, bruno))
+        ), List.of(busyAna, agenda(bruno, 0)));
+
+        assertEquals(List.of(bruno, bruno), result.assignments());
+    }
+
+    @Test
+    void repairShouldMoveConflictingVisitToFreeCaregiver() {
+        // A visita exclusiva de Ana só cabe se a visita flexível for para Bruno
+        AssignmentSolver.Result result = new AssignmentSolver(1, 1, pool).solve(List.of(
+                new AssignmentSolver.Visit(nine, 60, List.of(ana, bruno)),
+                new AssignmentSolver.Visit(nine, 60, List.of(ana))
+        ), List.of(agenda(ana, 0), agenda(bruno, 500)));
+
+        assertEquals(List.of(bruno, ana), result.assignments());
+        assertEquals(0, result.metrics().unassigned());
+    }
+
+    @Test
+    void shouldReportVisitsWithoutEligibleOrAvailableCaregiver() {
+        AssignmentSolver.Result result = new AssignmentSolver(2, 1, pool).solve(List.of(
+                new AssignmentSolver.Visit(nine, 60, List.of(ana)),
+                new AssignmentSolver.Visit(nine, 60, List.of(ana)),
+                new AssignmentSolver.Visit(nine, 60, List.of(UUID.randomUUID()))
+        ), List.of(agenda(ana, 0)));
+
+        assertEquals(1, result.metrics().assigned());
+        assertEquals(1, result.metrics().withoutEligibleCaregiver());
+        assertNull(result.assignments().get(2));
+    }
+
+    @Test
+    void largeBatchShouldBeConflictFreeAndDeterministic() {
+        Random random = new Random(7);
+        List<UUID> caregivers = new ArrayList<>();
+        for (int c = 0; c < 60; c++) {
+            caregivers.add(UUID.randomUUID());
+        }
+        List<AssignmentSolver.Visit> visits = new ArrayList<>();
+        for (int v = 0; v < 2000; v++) {
+            List<UUID> eligible = new ArrayList<>();
+            for (int k = 0; k < 4; k++) {
+                eligible.add(caregivers.get(random.nextInt(caregivers.size())));
+            }
+            LocalDateTime start = nine.plusDays(random.nextInt(14)).plusMinutes(30L * random.nextInt(20));
+            visits.add(new AssignmentSolver.Visit(start, 30 + 30 * random.nextInt(3), eligible));
+        }
+        List<AssignmentSolver.CaregiverAgenda> agendas = caregivers.stream().map(id -> agenda(id, 0)).toList();
+
+        AssignmentSolver solver = new AssignmentSolver(8, 3, pool);
+        AssignmentSolver.Result first = solver.solve(visits, agendas);
+        AssignmentSolver.Result second = solver.solve(visits, agendas);
+
+        assertEquals(first.assignments(), second.assignments());
+        assertTrue(first.metrics().assigned() > 0);
+
+        Map<UUID, List<AssignmentSolver.Visit>> byCaregiver = new HashMap<>();
+        for (int v = 0; v < visits.size(); v++) {
+            UUID caregiver = first.assignments().get(v);
+            if (caregiver != null) {
+                assertTrue(visits.get(v).eligibleCaregivers().contains(caregiver));
+                byCaregiver.computeIfAbsent(caregiver, k -> new ArrayList<>()).add(visits.get(v));
+            }
+        }
+        for (List<AssignmentSolver.Visit> assigned : byCaregiver.values()) {
+            for (int i = 0; i < assigned.size(); i++) {
+                for (int j = i + 1; j < assigned.size(); j++) {
+                    assertFalse(overlaps(assigned.get(i), assigned.get(j)));
+                }
+            }
+        }
+    }
+
+    private static boolean overlaps(AssignmentSolver.Visit a, AssignmentSolver.Visit b) {
+        return a.start().isBefore(b.start().plusMinutes(b.durationMinutes()))
+                && b.start().isBefore(a.start().plusMinutes(a.durationMinutes()));
+    }
+
+    private static AssignmentSolver.CaregiverAgenda agenda(UUID id, long load) {
+        return new AssignmentSolver.CaregiverAgenda(id, List.of(), load);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityEngineTest {
+
+    private final LocalDate monday = LocalDate.of(2030, 1, 7);
+    private final UUID ana = UUID.randomUUID();
+    private final UUID bruno = UUID.randomUUID();
+
+    private AvailabilityEngine engine(int days) {
+        return new AvailabilityEngine(monday, days, 15, LocalTime.of(8, 0), LocalTime.of(18, 0));
+    }
+
+    @Test
+    void shouldReturnSlotsInsideWorkingHoursWithoutOverlapForSameCaregiver() {
+        AvailabilityEngine engine = engine(1);
+        engine.addCaregiver(ana);
+
+        List<AvailabilityEngine.FreeSlot> slots = engine.findFreeSlots(monday.atStartOfDay(),
+                monday.plusDays(1).atStartOfDay(), 60, 20);
+
+        assertEquals(10, slots.size());
+        assertEquals(monday.atTime(8, 0), slots.get(0).start());
+        assertEquals(monday.atTime(9, 0), slots.get(1).start());
+        assertEquals(monday.atTime(18, 0), slots.get(9).end());
+    }
+
+    @Test
+    void shouldSkipOccupiedIntervalsAndRoundPartialSlots() {
+        AvailabilityEngine engine = engine(1);
+        engine.occupy(ana, monday.atTime(8, 0), monday.atTime(9, 10));
+
+        List<AvailabilityEngine.FreeSlot> slots = engine.findFreeSlots(monday.atStartOfDay(),
+                monday.plusDays(1).atStartOfDay(), 30, 1);
+
+        assertEquals(monday.atTime(9, 15), slots.get(0).start());
+        assertEquals(monday.atTime(9, 45), slots.get(0).end());
+    }
+
+    @Test
+    void shouldMergeCaregiversInChronologicalOrder() {
+        AvailabilityEngine engine = engine(1);
+        engine.addCaregiver(ana);
+        engine.addCaregiver(bruno);
+        engine.occupy(ana, monday.atTime(8, 0), monday.atTime(12, 0));
+
+        List<AvailabilityEngine.FreeSlot> slots = engine.findFreeSlots(monday.atTime(8, 0),
+                monday.atTime(13, 0), 60, 10);
+
+        assertEquals(List.of(bruno, bruno, bruno, bruno, ana, bruno),
+                slots.stream().map(AvailabilityEngine.FreeSlot::caregiverId).toList());
+        assertEquals(monday.atTime(12, 0), slots.get(4).start());
+    }
+
+    @Test
+    void shouldNotCrossMidnightAndShouldRespectSearchBounds() {
+        AvailabilityEngine engine = new AvailabilityEngine(monday, 2, 15, LocalTime.MIN, LocalTime.of(23, 59));
+        engine.occupy(ana, monday.atStartOfDay(), monday.atTime(23, 30));
+
+        List<AvailabilityEngine.FreeSlot> slots = engine.findFreeSlots(monday.atTime(22, 5),
+                monday.plusDays(1).atTime(1, 0), 60, 5);
+
+        assertEquals(1, slots.size());
+        assertEquals(monday.plusDays(1).atStartOfDay(), slots.get(0).start());
+    }
+
+    @Test
+    void occupiedFullDayShouldFallToNextDay() {
+        AvailabilityEngine engine = engine(3);
+        engine.occupy(ana, monday.atStartOfDay(), monday.plusDays(1).atTime(17, 0));
+
+        List<AvailabilityEngine.FreeSlot> slots = engine.findFreeSlots(monday.atStartOfDay(),
+                monday.plusDays(3).atStartOfDay(), 120, 1);
+
+        assertEquals(LocalDateTime.of(2030, 1, 9, 8, 0), slots.get(0).start());
+    }
+}
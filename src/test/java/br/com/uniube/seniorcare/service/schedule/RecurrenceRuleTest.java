@@ -0,0 +1,68 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    // Quarta-feira
+    private final LocalDateTime first = LocalDateTime.of(2030, 1, 2, 9, 0);
+
+    @Test
+    void weeklyRuleShouldExpandSelectedDaysInOrder() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, 1,
+                EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), 4, null);
+
+        List<LocalDateTime> occurrences = rule.expand(first);
+
+        assertEquals(List.of(
+                LocalDateTime.of(2030, 1, 4, 9, 0),
+                LocalDateTime.of(2030, 1, 7, 9, 0),
+                LocalDateTime.of(2030, 1, 11, 9, 0),
+                LocalDateTime.of(2030, 1, 14, 9, 0)), occurrences);
+    }
+
+    @Test
+    void weeklyRuleWithoutDaysShouldUseFirstOccurrenceDay() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.WEEKLY, 2, null, null,
+                LocalDate.of(2030, 2, 1));
+
+        List<LocalDateTime> occurrences = rule.expand(first);
+
+        assertEquals(List.of(
+                LocalDateTime.of(2030, 1, 2, 9, 0),
+                LocalDateTime.of(2030, 1, 16, 9, 0),
+                LocalDateTime.of(2030, 1, 30, 9, 0)), occurrences);
+    }
+
+    @Test
+    void dailyRuleShouldStopAtCount() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.DAILY, null, null, 3, null);
+
+        assertEquals(3, rule.expand(first).size());
+        assertEquals(LocalDateTime.of(2030, 1, 4, 9, 0), rule.expand(first).get(2));
+    }
+
+    @Test
+    void ruleShouldRequireCountOrUntil() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 1, null, null, null);
+
+        assertThrows(BusinessException.class, () -> rule.expand(first));
+    }
+
+    @Test
+    void ruleShouldRejectSeriesAboveLimit() {
+        RecurrenceRule rule = new RecurrenceRule(RecurrenceRule.Frequency.DAILY, 1, null, null,
+                first.toLocalDate().plusYears(5));
+
+        assertThrows(BusinessException.class, () -> rule.expand(first));
+    }
+}
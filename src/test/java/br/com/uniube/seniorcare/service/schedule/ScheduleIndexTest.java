@@ -0,0 +1,170 @@
+package br.com.uniube.seniorcare.service.schedule;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.entity.Caregiver;
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import br.com.uniube.seniorcare.domain.repository.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleIndexTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    private ScheduleIndex scheduleIndex;
+
+    private final UUID caregiverId = UUID.randomUUID();
+    private final LocalDateTime tomorrow = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+    @BeforeEach
+    void setUp() {
+        scheduleIndex = new ScheduleIndex(appointmentRepository);
+    }
+
+    @Test
+    void hasConflictShouldLoadScheduleOnceAndAnswerFromMemory() {
+        UUID existingId = UUID.randomUUID();
+        when(appointmentRepository.findScheduleSlots(eq(caregiverId), any(), any()))
+                .thenReturn(List.of(slot(existingId, tomorrow.withHour(10))));
+
+        assertTrue(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(10).plusMinutes(30),
+                tomorrow.withHour(11).plusMinutes(30), null));
+        assertFalse(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(11),
+                tomorrow.withHour(12), null));
+        assertFalse(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(9),
+                tomorrow.withHour(10), null));
+
+        verify(appointmentRepository, times(1)).findScheduleSlots(eq(caregiverId), any(), any());
+        verify(appointmentRepository, never()).findConflictingAppointments(any(), any(), any());
+    }
+
+    @Test
+    void hasConflictShouldIgnoreExcludedAppointment() {
+        UUID existingId = UUID.randomUUID();
+        when(appointmentRepository.findScheduleSlots(eq(caregiverId), any(), any()))
+                .thenReturn(List.of(slot(existingId, tomorrow.withHour(10))));
+
+        assertFalse(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(10),
+                tomorrow.withHour(11), existingId));
+    }
+
+    @Test
+    void appointmentChangedShouldMoveAndRemoveIntervals() {
+        when(appointmentRepository.findScheduleSlots(eq(caregiverId), any(), any())).thenReturn(List.of());
+        assertFalse(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(8), tomorrow.withHour(9), null));
+
+        Appointment appointment = appointment(tomorrow.withHour(14), AppointmentStatus.AGENDADO);
+        scheduleIndex.appointmentChanged(appointment);
+        assertTrue(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(14), tomorrow.withHour(15), null));
+
+        appointment.setDateTime(tomorrow.withHour(16));
+        scheduleIndex.appointmentChanged(appointment);
+        assertFalse(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(14), tomorrow.withHour(15), null));
+        assertEquals(1, scheduleIndex.findOverlapping(caregiverId, tomorrow, tomorrow.plusDays(1)).size());
+
+        appointment.setStatus(AppointmentStatus.CANCELADO);
+        scheduleIndex.appointmentChanged(appointment);
+        assertTrue(scheduleIndex.findOverlapping(caregiverId, tomorrow, tomorrow.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void changesCommittedDuringLoadShouldBeReplayedBeforeInstalling() {
+        UUID existingId = UUID.randomUUID();
+        Appointment created = appointment(tomorrow.withHour(14), AppointmentStatus.AGENDADO);
+        when(appointmentRepository.findScheduleSlots(eq(caregiverId), any(), any())).thenAnswer(invocation -> {
+            // Alterações confirmadas depois da leitura do banco, antes da instalação da agenda
+            scheduleIndex.appointmentChanged(created);
+            Appointment cancelled = appointment(tomorrow.withHour(10), AppointmentStatus.CANCELADO);
+            cancelled.setId(existingId);
+            scheduleIndex.appointmentChanged(cancelled);
+            return List.of(slot(existingId, tomorrow.withHour(10)));
+        });
+
+        assertTrue(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(14), tomorrow.withHour(15), null));
+        assertFalse(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(10), tomorrow.withHour(11), null));
+        verify(appointmentRepository, times(1)).findScheduleSlots(eq(caregiverId), any(), any());
+    }
+
+    @Test
+    void concurrentQueryDuringLoadShouldUseRepository() {
+        when(appointmentRepository.findConflictingAppointments(eq(caregiverId), any(), any())).thenReturn(List.of());
+        when(appointmentRepository.findScheduleSlots(eq(caregiverId), any(), any())).thenAnswer(invocation -> {
+            assertFalse(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(8), tomorrow.withHour(9), null));
+            return List.of();
+        });
+
+        assertFalse(scheduleIndex.hasConflict(caregiverId, tomorrow.withHour(8), tomorrow.withHour(9), null));
+
+        verify(appointmentRepository, times(1)).findConflictingAppointments(eq(caregiverId), any(), any());
+        assertEquals(1, scheduleIndex.loadedCaregivers());
+    }
+
+    @Test
+    void hasConflictShouldFallBackToRepositoryOutsideWindow() {
+        LocalDateTime farFuture = LocalDateTime.now().plusYears(2);
+        when(appointmentRepository.findConflictingAppointments(eq(caregiverId), any(), any())).thenReturn(List.of());
+
+        assertFalse(scheduleIndex.hasConflict(caregiverId, farFuture, farFuture.plusHours(1), null));
+
+        verify(appointmentRepository, never()).findScheduleSlots(any(), any(), any());
+        assertEquals(0, scheduleIndex.loadedCaregivers());
+    }
+
+    @Test
+    void findOverlappingShouldReturnSlotsInStartOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(appointmentRepository.findScheduleSlots(eq(caregiverId), any(), any()))
+                .thenReturn(List.of(slot(second, tomorrow.withHour(13)), slot(first, tomorrow.withHour(9))));
+
+        List<ScheduleIndex.Slot> slots = scheduleIndex.findOverlapping(caregiverId, tomorrow, tomorrow.plusDays(1));
+
+        assertEquals(List.of(first, second), slots.stream().map(ScheduleIndex.Slot::appointmentId).toList());
+        assertEquals(tomorrow.withHour(10), slots.get(0).end());
+    }
+
+    private Appointment appointment(LocalDateTime dateTime, AppointmentStatus status) {
+        Caregiver caregiver = new Caregiver();
+        caregiver.setId(caregiverId);
+        Appointment appointment = new Appointment();
+        appointment.setId(UUID.randomUUID());
+        appointment.setCaregiver(caregiver);
+        appointment.setDateTime(dateTime);
+        appointment.setStatus(status);
+        return appointment;
+    }
+
+    private static AppointmentRepository.ScheduleSlot slot(UUID id, LocalDateTime dateTime) {
+        return new AppointmentRepository.ScheduleSlot() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getDateTime() {
+                return dateTime;
+            }
+
+            @Override
+            public Integer getDurationMinutes() {
+                return 60;
+            }
+        };
+    }
+}
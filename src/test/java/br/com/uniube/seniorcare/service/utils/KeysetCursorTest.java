@@ -0,0 +1,49 @@
+package br.com.uniube.seniorcare.service.utils;
+
+import br.com.uniube.seniorcare.domain.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void decodeShouldRestoreEncodedCursor() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2026, 10, 17, 8, 30, 0, 123_456_000), UUID.randomUUID());
+        KeysetCursor midnight = new KeysetCursor(LocalDateTime.of(2026, 10, 17, 0, 0), UUID.randomUUID());
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+        assertEquals(midnight, KeysetCursor.decode(midnight.encode()));
+    }
+
+    @Test
+    void decodeShouldReturnNullForFirstPage() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+    }
+
+    @Test
+    void decodeShouldRejectMalformedOrTamperedCursor() {
+        String valid = new KeysetCursor(LocalDateTime.of(2026, 10, 17, 8, 30), UUID.randomUUID()).encode();
+
+        for (String cursor : new String[]{
+                "não é base64!",
+                encode("2026-10-17T08:30"),
+                encode("2026-13-40T08:30|" + UUID.randomUUID()),
+                encode("2026-10-17T08:30|não-é-uuid"),
+                valid.substring(0, valid.length() - 4)}) {
+            BusinessException exception = assertThrows(BusinessException.class, () -> KeysetCursor.decode(cursor),
+                    cursor);
+            assertEquals("Cursor de paginação inválido", exception.getMessage());
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.uniube.seniorcare.service.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetPageTest {
+
+    private record Row(LocalDateTime dateTime, UUID id) {
+    }
+
+    private final LocalDateTime start = LocalDateTime.of(2026, 10, 17, 8, 0);
+
+    @Test
+    void ofShouldEndPagingWhenQueryReturnsExactlySizeRows() {
+        List<Row> rows = rows(3);
+
+        KeysetPage<Row> page = KeysetPage.of(rows, 3, row -> new KeysetCursor(row.dateTime(), row.id()));
+
+        assertEquals(rows, page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void ofShouldDropExtraRowAndPointCursorAtLastItem() {
+        List<Row> rows = rows(4);
+
+        KeysetPage<Row> page = KeysetPage.of(rows, 3, row -> new KeysetCursor(row.dateTime(), row.id()));
+
+        assertEquals(rows.subList(0, 3), page.items());
+        Row last = rows.get(2);
+        assertEquals(new KeysetCursor(last.dateTime(), last.id()), KeysetCursor.decode(page.nextCursor()));
+    }
+
+    private List<Row> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Row(start.plusHours(i), UUID.randomUUID()))
+                .toList();
+    }
+}
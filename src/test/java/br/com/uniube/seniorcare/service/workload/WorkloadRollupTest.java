@@ -0,0 +1,100 @@
+package br.com.uniube.seniorcare.service.workload;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.entity.Caregiver;
+import br.com.uniube.seniorcare.domain.entity.Organization;
+import br.com.uniube.seniorcare.domain.enums.AppointmentStatus;
+import br.com.uniube.seniorcare.domain.repository.CaregiverWorkloadRepository;
+import br.com.uniube.seniorcare.domain.repository.WorkloadRollupRepository.Delta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadRollupTest {
+
+    @Mock
+    private CaregiverWorkloadRepository workloadRepository;
+
+    private WorkloadRollup workloadRollup;
+
+    private final Organization organization = new Organization();
+    private final Caregiver caregiver = new Caregiver();
+    private final LocalDateTime day = LocalDateTime.of(2030, 1, 2, 9, 0);
+
+    @BeforeEach
+    void setUp() {
+        workloadRollup = new WorkloadRollup(workloadRepository);
+        organization.setId(UUID.randomUUID());
+        caregiver.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void addedShouldMergeAppointmentsOfSameDayAndStatus() {
+        workloadRollup.added(List.of(appointment(day, 60), appointment(day.plusHours(2), 30),
+                appointment(day.plusDays(1), 45)));
+
+        List<Delta> deltas = captureDeltas();
+        assertEquals(2, deltas.size());
+        assertEquals(new Delta(organization.getId(), day.toLocalDate(), caregiver.getId(),
+                AppointmentStatus.AGENDADO, 2, 90), deltas.get(0));
+        assertEquals(LocalDate.of(2030, 1, 3), deltas.get(1).day());
+    }
+
+    @Test
+    void changedShouldMoveTotalsToNewStatus() {
+        Appointment appointment = appointment(day, 60);
+        WorkloadRollup.Snapshot before = WorkloadRollup.Snapshot.of(appointment);
+        appointment.setStatus(AppointmentStatus.CANCELADO);
+
+        workloadRollup.changed(before, appointment);
+
+        List<Delta> deltas = captureDeltas();
+        assertEquals(List.of(
+                new Delta(organization.getId(), day.toLocalDate(), caregiver.getId(), AppointmentStatus.AGENDADO, -1, -60),
+                new Delta(organization.getId(), day.toLocalDate(), caregiver.getId(), AppointmentStatus.CANCELADO, 1, 60)),
+                deltas);
+    }
+
+    @Test
+    void changedShouldIgnoreUpdatesThatKeepTotals() {
+        Appointment appointment = appointment(day, 60);
+        WorkloadRollup.Snapshot before = WorkloadRollup.Snapshot.of(appointment);
+        appointment.setDateTime(day.plusHours(3));
+
+        workloadRollup.changed(before, appointment);
+
+        verify(workloadRepository, never()).applyDeltas(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Delta> captureDeltas() {
+        ArgumentCaptor<Collection<Delta>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(workloadRepository).applyDeltas(captor.capture());
+        return List.copyOf(captor.getValue());
+    }
+
+    private Appointment appointment(LocalDateTime dateTime, int durationMinutes) {
+        Appointment appointment = new Appointment();
+        appointment.setId(UUID.randomUUID());
+        appointment.setOrganization(organization);
+        appointment.setCaregiver(caregiver);
+        appointment.setDateTime(dateTime);
+        appointment.setDurationMinutes(durationMinutes);
+        appointment.setStatus(AppointmentStatus.AGENDADO);
+        return appointment;
+    }
+}
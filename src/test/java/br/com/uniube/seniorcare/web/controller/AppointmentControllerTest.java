@@ -0,0 +1,100 @@
+package br.com.uniube.seniorcare.web.controller;
+
+import br.com.uniube.seniorcare.domain.entity.Appointment;
+import br.com.uniube.seniorcare.domain.exception.StaleVersionException;
+import br.com.uniube.seniorcare.service.AppointmentService;
+import br.com.uniube.seniorcare.web.dto.request.AppointmentRequest;
+import br.com.uniube.seniorcare.web.dto.response.AppointmentResponse;
+import br.com.uniube.seniorcare.web.mapper.AppointmentMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentControllerTest {
+
+    @Mock
+    private AppointmentService appointmentService;
+
+    @Mock
+    private AppointmentMapper appointmentMapper;
+
+    @InjectMocks
+    private AppointmentController appointmentController;
+
+    @Test
+    void findByIdReturns304WithoutLoadingAppointmentWhenETagMatches() {
+        UUID id = UUID.randomUUID();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/appointments/" + id);
+        request.addHeader("If-None-Match", "\"3\"");
+
+        when(appointmentService.findVersion(id)).thenReturn(3L);
+
+        ResponseEntity<AppointmentResponse> result = appointmentController.findById(id,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertEquals("\"3\"", result.getHeaders().getETag());
+        verify(appointmentService, never()).findById(any());
+    }
+
+    @Test
+    void findByIdReturnsAppointmentWithETagWhenVersionChanged() {
+        UUID id = UUID.randomUUID();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/appointments/" + id);
+        request.addHeader("If-None-Match", "\"3\"");
+        Appointment appointment = new Appointment();
+        appointment.setVersion(4L);
+        AppointmentResponse response = new AppointmentResponse();
+
+        when(appointmentService.findVersion(id)).thenReturn(4L);
+        when(appointmentService.findById(id)).thenReturn(appointment);
+        when(appointmentMapper.toDto(appointment)).thenReturn(response);
+
+        ResponseEntity<AppointmentResponse> result = appointmentController.findById(id,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"4\"", result.getHeaders().getETag());
+        assertEquals(response, result.getBody());
+    }
+
+    @Test
+    void updatePassesIfMatchVersionToService() {
+        UUID id = UUID.randomUUID();
+        AppointmentRequest request = new AppointmentRequest();
+        Appointment appointment = new Appointment();
+        Appointment updated = new Appointment();
+        updated.setVersion(8L);
+
+        when(appointmentMapper.toEntity(request)).thenReturn(appointment);
+        when(appointmentService.updateAppointment(id, appointment, 7L)).thenReturn(updated);
+        when(appointmentMapper.toDto(updated)).thenReturn(new AppointmentResponse());
+
+        ResponseEntity<AppointmentResponse> result = appointmentController.update(id, "\"7\"", request);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"8\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void expectedVersionAcceptsWildcardAndRejectsWeakOrForeignTags() {
+        assertNull(AppointmentController.expectedVersion(null));
+        assertNull(AppointmentController.expectedVersion("*"));
+        assertEquals(12L, AppointmentController.expectedVersion("\"12\""));
+        assertThrows(StaleVersionException.class, () -> AppointmentController.expectedVersion("W/\"12\""));
+        assertThrows(StaleVersionException.class, () -> AppointmentController.expectedVersion("\"abc\""));
+    }
+}